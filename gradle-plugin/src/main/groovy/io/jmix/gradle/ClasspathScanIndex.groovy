@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.gradle
+
+import javassist.bytecode.AnnotationsAttribute
+import javassist.bytecode.ClassFile
+import org.gradle.api.DefaultTask
+import org.gradle.api.file.FileCollection
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.OutputDirectory
+import org.gradle.api.tasks.SkipWhenEmpty
+import org.gradle.api.tasks.TaskAction
+
+/**
+ * Creates the classpath scan index read by {@code JmixModulesClasspathScanner} at application startup instead of
+ * scanning the module classes. The index lists classes that have runtime-visible annotations together with names of
+ * these annotations. It is added only to the jar, so the classes directory used during development is always scanned.
+ */
+class ClasspathScanIndex extends DefaultTask {
+
+    public static final String INDEX_LOCATION = 'META-INF/jmix-classpath.index'
+
+    @InputFiles
+    @SkipWhenEmpty
+    FileCollection classesDirs
+
+    @OutputDirectory
+    File outputDir = new File(project.buildDir, 'generated/classpathScanIndex')
+
+    @TaskAction
+    void generate() {
+        Map<String, List<String>> index = new TreeMap<>()
+        classesDirs.each { File dir ->
+            if (!dir.exists()) {
+                return
+            }
+            project.fileTree(dir).matching { include '**/*.class' }.each { File file ->
+                file.withInputStream { InputStream inputStream ->
+                    ClassFile classFile = new ClassFile(new DataInputStream(new BufferedInputStream(inputStream)))
+                    def attribute = (AnnotationsAttribute) classFile.getAttribute(AnnotationsAttribute.visibleTag)
+                    if (attribute != null && attribute.annotations.length > 0) {
+                        index.put(classFile.name, attribute.annotations.collect { it.typeName })
+                    }
+                }
+            }
+        }
+
+        File indexFile = new File(outputDir, INDEX_LOCATION)
+        indexFile.parentFile.mkdirs()
+        indexFile.withWriter('ISO-8859-1') { writer ->
+            index.each { className, annotations ->
+                writer.write("${className}=${annotations.join(',')}\n")
+            }
+        }
+        project.logger.info("Classpath scan index of $project contains ${index.size()} classes")
+    }
+}
@@ -35,6 +35,12 @@ class JmixExtension {
      */
     boolean useBom = true
 
+    /**
+     * If true, the jar of the project will contain the index of annotated classes which is used by the framework
+     * instead of scanning the classpath at startup.
+     */
+    boolean classpathScanIndex = true
+
     /**
      * Defines entities enhancing parameters.
      */
@@ -32,6 +32,7 @@ class JmixPlugin implements Plugin<Project> {
 
     public static final String COMPILE_THEMES_TASK_NAME = 'compileThemes'
     public static final String COMPILE_WIDGETS_TASK_NAME = 'compileWidgets'
+    public static final String CLASSPATH_SCAN_INDEX_TASK_NAME = 'classpathScanIndex'
 
     @Override
     void apply(Project project) {
@@ -55,6 +56,14 @@ class JmixPlugin implements Plugin<Project> {
                 project.tasks.findByName('compileTestJava').doLast(new EnhancingAction('test'))
             }
 
+            def jarTask = project.tasks.findByName('jar')
+            if (project.jmix.classpathScanIndex && jarTask != null) {
+                def indexTask = project.tasks.create(CLASSPATH_SCAN_INDEX_TASK_NAME, ClasspathScanIndex)
+                indexTask.classesDirs = project.sourceSets.main.output.classesDirs
+                indexTask.dependsOn(project.tasks.findByName('classes'))
+                jarTask.from(indexTask)
+            }
+
             // Exclude client-side logger for each configuration except 'widgets'
             project.configurations.collect {
                 if (it.getName() != 'widgets') {
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.benchmarks;
+
+import io.jmix.core.CoreConfiguration;
+import io.jmix.core.security.impl.CoreUser;
+import io.jmix.core.security.impl.InMemoryUserRepository;
+import io.jmix.data.DataConfiguration;
+import io.jmix.security.SecurityConfiguration;
+import io.jmix.security.role.assignment.InMemoryRoleAssignmentProvider;
+import io.jmix.security.role.assignment.RoleAssignment;
+import io.jmix.ui.UiConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Collections;
+
+/**
+ * Holds the application context shared by all benchmarks running in a JMH fork.
+ * <p>
+ * The context contains the data, security and UI modules and the {@link BenchmarkConfiguration}. It also registers
+ * the {@link #USER} user having the {@link BenchmarkRole}, so benchmarks go through the same access checks as
+ * a regular application user.
+ */
+public final class BenchmarkContext {
+
+    public static final String USER = "bench";
+
+    private static AnnotationConfigApplicationContext context;
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * Returns the application context starting it on the first call.
+     */
+    public static synchronized ApplicationContext get() {
+        if (context == null) {
+            context = start();
+        }
+        return context;
+    }
+
+    public static <T> T getBean(Class<T> beanType) {
+        return get().getBean(beanType);
+    }
+
+    private static AnnotationConfigApplicationContext start() {
+        AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Collections.singletonMap("jmix.securityImplementation", "standard")));
+        applicationContext.register(CoreConfiguration.class, DataConfiguration.class, SecurityConfiguration.class,
+                UiConfiguration.class, BenchmarkConfiguration.class);
+        applicationContext.refresh();
+        applicationContext.registerShutdownHook();
+
+        CoreUser user = new CoreUser(USER, "{noop}" + USER, USER);
+        applicationContext.getBean(InMemoryUserRepository.class).createUser(user);
+        applicationContext.getBean(InMemoryRoleAssignmentProvider.class)
+                .addAssignment(new RoleAssignment(user.getKey(), BenchmarkRole.NAME));
+
+        return applicationContext;
+    }
+}
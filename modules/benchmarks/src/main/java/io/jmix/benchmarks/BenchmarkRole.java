@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.benchmarks;
+
+import io.jmix.benchmarks.entity.BenchItem;
+import io.jmix.benchmarks.entity.BenchNode;
+import io.jmix.security.model.EntityAttributePolicyAction;
+import io.jmix.security.model.EntityPolicyAction;
+import io.jmix.security.role.annotation.EntityAttributePolicy;
+import io.jmix.security.role.annotation.EntityPolicy;
+import io.jmix.security.role.annotation.Role;
+
+/**
+ * Grants full access to the synthetic entity model to the {@link BenchmarkContext#USER} user.
+ */
+@Role(name = BenchmarkRole.NAME, code = BenchmarkRole.NAME)
+public interface BenchmarkRole {
+    String NAME = "BenchmarkRole";
+
+    @EntityPolicy(entityClass = BenchNode.class, actions = EntityPolicyAction.ALL)
+    @EntityAttributePolicy(entityClass = BenchNode.class, attributes = "*",
+            actions = {EntityAttributePolicyAction.READ, EntityAttributePolicyAction.UPDATE})
+    void node();
+
+    @EntityPolicy(entityClass = BenchItem.class, actions = EntityPolicyAction.ALL)
+    @EntityAttributePolicy(entityClass = BenchItem.class, attributes = "*",
+            actions = {EntityAttributePolicyAction.READ, EntityAttributePolicyAction.UPDATE})
+    void item();
+}
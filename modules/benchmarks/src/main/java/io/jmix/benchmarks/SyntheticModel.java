@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.benchmarks;
+
+import io.jmix.benchmarks.entity.BenchItem;
+import io.jmix.benchmarks.entity.BenchNode;
+import io.jmix.core.*;
+import io.jmix.core.security.Authenticator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Synthetic entity graph stored in the database for the duration of a benchmark trial.
+ * <p>
+ * The graph consists of {@link #width} root nodes. Each node owns {@link #width} items and, unless it is on
+ * the last of {@link #depth} levels, {@link #width} child nodes. The parameters can be changed from the command
+ * line, e.g. {@code -PjmhArgs="-p depth=4 -p width=8"}.
+ */
+@State(Scope.Benchmark)
+public class SyntheticModel {
+
+    @Param({"1", "3"})
+    public int depth;
+
+    @Param({"5", "10"})
+    public int width;
+
+    protected Metadata metadata;
+    protected FetchPlans fetchPlans;
+    protected DataManager dataManager;
+    protected Authenticator authenticator;
+
+    protected int nodeCount;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ApplicationContext context = BenchmarkContext.get();
+        metadata = context.getBean(Metadata.class);
+        fetchPlans = context.getBean(FetchPlans.class);
+        dataManager = context.getBean(DataManager.class);
+        authenticator = context.getBean(Authenticator.class);
+
+        List<JmixEntity> entities = new ArrayList<>();
+        for (BenchNode root : createGraph()) {
+            collectEntities(root, entities);
+        }
+        nodeCount = (int) entities.stream().filter(entity -> entity instanceof BenchNode).count();
+
+        SaveContext saveContext = new SaveContext()
+                .saving(entities)
+                .setDiscardSaved(true);
+        authenticator.withSystem(() -> dataManager.save(saveContext));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        JdbcTemplate jdbcTemplate = BenchmarkContext.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("delete from BENCH_ITEM");
+        jdbcTemplate.update("update BENCH_NODE set PARENT_ID = null");
+        jdbcTemplate.update("delete from BENCH_NODE");
+    }
+
+    /**
+     * @return number of nodes on all levels of the stored graph
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Creates new instances of the graph root nodes, the instances are not stored in the database.
+     */
+    public List<BenchNode> createGraph() {
+        List<BenchNode> roots = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+            roots.add(createNode(null, String.valueOf(i), 1));
+        }
+        return roots;
+    }
+
+    /**
+     * Creates fetch plan including nodes and items of all levels of the graph.
+     */
+    public FetchPlan createFetchPlan() {
+        FetchPlanBuilder builder = fetchPlans.builder(BenchNode.class);
+        addNodeProperties(builder, 1);
+        return builder.build();
+    }
+
+    /**
+     * Creates load context for the root nodes of the graph with the {@link #createFetchPlan()} fetch plan.
+     */
+    public LoadContext<BenchNode> createRootsLoadContext() {
+        LoadContext<BenchNode> loadContext = new LoadContext<>(metadata.getClass(BenchNode.class));
+        loadContext.setQueryString("select e from bench_Node e where e.parent is null order by e.code");
+        loadContext.setFetchPlan(createFetchPlan());
+        return loadContext;
+    }
+
+    /**
+     * Loads the root nodes of the graph with the {@link #createFetchPlan()} fetch plan on behalf of the system user.
+     */
+    public List<BenchNode> loadRoots() {
+        return authenticator.withSystem(() -> dataManager.loadList(createRootsLoadContext()));
+    }
+
+    protected void addNodeProperties(FetchPlanBuilder builder, int level) {
+        builder.addFetchPlan(FetchPlan.LOCAL)
+                .add("items", FetchPlan.LOCAL);
+        if (level < depth) {
+            builder.add("children", childBuilder -> addNodeProperties(childBuilder, level + 1));
+        }
+    }
+
+    protected BenchNode createNode(@Nullable BenchNode parent, String code, int level) {
+        BenchNode node = metadata.create(BenchNode.class);
+        node.setParent(parent);
+        node.setCode(code);
+        node.setName("Node " + code);
+        node.setLevel(level);
+        node.setAmount(BigDecimal.valueOf(level * 1000L + code.length(), 2));
+        node.setActive(level % 2 == 1);
+        node.setValidFrom(new Date(1600000000000L + level * 1000L));
+        node.setDescription("Node " + code + " on level " + level);
+
+        List<BenchItem> items = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+            BenchItem item = metadata.create(BenchItem.class);
+            item.setNode(node);
+            item.setName("Item " + code + "-" + i);
+            item.setQuantity(i);
+            item.setPrice(BigDecimal.valueOf(i * 100L + level, 2));
+            items.add(item);
+        }
+        node.setItems(items);
+
+        List<BenchNode> children = new ArrayList<>();
+        if (level < depth) {
+            for (int i = 0; i < width; i++) {
+                children.add(createNode(node, code + "." + i, level + 1));
+            }
+        }
+        node.setChildren(children);
+        return node;
+    }
+
+    protected void collectEntities(BenchNode node, List<JmixEntity> entities) {
+        entities.add(node);
+        entities.addAll(node.getItems());
+        for (BenchNode child : node.getChildren()) {
+            collectEntities(child, entities);
+        }
+    }
+}
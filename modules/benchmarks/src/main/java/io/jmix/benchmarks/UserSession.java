@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.benchmarks;
+
+import io.jmix.core.security.Authenticator;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Authenticates the benchmark thread as the {@link BenchmarkContext#USER} user. Add a parameter of this type to
+ * a benchmark method which requires authentication.
+ */
+@State(Scope.Thread)
+public class UserSession {
+
+    protected Authenticator authenticator;
+
+    @Setup
+    public void setup() {
+        authenticator = BenchmarkContext.getBean(Authenticator.class);
+        authenticator.begin(BenchmarkContext.USER);
+    }
+
+    @TearDown
+    public void tearDown() {
+        authenticator.end();
+    }
+}
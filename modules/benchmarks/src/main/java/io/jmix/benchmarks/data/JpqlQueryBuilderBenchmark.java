@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.benchmarks.data;
+
+import io.jmix.benchmarks.BenchmarkContext;
+import io.jmix.core.Sort;
+import io.jmix.core.Stores;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.JpqlCondition;
+import io.jmix.core.querycondition.LogicalCondition;
+import io.jmix.data.StoreAwareLocator;
+import io.jmix.data.impl.JmixQuery;
+import io.jmix.data.impl.JpqlQueryBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building of a JPQL query with a condition and sorting, as it is done by the data store for each
+ * loaded list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JpqlQueryBuilderBenchmark {
+
+    protected static final String QUERY = "select e from bench_Node e where e.level <= :level";
+
+    protected ApplicationContext context;
+    protected PlatformTransactionManager transactionManager;
+    protected StoreAwareLocator storeAwareLocator;
+
+    protected Condition condition;
+    protected Sort sort;
+    protected Map<String, Object> parameters;
+
+    protected TransactionStatus transaction;
+    protected EntityManager entityManager;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkContext.get();
+        transactionManager = context.getBean(PlatformTransactionManager.class);
+        storeAwareLocator = context.getBean(StoreAwareLocator.class);
+
+        condition = LogicalCondition.and()
+                .add(JpqlCondition.where("e.name like :name"))
+                .add(JpqlCondition.where("e.amount > :amount"))
+                .add(LogicalCondition.or()
+                        .add(JpqlCondition.where("e.active = :active"))
+                        .add(JpqlCondition.where("e.parent is null")))
+                .add(JpqlCondition.where("e.code = :missingParameter"));
+        sort = Sort.by(Sort.Order.asc("code"), Sort.Order.desc("parent.name"));
+
+        parameters = new HashMap<>();
+        parameters.put("level", 3);
+        parameters.put("name", "Node%");
+        parameters.put("amount", BigDecimal.TEN);
+        parameters.put("active", Boolean.TRUE);
+    }
+
+    @Setup(Level.Iteration)
+    public void beginTransaction() {
+        transaction = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        entityManager = storeAwareLocator.getEntityManager(Stores.MAIN);
+    }
+
+    @TearDown(Level.Iteration)
+    public void rollbackTransaction() {
+        transactionManager.rollback(transaction);
+    }
+
+    /**
+     * Builds the resulting query string only.
+     */
+    @Benchmark
+    public String buildQueryString() {
+        return createQueryBuilder().getResultQueryString();
+    }
+
+    /**
+     * Builds the query and creates it in the entity manager with parameters set.
+     */
+    @Benchmark
+    public JmixQuery<?> getQuery() {
+        return createQueryBuilder().getQuery(entityManager);
+    }
+
+    protected JpqlQueryBuilder createQueryBuilder() {
+        return context.getBean(JpqlQueryBuilder.class)
+                .setEntityName("bench_Node")
+                .setQueryString(QUERY)
+                .setQueryParameters(parameters)
+                .setCondition(condition)
+                .setSort(sort);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.benchmarks.data;
+
+import io.jmix.benchmarks.BenchmarkContext;
+import io.jmix.benchmarks.SyntheticModel;
+import io.jmix.benchmarks.UserSession;
+import io.jmix.benchmarks.entity.BenchItem;
+import io.jmix.benchmarks.entity.BenchNode;
+import io.jmix.core.*;
+import io.jmix.core.impl.DataStoreFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading of the {@link SyntheticModel} graph by the main data store with access constraints
+ * of the benchmark user.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrmDataStoreBenchmark {
+
+    protected DataStore dataStore;
+
+    protected LoadContext<BenchNode> graphLoadContext;
+    protected LoadContext<BenchItem> itemsLoadContext;
+
+    @Setup
+    public void setup(SyntheticModel model) {
+        dataStore = BenchmarkContext.getBean(DataStoreFactory.class).get(Stores.MAIN);
+        Metadata metadata = BenchmarkContext.getBean(Metadata.class);
+        AccessManager accessManager = BenchmarkContext.getBean(AccessManager.class);
+
+        graphLoadContext = model.createRootsLoadContext();
+        graphLoadContext.setAccessConstraints(accessManager.constraintsBuilder().withAllRegistered().build());
+
+        itemsLoadContext = new LoadContext<>(metadata.getClass(BenchItem.class));
+        itemsLoadContext.setQueryString("select e from bench_Item e order by e.name");
+        itemsLoadContext.setFetchPlan(BenchmarkContext.getBean(FetchPlanRepository.class)
+                .getFetchPlan(BenchItem.class, FetchPlan.LOCAL));
+        itemsLoadContext.setAccessConstraints(accessManager.constraintsBuilder().withAllRegistered().build());
+    }
+
+    /**
+     * Loads root nodes with all levels of children and their items.
+     */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<BenchNode> loadGraph(UserSession session) {
+        return dataStore.loadList((LoadContext<BenchNode>) graphLoadContext.copy());
+    }
+
+    /**
+     * Loads all items as a flat list of local attributes.
+     */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<BenchItem> loadItems(UserSession session) {
+        return dataStore.loadList((LoadContext<BenchItem>) itemsLoadContext.copy());
+    }
+}
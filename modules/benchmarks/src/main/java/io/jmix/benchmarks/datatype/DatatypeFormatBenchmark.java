@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.benchmarks.datatype;
+
+import io.jmix.core.metamodel.datatype.Datatype;
+import io.jmix.core.metamodel.datatype.FormatStrings;
+import io.jmix.core.metamodel.datatype.FormatStringsRegistry;
+import io.jmix.core.metamodel.datatype.impl.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures formatting and parsing of values by datatypes with a locale having registered format strings.
+ * <p>
+ * The {@code *Uncached} benchmarks create formatters on each invocation as datatypes did before formatters were
+ * cached. Run with {@code -PjmhArgs="-prof gc"} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatatypeFormatBenchmark {
+
+    protected static final Locale LOCALE = Locale.ENGLISH;
+
+    protected FormatStrings formatStrings;
+
+    protected Datatype<Date> dateTimeDatatype;
+    protected Datatype<BigDecimal> decimalDatatype;
+    protected Datatype<Integer> integerDatatype;
+    protected Datatype<LocalDate> localDateDatatype;
+
+    protected Date date;
+    protected BigDecimal decimal;
+    protected LocalDate localDate;
+    protected String decimalString;
+
+    @Setup
+    public void setup() {
+        formatStrings = new FormatStrings('.', ',',
+                "#,##0", "#,##0.###", "#,##0.##",
+                "dd/MM/yyyy", "dd/MM/yyyy HH:mm", "dd/MM/yyyy HH:mm Z", "HH:mm", "HH:mm Z",
+                "True", "False");
+
+        FormatStringsRegistry formatStringsRegistry = new FormatStringsRegistryImpl();
+        formatStringsRegistry.setFormatStrings(LOCALE, formatStrings);
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        AutowiredAnnotationBeanPostProcessor autowiredProcessor = new AutowiredAnnotationBeanPostProcessor();
+        autowiredProcessor.setBeanFactory(beanFactory);
+        beanFactory.addBeanPostProcessor(autowiredProcessor);
+        beanFactory.registerSingleton(FormatStringsRegistry.NAME, formatStringsRegistry);
+
+        dateTimeDatatype = createDatatype(beanFactory, new DateTimeDatatype());
+        decimalDatatype = createDatatype(beanFactory, new BigDecimalDatatype());
+        integerDatatype = createDatatype(beanFactory, new IntegerDatatype());
+        localDateDatatype = createDatatype(beanFactory, new LocalDateDatatype());
+
+        date = new Date(1600000000000L);
+        decimal = new BigDecimal("12345678.12345678");
+        localDate = LocalDate.of(2020, 9, 13);
+        decimalString = "12,345,678.12";
+    }
+
+    protected <T> Datatype<T> createDatatype(DefaultListableBeanFactory beanFactory, Datatype<T> datatype) {
+        beanFactory.autowireBean(datatype);
+        return datatype;
+    }
+
+    @Benchmark
+    public String formatDateTime() {
+        return dateTimeDatatype.format(date, LOCALE);
+    }
+
+    @Benchmark
+    public String formatDateTimeUncached() {
+        return new SimpleDateFormat(formatStrings.getDateTimeFormat()).format(date);
+    }
+
+    @Benchmark
+    public String formatDecimal() {
+        return decimalDatatype.format(decimal, LOCALE);
+    }
+
+    @Benchmark
+    public String formatDecimalUncached() {
+        return new DecimalFormat(formatStrings.getDecimalFormat(), formatStrings.getFormatSymbols()).format(decimal);
+    }
+
+    @Benchmark
+    public BigDecimal parseDecimal() throws ParseException {
+        return decimalDatatype.parse(decimalString, LOCALE);
+    }
+
+    @Benchmark
+    public Object parseDecimalUncached() throws ParseException {
+        DecimalFormat format = new DecimalFormat(formatStrings.getDecimalFormat(), formatStrings.getFormatSymbols());
+        format.setParseBigDecimal(true);
+        return format.parse(decimalString);
+    }
+
+    @Benchmark
+    public String formatInteger() {
+        return integerDatatype.format(123456789, LOCALE);
+    }
+
+    @Benchmark
+    public String formatIntegerUncached() {
+        return new DecimalFormat(formatStrings.getIntegerFormat(), formatStrings.getFormatSymbols()).format(123456789);
+    }
+
+    @Benchmark
+    public String formatLocalDate() {
+        return localDateDatatype.format(localDate, LOCALE);
+    }
+
+    @Benchmark
+    public String formatLocalDateUncached() {
+        return DateTimeFormatter.ofPattern(formatStrings.getDateFormat(), LOCALE).format(localDate);
+    }
+}
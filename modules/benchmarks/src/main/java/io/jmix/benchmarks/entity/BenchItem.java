@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.benchmarks.entity;
+
+import io.jmix.core.metamodel.annotation.InstanceName;
+import io.jmix.data.entity.StandardEntity;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+
+/**
+ * Leaf of the synthetic entity graph owned by a {@link BenchNode}.
+ */
+@Table(name = "BENCH_ITEM")
+@Entity(name = "bench_Item")
+public class BenchItem extends StandardEntity {
+    private static final long serialVersionUID = 6094151837615474802L;
+
+    @InstanceName
+    @Column(name = "NAME")
+    protected String name;
+
+    @Column(name = "QUANTITY")
+    protected Integer quantity;
+
+    @Column(name = "PRICE")
+    protected BigDecimal price;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "NODE_ID")
+    protected BenchNode node;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public BenchNode getNode() {
+        return node;
+    }
+
+    public void setNode(BenchNode node) {
+        this.node = node;
+    }
+}
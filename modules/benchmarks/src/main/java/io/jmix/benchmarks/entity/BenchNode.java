@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.benchmarks.entity;
+
+import io.jmix.core.DeletePolicy;
+import io.jmix.core.entity.annotation.OnDelete;
+import io.jmix.core.metamodel.annotation.Composition;
+import io.jmix.core.metamodel.annotation.InstanceName;
+import io.jmix.data.entity.StandardEntity;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Node of the synthetic entity graph: refers to its parent node and owns child nodes and items.
+ */
+@Table(name = "BENCH_NODE")
+@Entity(name = "bench_Node")
+public class BenchNode extends StandardEntity {
+    private static final long serialVersionUID = -3285710946137414071L;
+
+    @InstanceName
+    @Column(name = "NAME")
+    protected String name;
+
+    @Column(name = "CODE", length = 50)
+    protected String code;
+
+    @Column(name = "LEVEL_")
+    protected Integer level;
+
+    @Column(name = "AMOUNT")
+    protected BigDecimal amount;
+
+    @Column(name = "ACTIVE")
+    protected Boolean active;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "VALID_FROM")
+    protected Date validFrom;
+
+    @Column(name = "DESCRIPTION")
+    protected String description;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "PARENT_ID")
+    protected BenchNode parent;
+
+    @Composition
+    @OnDelete(DeletePolicy.CASCADE)
+    @OneToMany(mappedBy = "parent")
+    protected List<BenchNode> children;
+
+    @Composition
+    @OnDelete(DeletePolicy.CASCADE)
+    @OneToMany(mappedBy = "node")
+    protected List<BenchItem> items;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public Integer getLevel() {
+        return level;
+    }
+
+    public void setLevel(Integer level) {
+        this.level = level;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public Date getValidFrom() {
+        return validFrom;
+    }
+
+    public void setValidFrom(Date validFrom) {
+        this.validFrom = validFrom;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public BenchNode getParent() {
+        return parent;
+    }
+
+    public void setParent(BenchNode parent) {
+        this.parent = parent;
+    }
+
+    public List<BenchNode> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<BenchNode> children) {
+        this.children = children;
+    }
+
+    public List<BenchItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BenchItem> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.benchmarks.metamodel;
+
+import io.jmix.benchmarks.BenchmarkContext;
+import io.jmix.benchmarks.entity.BenchNode;
+import io.jmix.core.Metadata;
+import io.jmix.core.entity.EntityValues;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading and writing of entity attributes through the entity entry, which is used by data binding,
+ * serialization and fetch plan processing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityValuesBenchmark {
+
+    protected static final String[] PROPERTIES =
+            {"id", "name", "code", "level", "amount", "active", "validFrom", "description", "parent", "version"};
+
+    protected BenchNode node;
+
+    @Setup
+    public void setup() {
+        Metadata metadata = BenchmarkContext.getBean(Metadata.class);
+
+        BenchNode parent = metadata.create(BenchNode.class);
+        parent.setName("Parent");
+
+        node = metadata.create(BenchNode.class);
+        node.setParent(parent);
+        node.setName("Node");
+        node.setCode("1.1");
+        node.setLevel(2);
+        node.setAmount(BigDecimal.TEN);
+        node.setActive(true);
+        node.setValidFrom(new Date(1600000000000L));
+        node.setDescription("Node 1.1 on level 2");
+    }
+
+    @Benchmark
+    public void getValue(Blackhole blackhole) {
+        for (String property : PROPERTIES) {
+            blackhole.consume((Object) EntityValues.getValue(node, property));
+        }
+    }
+
+    @Benchmark
+    public Object getValueEx() {
+        return EntityValues.getValueEx(node, "parent.name");
+    }
+
+    @Benchmark
+    public BenchNode setValue() {
+        EntityValues.setValue(node, "description", "Node 1.1");
+        EntityValues.setValue(node, "description", "Node 1.1 on level 2");
+        return node;
+    }
+}
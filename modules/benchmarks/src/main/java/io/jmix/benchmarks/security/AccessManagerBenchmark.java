@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.benchmarks.security;
+
+import io.jmix.benchmarks.BenchmarkContext;
+import io.jmix.benchmarks.UserSession;
+import io.jmix.benchmarks.entity.BenchNode;
+import io.jmix.core.AccessManager;
+import io.jmix.core.Metadata;
+import io.jmix.core.constraint.AccessConstraint;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.data.impl.context.CrudEntityContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures evaluation of entity operation constraints for the benchmark user, which is performed by the data
+ * store for each load and save operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessManagerBenchmark {
+
+    protected AccessManager accessManager;
+    protected MetaClass metaClass;
+    protected List<AccessConstraint<?>> constraints;
+
+    @Setup
+    public void setup() {
+        accessManager = BenchmarkContext.getBean(AccessManager.class);
+        metaClass = BenchmarkContext.getBean(Metadata.class).getClass(BenchNode.class);
+        constraints = accessManager.constraintsBuilder().withAllRegistered().build();
+    }
+
+    @Benchmark
+    public CrudEntityContext applyConstraints(UserSession session) {
+        CrudEntityContext context = new CrudEntityContext(metaClass);
+        accessManager.applyConstraints(context, constraints);
+        return context;
+    }
+
+    @Benchmark
+    public CrudEntityContext applyRegisteredConstraints(UserSession session) {
+        CrudEntityContext context = new CrudEntityContext(metaClass);
+        accessManager.applyRegisteredConstraints(context);
+        return context;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.benchmarks.serialization;
+
+import io.jmix.benchmarks.BenchmarkContext;
+import io.jmix.benchmarks.SyntheticModel;
+import io.jmix.benchmarks.entity.BenchNode;
+import io.jmix.core.EntitySerialization;
+import io.jmix.core.EntitySerializationOption;
+import io.jmix.core.FetchPlan;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serialization of the loaded {@link SyntheticModel} graph to JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntitySerializationBenchmark {
+
+    protected EntitySerialization entitySerialization;
+
+    protected List<BenchNode> roots;
+    protected FetchPlan fetchPlan;
+
+    @Setup
+    public void setup(SyntheticModel model) {
+        entitySerialization = BenchmarkContext.getBean(EntitySerialization.class);
+        roots = model.loadRoots();
+        fetchPlan = model.createFetchPlan();
+    }
+
+    /**
+     * Serializes the graph with properties defined by the fetch plan.
+     */
+    @Benchmark
+    public String toJsonWithFetchPlan() {
+        return entitySerialization.toJson(roots, fetchPlan);
+    }
+
+    /**
+     * Serializes the graph with all loaded properties and instance names.
+     */
+    @Benchmark
+    public String toJson() {
+        return entitySerialization.toJson(roots, null, EntitySerializationOption.SERIALIZE_INSTANCE_NAME);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.benchmarks.ui;
+
+import io.jmix.benchmarks.BenchmarkContext;
+import io.jmix.benchmarks.entity.BenchNode;
+import io.jmix.core.Metadata;
+import io.jmix.ui.model.CollectionContainer;
+import io.jmix.ui.model.DataComponents;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures replacing the content of a collection container, which happens each time a screen data loader
+ * loads entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectionContainerBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    protected CollectionContainer<BenchNode> container;
+
+    protected List<BenchNode> items;
+    protected List<BenchNode> otherItems;
+    protected boolean other;
+
+    @Setup
+    public void setup() {
+        Metadata metadata = BenchmarkContext.getBean(Metadata.class);
+        container = BenchmarkContext.getBean(DataComponents.class).createCollectionContainer(BenchNode.class);
+        container.addCollectionChangeListener(event -> {
+        });
+        items = createItems(metadata);
+        otherItems = createItems(metadata);
+    }
+
+    protected List<BenchNode> createItems(Metadata metadata) {
+        List<BenchNode> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BenchNode node = metadata.create(BenchNode.class);
+            node.setCode(String.valueOf(i));
+            node.setName("Node " + i);
+            list.add(node);
+        }
+        return list;
+    }
+
+    /**
+     * Replaces all items of the container, alternating between two lists of different instances.
+     */
+    @Benchmark
+    public CollectionContainer<BenchNode> setItems() {
+        other = !other;
+        container.setItems(other ? otherItems : items);
+        return container;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.benchmarks.uuid;
+
+import io.jmix.core.UuidProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares random and time-ordered UUID generation. The contended variants show the cost of keeping
+ * time-ordered UUIDs monotonic when entities are created in many threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidProviderBenchmark {
+
+    @Benchmark
+    public UUID random() {
+        return UuidProvider.createRandomUuid();
+    }
+
+    @Benchmark
+    public UUID timeOrdered() {
+        return UuidProvider.createTimeOrderedUuid();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID randomContended() {
+        return UuidProvider.createRandomUuid();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID timeOrderedContended() {
+        return UuidProvider.createTimeOrderedUuid();
+    }
+}
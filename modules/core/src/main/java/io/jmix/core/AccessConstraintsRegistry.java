@@ -20,7 +20,10 @@ import io.jmix.core.constraint.AccessConstraint;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
@@ -31,14 +34,26 @@ public class AccessConstraintsRegistry {
 
     protected List<AccessConstraint<?>> accessConstraints = new CopyOnWriteArrayList<>();
 
+    protected Map<Class<?>, List<AccessConstraint<?>>> accessConstraintsByContextType = new ConcurrentHashMap<>();
+
     public void register(AccessConstraint accessConstraint) {
         accessConstraints.add(accessConstraint);
+        accessConstraintsByContextType
+                .computeIfAbsent(accessConstraint.getContextType(), contextType -> new CopyOnWriteArrayList<>())
+                .add(accessConstraint);
     }
 
     public List<AccessConstraint<?>> getConstraints() {
         return accessConstraints;
     }
 
+    /**
+     * @return registered constraints applicable to the given access context class
+     */
+    public List<AccessConstraint<?>> getConstraintsByContextType(Class<?> contextType) {
+        return accessConstraintsByContextType.getOrDefault(contextType, Collections.emptyList());
+    }
+
     public Collection<? extends AccessConstraint<?>> getConstraintsOfType(Class<?> accessConstraintClass) {
         return accessConstraints.stream()
                 .filter(constraint -> accessConstraintClass.isAssignableFrom(constraint.getClass()))
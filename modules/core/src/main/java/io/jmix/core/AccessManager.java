@@ -18,14 +18,16 @@ package io.jmix.core;
 
 import io.jmix.core.constraint.AccessConstraint;
 import io.jmix.core.context.AccessContext;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.monitoring.DataObservation;
+import io.jmix.core.monitoring.DataObservations;
+import io.jmix.core.monitoring.DataOperation;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Component(AccessManager.NAME)
 public class AccessManager {
@@ -34,6 +36,9 @@ public class AccessManager {
     @Autowired
     protected AccessConstraintsRegistry registry;
 
+    @Autowired
+    protected DataObservations dataObservations;
+
     public class ConstraintsBuilder {
         protected final List<AccessConstraint<?>> constraints = new ArrayList<>();
 
@@ -62,19 +67,111 @@ public class AccessManager {
         }
     }
 
+    /**
+     * Caches entity access contexts with applied constraints within a single operation, e.g. loading or saving
+     * entities by a data store. Constraints are evaluated once per context class and entity meta-class.
+     * <p>
+     * Instances are not thread-safe and must not outlive the operation, because constraints depend on
+     * the current authentication.
+     */
+    public class ConstraintsCache {
+        protected final Collection<AccessConstraint<?>> constraints;
+        protected final Map<Class<?>, List<AccessConstraint<?>>> constraintsByContextType = new HashMap<>();
+        protected final Map<Class<?>, Map<MetaClass, AccessContext>> contexts = new HashMap<>();
+
+        protected ConstraintsCache(Collection<AccessConstraint<?>> constraints) {
+            this.constraints = constraints;
+        }
+
+        /**
+         * Returns the context for the given entity meta-class with applied constraints, creating it on first request.
+         *
+         * @param contextClass   class of the access context
+         * @param metaClass      entity meta-class
+         * @param contextFactory creates a new context for the meta-class
+         */
+        @SuppressWarnings("unchecked")
+        public <C extends AccessContext> C getContext(Class<C> contextClass, MetaClass metaClass,
+                                                      Function<MetaClass, C> contextFactory) {
+            Map<MetaClass, AccessContext> contextsByMetaClass =
+                    contexts.computeIfAbsent(contextClass, key -> new HashMap<>());
+            C context = (C) contextsByMetaClass.get(metaClass);
+            if (context == null) {
+                context = contextFactory.apply(metaClass);
+                List<AccessConstraint<?>> applicableConstraints = constraintsByContextType.computeIfAbsent(
+                        context.getClass(), contextType -> filterConstraints(constraints, contextType));
+                DataObservation observation =
+                        dataObservations.begin(DataOperation.APPLY_CONSTRAINTS, metaClass.getName(), null);
+                try {
+                    doApplyConstraints(context, applicableConstraints);
+                } catch (RuntimeException e) {
+                    observation.fail(e);
+                    throw e;
+                }
+                observation.end(applicableConstraints.size());
+                contextsByMetaClass.put(metaClass, context);
+            }
+            return context;
+        }
+    }
+
     public ConstraintsBuilder constraintsBuilder() {
         return new ConstraintsBuilder();
     }
 
+    /**
+     * Creates a cache of access contexts evaluated against the given constraints.
+     *
+     * @see ConstraintsCache
+     */
+    public ConstraintsCache constraintsCache(Collection<AccessConstraint<?>> constraints) {
+        return new ConstraintsCache(constraints);
+    }
+
     public <T extends AccessContext> void applyConstraints(T context, Collection<AccessConstraint<?>> constraints) {
-        //noinspection unchecked
-        constraints.stream()
-                .filter(constraint -> Objects.equals(constraint.getContextType(), context.getClass()))
-                .map(constraint -> (AccessConstraint<T>) constraint)
-                .forEach(constraint -> constraint.applyTo(context));
+        DataObservation observation = dataObservations.begin(DataOperation.APPLY_CONSTRAINTS, null, null);
+        int count = 0;
+        try {
+            for (AccessConstraint<?> constraint : constraints) {
+                if (Objects.equals(constraint.getContextType(), context.getClass())) {
+                    //noinspection unchecked
+                    ((AccessConstraint<T>) constraint).applyTo(context);
+                    count++;
+                }
+            }
+        } catch (RuntimeException e) {
+            observation.fail(e);
+            throw e;
+        }
+        observation.end(count);
     }
 
     public <T extends AccessContext> void applyRegisteredConstraints(T context) {
-        applyConstraints(context, registry.getConstraints());
+        List<AccessConstraint<?>> constraints = registry.getConstraintsByContextType(context.getClass());
+        DataObservation observation = dataObservations.begin(DataOperation.APPLY_CONSTRAINTS, null, null);
+        try {
+            doApplyConstraints(context, constraints);
+        } catch (RuntimeException e) {
+            observation.fail(e);
+            throw e;
+        }
+        observation.end(constraints.size());
+    }
+
+    protected <T extends AccessContext> void doApplyConstraints(T context, List<AccessConstraint<?>> applicableConstraints) {
+        for (AccessConstraint<?> constraint : applicableConstraints) {
+            //noinspection unchecked
+            ((AccessConstraint<T>) constraint).applyTo(context);
+        }
+    }
+
+    protected List<AccessConstraint<?>> filterConstraints(Collection<AccessConstraint<?>> constraints, Class<?> contextType) {
+        List<AccessConstraint<?>> result = new ArrayList<>();
+        for (AccessConstraint<?> constraint : constraints) {
+            if (Objects.equals(constraint.getContextType(), contextType)) {
+                result.add(constraint);
+            }
+        }
+        return result;
     }
 }
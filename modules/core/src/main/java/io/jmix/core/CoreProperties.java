@@ -45,6 +45,14 @@ public class CoreProperties {
     boolean idGenerationForEntitiesInAdditionalDataStoresEnabled;
     int dom4jMaxPoolSize;
     int dom4jMaxBorrowWaitMillis;
+    int entityImportLoadingBatchSize;
+    int entityExportLoadingBatchSize;
+    boolean metadataSnapshotEnabled;
+    boolean dataMetricsEnabled;
+    int asyncDataThreadCount;
+    int asyncDataQueueCapacity;
+    boolean asyncDataVirtualThreadsEnabled;
+    UuidProvider.Strategy uuidGenerationStrategy;
 
     public CoreProperties(
             String webContextName,
@@ -60,6 +68,14 @@ public class CoreProperties {
             @DefaultValue("true") boolean idGenerationForEntitiesInAdditionalDataStoresEnabled,
             @DefaultValue("100") int dom4jMaxPoolSize,
             @DefaultValue("1000") int dom4jMaxBorrowWaitMillis,
+            @DefaultValue("100") int entityImportLoadingBatchSize,
+            @DefaultValue("500") int entityExportLoadingBatchSize,
+            @DefaultValue("false") boolean metadataSnapshotEnabled,
+            @DefaultValue("false") boolean dataMetricsEnabled,
+            @DefaultValue("10") int asyncDataThreadCount,
+            @DefaultValue("1000") int asyncDataQueueCapacity,
+            @DefaultValue("false") boolean asyncDataVirtualThreadsEnabled,
+            @DefaultValue("RANDOM") UuidProvider.Strategy uuidGenerationStrategy,
             @DefaultValue("de72c623-6d3d-458c-a187-c526de515ecd") String anonymousAuthenticationTokenKey,
             String defaultFileStorage
     ) {
@@ -87,6 +103,14 @@ public class CoreProperties {
         this.idGenerationForEntitiesInAdditionalDataStoresEnabled = idGenerationForEntitiesInAdditionalDataStoresEnabled;
         this.dom4jMaxPoolSize = dom4jMaxPoolSize;
         this.dom4jMaxBorrowWaitMillis = dom4jMaxBorrowWaitMillis;
+        this.entityImportLoadingBatchSize = entityImportLoadingBatchSize;
+        this.entityExportLoadingBatchSize = entityExportLoadingBatchSize;
+        this.metadataSnapshotEnabled = metadataSnapshotEnabled;
+        this.dataMetricsEnabled = dataMetricsEnabled;
+        this.asyncDataThreadCount = asyncDataThreadCount;
+        this.asyncDataQueueCapacity = asyncDataQueueCapacity;
+        this.asyncDataVirtualThreadsEnabled = asyncDataVirtualThreadsEnabled;
+        this.uuidGenerationStrategy = uuidGenerationStrategy;
     }
 
     /**
@@ -165,6 +189,74 @@ public class CoreProperties {
         return dom4jMaxBorrowWaitMillis;
     }
 
+    /**
+     * Maximum number of identifiers passed in a single query when {@link EntityImportExport} loads
+     * existing and referenced entities.
+     */
+    public int getEntityImportLoadingBatchSize() {
+        return entityImportLoadingBatchSize;
+    }
+
+    /**
+     * Number of entities loaded by a single query when {@link EntityImportExport} exports entities defined
+     * by a {@link LoadContext} to a stream.
+     */
+    public int getEntityExportLoadingBatchSize() {
+        return entityExportLoadingBatchSize;
+    }
+
+    /**
+     * Whether to build metadata from a snapshot of previously discovered entity classes and properties.
+     * The snapshot is taken from the {@code META-INF/jmix-metadata.snapshot} classpath resource or from the work
+     * directory, and is used only if the entity classes haven't changed since it was created.
+     * Default is false.
+     */
+    public boolean isMetadataSnapshotEnabled() {
+        return metadataSnapshotEnabled;
+    }
+
+    /**
+     * Whether to publish timings and row counts of data access operations to the Micrometer registry.
+     * Default is false.
+     *
+     * @see io.jmix.core.monitoring.MicrometerDataObserver
+     */
+    public boolean isDataMetricsEnabled() {
+        return dataMetricsEnabled;
+    }
+
+    /**
+     * Maximum number of threads executing asynchronous {@link DataManager} operations.
+     */
+    public int getAsyncDataThreadCount() {
+        return asyncDataThreadCount;
+    }
+
+    /**
+     * Maximum number of asynchronous {@link DataManager} operations waiting for a free thread. Operations submitted
+     * when the queue is full fail with {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    public int getAsyncDataQueueCapacity() {
+        return asyncDataQueueCapacity;
+    }
+
+    /**
+     * Whether to execute asynchronous {@link DataManager} operations in virtual threads if the JVM supports them.
+     * Default is false.
+     */
+    public boolean isAsyncDataVirtualThreadsEnabled() {
+        return asyncDataVirtualThreadsEnabled;
+    }
+
+    /**
+     * How {@link UuidProvider#createUuid()} generates identifiers of new entities. Default is
+     * {@link UuidProvider.Strategy#RANDOM}, {@link UuidProvider.Strategy#TIME_ORDERED} reduces index fragmentation
+     * of tables with UUID primary keys.
+     */
+    public UuidProvider.Strategy getUuidGenerationStrategy() {
+        return uuidGenerationStrategy;
+    }
+
     /**
      * @return a key that is used in {@link org.springframework.security.authentication.AnonymousAuthenticationProvider}
      * and {@link org.springframework.security.web.authentication.AnonymousAuthenticationFilter}
@@ -20,6 +20,8 @@ import io.jmix.core.entity.KeyValueEntity;
 
 import javax.annotation.Nullable;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Central interface to provide CRUD functionality. Can be used on both middle and client tiers.
@@ -57,6 +59,19 @@ public interface DataManager {
      */
     long getCount(LoadContext<? extends JmixEntity> context);
 
+    /**
+     * Loads entity instances by batches and passes each batch to the consumer, so that a large result set can be
+     * processed without holding all instances in memory.
+     * <p>The depth of object graphs, starting from loaded instances, defined by {@link FetchPlan}
+     * object passed in {@link LoadContext}.</p>
+     * <p>If the data store implements {@link ScrollableDataStore}, instances are read through a server-side cursor
+     * in a separate transaction. Otherwise, the query is executed page by page with the batch size as the page size.</p>
+     * @param context       {@link LoadContext} object, defining what and how to load
+     * @param batchSize     maximum number of instances passed to the consumer at once
+     * @param batchConsumer consumer of detached instances
+     */
+    <E extends JmixEntity> void loadByBatches(LoadContext<E> context, int batchSize, Consumer<List<E>> batchConsumer);
+
     /**
      * Commits a collection of new or detached entity instances to the data store.
      * @param context   {@link SaveContext} object, containing committing entities and other information
@@ -97,6 +112,39 @@ public interface DataManager {
      */
     List<KeyValueEntity> loadValues(ValueLoadContext context);
 
+    /**
+     * Loads a single entity instance asynchronously. See {@link #load(LoadContext)}.
+     * <p>Asynchronous operations are executed in a bounded pool of threads on behalf of the current user.
+     * They never join the transaction of the calling thread.</p>
+     * @param context   {@link LoadContext} object, defining what and how to load
+     * @return          future completed with the loaded detached object, or null if not found
+     */
+    <E extends JmixEntity> CompletableFuture<E> loadAsync(LoadContext<E> context);
+
+    /**
+     * Loads collection of entity instances asynchronously. See {@link #loadList(LoadContext)}.
+     * @param context   {@link LoadContext} object, defining what and how to load
+     * @return          future completed with a list of detached instances
+     * @see #loadAsync(LoadContext)
+     */
+    <E extends JmixEntity> CompletableFuture<List<E>> loadListAsync(LoadContext<E> context);
+
+    /**
+     * Returns the number of entity instances asynchronously. See {@link #getCount(LoadContext)}.
+     * @param context   defines the query
+     * @return          future completed with the number of instances in the data store
+     * @see #loadAsync(LoadContext)
+     */
+    CompletableFuture<Long> getCountAsync(LoadContext<? extends JmixEntity> context);
+
+    /**
+     * Commits entity instances asynchronously. See {@link #save(SaveContext)}.
+     * @param context   {@link SaveContext} object, containing committing entities and other information
+     * @return          future completed with the set of committed instances
+     * @see #loadAsync(LoadContext)
+     */
+    CompletableFuture<EntitySet> saveAsync(SaveContext context);
+
     /**
      * Entry point to the fluent API for loading entities.
      * <p>
@@ -16,6 +16,8 @@
 
 package io.jmix.core;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collection;
 
 /**
@@ -49,6 +51,32 @@ public interface EntityImportExport {
      */
     byte[] exportEntitiesToZIP(Collection<? extends JmixEntity> entities, FetchPlan fetchPlan);
 
+    /**
+     * Serializes a collection of entities to JSON using {@link EntitySerialization} and writes the ZIP archive with the
+     * JSON file to the output stream. Unlike {@link #exportEntitiesToZIP(Collection)}, the JSON is written directly
+     * into the archive entry and is never held in memory as a whole. For this reason the entry is compressed
+     * (DEFLATED) instead of STORED, both kinds of archives can be imported by the {@code importEntitiesFromZIP}
+     * methods.
+     *
+     * @param entities     a collection of entities to export
+     * @param outputStream stream to write the ZIP archive to. The stream is not closed by this method.
+     */
+    void exportEntitiesToZIP(Collection<? extends JmixEntity> entities, OutputStream outputStream);
+
+    /**
+     * Loads entities defined by the {@code loadContext} page by page and writes them to the ZIP archive in the output
+     * stream. Each page of {@link CoreProperties#getEntityExportLoadingBatchSize()} entities is serialized to a
+     * separate DEFLATED JSON file of the archive, so memory consumption doesn't depend on the number of exported
+     * entities.
+     * <p>
+     * The load context must contain a query. If the query has no sort, entities are sorted by the primary key to
+     * make paging stable.
+     *
+     * @param loadContext  load context defining the query and the fetch plan of exported entities
+     * @param outputStream stream to write the ZIP archive to. The stream is not closed by this method.
+     */
+    void exportEntitiesToZIP(LoadContext<? extends JmixEntity> loadContext, OutputStream outputStream);
+
     /**
      * <p>Serializes a collection of entities to JSON using {@link EntitySerialization}.
      * Before the serialization entities will be reloaded with the view passed as method
@@ -96,6 +124,21 @@ public interface EntityImportExport {
      */
     Collection<JmixEntity> importEntitiesFromZIP(byte[] zipBytes, EntityImportView entityImportView);
 
+    /**
+     * Reads a zip archive with JSON files from the input stream and persists deserialized entities according to the
+     * rules, described by the {@code entityImportView} parameter. Entities are read and saved by portions of at
+     * most {@code batchSize} entities, so the archive is never loaded into memory as a whole.
+     * <p>
+     * Entities of a portion may reference entities of previous portions, but not of the following ones.
+     *
+     * @param inputStream      stream of ZIP archive with JSON files. The stream is not closed by this method.
+     * @param entityImportView {@code EntityImportView} with the rules that describes how entities should be persisted.
+     * @param batchSize        maximum number of entities saved in one transaction
+     * @return number of imported entities
+     * @see EntityImportView
+     */
+    int importEntitiesFromZIP(InputStream inputStream, EntityImportView entityImportView, int batchSize);
+
     /**
      * See {@link #importEntities(Collection, EntityImportView, boolean)}. The current method doesn't perform bean
      * validation
@@ -132,4 +175,22 @@ public interface EntityImportExport {
      * @return a collection of entities that have been imported
      */
     Collection<JmixEntity> importEntities(Collection<? extends JmixEntity> entities, EntityImportView importView, boolean validate, boolean optimisticLocking);
+
+    /**
+     * Persists entities in the same way as {@link #importEntities(Collection, EntityImportView, boolean, boolean)}, but
+     * saves them by portions of at most {@code batchSize} root entities. Each portion is committed in its own
+     * transaction unless there is an active one.
+     * <p>
+     * Use it for large imports to limit the size of a single transaction. Entities of a portion may reference entities
+     * of previous portions, but not of the following ones.
+     *
+     * @param importView        {@code EntityImportView} with the rules that describes how entities should be persisted.
+     * @param validate          whether the passed entities should be validated by the bean validation
+     *                          mechanism before entities are persisted
+     * @param optimisticLocking whether the passed entities versions should be validated before entities are persisted
+     * @param batchSize         maximum number of root entities saved in one transaction
+     * @return a collection of entities that have been imported
+     */
+    Collection<JmixEntity> importEntities(Collection<? extends JmixEntity> entities, EntityImportView importView,
+                                          boolean validate, boolean optimisticLocking, int batchSize);
 }
@@ -19,8 +19,12 @@ package io.jmix.core;
 import io.jmix.core.metamodel.model.MetaClass;
 
 import javax.annotation.Nullable;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Class that is used for serialization and deserialization of entities to JSON.
@@ -66,6 +70,21 @@ public interface EntitySerialization {
                   @Nullable FetchPlan fetchPlan,
                   EntitySerializationOption... options);
 
+    /**
+     * Serializes entities to the JSON array and writes it to the {@code writer}. Method works like the {@link
+     * #toJson(Collection, FetchPlan, EntitySerializationOption...)}, but entities are written one by one as they are
+     * obtained from the {@code entities} iterable, so the whole JSON is never held in memory.
+     *
+     * @param entities  entities to be serialized
+     * @param writer    writer to append the JSON array to. The writer is not closed by this method.
+     * @param fetchPlan a fetch plan that defines which entity properties should be added to the result JSON object
+     * @param options   options specifying how an entity should be serialized
+     */
+    void toJson(Iterable<? extends JmixEntity> entities,
+                Writer writer,
+                @Nullable FetchPlan fetchPlan,
+                EntitySerializationOption... options);
+
     /**
      * An overloaded version of the {@link #toJson(JmixEntity, FetchPlan, EntitySerializationOption...)} method with a null
      * {@code fetchPlan} parameter and with no serialization options.
@@ -125,6 +144,24 @@ public interface EntitySerialization {
                                                                     @Nullable MetaClass metaClass,
                                                                     EntitySerializationOption... options);
 
+    /**
+     * Reads a JSON array of objects from the {@code reader} and passes deserialized entities to the {@code consumer}
+     * by portions of at most {@code chunkSize} entities. Only the current portion is held in memory, except for
+     * entities that may be referenced from the following objects when the JSON is written with the {@link
+     * EntitySerializationOption#COMPACT_REPEATED_ENTITIES} option.
+     *
+     * @param reader    reader of a JSON array of objects. The reader is not closed by this method.
+     * @param metaClass a metaClass of the entities that will be created
+     * @param chunkSize maximum number of entities passed to the consumer at once
+     * @param consumer  receives deserialized entities
+     * @param options   options specifying how a JSON object graph was serialized
+     */
+    void entitiesFromJson(Reader reader,
+                          @Nullable MetaClass metaClass,
+                          int chunkSize,
+                          Consumer<List<JmixEntity>> consumer,
+                          EntitySerializationOption... options);
+
     /**
      * Deserializes an object of any class from JSON. Date fields are deserialized according to the {@link
      * io.jmix.core.metamodel.datatype.impl.DateTimeDatatype} format, entities object and fields of Entity type are
@@ -126,6 +126,26 @@ public class FluentLoader<E extends JmixEntity> {
         return dataManager.loadList(loadContext);
     }
 
+    /**
+     * Loads entities by batches of the given size and passes them to the consumer one by one.
+     * Only the current batch is kept in memory.
+     *
+     * @see DataManager#loadByBatches(LoadContext, int, Consumer)
+     */
+    public void forEach(int batchSize, Consumer<? super E> consumer) {
+        forEachBatch(batchSize, batch -> batch.forEach(consumer));
+    }
+
+    /**
+     * Loads entities by batches of the given size and passes each batch to the consumer.
+     *
+     * @see DataManager#loadByBatches(LoadContext, int, Consumer)
+     */
+    public void forEachBatch(int batchSize, Consumer<List<E>> batchConsumer) {
+        LoadContext<E> loadContext = createLoadContext();
+        dataManager.loadByBatches(loadContext, batchSize, batchConsumer);
+    }
+
     /**
      * Loads a single instance and wraps it in Optional.
      */
@@ -580,6 +600,8 @@ public class FluentLoader<E extends JmixEntity> {
         private int maxResults;
         private boolean cacheable;
         private Condition condition;
+        private Sort sort;
+        private List<Object> keysetValues;
         private BeanFactory beanFactory;
 
         ByQuery(FluentLoader<E> loader, String queryString, BeanFactory beanFactory) {
@@ -619,6 +641,8 @@ public class FluentLoader<E extends JmixEntity> {
             loadContext.setQuery(query);
 
             loadContext.getQuery().setCondition(condition);
+            loadContext.getQuery().setSort(sort);
+            loadContext.getQuery().setKeysetValues(keysetValues);
             loadContext.getQuery().setFirstResult(firstResult);
             loadContext.getQuery().setMaxResults(maxResults);
             loadContext.getQuery().setCacheable(cacheable);
@@ -634,6 +658,26 @@ public class FluentLoader<E extends JmixEntity> {
             return loader.dataManager.loadList(loadContext);
         }
 
+        /**
+         * Loads entities by batches of the given size and passes them to the consumer one by one.
+         * Only the current batch is kept in memory.
+         *
+         * @see DataManager#loadByBatches(LoadContext, int, Consumer)
+         */
+        public void forEach(int batchSize, Consumer<? super E> consumer) {
+            forEachBatch(batchSize, batch -> batch.forEach(consumer));
+        }
+
+        /**
+         * Loads entities by batches of the given size and passes each batch to the consumer.
+         *
+         * @see DataManager#loadByBatches(LoadContext, int, Consumer)
+         */
+        public void forEachBatch(int batchSize, Consumer<List<E>> batchConsumer) {
+            LoadContext<E> loadContext = createLoadContext();
+            loader.dataManager.loadByBatches(loadContext, batchSize, batchConsumer);
+        }
+
         /**
          * Loads a single instance and wraps it in Optional.
          */
@@ -742,6 +786,35 @@ public class FluentLoader<E extends JmixEntity> {
             return this;
         }
 
+        /**
+         * Sets sort, which overrides the order defined in the query.
+         */
+        public ByQuery<E> sort(Sort sort) {
+            this.sort = sort;
+            return this;
+        }
+
+        /**
+         * Loads entities following the given one in the order defined by {@link #sort(Sort)}.
+         * Use it together with {@link #maxResults(int)} to load data by pages without scanning preceding rows.
+         *
+         * @param lastEntity last entity of the previous page
+         * @see LoadContext.Query#setKeysetValues(List)
+         */
+        public ByQuery<E> after(E lastEntity) {
+            return keysetValues(LoadContext.Query.getKeysetValues(lastEntity, sort));
+        }
+
+        /**
+         * Loads entities following the entity with the given values of sort properties and identifier.
+         *
+         * @see LoadContext.Query#setKeysetValues(List)
+         */
+        public ByQuery<E> keysetValues(List<?> keysetValues) {
+            this.keysetValues = new ArrayList<>(keysetValues);
+            return this;
+        }
+
         /**
          * Sets value for a query parameter.
          *
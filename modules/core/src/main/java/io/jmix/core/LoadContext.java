@@ -314,6 +314,7 @@ public class LoadContext<E extends JmixEntity> implements DataLoadContext, Seria
         private boolean cacheable;
         private Condition condition;
         private Sort sort;
+        private List<Object> keysetValues;
 
         protected Query() {
         }
@@ -430,6 +431,59 @@ public class LoadContext<E extends JmixEntity> implements DataLoadContext, Seria
             return this;
         }
 
+        /**
+         * @return values of the sort properties and the identifier of the last entity of the previous page,
+         * or null if the keyset pagination is not used
+         */
+        @Nullable
+        public List<Object> getKeysetValues() {
+            return keysetValues;
+        }
+
+        /**
+         * Enables keyset (seek) pagination: the query returns only entities following the entity with the given
+         * values in the order defined by {@link #setSort(Sort)}. Unlike {@link #setFirstResult(int)}, it doesn't
+         * require the database to read and skip all rows of the preceding pages.
+         * <p>
+         * The list must contain values of all sort properties in the order of {@link Sort#getOrders()} followed
+         * by the entity identifier. Sort properties must be non-null persistent properties of simple types,
+         * and the entity must have a simple primary key. Use {@link #setKeyset(JmixEntity)} to extract
+         * the values from the last loaded entity.
+         *
+         * @param keysetValues sort property values and identifier, or null to disable keyset pagination
+         * @return this query instance for chaining
+         */
+        public Query setKeysetValues(@Nullable List<?> keysetValues) {
+            this.keysetValues = keysetValues == null ? null : new ArrayList<>(keysetValues);
+            return this;
+        }
+
+        /**
+         * Enables keyset (seek) pagination starting after the given entity, see {@link #setKeysetValues(List)}.
+         * The sort must be set before invoking this method.
+         *
+         * @param lastEntity last entity of the previous page, or null to disable keyset pagination
+         * @return this query instance for chaining
+         */
+        public Query setKeyset(@Nullable JmixEntity lastEntity) {
+            return setKeysetValues(lastEntity == null ? null : getKeysetValues(lastEntity, sort));
+        }
+
+        /**
+         * @return values of the sort properties and the identifier of the given entity to be passed
+         * to {@link #setKeysetValues(List)}
+         */
+        public static List<Object> getKeysetValues(JmixEntity entity, @Nullable Sort sort) {
+            List<Object> values = new ArrayList<>();
+            if (sort != null) {
+                for (Sort.Order order : sort.getOrders()) {
+                    values.add(EntityValues.getValueEx(entity, order.getProperty()));
+                }
+            }
+            values.add(EntityValues.getId(entity));
+            return values;
+        }
+
         /**
          * Indicates that the query results should be cached.
          *
@@ -476,6 +530,7 @@ public class LoadContext<E extends JmixEntity> implements DataLoadContext, Seria
             query.cacheable = this.cacheable;
             query.condition = this.condition == null ? null : this.condition.copy();
             query.sort = this.sort;
+            query.keysetValues = this.keysetValues == null ? null : new ArrayList<>(this.keysetValues);
         }
 
         @Override
@@ -488,6 +543,7 @@ public class LoadContext<E extends JmixEntity> implements DataLoadContext, Seria
             if (firstResult != query.firstResult) return false;
             if (maxResults != query.maxResults) return false;
             if (!parameters.equals(query.parameters)) return false;
+            if (!Objects.equals(keysetValues, query.keysetValues)) return false;
             return queryString.equals(query.queryString);
         }
 
@@ -497,6 +553,7 @@ public class LoadContext<E extends JmixEntity> implements DataLoadContext, Seria
             result = 31 * result + queryString.hashCode();
             result = 31 * result + firstResult;
             result = 31 * result + maxResults;
+            result = 31 * result + (keysetValues != null ? keysetValues.hashCode() : 0);
             return result;
         }
 
@@ -508,6 +565,7 @@ public class LoadContext<E extends JmixEntity> implements DataLoadContext, Seria
                     ", sort=" + sort +
                     ", firstResult=" + firstResult +
                     ", maxResults=" + maxResults +
+                    (keysetValues != null ? ", keysetValues=" + keysetValues : "") +
                     "}";
             return StringHelper.removeExtraSpaces(stringResult.replace('\n', ' '));
         }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import java.nio.file.Path;
+
+/**
+ * {@link FileStorage} keeping files in the local file system, which can take over an existing local file
+ * without copying its contents.
+ *
+ * @param <R> file reference type
+ * @param <I> file info type
+ */
+public interface LocalFileStorage<R, I> extends FileStorage<R, I> {
+
+    /**
+     * Moves a local file into file storage. If the file cannot be moved, for example because it is located
+     * on another file system, its contents is copied and the file remains in place.
+     *
+     * @param reference file reference
+     * @param file      file to move
+     * @return number of bytes saved
+     * @throws IllegalArgumentException if arguments are incorrect
+     * @throws FileStorageException     if something goes wrong
+     */
+    long moveFile(R reference, Path file);
+}
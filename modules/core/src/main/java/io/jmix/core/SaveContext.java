@@ -37,6 +37,7 @@ public class SaveContext implements Serializable {
     protected boolean softDeletion = true;
     protected boolean discardSaved;
     protected boolean joinTransaction = true;
+    protected boolean bulkInsert;
     protected List<AccessConstraint<?>> accessConstraints;
     protected Map<String, Object> dbHints = new HashMap<>();
 
@@ -184,4 +185,25 @@ public class SaveContext implements Serializable {
         this.joinTransaction = joinTransaction;
         return this;
     }
+
+    /**
+     * @return true if new entities are inserted in the bulk mode
+     * @see #setBulkInsert(boolean)
+     */
+    public boolean isBulkInsert() {
+        return bulkInsert;
+    }
+
+    /**
+     * Set to true to insert a large number of new instances of a single entity in the bulk mode.
+     * <p>
+     * In this mode, the data store writes entities in chunks and detaches each chunk right after it is flushed
+     * to the database, so the cost of saving does not grow with the number of entities. The context must contain
+     * only new instances of the same entity and no instances to remove. Fetch plans set for the entities
+     * are not used: the passed instances are returned as is.
+     */
+    public SaveContext setBulkInsert(boolean bulkInsert) {
+        this.bulkInsert = bulkInsert;
+        return this;
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link DataStore} which is able to read large result sets through a server-side cursor, keeping only one batch
+ * of entity instances in memory at a time.
+ *
+ * @see DataManager#loadByBatches(LoadContext, int, Consumer)
+ */
+public interface ScrollableDataStore extends DataStore {
+
+    /**
+     * Loads entity instances by batches and passes each batch to the consumer.
+     * <p>
+     * Instances are loaded with the same fetch plan and security constraints as in {@link #loadList(LoadContext)},
+     * and they are detached before passing to the consumer. The store does not keep references to the
+     * instances of a batch after the consumer returns.
+     *
+     * @param context       defines what and how to load
+     * @param batchSize     maximum number of instances passed to the consumer at once
+     * @param batchConsumer consumer of loaded instances
+     */
+    <E extends JmixEntity> void loadByBatches(LoadContext<E> context, int batchSize, Consumer<List<E>> batchConsumer);
+}
@@ -17,23 +17,97 @@ package io.jmix.core;
 
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Provides static method to create UUIDs.
+ * <p>
+ * The way of generating UUIDs is defined by the {@code jmix.core.uuid-generation-strategy} application property,
+ * see {@link Strategy}.
  */
 public final class UuidProvider {
 
+    /**
+     * UUID generation strategy.
+     */
+    public enum Strategy {
+        /**
+         * Random UUIDs.
+         */
+        RANDOM,
+
+        /**
+         * Version 7 UUIDs starting with the Unix timestamp in milliseconds. UUIDs created in one JVM are
+         * monotonically increasing, so rows with such primary keys are appended to the end of a B-tree index.
+         */
+        TIME_ORDERED
+    }
+
+    private static volatile Strategy strategy = Strategy.RANDOM;
+
+    /**
+     * Timestamp in milliseconds shifted left by 12 bits plus the counter of UUIDs created in this millisecond.
+     */
+    private static final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    private static final int COUNTER_BITS = 12;
+
     private UuidProvider() {
     }
 
+    public static Strategy getStrategy() {
+        return strategy;
+    }
+
     /**
-     * @return new UUID
+     * Sets the strategy used by {@link #createUuid()}.
+     */
+    public static void setStrategy(Strategy strategy) {
+        UuidProvider.strategy = strategy;
+    }
+
+    /**
+     * @return new UUID created according to the current {@link Strategy}
      */
     public static UUID createUuid() {
+        return strategy == Strategy.TIME_ORDERED ? createTimeOrderedUuid() : createRandomUuid();
+    }
+
+    /**
+     * @return new random UUID
+     */
+    public static UUID createRandomUuid() {
         ThreadLocalRandom random = ThreadLocalRandom.current();
         return new UUID(random.nextLong(), random.nextLong());
     }
 
+    /**
+     * Creates a version 7 UUID: 48 bits of the Unix timestamp in milliseconds, 12 bits of a counter and 62 random
+     * bits. The counter starts from a random value in each millisecond and makes the UUIDs strictly increasing
+     * within the JVM also when they are created concurrently. If the counter overflows, the timestamp is advanced
+     * by one millisecond.
+     *
+     * @return new time-ordered UUID
+     */
+    public static UUID createTimeOrderedUuid() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long timestamp = System.currentTimeMillis() << COUNTER_BITS;
+        // leave half of the counter range for UUIDs created in the same millisecond
+        long initial = timestamp | random.nextInt(1 << (COUNTER_BITS - 1));
+        long prev;
+        long next;
+        do {
+            prev = lastTimestampAndCounter.get();
+            next = initial > prev ? initial : prev + 1;
+        } while (!lastTimestampAndCounter.compareAndSet(prev, next));
+
+        long mostSigBits = ((next >>> COUNTER_BITS) << 16)
+                | 0x7000L
+                | (next & ((1 << COUNTER_BITS) - 1));
+        long leastSigBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
     /**
      * Fast implementation of creating a {@code UUID} from the standard string representation.
      * <br>
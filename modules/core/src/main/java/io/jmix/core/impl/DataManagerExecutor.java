@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jmix.core.CoreProperties;
+import io.jmix.core.security.SecurityContextHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * INTERNAL.
+ * Executes asynchronous {@link io.jmix.core.DataManager} operations in a bounded pool of threads.
+ * <p>
+ * The authentication of the calling thread, and hence the current user and locale, is passed to the worker thread
+ * for the duration of the operation.
+ */
+@Component(DataManagerExecutor.NAME)
+public class DataManagerExecutor {
+
+    public static final String NAME = "core_DataManagerExecutor";
+
+    protected static final String THREAD_NAME_PREFIX = "jmix-data-async-";
+
+    private static final Logger log = LoggerFactory.getLogger(DataManagerExecutor.class);
+
+    protected CoreProperties coreProperties;
+
+    protected volatile ExecutorService executorService;
+
+    @Autowired
+    public DataManagerExecutor(CoreProperties coreProperties) {
+        this.coreProperties = coreProperties;
+    }
+
+    /**
+     * Executes the operation in a worker thread.
+     *
+     * @return future completed with the result of the operation, or exceptionally if the operation fails or
+     * cannot be accepted because the queue is full
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> operation) {
+        Authentication authentication = SecurityContextHelper.getAuthentication();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                Authentication previousAuthentication = SecurityContextHelper.getAuthentication();
+                SecurityContextHelper.setAuthentication(authentication);
+                try {
+                    return operation.get();
+                } finally {
+                    SecurityContextHelper.setAuthentication(previousAuthentication);
+                }
+            }, getExecutorService());
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    protected ExecutorService getExecutorService() {
+        if (executorService == null) {
+            synchronized (this) {
+                if (executorService == null) {
+                    executorService = createExecutorService();
+                }
+            }
+        }
+        return executorService;
+    }
+
+    protected ExecutorService createExecutorService() {
+        int threadCount = coreProperties.getAsyncDataThreadCount();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threadCount,
+                threadCount,
+                1L, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(coreProperties.getAsyncDataQueueCapacity()),
+                createThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    protected ThreadFactory createThreadFactory() {
+        if (coreProperties.isAsyncDataVirtualThreadsEnabled()) {
+            try {
+                // Thread.ofVirtual().name(prefix, 0).factory() is available since Java 21
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+                return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                log.warn("Virtual threads are not supported by the JVM, asynchronous data operations use platform threads");
+            }
+        }
+        return new ThreadFactoryBuilder()
+                .setNameFormat(THREAD_NAME_PREFIX + "%d")
+                .setDaemon(true)
+                .build();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+}
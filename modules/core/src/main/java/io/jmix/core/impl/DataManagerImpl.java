@@ -22,6 +22,9 @@ import io.jmix.core.entity.EntityValues;
 import io.jmix.core.entity.KeyValueEntity;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.monitoring.DataObservation;
+import io.jmix.core.monitoring.DataObservations;
+import io.jmix.core.monitoring.DataOperation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectProvider;
@@ -30,6 +33,8 @@ import org.springframework.stereotype.Component;
 
 import javax.annotation.Nullable;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Component(DataManager.NAME)
 public class DataManagerImpl implements DataManager {
@@ -60,6 +65,12 @@ public class DataManagerImpl implements DataManager {
     @Autowired
     protected ExtendedEntities extendedEntities;
 
+    @Autowired
+    protected DataObservations dataObservations;
+
+    @Autowired
+    protected DataManagerExecutor dataManagerExecutor;
+
     // todo entity log
 //    @Autowired
 //    protected EntityLogAPI entityLog;
@@ -68,27 +79,121 @@ public class DataManagerImpl implements DataManager {
     @Override
     public <E extends JmixEntity> E load(LoadContext<E> context) {
         MetaClass metaClass = getEffectiveMetaClassFromContext(context);
-        DataStore storage = dataStoreFactory.get(getStoreName(metaClass));
-        E entity = storage.load(context);
-        if (entity != null)
-            readCrossDataStoreReferences(Collections.singletonList(entity), context.getFetchPlan(), metaClass, context.isJoinTransaction());
+        String storeName = getStoreName(metaClass);
+        DataStore storage = dataStoreFactory.get(storeName);
+        DataObservation observation = dataObservations.begin(DataOperation.LOAD, metaClass.getName(), storeName);
+        E entity;
+        try {
+            entity = storage.load(context);
+            if (entity != null)
+                readCrossDataStoreReferences(Collections.singletonList(entity), context.getFetchPlan(), metaClass, context.isJoinTransaction());
+        } catch (RuntimeException e) {
+            observation.fail(e);
+            throw e;
+        }
+        observation.end(entity != null ? 1 : 0);
         return entity;
     }
 
     @Override
     public <E extends JmixEntity> List<E> loadList(LoadContext<E> context) {
         MetaClass metaClass = getEffectiveMetaClassFromContext(context);
-        DataStore storage = dataStoreFactory.get(getStoreName(metaClass));
-        List<E> entities = storage.loadList(context);
-        readCrossDataStoreReferences(entities, context.getFetchPlan(), metaClass, context.isJoinTransaction());
+        String storeName = getStoreName(metaClass);
+        DataStore storage = dataStoreFactory.get(storeName);
+        DataObservation observation = dataObservations.begin(DataOperation.LOAD_LIST, metaClass.getName(), storeName);
+        List<E> entities;
+        try {
+            entities = storage.loadList(context);
+            readCrossDataStoreReferences(entities, context.getFetchPlan(), metaClass, context.isJoinTransaction());
+        } catch (RuntimeException e) {
+            observation.fail(e);
+            throw e;
+        }
+        observation.end(entities.size());
         return entities;
     }
 
+    @Override
+    public <E extends JmixEntity> void loadByBatches(LoadContext<E> context, int batchSize, Consumer<List<E>> batchConsumer) {
+        Preconditions.checkNotNullArgument(batchConsumer, "batchConsumer is null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        MetaClass metaClass = getEffectiveMetaClassFromContext(context);
+        String storeName = getStoreName(metaClass);
+        DataStore storage = dataStoreFactory.get(storeName);
+        DataObservation observation = dataObservations.begin(DataOperation.LOAD_BY_BATCHES, metaClass.getName(), storeName);
+        int[] rowCount = {0};
+        Consumer<List<E>> consumer = batch -> {
+            readCrossDataStoreReferences(batch, context.getFetchPlan(), metaClass, false);
+            rowCount[0] += batch.size();
+            batchConsumer.accept(batch);
+        };
+        try {
+            if (storage instanceof ScrollableDataStore) {
+                ((ScrollableDataStore) storage).loadByBatches(context, batchSize, consumer);
+            } else {
+                loadByPages(storage, context, batchSize, consumer);
+            }
+        } catch (RuntimeException e) {
+            observation.fail(e);
+            throw e;
+        }
+        observation.end(rowCount[0]);
+    }
+
+    protected <E extends JmixEntity> void loadByPages(DataStore storage, LoadContext<E> context, int batchSize,
+                                                      Consumer<List<E>> batchConsumer) {
+        LoadContext.Query query = context.getQuery();
+        if (query == null) {
+            List<E> entities = storage.loadList(context);
+            for (int i = 0; i < entities.size(); i += batchSize) {
+                batchConsumer.accept(entities.subList(i, Math.min(i + batchSize, entities.size())));
+            }
+            return;
+        }
+
+        int firstResult = query.getFirstResult();
+        int maxResults = query.getMaxResults();
+        try {
+            int loaded = 0;
+            while (true) {
+                int pageSize = maxResults > 0 ? Math.min(batchSize, maxResults - loaded) : batchSize;
+                if (pageSize <= 0) {
+                    break;
+                }
+                query.setFirstResult(firstResult + loaded);
+                query.setMaxResults(pageSize);
+                List<E> page = storage.loadList(context);
+                if (!page.isEmpty()) {
+                    batchConsumer.accept(page);
+                }
+                loaded += page.size();
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+        } finally {
+            query.setFirstResult(firstResult);
+            query.setMaxResults(maxResults);
+        }
+    }
+
     @Override
     public long getCount(LoadContext<? extends JmixEntity> context) {
         MetaClass metaClass = getEffectiveMetaClassFromContext(context);
-        DataStore storage = dataStoreFactory.get(getStoreName(metaClass));
-        return storage.getCount(context);
+        String storeName = getStoreName(metaClass);
+        DataStore storage = dataStoreFactory.get(storeName);
+        DataObservation observation = dataObservations.begin(DataOperation.GET_COUNT, metaClass.getName(), storeName);
+        long count;
+        try {
+            count = storage.getCount(context);
+        } catch (RuntimeException e) {
+            observation.fail(e);
+            throw e;
+        }
+        observation.end((int) Math.min(count, Integer.MAX_VALUE));
+        return count;
     }
 
     @Override
@@ -146,7 +251,15 @@ public class DataManagerImpl implements DataManager {
         Set<JmixEntity> result = new LinkedHashSet<>();
         for (Map.Entry<String, SaveContext> entry : storeToContextMap.entrySet()) {
             DataStore dataStore = dataStoreFactory.get(entry.getKey());
-            Set<JmixEntity> committed = dataStore.save(entry.getValue());
+            DataObservation observation = dataObservations.begin(DataOperation.SAVE, null, entry.getKey());
+            Set<JmixEntity> committed;
+            try {
+                committed = dataStore.save(entry.getValue());
+            } catch (RuntimeException e) {
+                observation.fail(e);
+                throw e;
+            }
+            observation.end(entry.getValue().getEntitiesToSave().size() + entry.getValue().getEntitiesToRemove().size());
             result.addAll(committed);
         }
 
@@ -184,6 +297,26 @@ public class DataManagerImpl implements DataManager {
         return store.loadValues(context);
     }
 
+    @Override
+    public <E extends JmixEntity> CompletableFuture<E> loadAsync(LoadContext<E> context) {
+        return dataManagerExecutor.supplyAsync(() -> load(context));
+    }
+
+    @Override
+    public <E extends JmixEntity> CompletableFuture<List<E>> loadListAsync(LoadContext<E> context) {
+        return dataManagerExecutor.supplyAsync(() -> loadList(context));
+    }
+
+    @Override
+    public CompletableFuture<Long> getCountAsync(LoadContext<? extends JmixEntity> context) {
+        return dataManagerExecutor.supplyAsync(() -> getCount(context));
+    }
+
+    @Override
+    public CompletableFuture<EntitySet> saveAsync(SaveContext context) {
+        return dataManagerExecutor.supplyAsync(() -> save(context));
+    }
+
     @Override
     public <E extends JmixEntity> FluentLoader<E> load(Class<E> entityClass) {
         return fluentLoaderProvider.getObject(entityClass);
@@ -211,6 +344,7 @@ public class DataManagerImpl implements DataManager {
         newCtx.setDiscardSaved(context.isDiscardSaved());
         newCtx.setAccessConstraints(context.getAccessConstraints());
         newCtx.setJoinTransaction(context.isJoinTransaction());
+        newCtx.setBulkInsert(context.isBulkInsert());
         return newCtx;
     }
 
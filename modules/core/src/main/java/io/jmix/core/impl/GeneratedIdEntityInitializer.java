@@ -16,6 +16,7 @@
 
 package io.jmix.core.impl;
 
+import io.jmix.core.CoreProperties;
 import io.jmix.core.JmixEntity;
 import io.jmix.core.EntityInitializer;
 import io.jmix.core.Metadata;
@@ -27,6 +28,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.Ordered;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import java.util.UUID;
 
 @Component(GeneratedIdEntityInitializer.NAME)
@@ -36,6 +38,14 @@ public class GeneratedIdEntityInitializer implements EntityInitializer, Ordered
     @Autowired
     private Metadata metadata;
 
+    @Autowired
+    private CoreProperties coreProperties;
+
+    @PostConstruct
+    protected void init() {
+        UuidProvider.setStrategy(coreProperties.getUuidGenerationStrategy());
+    }
+
     @Override
     public void initEntity(JmixEntity entity) {
         MetaClass metaClass = metadata.getClass(entity.getClass());
@@ -24,19 +24,31 @@ import io.jmix.core.entity.EntityValues;
 import io.jmix.core.impl.method.ArgumentResolverComposite;
 import io.jmix.core.impl.method.ContextArgumentResolverComposite;
 import io.jmix.core.impl.method.MethodArgumentsProvider;
+import io.jmix.core.impl.method.MethodArgumentResolver;
+import io.jmix.core.metamodel.annotation.IgnoreUserTimeZone;
 import io.jmix.core.metamodel.annotation.InstanceName;
+import io.jmix.core.metamodel.datatype.Datatype;
 import io.jmix.core.metamodel.datatype.DatatypeRegistry;
+import io.jmix.core.metamodel.datatype.TimeZoneAwareDatatype;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.Range;
+import io.jmix.core.security.CurrentAuthentication;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -60,6 +72,9 @@ public class InstanceNameProviderImpl implements InstanceNameProvider {
     @Autowired
     protected MetadataTools metadataTools;
 
+    @Autowired
+    protected CurrentAuthentication currentAuthentication;
+
     private final Logger log = LoggerFactory.getLogger(InstanceNameProviderImpl.class);
 
     protected ContextArgumentResolverComposite resolvers;
@@ -76,6 +91,27 @@ public class InstanceNameProviderImpl implements InstanceNameProvider {
                         }
                     });
 
+    // instance name records compiled into formatters which are invoked for every instance
+    protected LoadingCache<MetaClass, InstanceNameFormatter> instanceNameFormatterCache =
+            CacheBuilder.newBuilder()
+                    .build(new CacheLoader<MetaClass, InstanceNameFormatter>() {
+                        @Override
+                        public InstanceNameFormatter load(@Nonnull MetaClass metaClass) {
+                            return instanceNameRecCache.getUnchecked(metaClass)
+                                    .map(rec -> compileInstanceNameRec(rec))
+                                    .orElse(Object::toString);
+                        }
+                    });
+
+    /**
+     * Creates the instance name of an entity instance of a particular class.
+     */
+    @FunctionalInterface
+    protected interface InstanceNameFormatter {
+
+        String format(JmixEntity instance);
+    }
+
     public static class InstanceNameRec {
         /**
          * Name pattern string format
@@ -116,31 +152,7 @@ public class InstanceNameProviderImpl implements InstanceNameProvider {
 
         MetaClass metaClass = metadata.getClass(instance.getClass());
 
-        Optional<InstanceNameRec> optional = instanceNameRecCache.getUnchecked(metaClass);
-        if (!optional.isPresent()) {
-            return instance.toString();
-        }
-
-        InstanceNameRec rec = optional.get();
-
-        if (rec.method != null) {
-            try {
-                Object result = rec.method.invoke(instance, methodArgumentsProvider.getMethodArgumentValues(rec.method));
-                return (String) result;
-            } catch (Exception e) {
-                throw new RuntimeException("Error getting instance name", e);
-            }
-        }
-
-        Object[] values = new Object[rec.nameProperties.length];
-        for (int i = 0; i < rec.nameProperties.length; i++) {
-            MetaProperty property = rec.nameProperties[i];
-
-            Object value = EntityValues.getValue(instance, property.getName());
-            values[i] = metadataTools.format(value, property);
-        }
-
-        return String.format(rec.format, values);
+        return instanceNameFormatterCache.getUnchecked(metaClass).format(instance);
     }
 
     @Override
@@ -156,7 +168,8 @@ public class InstanceNameProviderImpl implements InstanceNameProvider {
     }
 
     protected Collection<MetaProperty> getInstanceNameProperties(MetaClass metaClass, @Nullable Method nameMethod, @Nullable MetaProperty nameProperty) {
-        final Collection<MetaProperty> properties = new HashSet<>();
+        // the name property goes first as it is formatted by the "%s" pattern
+        final Collection<MetaProperty> properties = new LinkedHashSet<>();
         if (nameMethod != null) {
             return getPropertiesFromAnnotation(metaClass, nameMethod.getAnnotation(InstanceName.class));
         }
@@ -198,6 +211,111 @@ public class InstanceNameProviderImpl implements InstanceNameProvider {
                         .toArray(MetaProperty[]::new));
     }
 
+    /**
+     * Compiles the instance name record into a formatter which does not resolve the name method parameters
+     * and the way of formatting the name property value on each invocation.
+     */
+    protected InstanceNameFormatter compileInstanceNameRec(InstanceNameRec rec) {
+        if (rec.method != null) {
+            return createMethodFormatter(rec.method);
+        }
+        if (rec.nameProperties.length == 0) {
+            return Object::toString;
+        }
+        if (!"%s".equals(rec.format)) {
+            MetaProperty[] properties = rec.nameProperties;
+            return instance -> {
+                Object[] values = new Object[properties.length];
+                for (int i = 0; i < properties.length; i++) {
+                    values[i] = metadataTools.format(EntityValues.getValue(instance, properties[i].getName()), properties[i]);
+                }
+                return String.format(rec.format, values);
+            };
+        }
+
+        String propertyName = rec.nameProperties[0].getName();
+        Function<Object, String> valueFormatter = createValueFormatter(rec.nameProperties[0]);
+        return instance -> {
+            Object value = EntityValues.getValue(instance, propertyName);
+            return value == null ? "" : valueFormatter.apply(value);
+        };
+    }
+
+    protected InstanceNameFormatter createMethodFormatter(Method method) {
+        ReflectionUtils.makeAccessible(method);
+        MethodHandle methodHandle;
+        try {
+            methodHandle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Unable to access instance name method " + method, e);
+        }
+
+        // invokeExact requires the call site type to match the handle type exactly,
+        // so handles are adapted to take Object and return String
+        int parameterCount = method.getParameterCount();
+        if (parameterCount == 0) {
+            MethodHandle handle = methodHandle.asType(MethodType.methodType(String.class, Object.class));
+            return instance -> {
+                try {
+                    return (String) handle.invokeExact((Object) instance);
+                } catch (Throwable e) {
+                    throw new RuntimeException("Error getting instance name", e);
+                }
+            };
+        }
+
+        MethodParameter[] parameters = new MethodParameter[parameterCount];
+        MethodArgumentResolver[] parameterResolvers = new MethodArgumentResolver[parameterCount];
+        for (int i = 0; i < parameterCount; i++) {
+            MethodParameter parameter = new MethodParameter(method, i);
+            parameters[i] = parameter;
+            parameterResolvers[i] = resolvers.getResolvers().stream()
+                    .filter(resolver -> resolver.supportsParameter(parameter))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException(String.format(
+                            "Could not resolve parameter [%d] in %s: No suitable resolver",
+                            parameter.getParameterIndex(), method.toGenericString())));
+        }
+        MethodHandle handle = methodHandle.asSpreader(Object[].class, parameterCount)
+                .asType(MethodType.methodType(String.class, Object.class, Object[].class));
+        return instance -> {
+            try {
+                Object[] args = new Object[parameterCount];
+                for (int i = 0; i < parameterCount; i++) {
+                    args[i] = parameterResolvers[i].resolveArgument(parameters[i]);
+                }
+                return (String) handle.invokeExact((Object) instance, args);
+            } catch (Throwable e) {
+                throw new RuntimeException("Error getting instance name", e);
+            }
+        };
+    }
+
+    /**
+     * Creates a function formatting non-null values of the property in the same way as
+     * {@link MetadataTools#format(Object, MetaProperty)}.
+     */
+    @SuppressWarnings("unchecked")
+    protected Function<Object, String> createValueFormatter(MetaProperty property) {
+        Range range = property.getRange();
+        if (range.isDatatype()) {
+            Datatype<Object> datatype = (Datatype<Object>) range.asDatatype();
+            if (String.class.equals(datatype.getJavaClass())) {
+                return Object::toString;
+            }
+            if (datatype instanceof TimeZoneAwareDatatype) {
+                Boolean ignoreUserTimeZone = metadataTools.getMetaAnnotationValue(property, IgnoreUserTimeZone.class);
+                if (!Boolean.TRUE.equals(ignoreUserTimeZone)) {
+                    TimeZoneAwareDatatype timeZoneAwareDatatype = (TimeZoneAwareDatatype) datatype;
+                    return value -> timeZoneAwareDatatype.format(value,
+                            currentAuthentication.getLocale(), currentAuthentication.getTimeZone());
+                }
+            }
+            return value -> datatype.format(value, currentAuthentication.getLocale());
+        }
+        return value -> metadataTools.format(value, property);
+    }
+
     private void validateInstanceNameAnnotation(MetaClass metaClass, List<Method> instanceNameMethods, List<MetaProperty> nameProperties) {
         if (instanceNameMethods.size() > 1) {
             log.warn("Multiple @InstanceName annotated methods found in {} class, method {} will be used for instance name",
@@ -129,6 +129,79 @@ public class MetaModelLoader {
         }
     }
 
+    /**
+     * Loads meta-model using the classes and properties recorded in the snapshot instead of discovering them
+     * by scanning declared fields and methods of each class.
+     *
+     * @throws IllegalStateException if a class or a class member recorded in the snapshot doesn't exist
+     */
+    public void loadModel(Session session, MetadataSnapshot snapshot) {
+        checkNotNullArgument(snapshot, "snapshot is null");
+
+        Map<MetaClassImpl, MetadataSnapshot.ClassInfo> classInfos = new LinkedHashMap<>();
+        for (MetadataSnapshot.ClassInfo classInfo : snapshot.getClasses()) {
+            Class<?> javaClass;
+            try {
+                javaClass = ReflectionHelper.loadClass(classInfo.getClassName());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Class " + classInfo.getClassName() + " not found", e);
+            }
+            MetaClassImpl metaClass = new MetaClassImpl(session, classInfo.getName());
+            metaClass.setJavaClass(javaClass);
+            classInfos.put(metaClass, classInfo);
+        }
+
+        for (MetaClass metaClass : session.getClasses()) {
+            initAncestors(session, metaClass);
+            assignStore(metaClass);
+        }
+
+        List<RangeInitTask> tasks = new ArrayList<>();
+        for (Map.Entry<MetaClassImpl, MetadataSnapshot.ClassInfo> entry : classInfos.entrySet()) {
+            initProperties(session, entry.getKey(), entry.getValue().getProperties(), tasks);
+        }
+
+        for (RangeInitTask task : tasks) {
+            task.execute();
+        }
+
+        for (MetaClass metaClass : session.getClasses()) {
+            initInheritedProperties(metaClass);
+        }
+    }
+
+    /**
+     * Records classes and own properties of the loaded session.
+     *
+     * @param session     session loaded by {@link #loadModel(Session, Set)}
+     * @param fingerprint hash of the entity classes the session was loaded from
+     */
+    public MetadataSnapshot createSnapshot(Session session, String fingerprint) {
+        List<MetadataSnapshot.ClassInfo> classInfos = new ArrayList<>();
+        for (MetaClass metaClass : session.getClasses()) {
+            List<MetadataSnapshot.PropertyInfo> propertyInfos = new ArrayList<>();
+            for (MetaProperty metaProperty : metaClass.getOwnProperties()) {
+                AnnotatedElement element = metaProperty.getAnnotatedElement();
+                if (element instanceof Field) {
+                    Field field = (Field) element;
+                    MetadataSnapshot.MemberKind kind = isCollection(field) || isMap(field)
+                            ? MetadataSnapshot.MemberKind.COLLECTION_FIELD
+                            : MetadataSnapshot.MemberKind.FIELD;
+                    propertyInfos.add(new MetadataSnapshot.PropertyInfo(metaProperty.getName(), field.getName(), kind));
+                } else if (element instanceof Method) {
+                    propertyInfos.add(new MetadataSnapshot.PropertyInfo(metaProperty.getName(),
+                            ((Method) element).getName(), MetadataSnapshot.MemberKind.METHOD));
+                }
+            }
+            // load collection properties after non-collection in order to have all inverse properties loaded up
+            propertyInfos.sort(Comparator.comparing(MetadataSnapshot.PropertyInfo::getKind));
+
+            classInfos.add(new MetadataSnapshot.ClassInfo(
+                    metaClass.getJavaClass().getName(), metaClass.getName(), propertyInfos));
+        }
+        return new MetadataSnapshot(fingerprint, classInfos);
+    }
+
     protected void initAncestors(Session session, MetaClass metaClass) {
         Class<?> ancestor = metaClass.getJavaClass().getSuperclass();
         if (ancestor != null) {
@@ -302,6 +375,44 @@ public class MetaModelLoader {
         }
     }
 
+    protected void initProperties(Session session, MetaClassImpl metaClass,
+                                  List<MetadataSnapshot.PropertyInfo> propertyInfos, Collection<RangeInitTask> tasks) {
+        Class<?> clazz = metaClass.getJavaClass();
+        for (MetadataSnapshot.PropertyInfo propertyInfo : propertyInfos) {
+            MetadataObjectInfo<MetaProperty> info;
+            try {
+                switch (propertyInfo.getKind()) {
+                    case FIELD: {
+                        Field field = clazz.getDeclaredField(propertyInfo.getMemberName());
+                        info = loadProperty(session, metaClass, field);
+                        tasks.addAll(info.getTasks());
+                        onPropertyLoaded(info.getObject(), field);
+                        break;
+                    }
+                    case COLLECTION_FIELD: {
+                        Field field = clazz.getDeclaredField(propertyInfo.getMemberName());
+                        info = loadCollectionProperty(session, metaClass, field);
+                        tasks.addAll(info.getTasks());
+                        onPropertyLoaded(info.getObject(), field);
+                        break;
+                    }
+                    case METHOD: {
+                        Method method = clazz.getDeclaredMethod(propertyInfo.getMemberName());
+                        info = loadProperty(session, metaClass, method, propertyInfo.getName());
+                        tasks.addAll(info.getTasks());
+                        onPropertyLoaded(info.getObject(), method);
+                        break;
+                    }
+                    default:
+                        throw new IllegalStateException("Unsupported member kind: " + propertyInfo.getKind());
+                }
+            } catch (NoSuchFieldException | NoSuchMethodException e) {
+                throw new IllegalStateException(String.format("Member %s.%s not found",
+                        clazz.getName(), propertyInfo.getMemberName()), e);
+            }
+        }
+    }
+
     private boolean useNonAnnotatedProperties(Class<?> javaClass) {
         ModelObject modelObjectAnnotation = javaClass.getAnnotation(ModelObject.class);
         return modelObjectAnnotation != null && !modelObjectAnnotation.annotatedPropertiesOnly();
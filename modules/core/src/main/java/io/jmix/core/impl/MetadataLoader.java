@@ -39,6 +39,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * INTERNAL.
@@ -55,13 +56,14 @@ public class MetadataLoader {
     protected Session session;
 
     @Autowired
-    public MetadataLoader(JmixModulesClasspathScanner classpathScanner, MetaModelLoader metaModelLoader) {
+    public MetadataLoader(JmixModulesClasspathScanner classpathScanner, MetaModelLoader metaModelLoader,
+                          MetadataSnapshotSupport snapshotSupport) {
         this.session = new SessionImpl();
 
         log.trace("Initializing metadata");
         long startTime = System.currentTimeMillis();
 
-        metaModelLoader.loadModel(session, classpathScanner.getClassNames(EntityDetector.class));
+        loadModel(metaModelLoader, snapshotSupport, classpathScanner.getClassNames(EntityDetector.class));
 
         for (MetaClass metaClass : session.getClasses()) {
             postProcessClass(metaClass);
@@ -80,6 +82,35 @@ public class MetadataLoader {
         return session;
     }
 
+    protected void loadModel(MetaModelLoader metaModelLoader, MetadataSnapshotSupport snapshotSupport,
+                             Set<String> classNames) {
+        if (!snapshotSupport.isEnabled()) {
+            metaModelLoader.loadModel(session, classNames);
+            return;
+        }
+
+        String fingerprint = snapshotSupport.getFingerprint(classNames);
+        if (fingerprint == null) {
+            metaModelLoader.loadModel(session, classNames);
+            return;
+        }
+
+        MetadataSnapshot snapshot = snapshotSupport.loadSnapshot(fingerprint);
+        if (snapshot != null) {
+            try {
+                metaModelLoader.loadModel(session, snapshot);
+                log.debug("Metadata loaded from snapshot {}", fingerprint);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Unable to load metadata from snapshot, loading from classes: {}", e.toString());
+                session = new SessionImpl();
+            }
+        }
+
+        metaModelLoader.loadModel(session, classNames);
+        snapshotSupport.saveSnapshot(metaModelLoader.createSnapshot(session, fingerprint));
+    }
+
     protected void postProcessClass(MetaClass metaClass) {
         for (MetaProperty property : metaClass.getOwnProperties()) {
             postProcessProperty(metaClass, property);
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl;
+
+import javax.annotation.Nullable;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * INTERNAL.
+ * Result of metadata discovery: the list of meta-classes and the members of each Java class which form
+ * its own meta-properties. Allows {@link MetaModelLoader} to build the session without scanning all declared
+ * fields and methods of entity classes.
+ * <p>
+ * The snapshot is valid only for the set of entity classes it was created from, see {@link #getFingerprint()}.
+ */
+public class MetadataSnapshot {
+
+    /**
+     * Version of the binary format. Must be incremented when the format or the semantics of recorded data change.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    public enum MemberKind {
+        FIELD,
+        COLLECTION_FIELD,
+        METHOD
+    }
+
+    private final String fingerprint;
+    private final List<ClassInfo> classes;
+
+    public MetadataSnapshot(String fingerprint, List<ClassInfo> classes) {
+        this.fingerprint = fingerprint;
+        this.classes = classes;
+    }
+
+    /**
+     * @return hash of names and class file attributes of the entity classes the snapshot was created from
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public List<ClassInfo> getClasses() {
+        return Collections.unmodifiableList(classes);
+    }
+
+    public void write(DataOutput out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(fingerprint);
+        out.writeInt(classes.size());
+        for (ClassInfo classInfo : classes) {
+            out.writeUTF(classInfo.getClassName());
+            out.writeUTF(classInfo.getName());
+            out.writeInt(classInfo.getProperties().size());
+            for (PropertyInfo propertyInfo : classInfo.getProperties()) {
+                out.writeUTF(propertyInfo.getName());
+                out.writeUTF(propertyInfo.getMemberName());
+                out.writeByte(propertyInfo.getKind().ordinal());
+            }
+        }
+    }
+
+    /**
+     * Reads snapshot written by {@link #write(DataOutput)}.
+     *
+     * @return snapshot or null if it was written in a different format version
+     */
+    @Nullable
+    public static MetadataSnapshot read(DataInput in) throws IOException {
+        if (in.readInt() != FORMAT_VERSION) {
+            return null;
+        }
+        String fingerprint = in.readUTF();
+        int classCount = in.readInt();
+        List<ClassInfo> classes = new ArrayList<>(classCount);
+        for (int i = 0; i < classCount; i++) {
+            String className = in.readUTF();
+            String name = in.readUTF();
+            int propertyCount = in.readInt();
+            List<PropertyInfo> properties = new ArrayList<>(propertyCount);
+            for (int j = 0; j < propertyCount; j++) {
+                String propertyName = in.readUTF();
+                String memberName = in.readUTF();
+                MemberKind kind = MemberKind.values()[in.readByte()];
+                properties.add(new PropertyInfo(propertyName, memberName, kind));
+            }
+            classes.add(new ClassInfo(className, name, properties));
+        }
+        return new MetadataSnapshot(fingerprint, classes);
+    }
+
+    public static class ClassInfo {
+
+        private final String className;
+        private final String name;
+        private final List<PropertyInfo> properties;
+
+        public ClassInfo(String className, String name, List<PropertyInfo> properties) {
+            this.className = className;
+            this.name = name;
+            this.properties = properties;
+        }
+
+        /**
+         * @return Java class name
+         */
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * @return meta-class name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return own properties in the order they must be loaded
+         */
+        public List<PropertyInfo> getProperties() {
+            return Collections.unmodifiableList(properties);
+        }
+    }
+
+    public static class PropertyInfo {
+
+        private final String name;
+        private final String memberName;
+        private final MemberKind kind;
+
+        public PropertyInfo(String name, String memberName, MemberKind kind) {
+            this.name = name;
+            this.memberName = memberName;
+            this.kind = kind;
+        }
+
+        /**
+         * @return meta-property name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return name of the field or the getter method declared in the Java class
+         */
+        public String getMemberName() {
+            return memberName;
+        }
+
+        public MemberKind getKind() {
+            return kind;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.jmix.core.CoreProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+
+/**
+ * INTERNAL.
+ * Computes fingerprints of entity classes and stores {@link MetadataSnapshot}s.
+ * <p>
+ * A snapshot is looked up in the {@link #SNAPSHOT_RESOURCE} classpath resource which can be produced at build time,
+ * and then in the {@link #SNAPSHOT_FILE} file in the work directory which is written on the first start after
+ * entity classes have changed.
+ */
+@Component(MetadataSnapshotSupport.NAME)
+public class MetadataSnapshotSupport {
+
+    public static final String NAME = "core_MetadataSnapshotSupport";
+
+    public static final String SNAPSHOT_RESOURCE = "META-INF/jmix-metadata.snapshot";
+
+    public static final String SNAPSHOT_FILE = "metadata.snapshot";
+
+    private static final Logger log = LoggerFactory.getLogger(MetadataSnapshotSupport.class);
+
+    protected CoreProperties coreProperties;
+
+    @Autowired
+    public MetadataSnapshotSupport(CoreProperties coreProperties) {
+        this.coreProperties = coreProperties;
+    }
+
+    public boolean isEnabled() {
+        return coreProperties.isMetadataSnapshotEnabled();
+    }
+
+    /**
+     * Computes hash of names and class file attributes of the given classes, see
+     * {@link #putClassFileAttributes(Hasher, URL)}.
+     *
+     * @return fingerprint or null if a class file is not available
+     */
+    @Nullable
+    public String getFingerprint(Collection<String> classNames) {
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        return getFingerprint(classNames, classLoader != null ? classLoader : ClassLoader.getSystemClassLoader());
+    }
+
+    @Nullable
+    protected String getFingerprint(Collection<String> classNames, ClassLoader classLoader) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (String className : new TreeSet<>(classNames)) {
+            hasher.putString(className, StandardCharsets.UTF_8);
+            String resourceName = ClassUtils.convertClassNameToResourcePath(className) + ClassUtils.CLASS_FILE_SUFFIX;
+            URL url = classLoader.getResource(resourceName);
+            if (url == null) {
+                log.debug("Class file of {} is not available, metadata snapshot is not used", className);
+                return null;
+            }
+            try {
+                if (!putClassFileAttributes(hasher, url)) {
+                    log.debug("Attributes of {} are not available, metadata snapshot is not used", url);
+                    return null;
+                }
+            } catch (IOException | URISyntaxException e) {
+                log.warn("Unable to read attributes of {}: {}", url, e.toString());
+                return null;
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Adds attributes of the class file which change when the class is recompiled, without reading the bytecode:
+     * CRC and size of a JAR entry, which are stored in the central directory of the JAR, or size and
+     * modification time of a class file in a directory.
+     *
+     * @return false if the attributes cannot be obtained for the URL
+     */
+    protected boolean putClassFileAttributes(Hasher hasher, URL url) throws IOException, URISyntaxException {
+        if ("file".equals(url.getProtocol())) {
+            Path path = Paths.get(url.toURI());
+            hasher.putLong(Files.size(path));
+            hasher.putLong(Files.getLastModifiedTime(path).toMillis());
+            return true;
+        }
+        URLConnection connection = url.openConnection();
+        if (connection instanceof JarURLConnection) {
+            JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+            if (entry == null || entry.getCrc() == -1) {
+                return false;
+            }
+            hasher.putLong(entry.getCrc());
+            hasher.putLong(entry.getSize());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return snapshot with the given fingerprint or null if there is no such snapshot
+     */
+    @Nullable
+    public MetadataSnapshot loadSnapshot(String fingerprint) {
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        if (classLoader != null) {
+            try (InputStream stream = classLoader.getResourceAsStream(SNAPSHOT_RESOURCE)) {
+                MetadataSnapshot snapshot = readSnapshot(stream, fingerprint);
+                if (snapshot != null) {
+                    return snapshot;
+                }
+            } catch (IOException e) {
+                log.warn("Unable to read metadata snapshot from {}: {}", SNAPSHOT_RESOURCE, e.toString());
+            }
+        }
+
+        Path file = getSnapshotFile();
+        if (file != null && Files.exists(file)) {
+            try (InputStream stream = Files.newInputStream(file)) {
+                return readSnapshot(stream, fingerprint);
+            } catch (IOException e) {
+                log.warn("Unable to read metadata snapshot from {}: {}", file, e.toString());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the snapshot to the work directory.
+     */
+    public void saveSnapshot(MetadataSnapshot snapshot) {
+        Path file = getSnapshotFile();
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path tempFile = Files.createTempFile(file.getParent(), SNAPSHOT_FILE, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                snapshot.write(out);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            log.debug("Metadata snapshot saved to {}", file);
+        } catch (IOException e) {
+            log.warn("Unable to save metadata snapshot to {}: {}", file, e.toString());
+        }
+    }
+
+    @Nullable
+    protected MetadataSnapshot readSnapshot(@Nullable InputStream stream, String fingerprint) throws IOException {
+        if (stream == null) {
+            return null;
+        }
+        MetadataSnapshot snapshot = MetadataSnapshot.read(new DataInputStream(new BufferedInputStream(stream)));
+        if (snapshot == null || !fingerprint.equals(snapshot.getFingerprint())) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    @Nullable
+    protected Path getSnapshotFile() {
+        String workDir = coreProperties.getWorkDir();
+        return workDir != null ? Paths.get(workDir, SNAPSHOT_FILE) : null;
+    }
+}
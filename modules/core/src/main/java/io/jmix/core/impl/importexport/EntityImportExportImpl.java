@@ -39,13 +39,10 @@ import javax.annotation.Nullable;
 import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
 import javax.validation.groups.Default;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.zip.CRC32;
 
 @Component(EntityImportExport.NAME)
@@ -91,6 +88,9 @@ public class EntityImportExportImpl implements EntityImportExport {
     @Autowired
     protected AccessConstraintsRegistry accessConstraintsRegistry;
 
+    @Autowired
+    protected CoreProperties coreProperties;
+
     @Override
     public byte[] exportEntitiesToZIP(Collection<? extends JmixEntity> entities, FetchPlan view) {
         return exportEntitiesToZIP(reloadEntities(entities, view));
@@ -118,6 +118,77 @@ public class EntityImportExportImpl implements EntityImportExport {
         return byteArrayOutputStream.toByteArray();
     }
 
+    @Override
+    public void exportEntitiesToZIP(Collection<? extends JmixEntity> entities, OutputStream outputStream) {
+        ZipArchiveOutputStream zipOutputStream = createZipOutputStream(outputStream);
+        try {
+            writeEntitiesEntry(zipOutputStream, "entities.json", entities);
+            zipOutputStream.finish();
+        } catch (IOException e) {
+            throw new RuntimeException("Error on creating zip archive during entities export", e);
+        }
+    }
+
+    @Override
+    public void exportEntitiesToZIP(LoadContext<? extends JmixEntity> loadContext, OutputStream outputStream) {
+        if (loadContext.getQuery() == null) {
+            throw new IllegalArgumentException("Load context must contain a query");
+        }
+        LoadContext<?> pageContext = loadContext.copy();
+        LoadContext.Query query = pageContext.getQuery();
+        if (query.getSort() == null || query.getSort().getOrders().isEmpty()) {
+            query.setSort(Sort.by(metadataTools.getPrimaryKeyName(pageContext.getEntityMetaClass())));
+        }
+
+        int firstResult = query.getFirstResult();
+        int maxResults = query.getMaxResults();
+        int pageSize = coreProperties.getEntityExportLoadingBatchSize();
+
+        ZipArchiveOutputStream zipOutputStream = createZipOutputStream(outputStream);
+        try {
+            int exported = 0;
+            int pageNumber = 0;
+            while (maxResults <= 0 || exported < maxResults) {
+                int limit = maxResults > 0 ? Math.min(pageSize, maxResults - exported) : pageSize;
+                query.setFirstResult(firstResult + exported);
+                query.setMaxResults(limit);
+
+                List<? extends JmixEntity> page = dataManager.loadList(pageContext);
+                if (!page.isEmpty()) {
+                    writeEntitiesEntry(zipOutputStream, String.format("entities-%d.json", ++pageNumber), page);
+                }
+                exported += page.size();
+                if (page.size() < limit) {
+                    break;
+                }
+            }
+            zipOutputStream.finish();
+        } catch (IOException e) {
+            throw new RuntimeException("Error on creating zip archive during entities export", e);
+        }
+    }
+
+    /**
+     * Creates the archive stream for streaming export. Entries are DEFLATED because STORED entries require size and
+     * CRC to be known before the content is written.
+     */
+    protected ZipArchiveOutputStream createZipOutputStream(OutputStream outputStream) {
+        ZipArchiveOutputStream zipOutputStream = new ZipArchiveOutputStream(outputStream);
+        zipOutputStream.setMethod(ZipArchiveOutputStream.DEFLATED);
+        zipOutputStream.setEncoding(StandardCharsets.UTF_8.name());
+        return zipOutputStream;
+    }
+
+    protected void writeEntitiesEntry(ZipArchiveOutputStream zipOutputStream, String entryName,
+                                      Collection<? extends JmixEntity> entities) throws IOException {
+        zipOutputStream.putArchiveEntry(new ZipArchiveEntry(entryName));
+        //the writer must not be closed as it would close the archive stream
+        Writer writer = new BufferedWriter(new OutputStreamWriter(zipOutputStream, StandardCharsets.UTF_8));
+        entitySerialization.toJson(entities, writer, null, EntitySerializationOption.COMPACT_REPEATED_ENTITIES);
+        writer.flush();
+        zipOutputStream.closeArchiveEntry();
+    }
+
     @Override
     public String exportEntitiesToJSON(Collection<? extends JmixEntity> entities, FetchPlan view) {
         return exportEntitiesToJSON(reloadEntities(entities, view));
@@ -188,6 +259,27 @@ public class EntityImportExportImpl implements EntityImportExport {
         return result;
     }
 
+    @Override
+    public int importEntitiesFromZIP(InputStream inputStream, EntityImportView entityImportView, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        int[] count = {0};
+        //the archive stream must not be closed as it would close the passed stream
+        ZipArchiveInputStream archiveReader = new ZipArchiveInputStream(inputStream);
+        try {
+            while (archiveReader.getNextZipEntry() != null) {
+                Reader reader = new BufferedReader(new InputStreamReader(archiveReader, StandardCharsets.UTF_8));
+                entitySerialization.entitiesFromJson(reader, null, batchSize,
+                        entities -> count[0] += importEntities(entities, entityImportView).size(),
+                        EntitySerializationOption.COMPACT_REPEATED_ENTITIES);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Exception occurred while importing entities", e);
+        }
+        return count[0];
+    }
+
     protected byte[] readBytesFromEntry(ZipArchiveInputStream archiveReader) throws IOException {
         return IOUtils.toByteArray(archiveReader);
     }
@@ -213,25 +305,25 @@ public class EntityImportExportImpl implements EntityImportExport {
         //
         //1. entities that should be persisted are processed first, fields that should be references to existing entities
         //are stored in the referenceInfoList variable
+        FetchPlan regularView = buildViewFromImportView(importView);
+        Map<MetaClass, Map<Object, JmixEntity>> existingEntities = loadExistingEntities(entities, regularView);
         for (JmixEntity srcEntity : entities) {
-            FetchPlan regularView = buildViewFromImportView(importView);
-            //set softDeletion to false because we can import deleted entity, so we'll restore it and update
-            LoadContext<? extends JmixEntity> ctx = new LoadContext(metadata.getClass(srcEntity.getClass()))
-                    .setSoftDeletion(false)
-                    .setFetchPlan(regularView)
-                    .setLoadDynamicAttributes(true)
-                    .setId(EntityValues.getId(srcEntity))
-                    .setAccessConstraints(accessConstraintsRegistry.getConstraints());
-            JmixEntity dstEntity = dataManager.load(ctx);
+            Object id = EntityValues.getId(srcEntity);
+            JmixEntity dstEntity = id == null ? null
+                    : existingEntities.getOrDefault(metadata.getClass(srcEntity), Collections.emptyMap()).get(id);
 
             importEntity(srcEntity, dstEntity, importView, regularView, saveContext, referenceInfoList, optimisticLocking);
         }
 
         //2. references to existing entities are processed
 
-        //store a list of loaded entities in the collection to prevent unnecessary database requests for searching the
-        //same instance
-        Set<JmixEntity> loadedEntities = new HashSet<>();
+        //index saved and loaded entities to prevent unnecessary database requests for searching the same instance,
+        //referenced entities that are not saved are loaded in advance with a query per entity class
+        Map<EntityKey, JmixEntity> loadedEntities = new HashMap<>();
+        for (JmixEntity entity : saveContext.getEntitiesToSave()) {
+            loadedEntities.put(new EntityKey(entity), entity);
+        }
+        loadReferencedEntities(referenceInfoList, loadedEntities);
         for (ReferenceInfo referenceInfo : referenceInfoList) {
             processReferenceInfo(referenceInfo, saveContext, loadedEntities);
         }
@@ -268,6 +360,130 @@ public class EntityImportExportImpl implements EntityImportExport {
         return dataManager.save(saveContext);
     }
 
+    @Override
+    public Collection<JmixEntity> importEntities(Collection<? extends JmixEntity> entities, EntityImportView importView,
+                                                 boolean validate, boolean optimisticLocking, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        List<? extends JmixEntity> entityList = new ArrayList<>(entities);
+        Collection<JmixEntity> result = new ArrayList<>(entityList.size());
+        for (int i = 0; i < entityList.size(); i += batchSize) {
+            List<? extends JmixEntity> batch = entityList.subList(i, Math.min(i + batchSize, entityList.size()));
+            result.addAll(importEntities(batch, importView, validate, optimisticLocking));
+        }
+        return result;
+    }
+
+    /**
+     * Loads current state of the imported entities with a query per entity class.
+     *
+     * @return loaded entities grouped by the meta-class of the imported entity and indexed by id
+     */
+    protected Map<MetaClass, Map<Object, JmixEntity>> loadExistingEntities(Collection<? extends JmixEntity> entities,
+                                                                          FetchPlan regularView) {
+        Map<MetaClass, Set<Object>> idsByMetaClass = new HashMap<>();
+        for (JmixEntity entity : entities) {
+            Object id = EntityValues.getId(entity);
+            if (id != null) {
+                idsByMetaClass.computeIfAbsent(metadata.getClass(entity), metaClass -> new LinkedHashSet<>()).add(id);
+            }
+        }
+
+        Map<MetaClass, Map<Object, JmixEntity>> result = new HashMap<>();
+        for (Map.Entry<MetaClass, Set<Object>> entry : idsByMetaClass.entrySet()) {
+            //set softDeletion to false because we can import deleted entity, so we'll restore it and update
+            result.put(entry.getKey(), loadEntitiesById(entry.getKey(), entry.getValue(), regularView, true));
+        }
+        return result;
+    }
+
+    /**
+     * Loads entities referenced by the {@code referenceInfoList} that are not contained in the {@code loadedEntities}
+     * with a query per entity class. Found instances are put to {@code loadedEntities}, keys of missing entities are
+     * mapped to null.
+     */
+    protected void loadReferencedEntities(Collection<ReferenceInfo> referenceInfoList, Map<EntityKey, JmixEntity> loadedEntities) {
+        Map<MetaClass, Set<JmixEntity>> referencesByMetaClass = new HashMap<>();
+        for (ReferenceInfo referenceInfo : referenceInfoList) {
+            Object propertyValue = referenceInfo.getPropertyValue();
+            if (propertyValue instanceof Collection) {
+                for (Object item : (Collection<?>) propertyValue) {
+                    addReference((JmixEntity) item, referencesByMetaClass, loadedEntities);
+                }
+            } else if (propertyValue instanceof JmixEntity) {
+                addReference((JmixEntity) propertyValue, referencesByMetaClass, loadedEntities);
+            }
+        }
+
+        for (Map.Entry<MetaClass, Set<JmixEntity>> entry : referencesByMetaClass.entrySet()) {
+            MetaClass metaClass = entry.getKey();
+            Set<Object> ids = entry.getValue().stream()
+                    .map(EntityValues::getId)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            Map<Object, JmixEntity> loaded = loadEntitiesById(metaClass, ids,
+                    new FetchPlan(metaClass.getJavaClass(), false), false);
+            for (JmixEntity reference : entry.getValue()) {
+                loadedEntities.put(new EntityKey(reference), loaded.get(EntityValues.getId(reference)));
+            }
+        }
+    }
+
+    protected void addReference(@Nullable JmixEntity reference, Map<MetaClass, Set<JmixEntity>> referencesByMetaClass,
+                                Map<EntityKey, JmixEntity> loadedEntities) {
+        if (reference != null && EntityValues.getId(reference) != null && !loadedEntities.containsKey(new EntityKey(reference))) {
+            referencesByMetaClass.computeIfAbsent(metadata.getClass(reference), metaClass -> new LinkedHashSet<>())
+                    .add(reference);
+        }
+    }
+
+    /**
+     * Loads entities of the given meta-class by ids including soft deleted ones. Ids are passed to {@code in} queries
+     * by portions of {@link CoreProperties#getEntityImportLoadingBatchSize()} elements. Entities with composite keys are
+     * loaded one by one.
+     *
+     * @return loaded entities indexed by id
+     */
+    protected Map<Object, JmixEntity> loadEntitiesById(MetaClass metaClass, Collection<Object> ids, FetchPlan fetchPlan,
+                                                       boolean applyConstraints) {
+        Map<Object, JmixEntity> result = new HashMap<>();
+        if (metadataTools.hasCompositePrimaryKey(metaClass)) {
+            for (Object id : ids) {
+                LoadContext<JmixEntity> ctx = createLoadContext(metaClass, fetchPlan, applyConstraints).setId(id);
+                JmixEntity entity = dataManager.load(ctx);
+                if (entity != null) {
+                    result.put(id, entity);
+                }
+            }
+            return result;
+        }
+
+        String queryString = String.format("select e from %s e where e.%s in :ids",
+                metaClass.getName(), metadataTools.getPrimaryKeyName(metaClass));
+        List<Object> idList = new ArrayList<>(ids);
+        int batchSize = coreProperties.getEntityImportLoadingBatchSize();
+        for (int i = 0; i < idList.size(); i += batchSize) {
+            List<Object> batch = idList.subList(i, Math.min(i + batchSize, idList.size()));
+            LoadContext<JmixEntity> ctx = createLoadContext(metaClass, fetchPlan, applyConstraints)
+                    .setQuery(new LoadContext.Query(queryString).setParameter("ids", batch));
+            for (JmixEntity entity : dataManager.loadList(ctx)) {
+                result.put(EntityValues.getId(entity), entity);
+            }
+        }
+        return result;
+    }
+
+    protected LoadContext<JmixEntity> createLoadContext(MetaClass metaClass, FetchPlan fetchPlan, boolean applyConstraints) {
+        LoadContext<JmixEntity> ctx = new LoadContext<JmixEntity>(metaClass)
+                .setSoftDeletion(false)
+                .setFetchPlan(fetchPlan);
+        if (applyConstraints) {
+            ctx.setLoadDynamicAttributes(true)
+                    .setAccessConstraints(accessConstraintsRegistry.getConstraints());
+        }
+        return ctx;
+    }
+
     /**
      * Method imports the entity.
      *
@@ -584,7 +800,8 @@ public class EntityImportExportImpl implements EntityImportExport {
      * Method finds and set a reference value to the entity or throws EntityImportException if ERROR_ON_MISSING policy
      * is violated
      */
-    protected void processReferenceInfo(ReferenceInfo referenceInfo, SaveContext saveContext, Set<JmixEntity> loadedEntities) {
+    protected void processReferenceInfo(ReferenceInfo referenceInfo, SaveContext saveContext,
+                                        Map<EntityKey, JmixEntity> loadedEntities) {
         JmixEntity entity = referenceInfo.getEntity();
         EntityImportViewProperty viewProperty = referenceInfo.getViewProperty();
         MetaProperty metaProperty = metadata.getClass(entity).getProperty(viewProperty.getName());
@@ -726,24 +943,22 @@ public class EntityImportExportImpl implements EntityImportExport {
 //    }
     @Nullable
     protected JmixEntity findReferenceEntity(JmixEntity entity, EntityImportViewProperty viewProperty, SaveContext saveContext,
-                                             Set<JmixEntity> loadedEntities) {
-        JmixEntity result = Stream.concat(loadedEntities.stream(), saveContext.getEntitiesToSave().stream())
-                .filter(item -> item.equals(entity))
-                .findFirst().orElse(null);
-        if (result == null) {
+                                             Map<EntityKey, JmixEntity> loadedEntities) {
+        EntityKey key = new EntityKey(entity);
+        JmixEntity result;
+        if (loadedEntities.containsKey(key)) {
+            result = loadedEntities.get(key);
+        } else {
             LoadContext<? extends JmixEntity> ctx = new LoadContext(metadata.getClass(entity.getClass()))
                     .setSoftDeletion(false)
                     .setFetchPlan(new FetchPlan(metadata.getClass(entity).getJavaClass(), false))
                     .setId(EntityValues.getId(entity));
             result = dataManager.load(ctx);
-            if (result == null) {
-                if (viewProperty.getReferenceImportBehaviour() == ReferenceImportBehaviour.ERROR_ON_MISSING) {
-                    throw new EntityImportException(String.format("Referenced entity for property '%s' with id = %s is missing",
-                            viewProperty.getName(), EntityValues.getId(entity)));
-                }
-            } else {
-                loadedEntities.add(result);
-            }
+            loadedEntities.put(key, result);
+        }
+        if (result == null && viewProperty.getReferenceImportBehaviour() == ReferenceImportBehaviour.ERROR_ON_MISSING) {
+            throw new EntityImportException(String.format("Referenced entity for property '%s' with id = %s is missing",
+                    viewProperty.getName(), EntityValues.getId(entity)));
         }
         return result;
     }
@@ -793,4 +1008,31 @@ public class EntityImportExportImpl implements EntityImportExport {
             return propertyValue;
         }
     }
+
+    /**
+     * Identifies an entity instance by its class and id in the same way as entity {@code equals()} does.
+     */
+    protected static class EntityKey {
+        protected Class<?> entityClass;
+        protected Object id;
+
+        public EntityKey(JmixEntity entity) {
+            this.entityClass = entity.getClass();
+            Object entityId = EntityValues.getId(entity);
+            this.id = entityId != null ? entityId : EntityValues.getGeneratedId(entity);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            EntityKey that = (EntityKey) o;
+            return entityClass.equals(that.entityClass) && Objects.equals(id, that.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * entityClass.hashCode() + Objects.hashCode(id);
+        }
+    }
 }
@@ -39,7 +39,16 @@ public abstract class AbstractClasspathScanner {
     protected abstract Environment getEnvironment();
 
     protected Stream<MetadataReader> scanPackage(String packageName) {
-        String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
+        return scanPackage(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX, packageName);
+    }
+
+    /**
+     * Scans the package in the given location only.
+     *
+     * @param rootLocation location prefix, e.g. {@code classpath*:} or URL of a classpath root ending with slash
+     */
+    protected Stream<MetadataReader> scanPackage(String rootLocation, String packageName) {
+        String packageSearchPath = rootLocation +
                 resolveBasePackage(packageName) + '/' + DEFAULT_CLASS_RESOURCE_PATTERN;
         ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver(getResourceLoader());
         Resource[] resources;
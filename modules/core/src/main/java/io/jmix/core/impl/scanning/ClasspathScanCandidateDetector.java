@@ -18,7 +18,24 @@ package io.jmix.core.impl.scanning;
 
 import org.springframework.core.type.classreading.MetadataReader;
 
+import javax.annotation.Nullable;
+import java.util.Set;
+
 public interface ClasspathScanCandidateDetector {
 
     boolean isCandidate(MetadataReader metadataReader);
+
+    /**
+     * Returns names of annotation types, presence of any of which directly on a class makes it a candidate.
+     * <p>
+     * If the detector provides the annotations, it can be evaluated using classpath scan indexes created at build
+     * time, see {@link JmixModulesClasspathScanner#INDEX_LOCATION}. If at least one detector returns null,
+     * the classpath is always scanned.
+     *
+     * @return annotation type names or null if the detector decision is not based only on class annotations
+     */
+    @Nullable
+    default Set<String> getCandidateAnnotations() {
+        return null;
+    }
 }
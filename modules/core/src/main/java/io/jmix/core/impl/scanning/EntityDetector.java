@@ -16,20 +16,28 @@
 
 package io.jmix.core.impl.scanning;
 
+import com.google.common.collect.ImmutableSet;
 import io.jmix.core.metamodel.annotation.ModelObject;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.stereotype.Component;
 
 import javax.persistence.Embeddable;
 import javax.persistence.Entity;
+import java.util.Set;
 
 @Component("core_EntityDetector")
 public class EntityDetector implements ClasspathScanCandidateDetector {
 
+    protected static final Set<String> CANDIDATE_ANNOTATIONS = ImmutableSet.of(
+            Entity.class.getName(), ModelObject.class.getName(), Embeddable.class.getName());
+
     @Override
     public boolean isCandidate(MetadataReader metadataReader) {
-        return (metadataReader.getAnnotationMetadata().hasAnnotation(Entity.class.getName())
-                || metadataReader.getAnnotationMetadata().hasAnnotation(ModelObject.class.getName()))
-                || metadataReader.getAnnotationMetadata().hasAnnotation(Embeddable.class.getName());
+        return CANDIDATE_ANNOTATIONS.stream().anyMatch(metadataReader.getAnnotationMetadata()::hasAnnotation);
+    }
+
+    @Override
+    public Set<String> getCandidateAnnotations() {
+        return CANDIDATE_ANNOTATIONS;
     }
 }
@@ -18,16 +18,21 @@ package io.jmix.core.impl.scanning;
 
 import io.jmix.core.JmixModuleDescriptor;
 import io.jmix.core.JmixModules;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -37,12 +42,22 @@ import java.util.stream.Collectors;
  * <p>
  * Detected class names are stored and available through the {@link #getClassNames(Class)} method. This method
  * accepts a {@code ClasspathScanCandidateDetector} type and returns names of classes selected by this detector.
+ * <p>
+ * If all detectors provide {@link ClasspathScanCandidateDetector#getCandidateAnnotations()}, classpath roots that
+ * contain the {@link #INDEX_LOCATION} file generated by the Jmix Gradle plugin are not scanned: candidates are selected
+ * by class annotations listed in the index. Roots without the index are scanned as usual.
  */
 @Component("core_JmixModulesClasspathScanner")
 public class JmixModulesClasspathScanner extends AbstractClasspathScanner {
 
     private static final Logger log = LoggerFactory.getLogger(JmixModulesClasspathScanner.class);
 
+    /**
+     * Location of the classpath scan index inside a classpath root. The index is a properties file where keys are
+     * names of classes and values are comma-separated names of annotation types declared on the classes.
+     */
+    public static final String INDEX_LOCATION = "META-INF/jmix-classpath.index";
+
     protected MetadataReaderFactory metadataReaderFactory;
 
     protected List<String> basePackages = Collections.emptyList();
@@ -72,19 +87,120 @@ public class JmixModulesClasspathScanner extends AbstractClasspathScanner {
         log.trace("Scanning packages {} using detectors {}", basePackages, candidateDetectors);
         long startTime = System.currentTimeMillis();
 
-        basePackages.stream()
-                .flatMap(this::scanPackage)
-                .forEach(metadataReader -> {
-                    for (ClasspathScanCandidateDetector detector : candidateDetectors) {
-                        if (detector.isCandidate(metadataReader)) {
-                            Set<String> classNames = detectedClasses.computeIfAbsent(
-                                    detector.getClass(), aClass -> new HashSet<>());
-                            classNames.add(metadataReader.getClassMetadata().getClassName());
+        Map<String, Map<String, Set<String>>> indexes = isIndexApplicable() ? loadIndexes() : Collections.emptyMap();
+        if (indexes.isEmpty()) {
+            basePackages.stream()
+                    .flatMap(this::scanPackage)
+                    .forEach(this::detectCandidate);
+        } else {
+            for (String basePackage : basePackages) {
+                detectCandidates(basePackage, indexes);
+            }
+        }
+
+        log.info("Classpath scan completed in {} ms", System.currentTimeMillis() - startTime);
+    }
+
+    protected void detectCandidate(MetadataReader metadataReader) {
+        for (ClasspathScanCandidateDetector detector : candidateDetectors) {
+            if (detector.isCandidate(metadataReader)) {
+                addDetectedClass(detector, metadataReader.getClassMetadata().getClassName());
+            }
+        }
+    }
+
+    protected void addDetectedClass(ClasspathScanCandidateDetector detector, String className) {
+        Set<String> classNames = detectedClasses.computeIfAbsent(detector.getClass(), aClass -> new HashSet<>());
+        classNames.add(className);
+    }
+
+    /**
+     * Detects candidates of the package using indexes of the classpath roots that have them and scanning the rest.
+     */
+    protected void detectCandidates(String basePackage, Map<String, Map<String, Set<String>>> indexes) {
+        String packagePath = resolveBasePackage(basePackage);
+        String classNamePrefix = basePackage + ".";
+        for (String root : getPackageRoots(packagePath)) {
+            Map<String, Set<String>> index = indexes.get(root);
+            if (index == null) {
+                log.trace("Scanning package {} in {}", basePackage, root);
+                scanPackage(root, basePackage).forEach(this::detectCandidate);
+            } else {
+                log.trace("Using classpath scan index for package {} in {}", basePackage, root);
+                for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+                    if (entry.getKey().startsWith(classNamePrefix)) {
+                        for (ClasspathScanCandidateDetector detector : candidateDetectors) {
+                            //noinspection ConstantConditions
+                            if (!Collections.disjoint(detector.getCandidateAnnotations(), entry.getValue())) {
+                                addDetectedClass(detector, entry.getKey());
+                            }
                         }
                     }
-                });
+                }
+            }
+        }
+    }
 
-        log.info("Classpath scan completed in {} ms", System.currentTimeMillis() - startTime);
+    protected boolean isIndexApplicable() {
+        return candidateDetectors.stream().allMatch(detector -> detector.getCandidateAnnotations() != null);
+    }
+
+    /**
+     * Loads classpath scan indexes.
+     *
+     * @return map of classpath root URL to the map of class name to annotation type names
+     */
+    protected Map<String, Map<String, Set<String>>> loadIndexes() {
+        Map<String, Map<String, Set<String>>> indexes = new HashMap<>();
+        try {
+            Enumeration<URL> urls = getClassLoader().getResources(INDEX_LOCATION);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                String urlString = url.toString();
+                String root = urlString.substring(0, urlString.length() - INDEX_LOCATION.length());
+                indexes.put(root, readIndex(url));
+            }
+        } catch (IOException e) {
+            log.warn("Unable to read classpath scan index, classpath will be scanned", e);
+            return Collections.emptyMap();
+        }
+        return indexes;
+    }
+
+    protected Map<String, Set<String>> readIndex(URL url) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream inputStream = url.openStream()) {
+            properties.load(inputStream);
+        }
+        Map<String, Set<String>> index = new HashMap<>(properties.size());
+        for (String className : properties.stringPropertyNames()) {
+            index.put(className, new HashSet<>(Arrays.asList(properties.getProperty(className).split(","))));
+        }
+        return index;
+    }
+
+    /**
+     * Returns URLs of classpath roots containing the package, each ending with slash.
+     */
+    protected List<String> getPackageRoots(String packagePath) {
+        List<String> roots = new ArrayList<>();
+        try {
+            Enumeration<URL> urls = getClassLoader().getResources(packagePath);
+            while (urls.hasMoreElements()) {
+                String urlString = StringUtils.removeEnd(urls.nextElement().toString(), "/");
+                if (urlString.endsWith(packagePath)) {
+                    roots.add(urlString.substring(0, urlString.length() - packagePath.length()));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to find classpath roots of package " + packagePath, e);
+        }
+        return roots;
+    }
+
+    protected ClassLoader getClassLoader() {
+        ClassLoader classLoader = applicationContext.getClassLoader();
+        return classLoader != null ? classLoader : getClass().getClassLoader();
     }
 
     /**
@@ -20,6 +20,8 @@ import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.stereotype.Component;
 
 import javax.persistence.Converter;
+import java.util.Collections;
+import java.util.Set;
 
 @Component("core_JpaConverterDetector")
 public class JpaConverterDetector implements ClasspathScanCandidateDetector {
@@ -28,4 +30,9 @@ public class JpaConverterDetector implements ClasspathScanCandidateDetector {
     public boolean isCandidate(MetadataReader metadataReader) {
         return metadataReader.getAnnotationMetadata().hasAnnotation(Converter.class.getName());
     }
+
+    @Override
+    public Set<String> getCandidateAnnotations() {
+        return Collections.singleton(Converter.class.getName());
+    }
 }
@@ -22,6 +22,8 @@ import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.jmix.core.*;
 import io.jmix.core.entity.EntityValues;
 import io.jmix.core.entity.SecurityState;
@@ -39,12 +41,16 @@ import org.springframework.stereotype.Component;
 
 import javax.annotation.Nullable;
 import javax.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.text.ParseException;
 import java.util.*;
+import java.util.function.Consumer;
 
 @Component(EntitySerialization.NAME)
 public class EntitySerializationImpl implements EntitySerialization {
@@ -109,6 +115,28 @@ public class EntitySerializationImpl implements EntitySerialization {
         return createGsonForSerialization(view, options).toJson(entities);
     }
 
+    @Override
+    public void toJson(Iterable<? extends JmixEntity> entities,
+                       Writer writer,
+                       @Nullable FetchPlan view,
+                       EntitySerializationOption... options) {
+        context.remove();
+        Gson gson = createGsonForSerialization(view, options);
+        try {
+            JsonWriter jsonWriter = gson.newJsonWriter(writer);
+            jsonWriter.beginArray();
+            for (JmixEntity entity : entities) {
+                gson.toJson(entity, JmixEntity.class, jsonWriter);
+            }
+            jsonWriter.endArray();
+            jsonWriter.flush();
+        } catch (IOException e) {
+            throw new EntitySerializationException("Unable to write entities JSON", e);
+        } finally {
+            context.remove();
+        }
+    }
+
     @Override
     public String objectToJson(Object object, EntitySerializationOption... options) {
         context.remove();
@@ -134,6 +162,48 @@ public class EntitySerializationImpl implements EntitySerialization {
         return createGsonForDeserialization(metaClass, options).fromJson(json, collectionType);
     }
 
+    @Override
+    public void entitiesFromJson(Reader reader,
+                                 @Nullable MetaClass metaClass,
+                                 int chunkSize,
+                                 Consumer<List<JmixEntity>> consumer,
+                                 EntitySerializationOption... options) {
+        context.remove();
+        Gson gson = createGsonForDeserialization(metaClass, options);
+        try {
+            JsonReader jsonReader = gson.newJsonReader(reader);
+            jsonReader.beginArray();
+            List<JmixEntity> chunk = new ArrayList<>(chunkSize);
+            while (jsonReader.hasNext()) {
+                chunk.add(gson.fromJson(jsonReader, JmixEntity.class));
+                if (chunk.size() >= chunkSize) {
+                    passChunk(chunk, consumer);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            jsonReader.endArray();
+            if (!chunk.isEmpty()) {
+                passChunk(chunk, consumer);
+            }
+        } catch (IOException e) {
+            throw new EntitySerializationException("Unable to read entities JSON", e);
+        } finally {
+            context.remove();
+        }
+    }
+
+    /**
+     * Passes entities to the consumer keeping the deserialization context, as the consumer may use serialization itself.
+     */
+    protected void passChunk(List<JmixEntity> chunk, Consumer<List<JmixEntity>> consumer) {
+        EntitySerializationContext serializationContext = context.get();
+        try {
+            consumer.accept(chunk);
+        } finally {
+            context.set(serializationContext);
+        }
+    }
+
     @Override
     public <T> T objectFromJson(String json, Class<T> clazz, EntitySerializationOption... options) {
         context.remove();
@@ -42,4 +42,10 @@ public interface FormatStringsRegistry {
      * Register format strings for a locale.
      */
     void setFormatStrings(Locale locale, FormatStrings formatStrings);
+
+    /**
+     * Returns the cache of formatters created from the registered format strings. Formatters of a locale are
+     * discarded when new format strings are registered for it.
+     */
+    FormatterCache getFormatterCache();
 }
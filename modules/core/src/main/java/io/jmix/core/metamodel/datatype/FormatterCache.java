@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.metamodel.datatype;
+
+import javax.annotation.Nullable;
+import java.text.Format;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Cache of formatters created by datatypes from {@link FormatStrings}.
+ * <p>
+ * Immutable {@link DateTimeFormatter}s are shared between threads. {@link Format} instances are not thread-safe,
+ * so each thread gets its own copy.
+ * <p>
+ * Formatters are identified by a datatype-specific key and by the {@link FormatStrings} instance they are created
+ * from, so registering new format strings for a locale never returns formatters created from the previous ones.
+ */
+public class FormatterCache {
+
+    protected final ConcurrentMap<Key, DateTimeFormatter> dateTimeFormatters = new ConcurrentHashMap<>();
+
+    protected final ThreadLocal<ThreadFormats> threadFormats = ThreadLocal.withInitial(ThreadFormats::new);
+
+    protected final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * Returns a shared date/time formatter.
+     *
+     * @param key           datatype-specific key identifying the formatter
+     * @param formatStrings format strings the formatter is created from
+     * @param locale        locale the formatter is created for
+     * @param factory       creates the formatter if it is not cached yet
+     */
+    public DateTimeFormatter getDateTimeFormatter(String key, FormatStrings formatStrings, Locale locale,
+                                                  Supplier<DateTimeFormatter> factory) {
+        return dateTimeFormatters.computeIfAbsent(new Key(key, formatStrings, locale), k -> factory.get());
+    }
+
+    /**
+     * Returns a format which can be used only by the current thread. The format can be reconfigured by the caller,
+     * but the settings must be restored on each use as the same instance is returned to subsequent calls.
+     *
+     * @param key           datatype-specific key identifying the format
+     * @param formatStrings format strings the format is created from
+     * @param factory       creates the format if it is not cached for the current thread yet
+     */
+    @SuppressWarnings("unchecked")
+    public <F extends Format> F getFormat(String key, FormatStrings formatStrings, Supplier<F> factory) {
+        ThreadFormats formats = threadFormats.get();
+        int currentGeneration = generation.get();
+        if (formats.generation != currentGeneration) {
+            formats.formats.clear();
+            formats.generation = currentGeneration;
+        }
+        return (F) formats.formats.computeIfAbsent(new Key(key, formatStrings, null), k -> factory.get());
+    }
+
+    /**
+     * Discards formatters created from the given format strings.
+     */
+    public void invalidate(FormatStrings formatStrings) {
+        dateTimeFormatters.keySet().removeIf(key -> key.formatStrings == formatStrings);
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Discards all formatters.
+     */
+    public void invalidateAll() {
+        dateTimeFormatters.clear();
+        generation.incrementAndGet();
+    }
+
+    protected static class ThreadFormats {
+        protected int generation;
+        protected final Map<Key, Format> formats = new HashMap<>();
+    }
+
+    protected static final class Key {
+
+        private final String key;
+        private final FormatStrings formatStrings;
+        private final Locale locale;
+
+        private Key(String key, FormatStrings formatStrings, @Nullable Locale locale) {
+            this.key = key;
+            this.formatStrings = formatStrings;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return key.equals(that.key) && formatStrings == that.formatStrings && Objects.equals(locale, that.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 31 * key.hashCode() + System.identityHashCode(formatStrings);
+            return 31 * result + (locale != null ? locale.hashCode() : 0);
+        }
+    }
+}
@@ -41,6 +41,8 @@ public abstract class AbstractTemporalDatatype<T extends Temporal> implements Da
 
     protected String formatPattern;
 
+    protected volatile DateTimeFormatter defaultDateTimeFormatter;
+
     public AbstractTemporalDatatype() {
         DateTimeFormat dateTimeFormat = getClass().getAnnotation(DateTimeFormat.class);
         if (dateTimeFormat != null) {
@@ -54,13 +56,7 @@ public abstract class AbstractTemporalDatatype<T extends Temporal> implements Da
         if (value == null) {
             return "";
         } else {
-            DateTimeFormatter formatter;
-            if (formatPattern != null) {
-                formatter = DateTimeFormatter.ofPattern(formatPattern);
-            } else {
-                formatter = getDateTimeFormatter();
-            }
-            return formatter.format((T) value);
+            return getDefaultDateTimeFormatter().format((T) value);
         }
     }
 
@@ -75,7 +71,7 @@ public abstract class AbstractTemporalDatatype<T extends Temporal> implements Da
             return format(value);
         }
 
-        DateTimeFormatter formatter = getDateTimeFormatter(formatStrings, locale);
+        DateTimeFormatter formatter = getLocalizedDateTimeFormatter(formatStrings, locale);
         return formatter.format((TemporalAccessor) value);
     }
 
@@ -86,13 +82,7 @@ public abstract class AbstractTemporalDatatype<T extends Temporal> implements Da
             return null;
         }
 
-        DateTimeFormatter formatter;
-        if (formatPattern != null) {
-            formatter = DateTimeFormatter.ofPattern(formatPattern);
-        } else {
-            formatter = getDateTimeFormatter();
-        }
-        return formatter.parse(value.trim(), newInstance());
+        return getDefaultDateTimeFormatter().parse(value.trim(), newInstance());
     }
 
     @Nullable
@@ -107,7 +97,7 @@ public abstract class AbstractTemporalDatatype<T extends Temporal> implements Da
             return parse(value);
         }
 
-        DateTimeFormatter formatter = getDateTimeFormatter(formatStrings, locale);
+        DateTimeFormatter formatter = getLocalizedDateTimeFormatter(formatStrings, locale);
         return formatter.parse(value.trim(), newInstance());
     }
 
@@ -121,6 +111,26 @@ public abstract class AbstractTemporalDatatype<T extends Temporal> implements Da
         return getClass().getSimpleName();
     }
 
+    /**
+     * Returns non-localized formatter which is created once as formatters are immutable.
+     */
+    protected DateTimeFormatter getDefaultDateTimeFormatter() {
+        DateTimeFormatter formatter = defaultDateTimeFormatter;
+        if (formatter == null) {
+            formatter = formatPattern != null ? DateTimeFormatter.ofPattern(formatPattern) : getDateTimeFormatter();
+            defaultDateTimeFormatter = formatter;
+        }
+        return formatter;
+    }
+
+    /**
+     * Returns localized formatter shared through the {@link FormatStringsRegistry#getFormatterCache() cache}.
+     */
+    protected DateTimeFormatter getLocalizedDateTimeFormatter(FormatStrings formatStrings, Locale locale) {
+        return formatStringsRegistry.getFormatterCache().getDateTimeFormatter(getClass().getName(), formatStrings,
+                locale, () -> getDateTimeFormatter(formatStrings, locale));
+    }
+
     protected abstract DateTimeFormatter getDateTimeFormatter();
 
     protected abstract DateTimeFormatter getDateTimeFormatter(FormatStrings formatStrings, Locale locale);
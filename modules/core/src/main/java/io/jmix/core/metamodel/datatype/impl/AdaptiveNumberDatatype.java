@@ -38,16 +38,29 @@ public class AdaptiveNumberDatatype extends NumberDatatype implements Datatype<N
 
     protected FormatStringsRegistry formatStringsRegistry;
 
+    protected String formatterKey;
+
     public AdaptiveNumberDatatype(Class<?> type, NumberFormat numberFormat, FormatStringsRegistry formatStringsRegistry) {
         super(numberFormat.pattern(), numberFormat.decimalSeparator(), numberFormat.groupingSeparator());
         this.type = type;
         this.formatStringsRegistry = formatStringsRegistry;
+        this.formatterKey = createFormatterKey();
     }
 
     public AdaptiveNumberDatatype(Class<?> type, String pattern, String decimalSeparator, String groupingSeparator, FormatStringsRegistry formatStringsRegistry) {
         super(pattern, decimalSeparator, groupingSeparator);
         this.type = type;
         this.formatStringsRegistry = formatStringsRegistry;
+        this.formatterKey = createFormatterKey();
+    }
+
+    /**
+     * Creates the key of localized formats in the {@link io.jmix.core.metamodel.datatype.FormatterCache}. Different
+     * instances with the same settings share the cached formats.
+     */
+    protected String createFormatterKey() {
+        return getClass().getName() + "#" + type.getName() + "#" + formatPattern
+                + "#" + decimalSeparator + "#" + groupingSeparator;
     }
 
     @Override
@@ -62,8 +75,24 @@ public class AdaptiveNumberDatatype extends NumberDatatype implements Datatype<N
         if (formatStrings == null) {
             return createFormat();
         }
+        return createLocalizedFormat(formatStrings);
+    }
+
+    /**
+     * Returns localized format cached for the current thread.
+     */
+    protected java.text.NumberFormat getLocalizedFormat(Locale locale) {
+        FormatStrings formatStrings = formatStringsRegistry.getFormatStringsOrNull(locale);
+        if (formatStrings == null) {
+            return defaultFormat.get();
+        }
+        return formatStringsRegistry.getFormatterCache().getFormat(formatterKey, formatStrings,
+                () -> createLocalizedFormat(formatStrings));
+    }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
+    protected java.text.NumberFormat createLocalizedFormat(FormatStrings formatStrings) {
+        // copy the symbols as they are shared by all formats of the locale
+        DecimalFormatSymbols formatSymbols = (DecimalFormatSymbols) formatStrings.getFormatSymbols().clone();
         if (!decimalSeparator.equals("")) {
             formatSymbols.setDecimalSeparator(decimalSeparator.charAt(0));
         }
@@ -90,12 +119,12 @@ public class AdaptiveNumberDatatype extends NumberDatatype implements Datatype<N
 
     @Override
     public String format(Object value) {
-        return value == null ? "" : createFormat().format(value);
+        return value == null ? "" : defaultFormat.get().format(value);
     }
 
     @Override
     public String format(Object value, Locale locale) {
-        return value == null ? "" : createLocalizedFormat(locale).format(value);
+        return value == null ? "" : getLocalizedFormat(locale).format(value);
     }
 
     @Nullable
@@ -105,7 +134,7 @@ public class AdaptiveNumberDatatype extends NumberDatatype implements Datatype<N
             return null;
         }
 
-        Number number = parse(value, createFormat());
+        Number number = parse(value, defaultFormat.get());
         checkRange(value, number);
         return requestedType(number);
     }
@@ -117,7 +146,7 @@ public class AdaptiveNumberDatatype extends NumberDatatype implements Datatype<N
             return null;
         }
 
-        Number number = parse(value, createLocalizedFormat(locale));
+        Number number = parse(value, getLocalizedFormat(locale));
         checkRange(value, number);
         return requestedType(number);
     }
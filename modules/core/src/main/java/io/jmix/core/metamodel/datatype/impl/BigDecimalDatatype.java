@@ -26,7 +26,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -52,7 +51,7 @@ public class BigDecimalDatatype extends NumberDatatype implements Datatype<BigDe
 
     @Override
     public String format(Object value) {
-        return value == null ? "" : createFormat().format(value);
+        return value == null ? "" : defaultFormat.get().format(value);
     }
 
     @Override
@@ -66,9 +65,7 @@ public class BigDecimalDatatype extends NumberDatatype implements Datatype<BigDe
             return format(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        java.text.NumberFormat format = new DecimalFormat(formatStrings.getDecimalFormat(), formatSymbols);
-        return format.format(value);
+        return getLocalizedFormat(formatStrings).format(value);
     }
 
     @Override
@@ -77,7 +74,7 @@ public class BigDecimalDatatype extends NumberDatatype implements Datatype<BigDe
             return null;
         }
 
-        return (BigDecimal) parse(value, createFormat());
+        return (BigDecimal) parse(value, defaultFormat.get());
     }
 
     @Override
@@ -91,10 +88,18 @@ public class BigDecimalDatatype extends NumberDatatype implements Datatype<BigDe
             return parse(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        DecimalFormat format = new DecimalFormat(formatStrings.getDecimalFormat(), formatSymbols);
-        format.setParseBigDecimal(true);
-        return (BigDecimal) parse(value, format);
+        return (BigDecimal) parse(value, getLocalizedFormat(formatStrings));
+    }
+
+    /**
+     * Returns localized format cached for the current thread.
+     */
+    protected java.text.NumberFormat getLocalizedFormat(FormatStrings formatStrings) {
+        return formatStringsRegistry.getFormatterCache().getFormat(getClass().getName(), formatStrings, () -> {
+            DecimalFormat format = new DecimalFormat(formatStrings.getDecimalFormat(), formatStrings.getFormatSymbols());
+            format.setParseBigDecimal(true);
+            return format;
+        });
     }
 
     @Override
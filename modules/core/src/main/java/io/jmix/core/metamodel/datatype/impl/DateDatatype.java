@@ -47,6 +47,8 @@ public class DateDatatype implements Datatype<Date>, ParameterizedDatatype {
 
     protected String formatPattern;
 
+    protected final ThreadLocal<DateFormat> defaultFormat = ThreadLocal.withInitial(this::createFormat);
+
     public DateDatatype() {
         DateTimeFormat dateTimeFormat = getClass().getAnnotation(DateTimeFormat.class);
         if (dateTimeFormat != null) {
@@ -60,13 +62,7 @@ public class DateDatatype implements Datatype<Date>, ParameterizedDatatype {
             return "";
         }
 
-        DateFormat format;
-        if (formatPattern != null) {
-            format = new SimpleDateFormat(formatPattern);
-        } else {
-            format = DateFormat.getDateInstance();
-        }
-        return format.format((value));
+        return defaultFormat.get().format((value));
     }
 
     @Override
@@ -80,8 +76,32 @@ public class DateDatatype implements Datatype<Date>, ParameterizedDatatype {
             return format(value);
         }
 
-        DateFormat format = new SimpleDateFormat(formatStrings.getDateFormat());
-        return format.format(value);
+        return getLocalizedFormat(formatStrings).format(value);
+    }
+
+    /**
+     * Creates non-localized format.
+     */
+    protected DateFormat createFormat() {
+        DateFormat format;
+        if (formatPattern != null) {
+            format = new SimpleDateFormat(formatPattern);
+            format.setLenient(false);
+        } else {
+            format = DateFormat.getDateInstance();
+        }
+        return format;
+    }
+
+    /**
+     * Returns localized format cached for the current thread.
+     */
+    protected DateFormat getLocalizedFormat(FormatStrings formatStrings) {
+        return formatStringsRegistry.getFormatterCache().getFormat(getClass().getName(), formatStrings, () -> {
+            DateFormat format = new SimpleDateFormat(formatStrings.getDateFormat());
+            format.setLenient(false);
+            return format;
+        });
     }
 
     protected java.sql.Date normalize(Date dateTime) {
@@ -100,14 +120,7 @@ public class DateDatatype implements Datatype<Date>, ParameterizedDatatype {
             return null;
         }
 
-        DateFormat format;
-        if (formatPattern != null) {
-            format = new SimpleDateFormat(formatPattern);
-            format.setLenient(false);
-        } else {
-            format = DateFormat.getDateInstance();
-        }
-        return normalize(format.parse(value.trim()));
+        return normalize(defaultFormat.get().parse(value.trim()));
     }
 
     @Override
@@ -121,10 +134,7 @@ public class DateDatatype implements Datatype<Date>, ParameterizedDatatype {
             return parse(value);
         }
 
-        DateFormat format = new SimpleDateFormat(formatStrings.getDateFormat());
-        format.setLenient(false);
-
-        return normalize(format.parse(value.trim()));
+        return normalize(getLocalizedFormat(formatStrings).parse(value.trim()));
     }
 
     @Override
@@ -38,6 +38,10 @@ public class DateTimeDatatype implements Datatype<Date>, ParameterizedDatatype,
 
     private String formatPattern;
 
+    protected final ThreadLocal<DateFormat> defaultFormat = ThreadLocal.withInitial(this::createFormat);
+
+    protected final String timeZoneFormatKey = getClass().getName() + "#timeZone";
+
     @Autowired
     protected FormatStringsRegistry formatStringsRegistry;
 
@@ -53,13 +57,7 @@ public class DateTimeDatatype implements Datatype<Date>, ParameterizedDatatype,
         if (value == null) {
             return "";
         } else {
-            DateFormat format;
-            if (formatPattern != null) {
-                format = new SimpleDateFormat(formatPattern);
-            } else {
-                format = DateFormat.getDateInstance();
-            }
-            return format.format((value));
+            return defaultFormat.get().format((value));
         }
     }
 
@@ -79,12 +77,7 @@ public class DateTimeDatatype implements Datatype<Date>, ParameterizedDatatype,
             return format(value);
         }
 
-        DateFormat format = new SimpleDateFormat(formatStrings.getDateTimeFormat());
-        if (timeZone != null) {
-            format.setTimeZone(timeZone);
-        }
-
-        return format.format(value);
+        return getLocalizedFormat(formatStrings, timeZone).format(value);
     }
 
     @Override
@@ -93,13 +86,7 @@ public class DateTimeDatatype implements Datatype<Date>, ParameterizedDatatype,
             return null;
         }
 
-        DateFormat format;
-        if (formatPattern != null) {
-            format = new SimpleDateFormat(formatPattern);
-        } else {
-            format = DateFormat.getDateInstance();
-        }
-        return format.parse(value.trim());
+        return defaultFormat.get().parse(value.trim());
     }
 
     @Override
@@ -118,13 +105,33 @@ public class DateTimeDatatype implements Datatype<Date>, ParameterizedDatatype,
             return parse(value);
         }
 
-        DateFormat format = new SimpleDateFormat(formatStrings.getDateTimeFormat());
+        return getLocalizedFormat(formatStrings, timeZone).parse(value.trim());
+    }
 
-        if (timeZone != null) {
-            format.setTimeZone(timeZone);
+    /**
+     * Creates non-localized format.
+     */
+    protected DateFormat createFormat() {
+        if (formatPattern != null) {
+            return new SimpleDateFormat(formatPattern);
+        } else {
+            return DateFormat.getDateInstance();
         }
+    }
 
-        return format.parse(value.trim());
+    /**
+     * Returns localized format cached for the current thread. The format for the default time zone is cached
+     * separately, so it is never reconfigured.
+     */
+    protected DateFormat getLocalizedFormat(FormatStrings formatStrings, @Nullable TimeZone timeZone) {
+        if (timeZone == null) {
+            return formatStringsRegistry.getFormatterCache().getFormat(getClass().getName(), formatStrings,
+                    () -> new SimpleDateFormat(formatStrings.getDateTimeFormat()));
+        }
+        DateFormat format = formatStringsRegistry.getFormatterCache().getFormat(timeZoneFormatKey, formatStrings,
+                () -> new SimpleDateFormat(formatStrings.getDateTimeFormat()));
+        format.setTimeZone(timeZone);
+        return format;
     }
 
     @Override
@@ -24,7 +24,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
@@ -42,7 +41,7 @@ public class DoubleDatatype extends NumberDatatype implements Datatype<Double> {
 
     @Override
     public String format(Object value) {
-        return value == null ? "" : createFormat().format(value);
+        return value == null ? "" : defaultFormat.get().format(value);
     }
 
     @Override
@@ -56,8 +55,7 @@ public class DoubleDatatype extends NumberDatatype implements Datatype<Double> {
             return format(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        NumberFormat format = new DecimalFormat(formatStrings.getDoubleFormat(), formatSymbols);
+        NumberFormat format = getLocalizedFormat(formatStrings);
         return format.format(value);
     }
 
@@ -67,7 +65,7 @@ public class DoubleDatatype extends NumberDatatype implements Datatype<Double> {
             return null;
         }
 
-        return parse(value, createFormat()).doubleValue();
+        return parse(value, defaultFormat.get()).doubleValue();
     }
 
     @Override
@@ -81,11 +79,18 @@ public class DoubleDatatype extends NumberDatatype implements Datatype<Double> {
             return parse(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        NumberFormat format = new DecimalFormat(formatStrings.getDoubleFormat(), formatSymbols);
+        NumberFormat format = getLocalizedFormat(formatStrings);
         return parse(value, format).doubleValue();
     }
 
+    /**
+     * Returns localized format cached for the current thread.
+     */
+    protected NumberFormat getLocalizedFormat(FormatStrings formatStrings) {
+        return formatStringsRegistry.getFormatterCache().getFormat(getClass().getName(), formatStrings,
+                () -> new DecimalFormat(formatStrings.getDoubleFormat(), formatStrings.getFormatSymbols()));
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
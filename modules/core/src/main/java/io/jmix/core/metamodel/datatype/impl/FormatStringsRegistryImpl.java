@@ -18,6 +18,7 @@ package io.jmix.core.metamodel.datatype.impl;
 
 import io.jmix.core.metamodel.datatype.FormatStrings;
 import io.jmix.core.metamodel.datatype.FormatStringsRegistry;
+import io.jmix.core.metamodel.datatype.FormatterCache;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
@@ -33,6 +34,8 @@ public class FormatStringsRegistryImpl implements FormatStringsRegistry {
 
     protected boolean useLocaleLanguageOnly = true;
 
+    protected FormatterCache formatterCache = new FormatterCache();
+
     @Nullable
     @Override
     public FormatStrings getFormatStringsOrNull(Locale locale) {
@@ -52,10 +55,18 @@ public class FormatStringsRegistryImpl implements FormatStringsRegistry {
 
     @Override
     public void setFormatStrings(Locale locale, FormatStrings formatStrings) {
-        formatStringsMap.put(locale, formatStrings);
+        FormatStrings previous = formatStringsMap.put(locale, formatStrings);
+        if (previous != null && previous != formatStrings) {
+            formatterCache.invalidate(previous);
+        }
         if (!StringUtils.isEmpty(locale.getCountry()) || !StringUtils.isEmpty(locale.getVariant())
                 || !StringUtils.isEmpty(locale.getScript())) {
             useLocaleLanguageOnly = false;
         }
     }
+
+    @Override
+    public FormatterCache getFormatterCache() {
+        return formatterCache;
+    }
 }
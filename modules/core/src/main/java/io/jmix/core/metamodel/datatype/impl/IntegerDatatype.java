@@ -24,7 +24,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
@@ -40,7 +39,7 @@ public class IntegerDatatype extends NumberDatatype implements Datatype<Integer>
 
     @Override
     public String format(Object value) {
-        return value == null ? "" : createFormat().format(value);
+        return value == null ? "" : defaultFormat.get().format(value);
     }
 
     @Override
@@ -52,8 +51,7 @@ public class IntegerDatatype extends NumberDatatype implements Datatype<Integer>
         if (formatStrings == null)
             return format(value);
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        NumberFormat format = new DecimalFormat(formatStrings.getIntegerFormat(), formatSymbols);
+        NumberFormat format = getLocalizedFormat(formatStrings);
         return format.format(value);
     }
 
@@ -62,7 +60,7 @@ public class IntegerDatatype extends NumberDatatype implements Datatype<Integer>
         if (StringUtils.isBlank(value))
             return null;
 
-        return parse(value, createFormat()).intValue();
+        return parse(value, defaultFormat.get()).intValue();
     }
 
     @Override
@@ -74,8 +72,7 @@ public class IntegerDatatype extends NumberDatatype implements Datatype<Integer>
         if (formatStrings == null)
             return parse(value);
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        NumberFormat format = new DecimalFormat(formatStrings.getIntegerFormat(), formatSymbols);
+        NumberFormat format = getLocalizedFormat(formatStrings);
         return parse(value, format).intValue();
     }
 
@@ -106,6 +103,14 @@ public class IntegerDatatype extends NumberDatatype implements Datatype<Integer>
         return true;
     }
 
+    /**
+     * Returns localized format cached for the current thread.
+     */
+    protected NumberFormat getLocalizedFormat(FormatStrings formatStrings) {
+        return formatStringsRegistry.getFormatterCache().getFormat(getClass().getName(), formatStrings,
+                () -> new DecimalFormat(formatStrings.getIntegerFormat(), formatStrings.getFormatSymbols()));
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
@@ -43,8 +43,7 @@ public class LocalDateDatatype extends AbstractTemporalDatatype<LocalDate> {
             return parse(value);
         }
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(formatPattern);
-        return LocalDate.parse(value.trim(), formatter);
+        return LocalDate.parse(value.trim(), getDefaultDateTimeFormatter());
     }
 
     @Override
@@ -29,6 +29,8 @@ public abstract class NumberDatatype implements ParameterizedDatatype {
     protected String decimalSeparator;
     protected String groupingSeparator;
 
+    protected final ThreadLocal<NumberFormat> defaultFormat = ThreadLocal.withInitial(this::createFormat);
+
     protected NumberDatatype(String formatPattern, String decimalSeparator, String groupingSeparator) {
         this.formatPattern = formatPattern;
         this.decimalSeparator = decimalSeparator;
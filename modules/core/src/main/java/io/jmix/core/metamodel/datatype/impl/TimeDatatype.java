@@ -46,6 +46,8 @@ public class TimeDatatype implements Datatype<Date>, ParameterizedDatatype {
 
     private String formatPattern;
 
+    protected final ThreadLocal<DateFormat> defaultFormat = ThreadLocal.withInitial(this::createFormat);
+
     public TimeDatatype() {
         DateTimeFormat dateTimeFormat = getClass().getAnnotation(DateTimeFormat.class);
         if (dateTimeFormat != null) {
@@ -58,14 +60,7 @@ public class TimeDatatype implements Datatype<Date>, ParameterizedDatatype {
         if (value == null) {
             return "";
         } else {
-            DateFormat format;
-            if (formatPattern != null) {
-                format = new SimpleDateFormat(formatPattern);
-            } else {
-                format = DateFormat.getTimeInstance();
-            }
-            format.setLenient(false);
-            return format.format(value);
+            return defaultFormat.get().format(value);
         }
     }
 
@@ -80,10 +75,26 @@ public class TimeDatatype implements Datatype<Date>, ParameterizedDatatype {
             return format(value);
         }
 
-        DateFormat format = new SimpleDateFormat(formatStrings.getTimeFormat());
-        format.setLenient(false);
+        return getLocalizedFormat(formatStrings).format(value);
+    }
 
-        return format.format(value);
+    /**
+     * Creates non-localized format.
+     */
+    protected DateFormat createFormat() {
+        if (formatPattern != null) {
+            return new SimpleDateFormat(formatPattern);
+        } else {
+            return DateFormat.getTimeInstance();
+        }
+    }
+
+    /**
+     * Returns localized format cached for the current thread.
+     */
+    protected DateFormat getLocalizedFormat(FormatStrings formatStrings) {
+        return formatStringsRegistry.getFormatterCache().getFormat(getClass().getName(), formatStrings,
+                () -> new SimpleDateFormat(formatStrings.getTimeFormat()));
     }
 
     @Override
@@ -91,14 +102,7 @@ public class TimeDatatype implements Datatype<Date>, ParameterizedDatatype {
         if (StringUtils.isBlank(value)) {
             return null;
         }
-        DateFormat format;
-        if (formatPattern != null) {
-            format = new SimpleDateFormat(formatPattern);
-        } else {
-            format = DateFormat.getTimeInstance();
-        }
-
-        return format.parse(value.trim());
+        return defaultFormat.get().parse(value.trim());
     }
 
     @Override
@@ -112,8 +116,7 @@ public class TimeDatatype implements Datatype<Date>, ParameterizedDatatype {
             return parse(value);
         }
 
-        DateFormat format = new SimpleDateFormat(formatStrings.getTimeFormat());
-        return format.parse(value.trim());
+        return getLocalizedFormat(formatStrings).parse(value.trim());
     }
 
     @Override
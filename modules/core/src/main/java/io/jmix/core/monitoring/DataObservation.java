@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.core.monitoring;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single execution of a data access operation passed to {@link DataObserver}s.
+ * <p>
+ * Instances are created by {@link DataObservations#begin(DataOperation, String, String)}, the code performing the
+ * operation must complete them by invoking {@link #end(int)} or {@link #fail(Throwable)} exactly once.
+ */
+public class DataObservation {
+
+    /**
+     * Observation returned when there are no observers. Completing it does nothing.
+     */
+    public static final DataObservation NOOP = new DataObservation(new DataObserver[0], DataOperation.LOAD, null, null);
+
+    protected final DataObserver[] observers;
+    protected final DataOperation operation;
+    protected final String entityName;
+    protected final String storeName;
+
+    protected long startTime;
+    protected long duration;
+    protected int rowCount = -1;
+    protected Throwable error;
+
+    protected DataObservation(DataObserver[] observers, DataOperation operation,
+                              @Nullable String entityName, @Nullable String storeName) {
+        this.observers = observers;
+        this.operation = operation;
+        this.entityName = entityName;
+        this.storeName = storeName;
+    }
+
+    protected void begin() {
+        for (DataObserver observer : observers) {
+            observer.onBegin(this);
+        }
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * Completes the observation of a successful operation.
+     *
+     * @param rowCount number of loaded, counted or saved entities, or -1 if not applicable
+     */
+    public void end(int rowCount) {
+        if (observers.length == 0) {
+            return;
+        }
+        this.duration = System.nanoTime() - startTime;
+        this.rowCount = rowCount;
+        for (DataObserver observer : observers) {
+            observer.onEnd(this);
+        }
+    }
+
+    /**
+     * Completes the observation of an operation that threw an exception.
+     */
+    public void fail(Throwable error) {
+        if (observers.length == 0) {
+            return;
+        }
+        this.duration = System.nanoTime() - startTime;
+        this.error = error;
+        for (DataObserver observer : observers) {
+            observer.onEnd(this);
+        }
+    }
+
+    public DataOperation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return name of the entity the operation is performed on, or null if it is not related to a single entity
+     */
+    @Nullable
+    public String getEntityName() {
+        return entityName;
+    }
+
+    /**
+     * @return name of the data store performing the operation, or null if the operation is not performed by a store
+     */
+    @Nullable
+    public String getStoreName() {
+        return storeName;
+    }
+
+    /**
+     * @return number of rows affected by the operation, or -1 if not applicable or the operation is not completed
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return duration of the completed operation
+     */
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(duration, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return exception thrown by the operation, or null if it completed successfully
+     */
+    @Nullable
+    public Throwable getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "DataObservation{" +
+                "operation=" + operation +
+                ", entityName='" + entityName + '\'' +
+                ", storeName='" + storeName + '\'' +
+                ", rowCount=" + rowCount +
+                '}';
+    }
+}
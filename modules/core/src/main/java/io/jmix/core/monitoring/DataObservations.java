@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.core.monitoring;
+
+import io.jmix.core.CoreProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Nullable;
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Entry point for instrumenting data access operations.
+ * <p>
+ * Collects {@link DataObserver} beans and adds the {@link MicrometerDataObserver} if the
+ * {@code jmix.core.dataMetricsEnabled} property is set. Instrumented code obtains an observation before
+ * the operation and completes it afterwards:
+ * <pre>
+ * DataObservation observation = dataObservations.begin(DataOperation.LOAD_LIST, metaClass.getName(), storeName);
+ * try {
+ *     List&lt;E&gt; entities = doLoad();
+ *     observation.end(entities.size());
+ *     return entities;
+ * } catch (RuntimeException e) {
+ *     observation.fail(e);
+ *     throw e;
+ * }
+ * </pre>
+ * If there are no observers, {@link DataObservation#NOOP} is returned and no timings are taken.
+ */
+@Component(DataObservations.NAME)
+public class DataObservations {
+
+    public static final String NAME = "core_DataObservations";
+
+    @Autowired
+    protected CoreProperties coreProperties;
+
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
+    @Autowired
+    protected ObjectProvider<DataObserver> observerProvider;
+
+    protected DataObserver[] observers;
+
+    @PostConstruct
+    protected void init() {
+        List<DataObserver> list = observerProvider.orderedStream().collect(Collectors.toList());
+        if (coreProperties.isDataMetricsEnabled()) {
+            list.add(new MicrometerDataObserver(meterRegistry));
+        }
+        observers = list.toArray(new DataObserver[0]);
+    }
+
+    /**
+     * @return true if there are registered observers
+     */
+    public boolean isEnabled() {
+        return observers.length > 0;
+    }
+
+    /**
+     * Notifies observers that the operation begins.
+     *
+     * @param operation  operation type
+     * @param entityName name of the entity the operation is performed on
+     * @param storeName  name of the data store performing the operation
+     * @return observation to be completed when the operation ends
+     */
+    public DataObservation begin(DataOperation operation, @Nullable String entityName, @Nullable String storeName) {
+        if (observers.length == 0) {
+            return DataObservation.NOOP;
+        }
+        DataObservation observation = new DataObservation(observers, operation, entityName, storeName);
+        observation.begin();
+        return observation;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.core.monitoring;
+
+/**
+ * Receives notifications about data access operations: loading and saving entities by {@code DataManager},
+ * query cache lookups, refills of the number id cache, lazy loading of references and application of
+ * access constraints.
+ * <p>
+ * Implementations are Spring beans collected by {@link DataObservations} on startup. They are invoked synchronously
+ * in the thread performing the operation, so they must be fast and must not access data themselves.
+ * When no observers are registered, the operations are not instrumented at all.
+ *
+ * @see MicrometerDataObserver
+ */
+public interface DataObserver {
+
+    /**
+     * Called before the operation starts.
+     *
+     * @param observation observation of the operation, which only has the operation type, entity and store set
+     */
+    default void onBegin(DataObservation observation) {
+    }
+
+    /**
+     * Called after the operation completes successfully or with an exception.
+     *
+     * @param observation observation of the operation with the row count, duration and error set
+     */
+    void onEnd(DataObservation observation);
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.core.monitoring;
+
+/**
+ * Data access operations reported to {@link DataObserver}s.
+ */
+public enum DataOperation {
+    LOAD("load"),
+    LOAD_LIST("loadList"),
+    LOAD_BY_BATCHES("loadByBatches"),
+    GET_COUNT("getCount"),
+    SAVE("save"),
+    QUERY_CACHE_HIT("queryCacheHit"),
+    QUERY_CACHE_MISS("queryCacheMiss"),
+    ID_CACHE_REFILL("idCacheRefill"),
+    LAZY_LOAD("lazyLoad"),
+    APPLY_CONSTRAINTS("applyConstraints");
+
+    private String name;
+
+    DataOperation(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
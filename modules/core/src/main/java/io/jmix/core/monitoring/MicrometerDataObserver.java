@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.core.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes data access operations to the {@link MeterRegistry}:
+ * <ul>
+ *     <li>{@code jmix.data.operations} timer tagged by operation, entity, store and outcome</li>
+ *     <li>{@code jmix.data.rows} distribution summary of row counts tagged by operation and entity</li>
+ * </ul>
+ * The count of {@code lazyLoad} operations for an entity reveals N+1 loading patterns, the rows summary of
+ * {@code loadList} operations reveals fetch plans loading too much.
+ * <p>
+ * Enabled by the {@code jmix.core.dataMetricsEnabled} property.
+ */
+public class MicrometerDataObserver implements DataObserver {
+
+    public static final String OPERATIONS_METRICS_NAME = "jmix.data.operations";
+    public static final String ROWS_METRICS_NAME = "jmix.data.rows";
+
+    protected static final String NONE = "none";
+
+    protected MeterRegistry meterRegistry;
+
+    public MicrometerDataObserver(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onEnd(DataObservation observation) {
+        String operation = observation.getOperation().getName();
+        String entity = observation.getEntityName() != null ? observation.getEntityName() : NONE;
+        String store = observation.getStoreName() != null ? observation.getStoreName() : NONE;
+
+        Timer timer = meterRegistry.timer(OPERATIONS_METRICS_NAME,
+                "operation", operation,
+                "entity", entity,
+                "store", store,
+                "outcome", observation.getError() == null ? "success" : "error");
+        timer.record(observation.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+
+        if (observation.getRowCount() >= 0) {
+            DistributionSummary.builder(ROWS_METRICS_NAME)
+                    .tag("operation", operation)
+                    .tag("entity", entity)
+                    .register(meterRegistry)
+                    .record(observation.getRowCount());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package datatypes
+
+import format_strings.TestFormatStringsRegistry
+import io.jmix.core.metamodel.datatype.FormatStrings
+import io.jmix.core.metamodel.datatype.impl.BigDecimalDatatype
+import io.jmix.core.metamodel.datatype.impl.LocalDateDatatype
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class FormatterCacheTest extends Specification {
+
+    def "cached formats are replaced when format strings of locale are changed"() {
+        def formatStringsRegistry = new TestFormatStringsRegistry()
+
+        def decimalDatatype = new BigDecimalDatatype()
+        decimalDatatype.formatStringsRegistry = formatStringsRegistry
+
+        def localDateDatatype = new LocalDateDatatype()
+        localDateDatatype.formatStringsRegistry = formatStringsRegistry
+
+        def date = LocalDate.of(2020, 9, 13)
+
+        expect:
+
+        decimalDatatype.format(new BigDecimal('1234.5'), Locale.ENGLISH) == '1,234.5'
+        decimalDatatype.format(new BigDecimal('1234.5'), Locale.ENGLISH) == '1,234.5'
+        localDateDatatype.format(date, Locale.ENGLISH) == '13/09/2020'
+
+        when:
+
+        formatStringsRegistry.setFormatStrings(Locale.ENGLISH, new FormatStrings(
+                ',' as char, ' ' as char,
+                '#,##0', '#,##0.###', '#,##0.00',
+                'yyyy-MM-dd', 'yyyy-MM-dd HH:mm', 'yyyy-MM-dd HH:mm', 'HH:mm', 'HH:mm',
+                'True', 'False'))
+
+        then:
+
+        decimalDatatype.format(new BigDecimal('1234.5'), Locale.ENGLISH) == '1 234,50'
+        decimalDatatype.parse('1 234,5', Locale.ENGLISH) == new BigDecimal('1234.5')
+        localDateDatatype.format(date, Locale.ENGLISH) == '2020-09-13'
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package entity_scanning
+
+import io.jmix.core.impl.scanning.EntityDetector
+import io.jmix.core.impl.scanning.JmixModulesClasspathScanner
+import io.jmix.core.impl.scanning.JpaConverterDetector
+import org.springframework.context.ApplicationContext
+import org.springframework.core.env.StandardEnvironment
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class ClasspathScanIndexTest extends Specification {
+
+    Path root
+
+    void setup() {
+        root = Files.createTempDirectory('classpath-index')
+        Files.createDirectories(root.resolve('indexed_pkg/entity'))
+        Files.createDirectories(root.resolve('META-INF'))
+        root.resolve(JmixModulesClasspathScanner.INDEX_LOCATION).toFile().text = '''\
+indexed_pkg.entity.Foo=javax.persistence.Table,javax.persistence.Entity
+indexed_pkg.entity.FooConverter=javax.persistence.Converter
+indexed_pkg.service.FooService=org.springframework.stereotype.Component
+other_pkg.Bar=javax.persistence.Entity
+'''
+    }
+
+    void cleanup() {
+        root.toFile().deleteDir()
+    }
+
+    def "candidates are detected from the index without scanning classes"() {
+        def classLoader = new URLClassLoader([root.toUri().toURL()] as URL[], (ClassLoader) null)
+        def scanner = new JmixModulesClasspathScanner()
+        scanner.basePackages = ['indexed_pkg']
+        scanner.candidateDetectors = [new EntityDetector(), new JpaConverterDetector()]
+        scanner.applicationContext = Mock(ApplicationContext) {
+            getClassLoader() >> classLoader
+            getEnvironment() >> new StandardEnvironment()
+        }
+
+        when:
+        scanner.init()
+
+        then:
+        scanner.getClassNames(EntityDetector) == ['indexed_pkg.entity.Foo'] as Set
+        scanner.getClassNames(JpaConverterDetector) == ['indexed_pkg.entity.FooConverter'] as Set
+
+        cleanup:
+        classLoader.close()
+    }
+}
@@ -32,6 +32,9 @@ import test_support.addon1.TestAddon1Configuration
 import test_support.app.TestAppConfiguration
 import test_support.app.entity.Address
 import test_support.app.entity.Owner
+import test_support.app.entity.sales.Order
+import test_support.app.entity.sales.OrderLine
+import test_support.app.entity.sales.Product
 import io.jmix.core.security.Authenticator
 
 import org.springframework.beans.factory.annotation.Autowired
@@ -65,6 +68,42 @@ class InstanceNameTest extends Specification {
         instanceNameProvider.getInstanceName(address) == "City: Samara, zip: 443011"
     }
 
+    def "instance name method without parameters"() {
+
+        def product = metadata.create(Product)
+        product.name = "Pen"
+        def orderLine = metadata.create(OrderLine)
+        orderLine.product = product
+        orderLine.quantity = 2
+
+        expect:
+
+        instanceNameProvider.getInstanceName(orderLine) == "Pen 2"
+
+        when:
+
+        orderLine.quantity = 3
+
+        then:
+
+        instanceNameProvider.getInstanceName(orderLine) == "Pen 3"
+    }
+
+    def "instance name method with injected Locale is invoked repeatedly"() {
+
+        def addresses = (1..3).collect {
+            def address = metadata.create(Address)
+            address.city = "City" + it
+            address.zip = "44301" + it
+            address
+        }
+
+        expect:
+
+        addresses.collect { instanceNameProvider.getInstanceName(it) } ==
+                (1..3).collect { "City: City$it, zip: 44301$it".toString() }
+    }
+
     //todo MG
     @Ignore
     def "instance name method with ru Locale"() {
@@ -102,4 +141,26 @@ class InstanceNameTest extends Specification {
         cleanup:
         authenticator.end()
     }
+
+    def "instance name property with null value"() {
+
+        def owner = metadata.create(Owner)
+        authenticator.begin()
+
+        expect:
+
+        instanceNameProvider.getInstanceName(owner) == ""
+
+        cleanup:
+        authenticator.end()
+    }
+
+    def "instance name of entity without instance name definition"() {
+
+        def order = metadata.create(Order)
+
+        expect:
+
+        instanceNameProvider.getInstanceName(order) == order.toString()
+    }
 }
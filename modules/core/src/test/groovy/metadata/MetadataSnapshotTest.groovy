@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package metadata
+
+import io.jmix.core.CoreConfiguration
+import io.jmix.core.impl.MetaModelLoader
+import io.jmix.core.impl.MetadataSnapshot
+import io.jmix.core.impl.MetadataSnapshotSupport
+import io.jmix.core.impl.scanning.EntityDetector
+import io.jmix.core.impl.scanning.JmixModulesClasspathScanner
+import io.jmix.core.metamodel.model.impl.SessionImpl
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.ContextConfiguration
+import org.springframework.test.context.TestExecutionListeners
+import spock.lang.Specification
+import test_support.AppContextTestExecutionListener
+import test_support.addon1.TestAddon1Configuration
+import test_support.app.TestAppConfiguration
+import test_support.app.entity.Owner
+import test_support.app.entity.Pet
+
+import java.nio.file.Files
+import java.nio.file.attribute.FileTime
+
+@ContextConfiguration(classes = [CoreConfiguration, TestAddon1Configuration, TestAppConfiguration])
+@TestExecutionListeners(
+        value = AppContextTestExecutionListener,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS
+)
+class MetadataSnapshotTest extends Specification {
+
+    @Autowired
+    MetaModelLoader metaModelLoader
+
+    @Autowired
+    MetadataSnapshotSupport snapshotSupport
+
+    @Autowired
+    JmixModulesClasspathScanner classpathScanner
+
+    def "session loaded from snapshot is equal to session loaded from classes"() {
+        def classNames = classpathScanner.getClassNames(EntityDetector)
+        def fingerprint = snapshotSupport.getFingerprint(classNames)
+
+        def session = new SessionImpl()
+        metaModelLoader.loadModel(session, classNames)
+
+        def bytes = new ByteArrayOutputStream()
+        metaModelLoader.createSnapshot(session, fingerprint).write(new DataOutputStream(bytes))
+        def snapshot = MetadataSnapshot.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+
+        when:
+        def snapshotSession = new SessionImpl()
+        metaModelLoader.loadModel(snapshotSession, snapshot)
+
+        then:
+        snapshot.fingerprint == fingerprint
+        snapshotSession.classes*.name.toSet() == session.classes*.name.toSet()
+
+        session.classes.each { metaClass ->
+            def snapshotClass = snapshotSession.getClass(metaClass.name)
+            assert snapshotClass.javaClass == metaClass.javaClass
+            assert snapshotClass.store.name == metaClass.store.name
+            assert snapshotClass.ancestors*.name == metaClass.ancestors*.name
+            assert snapshotClass.properties*.name.toSet() == metaClass.properties*.name.toSet()
+
+            metaClass.properties.each { property ->
+                def snapshotProperty = snapshotClass.getProperty(property.name)
+                assert snapshotProperty.type == property.type
+                assert snapshotProperty.javaType == property.javaType
+                assert snapshotProperty.mandatory == property.mandatory
+                assert snapshotProperty.readOnly == property.readOnly
+                assert snapshotProperty.annotatedElement == property.annotatedElement
+                assert snapshotProperty.range.cardinality == property.range.cardinality
+                assert snapshotProperty.inverse?.name == property.inverse?.name
+                assert snapshotProperty.annotations == property.annotations
+            }
+        }
+
+        and:
+        snapshotSession.getClass(Pet).getProperty('owner').range.asClass().javaClass == Owner
+    }
+
+    def "fingerprint depends on the set of classes"() {
+        def classNames = classpathScanner.getClassNames(EntityDetector)
+
+        expect:
+        snapshotSupport.getFingerprint(classNames) == snapshotSupport.getFingerprint(new ArrayList<>(classNames).reverse())
+        snapshotSupport.getFingerprint(classNames) != snapshotSupport.getFingerprint(classNames - Pet.name)
+        snapshotSupport.getFingerprint(classNames + 'com.company.NonExistingEntity') == null
+    }
+
+    def "fingerprint depends on class files without reading them"() {
+        def dir = Files.createTempDirectory('metadata-snapshot-test')
+        def classFile = dir.resolve(Pet.name.replace('.', '/') + '.class')
+        Files.createDirectories(classFile.parent)
+        Pet.getResourceAsStream(Pet.simpleName + '.class').withStream { Files.copy(it, classFile) }
+        def classLoader = new URLClassLoader([dir.toUri().toURL()] as URL[], (ClassLoader) null)
+
+        when:
+        def fingerprint = snapshotSupport.getFingerprint([Pet.name], classLoader)
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(Files.getLastModifiedTime(classFile).toMillis() - 10000))
+
+        then:
+        fingerprint != null
+        snapshotSupport.getFingerprint([Pet.name], classLoader) != fingerprint
+
+        cleanup:
+        classLoader?.close()
+        dir?.toFile()?.deleteDir()
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package security
+
+import io.jmix.core.AccessConstraintsRegistry
+import io.jmix.core.AccessManager
+import io.jmix.core.constraint.AccessConstraint
+import io.jmix.core.context.AccessContext
+import io.jmix.core.metamodel.model.MetaClass
+import io.jmix.core.monitoring.DataObservations
+import io.jmix.core.monitoring.DataObserver
+import spock.lang.Specification
+
+class AccessConstraintsCacheTest extends Specification {
+
+    AccessManager accessManager
+    AccessConstraintsRegistry registry
+
+    def setup() {
+        registry = new AccessConstraintsRegistry()
+        accessManager = new AccessManager(registry: registry,
+                dataObservations: new DataObservations(observers: [] as DataObserver[]))
+    }
+
+    def "constraints are evaluated once per context class and meta-class"() {
+        def constraint = new CountingConstraint(TestEntityContext)
+        def otherConstraint = new CountingConstraint(OtherEntityContext)
+        def cache = accessManager.constraintsCache([constraint, otherConstraint])
+
+        def metaClass1 = Mock(MetaClass)
+        def metaClass2 = Mock(MetaClass)
+
+        when:
+        def context1 = cache.getContext(TestEntityContext, metaClass1, { new TestEntityContext(it) })
+        def context1Again = cache.getContext(TestEntityContext, metaClass1, { new TestEntityContext(it) })
+        def context2 = cache.getContext(TestEntityContext, metaClass2, { new TestEntityContext(it) })
+        def otherContext1 = cache.getContext(OtherEntityContext, metaClass1, { new OtherEntityContext(it) })
+
+        then:
+        context1.is(context1Again)
+        !context1.is(context2)
+        context1.applied == 1
+        context2.applied == 1
+        otherContext1.applied == 1
+        constraint.count == 2
+        otherConstraint.count == 1
+    }
+
+    def "registered constraints are indexed by context type"() {
+        def constraint = new CountingConstraint(TestEntityContext)
+        def otherConstraint = new CountingConstraint(OtherEntityContext)
+        registry.register(constraint)
+        registry.register(otherConstraint)
+
+        when:
+        def context = new TestEntityContext(Mock(MetaClass))
+        accessManager.applyRegisteredConstraints(context)
+
+        then:
+        registry.getConstraintsByContextType(TestEntityContext) == [constraint]
+        registry.getConstraintsByContextType(String).isEmpty()
+        context.applied == 1
+        constraint.count == 1
+        otherConstraint.count == 0
+    }
+
+    static class TestEntityContext implements AccessContext {
+        MetaClass metaClass
+        int applied
+
+        TestEntityContext(MetaClass metaClass) {
+            this.metaClass = metaClass
+        }
+    }
+
+    static class OtherEntityContext extends TestEntityContext {
+        OtherEntityContext(MetaClass metaClass) {
+            super(metaClass)
+        }
+    }
+
+    static class CountingConstraint implements AccessConstraint<TestEntityContext> {
+        Class contextType
+        int count
+
+        CountingConstraint(Class contextType) {
+            this.contextType = contextType
+        }
+
+        @Override
+        Class<TestEntityContext> getContextType() {
+            return contextType
+        }
+
+        @Override
+        void applyTo(TestEntityContext context) {
+            count++
+            context.applied++
+        }
+    }
+}
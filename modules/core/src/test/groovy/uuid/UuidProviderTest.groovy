@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uuid
+
+import io.jmix.core.UuidProvider
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+class UuidProviderTest extends Specification {
+
+    def "time-ordered UUIDs have version 7 and contain current time"() {
+        def before = System.currentTimeMillis()
+
+        when:
+
+        def uuid = UuidProvider.createTimeOrderedUuid()
+
+        then:
+
+        uuid.version() == 7
+        uuid.variant() == 2
+        (uuid.mostSignificantBits >>> 16) >= before
+        (uuid.mostSignificantBits >>> 16) <= System.currentTimeMillis() + 1
+    }
+
+    def "time-ordered UUIDs are increasing"() {
+        when:
+
+        def uuids = (1..100_000).collect { UuidProvider.createTimeOrderedUuid() }
+
+        then:
+
+        (1..<uuids.size()).every { uuids[it - 1] < uuids[it] }
+        uuids*.toString() == uuids*.toString().sort(false)
+    }
+
+    def "time-ordered UUIDs created concurrently are unique and increasing in each thread"() {
+        def executor = Executors.newFixedThreadPool(8)
+
+        when:
+
+        def tasks = (1..8).collect {
+            { -> (1..20_000).collect { UuidProvider.createTimeOrderedUuid() } } as Callable<List<UUID>>
+        }
+        def results = executor.invokeAll(tasks)*.get()
+
+        then:
+
+        results.every { List<UUID> uuids -> (1..<uuids.size()).every { uuids[it - 1] < uuids[it] } }
+        results.flatten().toSet().size() == 8 * 20_000
+
+        cleanup:
+
+        executor.shutdownNow()
+    }
+
+    def "strategy defines how createUuid works"() {
+        when:
+
+        UuidProvider.setStrategy(UuidProvider.Strategy.TIME_ORDERED)
+        def uuid = UuidProvider.createUuid()
+
+        then:
+
+        uuid.version() == 7
+
+        when:
+
+        UuidProvider.setStrategy(UuidProvider.Strategy.RANDOM)
+
+        then:
+
+        UuidProvider.strategy == UuidProvider.Strategy.RANDOM
+
+        cleanup:
+
+        UuidProvider.setStrategy(UuidProvider.Strategy.RANDOM)
+    }
+}
@@ -30,6 +30,12 @@ public class DataProperties {
     int queryCacheMaxSize;
     int numberIdCacheSize;
     boolean useEntityDataStoreForIdSequence;
+    boolean entityChangedEventOutboxEnabled;
+    int entityChangedEventOutboxBatchSize;
+    long entityChangedEventOutboxPollingInterval;
+    int entityChangedEventOutboxMaxRetries;
+    int bulkInsertBatchSize;
+    long readReplicaLagFallbackInterval;
 
     public DataProperties(
             boolean inMemoryDistinct,
@@ -37,7 +43,13 @@ public class DataProperties {
             @DefaultValue("true") boolean queryCacheEnabled,
             @DefaultValue("100") int queryCacheMaxSize,
             @DefaultValue("100") int numberIdCacheSize,
-            boolean useEntityDataStoreForIdSequence
+            boolean useEntityDataStoreForIdSequence,
+            boolean entityChangedEventOutboxEnabled,
+            @DefaultValue("100") int entityChangedEventOutboxBatchSize,
+            @DefaultValue("5000") long entityChangedEventOutboxPollingInterval,
+            @DefaultValue("10") int entityChangedEventOutboxMaxRetries,
+            @DefaultValue("1000") int bulkInsertBatchSize,
+            @DefaultValue("1000") long readReplicaLagFallbackInterval
     ) {
         this.inMemoryDistinct = inMemoryDistinct;
         this.useReadOnlyTransactionForLoad = useReadOnlyTransactionForLoad;
@@ -45,6 +57,12 @@ public class DataProperties {
         this.queryCacheMaxSize = queryCacheMaxSize;
         this.numberIdCacheSize = numberIdCacheSize;
         this.useEntityDataStoreForIdSequence = useEntityDataStoreForIdSequence;
+        this.entityChangedEventOutboxEnabled = entityChangedEventOutboxEnabled;
+        this.entityChangedEventOutboxBatchSize = entityChangedEventOutboxBatchSize;
+        this.entityChangedEventOutboxPollingInterval = entityChangedEventOutboxPollingInterval;
+        this.entityChangedEventOutboxMaxRetries = entityChangedEventOutboxMaxRetries;
+        this.bulkInsertBatchSize = bulkInsertBatchSize;
+        this.readReplicaLagFallbackInterval = readReplicaLagFallbackInterval;
     }
 
     public boolean isInMemoryDistinct() {
@@ -70,4 +88,55 @@ public class DataProperties {
     public boolean isUseEntityDataStoreForIdSequence() {
         return useEntityDataStoreForIdSequence;
     }
+
+    /**
+     * Whether to record {@code EntityChangedEvent}s of the main data store in the outbox table in the saving
+     * transaction and to deliver them to {@link io.jmix.data.listener.EntityChangedEventsListener}s after commit.
+     * Default is false.
+     */
+    public boolean isEntityChangedEventOutboxEnabled() {
+        return entityChangedEventOutboxEnabled;
+    }
+
+    /**
+     * Maximum number of events passed to {@link io.jmix.data.listener.EntityChangedEventsListener}s at once.
+     */
+    public int getEntityChangedEventOutboxBatchSize() {
+        return entityChangedEventOutboxBatchSize;
+    }
+
+    /**
+     * Interval in milliseconds of checking the outbox table for undelivered events, e.g. recorded before restart
+     * or failed by a listener.
+     */
+    public long getEntityChangedEventOutboxPollingInterval() {
+        return entityChangedEventOutboxPollingInterval;
+    }
+
+    /**
+     * Maximum number of repeated deliveries of an event after a listener has failed to process it. When it is
+     * exceeded, the event is logged and removed from the outbox, so that it does not block subsequent events.
+     */
+    public int getEntityChangedEventOutboxMaxRetries() {
+        return entityChangedEventOutboxMaxRetries;
+    }
+
+    /**
+     * Number of entities flushed to the database at once when saving in the bulk insert mode, see
+     * {@link io.jmix.core.SaveContext#setBulkInsert(boolean)}. To send the inserts of a chunk in JDBC batches,
+     * enable batch writing for the data store by the {@code eclipselink.jdbc.batch-writing} property.
+     */
+    public int getBulkInsertBatchSize() {
+        return bulkInsertBatchSize;
+    }
+
+    /**
+     * Interval in milliseconds after saving entities during which entities of the same type are loaded from
+     * the primary database instead of the read replica, to compensate for the replication lag. 0 disables
+     * the fallback. Inside a read-only transaction of the replica, such entities are loaded in a separate
+     * transaction of the primary database. See {@link StoreAwareLocator#hasReplica(String)}.
+     */
+    public long getReadReplicaLagFallbackInterval() {
+        return readReplicaLagFallbackInterval;
+    }
 }
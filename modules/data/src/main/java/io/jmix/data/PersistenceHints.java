@@ -30,6 +30,18 @@ public class PersistenceHints {
 
     public static final String CACHEABLE = "jmix.cacheable";
 
+    /**
+     * {@code LoadContext} hint which routes loading to the read replica of the data store if the value is true,
+     * or to the primary database if the value is false. See {@link StoreAwareLocator#hasReplica(String)}.
+     * <p>
+     * The hint is needed only outside of a replica transaction: a read-only transaction begun by
+     * {@link StoreAwareLocator#getTransactionManager(String, org.springframework.transaction.TransactionDefinition)}
+     * runs on the replica itself. Inside a read-only transaction of the primary database, the replica is loaded in
+     * its own transaction and the loaded entities are not managed by the caller's transaction. Inside a read-write
+     * transaction the hint is ignored.
+     */
+    public static final String READ_REPLICA = "jmix.readReplica";
+
     public static boolean isSoftDeletion(EntityManager entityManager) {
         Boolean softDeletion = (Boolean) entityManager.getProperties().get(SOFT_DELETION);
         return softDeletion == null || softDeletion;
@@ -18,26 +18,60 @@ package io.jmix.data;
 
 import io.jmix.core.BeanLocator;
 import io.jmix.core.Stores;
+import io.jmix.core.TimeSource;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.jpa.EntityManagerFactoryUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+/**
+ * Provides data source, transaction manager and entity manager of a data store.
+ * <p>
+ * A store can have a read replica defined by beans with the {@code replica} prefix: {@code replicaDataSource},
+ * {@code replicaEntityManagerFactory} and {@code replicaTransactionManager} for the main store and
+ * {@code <store>ReplicaDataSource} etc. for additional stores. All methods of this bean return the replica objects
+ * for the store inside {@link #withReplica(String, Supplier)} and inside a read-only transaction begun by the
+ * replica transaction manager, see {@link #getTransactionManager(String, TransactionDefinition)}. Only the entity
+ * manager factory and the transaction manager of the replica are required, the primary objects are returned instead
+ * of missing ones, e.g. the primary data source if the replica data source bean is not defined.
+ */
 @Component(StoreAwareLocator.NAME)
 public class StoreAwareLocator {
 
     public static final String NAME = "data_StoreAwareLocator";
 
+    public static final String REPLICA_PREFIX = "replica";
+
     @Autowired
     protected BeanLocator beanLocator;
 
+    @Autowired
+    protected DataProperties properties;
+
+    @Autowired
+    protected TimeSource timeSource;
+
+    /*
+     * Explicit routing of stores in the current thread: true for the replica, false for the primary database.
+     */
+    protected ThreadLocal<Map<String, Boolean>> replicaRouting = ThreadLocal.withInitial(HashMap::new);
+
+    protected Map<String, Long> lastWriteTimes = new ConcurrentHashMap<>();
+
     public DataSource getDataSource(String storeName) {
         return getBean(storeName, "dataSource", DataSource.class);
     }
@@ -50,10 +84,30 @@ public class StoreAwareLocator {
         return getBean(storeName, "transactionManager", PlatformTransactionManager.class);
     }
 
+    /**
+     * Returns the transaction manager to begin a transaction with the given definition. A read-only transaction
+     * is begun by the transaction manager of the read replica if the store has it, so the entity manager and
+     * loading inside the transaction work with the replica.
+     */
+    public PlatformTransactionManager getTransactionManager(String storeName, TransactionDefinition definition) {
+        if (definition.isReadOnly()) {
+            return withReplica(storeName, () -> getTransactionManager(storeName));
+        }
+        return getTransactionManager(storeName);
+    }
+
     public TransactionTemplate getTransactionTemplate(String storeName) {
         return new TransactionTemplate(getTransactionManager(storeName));
     }
 
+    /**
+     * Returns the transaction template with the given definition, see
+     * {@link #getTransactionManager(String, TransactionDefinition)}.
+     */
+    public TransactionTemplate getTransactionTemplate(String storeName, TransactionDefinition definition) {
+        return new TransactionTemplate(getTransactionManager(storeName, definition), definition);
+    }
+
     public EntityManagerFactory getEntityManagerFactory(String storeName) {
         return getBean(storeName, "entityManagerFactory", EntityManagerFactory.class);
     }
@@ -66,11 +120,112 @@ public class StoreAwareLocator {
         return entityManager;
     }
 
+    /**
+     * @return true if the store has a read replica
+     */
+    public boolean hasReplica(String storeName) {
+        return beanLocator.containsBean(getBeanName(storeName, REPLICA_PREFIX + "EntityManagerFactory"))
+                && beanLocator.containsBean(getBeanName(storeName, REPLICA_PREFIX + "TransactionManager"));
+    }
+
+    /**
+     * @return true if the current thread works with the read replica of the store: inside
+     * {@link #withReplica(String, Supplier)} or in a read-only transaction of the replica
+     */
+    public boolean isReplicaUsed(String storeName) {
+        Boolean replica = replicaRouting.get().get(storeName);
+        if (replica != null) {
+            return replica;
+        }
+        return isReplicaTransactionActive(storeName);
+    }
+
+    /**
+     * Executes the action using the read replica of the store if it exists.
+     */
+    public <T> T withReplica(String storeName, Supplier<T> action) {
+        return withRouting(storeName, hasReplica(storeName), action);
+    }
+
+    /**
+     * Executes the action using the primary database of the store, e.g. to save entities inside an action
+     * passed to {@link #withReplica(String, Supplier)}.
+     */
+    public <T> T withPrimary(String storeName, Supplier<T> action) {
+        return withRouting(storeName, false, action);
+    }
+
+    /**
+     * Records that entities were written to the store, so loading them from the read replica is avoided for
+     * {@link DataProperties#getReadReplicaLagFallbackInterval()}.
+     */
+    public void registerWrite(String storeName, Collection<String> entityNames) {
+        if (properties.getReadReplicaLagFallbackInterval() <= 0 || !hasReplica(storeName)) {
+            return;
+        }
+        long now = timeSource.currentTimeMillis();
+        for (String entityName : entityNames) {
+            lastWriteTimes.put(storeName + "/" + entityName, now);
+        }
+    }
+
+    /**
+     * @return true if the entities were written to the store recently and the replica can be not in sync yet
+     */
+    public boolean isReplicaLagging(String storeName, String entityName) {
+        Long lastWriteTime = lastWriteTimes.get(storeName + "/" + entityName);
+        return lastWriteTime != null
+                && timeSource.currentTimeMillis() - lastWriteTime < properties.getReadReplicaLagFallbackInterval();
+    }
+
+    /**
+     * @return true if the current transaction is a read-only transaction begun by the replica transaction manager
+     */
+    protected boolean isReplicaTransactionActive(String storeName) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !hasReplica(storeName)) {
+            return false;
+        }
+        EntityManagerFactory replicaFactory = beanLocator.get(
+                getBeanName(storeName, REPLICA_PREFIX + "EntityManagerFactory"), EntityManagerFactory.class);
+        EntityManagerFactory primaryFactory = beanLocator.get(
+                getBeanName(storeName, "entityManagerFactory"), EntityManagerFactory.class);
+        return replicaFactory != primaryFactory && TransactionSynchronizationManager.hasResource(replicaFactory);
+    }
+
+    protected <T> T withRouting(String storeName, boolean replica, Supplier<T> action) {
+        Map<String, Boolean> routing = replicaRouting.get();
+        Boolean previousRouting = routing.put(storeName, replica);
+        try {
+            return action.get();
+        } finally {
+            if (previousRouting != null) {
+                routing.put(storeName, previousRouting);
+            } else {
+                routing.remove(storeName);
+            }
+            if (routing.isEmpty()) {
+                replicaRouting.remove();
+            }
+        }
+    }
+
     protected <T> T getBean(String storeName, String beanName, Class<T> beanClass) {
+        if (isReplicaUsed(storeName)) {
+            String replicaBeanName = getBeanName(storeName, REPLICA_PREFIX + StringUtils.capitalize(beanName));
+            if (beanLocator.containsBean(replicaBeanName)) {
+                return beanLocator.get(replicaBeanName, beanClass);
+            }
+        }
+        return beanLocator.get(getBeanName(storeName, beanName), beanClass);
+    }
+
+    protected String getBeanName(String storeName, String beanName) {
         if (Stores.isMain(storeName)) {
-            return beanLocator.get(beanName, beanClass);
+            return beanName;
         } else {
-            return beanLocator.get(storeName + StringUtils.capitalize(beanName), beanClass);
+            return storeName + StringUtils.capitalize(beanName);
         }
     }
 }
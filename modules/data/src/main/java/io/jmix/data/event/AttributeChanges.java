@@ -20,6 +20,7 @@ import io.jmix.core.JmixEntity;
 import io.jmix.core.Id;
 
 import javax.annotation.Nullable;
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
@@ -31,7 +32,9 @@ import java.util.stream.Collectors;
  *
  * @see EntityChangedEvent#getChanges()
  */
-public class AttributeChanges {
+public class AttributeChanges implements Serializable {
+
+    private static final long serialVersionUID = 4382938414387302851L;
 
     private Set<Change> changes;
     private Map<String, AttributeChanges> embeddedChanges;
@@ -44,6 +47,14 @@ public class AttributeChanges {
         this.embeddedChanges = embeddedChanges;
     }
 
+    /**
+     * INTERNAL.
+     * Returns changes of embedded entities by names of embedded attributes.
+     */
+    public Map<String, AttributeChanges> getEmbeddedChanges() {
+        return embeddedChanges;
+    }
+
     /**
      * Returns names of changed attributes for the root entity.
      */
@@ -157,7 +168,9 @@ public class AttributeChanges {
      * INTERNAL.
      * Contains name and old value of a changed attribute.
      */
-    public static class Change {
+    public static class Change implements Serializable {
+
+        private static final long serialVersionUID = -3524839202837451729L;
 
         public final String name;
         public final Object oldValue;
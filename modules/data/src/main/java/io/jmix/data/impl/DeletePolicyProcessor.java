@@ -15,6 +15,7 @@
  */
 package io.jmix.data.impl;
 
+import com.google.common.collect.Lists;
 import io.jmix.core.*;
 import io.jmix.core.entity.EntityEntrySoftDelete;
 import io.jmix.core.entity.EntityValues;
@@ -74,13 +75,21 @@ public class DeletePolicyProcessor {
 
     protected EntityManager entityManager;
 
+    protected Map<String, Map<String, List<Object[]>>> batchUpdates = new LinkedHashMap<>();
+
+    protected static final int DEFAULT_IDS_BATCH_SIZE = 500;
+
     public JmixEntity getEntity() {
         return entity;
     }
 
     public void setEntity(JmixEntity entity) {
         this.entity = entity;
-        this.metaClass = metadata.getClass(entity.getClass());
+        initMetaClass(metadata.getClass(entity.getClass()));
+    }
+
+    protected void initMetaClass(MetaClass metaClass) {
+        this.metaClass = metaClass;
         primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
 
         String storeName = metadataTools.getStoreName(metaClass);
@@ -103,6 +112,46 @@ public class DeletePolicyProcessor {
             processOnDelete(properties);
     }
 
+    /**
+     * Processes delete policies of several entities removed in the same flush.
+     * <p>
+     * Entities are grouped by meta-class. For each group, references from other entities ({@link OnDeleteInverse})
+     * and collection members ({@link OnDelete}) are checked and loaded by queries with {@code in} conditions
+     * instead of a query per entity. Un-fetched references are updated by JDBC batches before commit.
+     */
+    public void process(Collection<JmixEntity> entities) {
+        Map<MetaClass, List<JmixEntity>> entitiesByMetaClass = new LinkedHashMap<>();
+        for (JmixEntity entity : entities) {
+            entitiesByMetaClass.computeIfAbsent(metadata.getClass(entity.getClass()), key -> new ArrayList<>())
+                    .add(entity);
+        }
+
+        for (Map.Entry<MetaClass, List<JmixEntity>> entry : entitiesByMetaClass.entrySet()) {
+            List<JmixEntity> group = entry.getValue();
+            if (group.size() == 1) {
+                setEntity(group.get(0));
+                process();
+            } else {
+                initMetaClass(entry.getKey());
+                for (List<JmixEntity> chunk : Lists.partition(group, getIdsBatchSize())) {
+                    processGroup(chunk);
+                }
+            }
+        }
+    }
+
+    protected void processGroup(List<JmixEntity> entities) {
+        List<MetaProperty> properties = new ArrayList<>();
+
+        fillProperties(properties, OnDeleteInverse.class.getName());
+        if (!properties.isEmpty())
+            processOnDeleteInverse(properties, entities);
+
+        fillProperties(properties, OnDelete.class.getName());
+        if (!properties.isEmpty())
+            processOnDelete(properties, entities);
+    }
+
     protected void fillProperties(List<MetaProperty> properties, String annotationName) {
         properties.clear();
         MetaProperty[] metaProperties = (MetaProperty[]) metaClass.getAnnotations().get(annotationName);
@@ -147,6 +196,80 @@ public class DeletePolicyProcessor {
         }
     }
 
+    protected void processOnDeleteInverse(List<MetaProperty> properties, List<JmixEntity> entities) {
+        List<Object> ids = getIds(entities);
+        for (MetaProperty property : properties) {
+            MetaClass metaClass = property.getDomain();
+
+            List<MetaClass> persistentEntities = new ArrayList<>();
+            if (isPersistent(metaClass))
+                persistentEntities.add(metaClass);
+            for (MetaClass descendant : metaClass.getDescendants()) {
+                if (isPersistent(descendant))
+                    persistentEntities.add(descendant);
+            }
+
+            for (MetaClass persistentEntity : persistentEntities) {
+                OnDeleteInverse annotation = property.getAnnotatedElement().getAnnotation(OnDeleteInverse.class);
+                DeletePolicy deletePolicy = annotation.value();
+                switch (deletePolicy) {
+                    case DENY:
+                        if (referenceExists(persistentEntity.getName(), property, ids))
+                            throw new DeletePolicyException(this.metaClass.getName(), persistentEntity.getName());
+                        break;
+                    case CASCADE:
+                        for (JmixEntity e : getReferencingEntities(persistentEntity.getName(), property, ids)) {
+                            entityManager.remove(e);
+                        }
+                        break;
+                    case UNLINK:
+                        unlink(persistentEntity.getName(), property, entities, ids);
+                        break;
+                }
+            }
+        }
+    }
+
+    protected void processOnDelete(List<MetaProperty> properties, List<JmixEntity> entities) {
+        for (MetaProperty property : properties) {
+            MetaClass metaClass = property.getRange().asClass();
+            OnDelete annotation = property.getAnnotatedElement().getAnnotation(OnDelete.class);
+            DeletePolicy deletePolicy = annotation.value();
+
+            if (!property.getRange().getCardinality().isMany()
+                    || (deletePolicy == DeletePolicy.UNLINK && metadataTools.isOwningSide(property))) {
+                // references and owned collections are processed in memory or by batched statements
+                for (JmixEntity entity : entities) {
+                    this.entity = entity;
+                    processOnDelete(Collections.singletonList(property));
+                }
+                continue;
+            }
+
+            switch (deletePolicy) {
+                case DENY:
+                    if (!isCollectionsEmpty(property, entities))
+                        throw new DeletePolicyException(this.metaClass.getName(), metaClass.getName());
+                    break;
+                case CASCADE:
+                    for (List<JmixEntity> value : getCollections(property, entities).values()) {
+                        for (JmixEntity e : value) {
+                            entityManager.remove(e);
+                        }
+                    }
+                    break;
+                case UNLINK:
+                    if (property.getInverse() == null) {
+                        throw new UnsupportedOperationException("Unable to unlink nested collection items");
+                    }
+                    for (List<JmixEntity> value : getCollections(property, entities).values()) {
+                        value.forEach(e -> setReferenceNull(e, property.getInverse()));
+                    }
+                    break;
+            }
+        }
+    }
+
     protected void processOnDelete(List<MetaProperty> properties) {
         for (MetaProperty property : properties) {
             MetaClass metaClass = property.getRange().asClass();
@@ -218,32 +341,53 @@ public class DeletePolicyProcessor {
     }
 
     protected void hardDeleteNotLoadedReference(JmixEntity entity, MetaProperty property, JmixEntity reference) {
-        persistenceSupport.addBeforeCommitAction(metaClass.getStore().getName(), () -> {
-            try {
-                String column = metadataTools.getDatabaseColumn(property);
-                if (column != null) { // is null for mapped-by property
-                    String updateMasterSql = "update " + metadataTools.getDatabaseTable(metaClass)
-                            + " set " + column + " = null where "
-                            + metadataTools.getPrimaryKeyName(metaClass) + " = ?";
-                    log.debug("Hard delete un-fetched reference: {}, bind: [{}]", updateMasterSql, EntityValues.getId(entity));
-                    getJdbcTemplate().update(updateMasterSql, dbmsSpecifics.getDbTypeConverter().getSqlObject(EntityValues.getId(entity)));
-                }
+        String column = metadataTools.getDatabaseColumn(property);
+        if (column != null) { // is null for mapped-by property
+            String updateMasterSql = "update " + metadataTools.getDatabaseTable(metaClass)
+                    + " set " + column + " = null where "
+                    + metadataTools.getPrimaryKeyName(metaClass) + " = ?";
+            log.debug("Hard delete un-fetched reference: {}, bind: [{}]", updateMasterSql, EntityValues.getId(entity));
+            addBatchUpdate(updateMasterSql, dbmsSpecifics.getDbTypeConverter().getSqlObject(EntityValues.getId(entity)));
+        }
 
-                MetaClass refMetaClass = property.getRange().asClass();
-                String deleteRefSql = "delete from " + metadataTools.getDatabaseTable(refMetaClass) + " where "
-                        + metadataTools.getPrimaryKeyName(refMetaClass) + " = ?";
-                log.debug("Hard delete un-fetched reference: {}, bind: [{}]", deleteRefSql, EntityValues.getId(reference));
-                getJdbcTemplate().update(deleteRefSql, dbmsSpecifics.getDbTypeConverter().getSqlObject(EntityValues.getId(reference)));
-            } catch (DataAccessException e) {
-                throw new RuntimeException("Error processing deletion of " + entity, e);
-            }
-        });
+        MetaClass refMetaClass = property.getRange().asClass();
+        String deleteRefSql = "delete from " + metadataTools.getDatabaseTable(refMetaClass) + " where "
+                + metadataTools.getPrimaryKeyName(refMetaClass) + " = ?";
+        log.debug("Hard delete un-fetched reference: {}, bind: [{}]", deleteRefSql, EntityValues.getId(reference));
+        addBatchUpdate(deleteRefSql, dbmsSpecifics.getDbTypeConverter().getSqlObject(EntityValues.getId(reference)));
     }
 
     protected JdbcTemplate getJdbcTemplate() {
         return storeAwareLocator.getJdbcTemplate(metaClass.getStore().getName());
     }
 
+    /**
+     * Adds a statement to be executed before commit. Statements with the same SQL are executed as a JDBC batch.
+     */
+    protected void addBatchUpdate(String sql, Object... args) {
+        String storeName = metaClass.getStore().getName();
+        Map<String, List<Object[]>> storeUpdates = batchUpdates.get(storeName);
+        if (storeUpdates == null) {
+            Map<String, List<Object[]>> updates = new LinkedHashMap<>();
+            batchUpdates.put(storeName, updates);
+            persistenceSupport.addBeforeCommitAction(storeName, () -> executeBatchUpdates(storeName, updates));
+            storeUpdates = updates;
+        }
+        storeUpdates.computeIfAbsent(sql, key -> new ArrayList<>()).add(args);
+    }
+
+    protected void executeBatchUpdates(String storeName, Map<String, List<Object[]>> updates) {
+        JdbcTemplate jdbcTemplate = storeAwareLocator.getJdbcTemplate(storeName);
+        for (Map.Entry<String, List<Object[]>> entry : updates.entrySet()) {
+            log.debug("Delete policy batch update: {}, rows: {}", entry.getKey(), entry.getValue().size());
+            try {
+                jdbcTemplate.batchUpdate(entry.getKey(), entry.getValue());
+            } catch (DataAccessException e) {
+                throw new RuntimeException("Error processing deletion: " + entry.getKey(), e);
+            }
+        }
+    }
+
     protected void setReferenceNull(JmixEntity entity, MetaProperty property) {
         Range range = property.getRange();
         if (metadataTools.isOwningSide(property) && !range.getCardinality().isMany()) {
@@ -256,29 +400,23 @@ public class DeletePolicyProcessor {
     }
 
     protected void hardSetReferenceNull(JmixEntity entity, MetaProperty property) {
-        persistenceSupport.addBeforeCommitAction(metaClass.getStore().getName(), () -> {
-            MetaClass entityMetaClass = metadata.getClass(entity.getClass());
-            while (!entityMetaClass.equals(property.getDomain())) {
-                MetaClass ancestor = entityMetaClass.getAncestor();
-                if (ancestor == null)
-                    throw new IllegalStateException("Cannot determine a persistent entity for property " + property);
-                if (metadataTools.isPersistent(ancestor)) {
-                    entityMetaClass = ancestor;
-                } else {
-                    break;
-                }
-            }
-            String sql = String.format("update %s set %s = null where %s = ?",
-                    metadataTools.getDatabaseTable(entityMetaClass),
-                    metadataTools.getDatabaseColumn(property),
-                    metadataTools.getPrimaryKeyName(entityMetaClass));
-            try {
-                log.debug("Set reference to null: {}, bind: [{}]", sql, EntityValues.getId(entity));
-                getJdbcTemplate().update(sql, dbmsSpecifics.getDbTypeConverter().getSqlObject(EntityValues.getId(entity)));
-            } catch (DataAccessException e) {
-                throw new RuntimeException("Error processing deletion of " + entity, e);
+        MetaClass entityMetaClass = metadata.getClass(entity.getClass());
+        while (!entityMetaClass.equals(property.getDomain())) {
+            MetaClass ancestor = entityMetaClass.getAncestor();
+            if (ancestor == null)
+                throw new IllegalStateException("Cannot determine a persistent entity for property " + property);
+            if (metadataTools.isPersistent(ancestor)) {
+                entityMetaClass = ancestor;
+            } else {
+                break;
             }
-        });
+        }
+        String sql = String.format("update %s set %s = null where %s = ?",
+                metadataTools.getDatabaseTable(entityMetaClass),
+                metadataTools.getDatabaseColumn(property),
+                metadataTools.getPrimaryKeyName(entityMetaClass));
+        log.debug("Set reference to null: {}, bind: [{}]", sql, EntityValues.getId(entity));
+        addBatchUpdate(sql, dbmsSpecifics.getDbTypeConverter().getSqlObject(EntityValues.getId(entity)));
     }
 
     @Nullable
@@ -329,6 +467,85 @@ public class DeletePolicyProcessor {
         return list.isEmpty();
     }
 
+    protected boolean isCollectionsEmpty(MetaProperty property, List<JmixEntity> entities) {
+        MetaProperty inverseProperty = property.getInverse();
+        if (inverseProperty == null) {
+            log.warn("Inverse property not found for property {}", property);
+            for (JmixEntity entity : entities) {
+                Collection<JmixEntity> value = EntityValues.getValue(entity, property.getName());
+                if (value != null && !value.isEmpty())
+                    return false;
+            }
+            return true;
+        }
+
+        String invPropName = inverseProperty.getName();
+        String collectionPkName = metadataTools.getPrimaryKeyName(property.getRange().asClass());
+
+        String qlStr = "select e." + collectionPkName + " from " + property.getRange().asClass().getName() +
+                " e where e." + invPropName + "." + primaryKeyName + " in :ids";
+
+        Query query = entityManager.createQuery(qlStr);
+        query.setParameter("ids", getIds(entities));
+        query.setMaxResults(1);
+        List<?> list = query.getResultList();
+
+        return list.isEmpty();
+    }
+
+    /**
+     * Loads collection members of several entities by a single query.
+     *
+     * @return map of entity id to the members of its collection
+     */
+    protected Map<Object, List<JmixEntity>> getCollections(MetaProperty property, List<JmixEntity> entities) {
+        Map<Object, List<JmixEntity>> result = new LinkedHashMap<>();
+
+        MetaProperty inverseProperty = property.getInverse();
+        if (inverseProperty == null) {
+            log.warn("Inverse property not found for property {}", property);
+            for (JmixEntity entity : entities) {
+                Collection<JmixEntity> value = EntityValues.getValue(entity, property.getName());
+                result.put(EntityValues.getId(entity), value == null ? Collections.emptyList() : new ArrayList<>(value));
+            }
+            return result;
+        }
+
+        String invPropName = inverseProperty.getName();
+        String qlStr = "select e, e." + invPropName + "." + primaryKeyName + " from "
+                + property.getRange().asClass().getName() + " e where e." + invPropName + "." + primaryKeyName
+                + " in :ids";
+
+        Query query = entityManager.createQuery(qlStr);
+        query.setParameter("ids", getIds(entities));
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+
+        Map<Object, List<JmixEntity>> itemsByMasterId = new HashMap<>();
+        for (Object[] row : rows) {
+            itemsByMasterId.computeIfAbsent(row[1], key -> new ArrayList<>()).add((JmixEntity) row[0]);
+        }
+
+        for (JmixEntity entity : entities) {
+            Object id = EntityValues.getId(entity);
+            List<JmixEntity> items = itemsByMasterId.getOrDefault(id, Collections.emptyList());
+            // If the property is not loaded, it means it was not modified and further check is not needed
+            if (entityStates.isLoaded(entity, property.getName())) {
+                // Check whether the collection items still belong to the master entity, because they could be changed
+                // in the current transaction that did not affect the database yet
+                List<JmixEntity> belonging = new ArrayList<>(items.size());
+                for (JmixEntity item : items) {
+                    JmixEntity master = EntityValues.getValue(item, invPropName);
+                    if (entity.equals(master))
+                        belonging.add(item);
+                }
+                items = belonging;
+            }
+            result.put(id, items);
+        }
+        return result;
+    }
+
     protected Collection<JmixEntity> getCollection(MetaProperty property) {
         MetaProperty inverseProperty = property.getInverse();
         if (inverseProperty == null) {
@@ -373,6 +590,46 @@ public class DeletePolicyProcessor {
         return count > 0;
     }
 
+    protected boolean referenceExists(String entityName, MetaProperty property, List<Object> ids) {
+        String template = property.getRange().getCardinality().isMany() ?
+                "select count(e) from %s e join e.%s c where c." + primaryKeyName + " in :ids" :
+                "select count(e) from %s e where e.%s." + primaryKeyName + " in :ids";
+        String qstr = String.format(template, entityName, property.getName());
+        Query query = entityManager.createQuery(qstr);
+        query.setParameter("ids", ids);
+        query.setMaxResults(1);
+        Long count = (Long) query.getSingleResult();
+        return count > 0;
+    }
+
+    protected Collection<JmixEntity> getReferencingEntities(String entityName, MetaProperty property, List<Object> ids) {
+        String template = property.getRange().getCardinality().isMany() ?
+                "select e from %s e join e.%s c where c." + primaryKeyName + " in :ids" :
+                "select e from %s e where e.%s." + primaryKeyName + " in :ids";
+        String qstr = String.format(template, entityName, property.getName());
+        Query query = entityManager.createQuery(qstr);
+        query.setParameter("ids", ids);
+        @SuppressWarnings("unchecked")
+        List<JmixEntity> list = query.getResultList();
+        // an entity referencing several removed entities by a collection is returned several times
+        Set<JmixEntity> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        result.addAll(list);
+        return result;
+    }
+
+    protected List<Object> getIds(List<JmixEntity> entities) {
+        List<Object> ids = new ArrayList<>(entities.size());
+        for (JmixEntity entity : entities) {
+            ids.add(EntityValues.getId(entity));
+        }
+        return ids;
+    }
+
+    protected int getIdsBatchSize() {
+        Integer maxIdsBatchSize = dbmsSpecifics.getDbmsFeatures(metaClass.getStore().getName()).getMaxIdsBatchSize();
+        return maxIdsBatchSize != null ? maxIdsBatchSize : DEFAULT_IDS_BATCH_SIZE;
+    }
+
     protected boolean isPersistent(MetaClass metaClass) {
         return metaClass.getJavaClass().isAnnotationPresent(javax.persistence.Entity.class);
     }
@@ -418,4 +675,29 @@ public class DeletePolicyProcessor {
             }
         }
     }
+
+    protected void unlink(String entityName, MetaProperty property, List<JmixEntity> entities, List<Object> ids) {
+        if (metadataTools.isOwningSide(property)) {
+            Set<Object> idSet = new HashSet<>(ids);
+            for (JmixEntity e : getReferencingEntities(entityName, property, ids)) {
+                if (property.getRange().getCardinality().isMany()) {
+                    Collection<?> collection = EntityValues.getValue(e, property.getName());
+                    if (collection != null) {
+                        collection.removeIf(o -> o instanceof JmixEntity
+                                && metaClass.getJavaClass().isInstance(o)
+                                && idSet.contains(EntityValues.getId((JmixEntity) o)));
+                    }
+                } else {
+                    setReferenceNull(e, property);
+                }
+            }
+        } else {
+            MetaProperty inverseProp = property.getInverse();
+            if (inverseProp != null && inverseProp.getDomain().equals(metaClass)) {
+                for (JmixEntity entity : entities) {
+                    setReferenceNull(entity, inverseProp);
+                }
+            }
+        }
+    }
 }
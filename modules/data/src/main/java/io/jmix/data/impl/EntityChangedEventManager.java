@@ -55,6 +55,9 @@ public class EntityChangedEventManager {
     @Autowired
     private ExtendedEntities extendedEntities;
 
+    @Autowired
+    protected EntityChangedEventOutbox outbox;
+
     private static class PublishingInfo {
         final boolean publish;
         final boolean onCreated;
@@ -135,6 +138,9 @@ public class EntityChangedEventManager {
     }
 
     public void publish(Collection<EntityChangedEvent> events) {
+        if (outbox.isEnabled() && !events.isEmpty()) {
+            outbox.record(events);
+        }
         for (EntityChangedEvent event : events) {
             eventPublisher.publish(event);
         }
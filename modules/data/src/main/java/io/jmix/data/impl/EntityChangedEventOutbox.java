@@ -0,0 +1,371 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.impl;
+
+import io.jmix.core.Id;
+import io.jmix.core.Metadata;
+import io.jmix.core.MetadataTools;
+import io.jmix.core.Stores;
+import io.jmix.core.impl.StandardSerialization;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.data.DataProperties;
+import io.jmix.data.StoreAwareLocator;
+import io.jmix.data.event.AttributeChanges;
+import io.jmix.data.event.EntityChangedEvent;
+import io.jmix.data.listener.EntityChangedEventsListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.Nullable;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * INTERNAL.
+ * Transactional outbox of {@link EntityChangedEvent}s.
+ * <p>
+ * Events of the main data store entities are recorded in the {@link #TABLE_NAME} table in the saving transaction.
+ * After commit, and periodically to recover events recorded before a restart, a background thread delivers them to
+ * {@link EntityChangedEventsListener}s in batches ordered by recording time and deletes delivered records.
+ * If a listener throws an exception, the records are kept and delivered again on the next attempt, a record that
+ * has failed is delivered alone. After {@link DataProperties#getEntityChangedEventOutboxMaxRetries()} failed
+ * retries the record is logged and removed, so that it does not block delivery of subsequent events.
+ * <p>
+ * Ordering of events related to the same entity is guaranteed if the outbox is enabled on a single application
+ * instance working with the database.
+ */
+@Component(EntityChangedEventOutbox.NAME)
+public class EntityChangedEventOutbox {
+
+    public static final String NAME = "data_EntityChangedEventOutbox";
+
+    public static final String TABLE_NAME = "SYS_ENTITY_CHANGED_EVENT";
+
+    protected static final String INSERT_SQL = "insert into " + TABLE_NAME
+            + " (CREATE_TS, ENTITY_NAME, ENTITY_ID, EVENT_DATA) values (?, ?, ?, ?)";
+
+    protected static final String SELECT_SQL = "select ID, ENTITY_NAME, ENTITY_ID, EVENT_DATA, RETRY_COUNT from "
+            + TABLE_NAME + " order by ID";
+
+    protected static final String RETRY_SQL = "update " + TABLE_NAME + " set RETRY_COUNT = ? where ID = ?";
+
+    protected static final String DELETE_SQL = "delete from " + TABLE_NAME + " where ID = ?";
+
+    private static final Logger log = LoggerFactory.getLogger(EntityChangedEventOutbox.class);
+
+    @Autowired
+    protected DataProperties properties;
+
+    @Autowired
+    protected StoreAwareLocator storeAwareLocator;
+
+    @Autowired
+    protected Metadata metadata;
+
+    @Autowired
+    protected MetadataTools metadataTools;
+
+    @Autowired
+    protected StandardSerialization serialization;
+
+    @Autowired
+    protected ObjectProvider<EntityChangedEventsListener> listeners;
+
+    protected ScheduledExecutorService executor;
+
+    protected final AtomicBoolean dispatchRequested = new AtomicBoolean();
+
+    @PostConstruct
+    protected void init() {
+        if (isEnabled()) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "jmix-entity-changed-event-outbox");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = properties.getEntityChangedEventOutboxPollingInterval();
+            executor.scheduleWithFixedDelay(this::dispatchSafely, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEntityChangedEventOutboxEnabled();
+    }
+
+    /**
+     * Records events of the main data store entities in the current transaction and requests dispatching
+     * after commit. Events of entities located in other data stores are ignored.
+     */
+    public void record(Collection<EntityChangedEvent> events) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (EntityChangedEvent event : events) {
+            MetaClass metaClass = metadata.getClass(event.getEntityId().getEntityClass());
+            if (!Stores.isMain(metadataTools.getStoreName(metaClass))) {
+                continue;
+            }
+            rows.add(new Object[]{now, metaClass.getName(), String.valueOf(event.getEntityId().getValue()),
+                    serialize(event)});
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        storeAwareLocator.getJdbcTemplate(Stores.MAIN).batchUpdate(INSERT_SQL, rows);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    requestDispatch();
+                }
+            });
+        }
+    }
+
+    /**
+     * Schedules delivery of recorded events in the background thread.
+     */
+    public void requestDispatch() {
+        if (executor != null && dispatchRequested.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                dispatchRequested.set(false);
+                dispatchSafely();
+            });
+        }
+    }
+
+    /**
+     * Delivers recorded events to listeners in batches until the outbox is empty or a listener fails.
+     * If a listener fails, the retry counter of the batch records is incremented, and the records that exceed
+     * {@link DataProperties#getEntityChangedEventOutboxMaxRetries()} are logged and removed.
+     */
+    public synchronized void dispatch() {
+        List<EntityChangedEventsListener> listenerList = listeners.orderedStream().collect(Collectors.toList());
+        JdbcTemplate jdbcTemplate = storeAwareLocator.getJdbcTemplate(Stores.MAIN);
+        int batchSize = properties.getEntityChangedEventOutboxBatchSize();
+
+        while (true) {
+            List<OutboxRecord> records = new ArrayList<>(batchSize);
+            jdbcTemplate.query(
+                    connection -> {
+                        PreparedStatement statement = connection.prepareStatement(SELECT_SQL);
+                        statement.setMaxRows(batchSize);
+                        return statement;
+                    },
+                    resultSet -> {
+                        OutboxRecord record = new OutboxRecord(resultSet.getLong(1), resultSet.getString(2),
+                                resultSet.getString(3), resultSet.getString(4), resultSet.getInt(5));
+                        record.event = deserialize(record.id, record.eventData);
+                        records.add(record);
+                    });
+            if (records.isEmpty()) {
+                return;
+            }
+
+            List<OutboxRecord> batch = getNextBatch(records);
+            List<EntityChangedEvent> events = batch.stream()
+                    .map(record -> record.event)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            if (!events.isEmpty()) {
+                List<EntityChangedEvent> unmodifiableEvents = Collections.unmodifiableList(events);
+                try {
+                    for (EntityChangedEventsListener listener : listenerList) {
+                        listener.onEntityChanged(unmodifiableEvents);
+                    }
+                } catch (RuntimeException e) {
+                    registerFailure(jdbcTemplate, batch);
+                    throw e;
+                }
+            }
+
+            jdbcTemplate.batchUpdate(DELETE_SQL, batch.stream()
+                    .map(record -> new Object[]{record.id})
+                    .collect(Collectors.toList()));
+            log.debug("Dispatched {} entity changed events", events.size());
+
+            if (batch.size() == records.size() && records.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the leading records to deliver together. A record that has already failed is delivered alone,
+     * so that a failing event does not fail the other events of its batch again.
+     */
+    protected List<OutboxRecord> getNextBatch(List<OutboxRecord> records) {
+        if (records.get(0).retryCount > 0) {
+            return records.subList(0, 1);
+        }
+        for (int i = 1; i < records.size(); i++) {
+            if (records.get(i).retryCount > 0) {
+                return records.subList(0, i);
+            }
+        }
+        return records;
+    }
+
+    protected void registerFailure(JdbcTemplate jdbcTemplate, List<OutboxRecord> records) {
+        int maxRetries = properties.getEntityChangedEventOutboxMaxRetries();
+        List<Object[]> retried = new ArrayList<>(records.size());
+        List<Object[]> discarded = new ArrayList<>();
+        for (OutboxRecord record : records) {
+            int retryCount = record.retryCount + 1;
+            if (retryCount > maxRetries) {
+                log.error("Entity changed event {} of {} with id {} is not delivered after {} retries, " +
+                                "it will be discarded. Event data: {}",
+                        record.id, record.entityName, record.entityId, maxRetries, record.eventData);
+                discarded.add(new Object[]{record.id});
+            } else {
+                retried.add(new Object[]{retryCount, record.id});
+            }
+        }
+        if (!retried.isEmpty()) {
+            jdbcTemplate.batchUpdate(RETRY_SQL, retried);
+        }
+        if (!discarded.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, discarded);
+        }
+    }
+
+    protected void dispatchSafely() {
+        try {
+            dispatch();
+        } catch (Exception e) {
+            log.error("Error dispatching entity changed events, will retry in {} ms",
+                    properties.getEntityChangedEventOutboxPollingInterval(), e);
+        }
+    }
+
+    protected String serialize(EntityChangedEvent event) {
+        try {
+            return serialize(event, event.getChanges());
+        } catch (RuntimeException e) {
+            log.warn("Unable to serialize old values of {}, non-serializable values are recorded as strings: {}",
+                    event.getEntityId(), e.toString());
+            return serialize(event, toSerializableChanges(event.getChanges()));
+        }
+    }
+
+    protected String serialize(EntityChangedEvent event, AttributeChanges changes) {
+        Object[] data = new Object[]{
+                event.getEntityId(),
+                event.getType().name(),
+                changes,
+                getOriginalMetaClassName(event)
+        };
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        serialization.serialize(data, stream);
+        return Base64.getEncoder().encodeToString(stream.toByteArray());
+    }
+
+    /**
+     * Returns a copy of the changes where old values that cannot be serialized are replaced by their string
+     * representation. Attribute names and references ({@link Id}s) are kept as is.
+     */
+    protected AttributeChanges toSerializableChanges(AttributeChanges changes) {
+        Set<AttributeChanges.Change> serializableChanges = new HashSet<>();
+        Map<String, AttributeChanges> embeddedChanges = new HashMap<>();
+        for (String attribute : changes.getOwnAttributes()) {
+            Object oldValue = changes.getOldValue(attribute);
+            if (!isSerializable(oldValue)) {
+                oldValue = String.valueOf(oldValue);
+            }
+            serializableChanges.add(new AttributeChanges.Change(attribute, oldValue));
+        }
+        for (Map.Entry<String, AttributeChanges> entry : changes.getEmbeddedChanges().entrySet()) {
+            embeddedChanges.put(entry.getKey(), toSerializableChanges(entry.getValue()));
+        }
+        return new AttributeChanges(serializableChanges, embeddedChanges);
+    }
+
+    protected boolean isSerializable(@Nullable Object value) {
+        if (value == null) {
+            return true;
+        }
+        try {
+            serialization.serialize(value);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected EntityChangedEvent deserialize(long recordId, String value) {
+        try {
+            Object[] data = (Object[]) serialization.deserialize(
+                    new ByteArrayInputStream(Base64.getDecoder().decode(value)));
+            return new EntityChangedEvent(this,
+                    (Id) data[0],
+                    EntityChangedEvent.Type.valueOf((String) data[1]),
+                    (AttributeChanges) data[2],
+                    metadata.getClass((String) data[3]));
+        } catch (RuntimeException e) {
+            log.error("Unable to restore entity changed event {}, it will be discarded", recordId, e);
+            return null;
+        }
+    }
+
+    protected String getOriginalMetaClassName(EntityChangedEvent event) {
+        Class<?> originalClass = event.getResolvableType().getGeneric(0).resolve();
+        return metadata.getClass(originalClass != null ? originalClass : event.getEntityId().getEntityClass()).getName();
+    }
+
+    protected static class OutboxRecord {
+
+        protected final long id;
+        protected final String entityName;
+        protected final String entityId;
+        protected final String eventData;
+        protected final int retryCount;
+        protected EntityChangedEvent event;
+
+        protected OutboxRecord(long id, String entityName, String entityId, String eventData, int retryCount) {
+            this.id = id;
+            this.entityName = entityName;
+            this.entityId = entityId;
+            this.eventData = eventData;
+            this.retryCount = retryCount;
+        }
+    }
+}
@@ -25,6 +25,8 @@ import io.jmix.core.common.util.ReflectionHelper;
 import io.jmix.core.entity.EntityValues;
 import io.jmix.core.metamodel.datatype.impl.EnumClass;
 import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.monitoring.DataObservations;
+import io.jmix.core.monitoring.DataOperation;
 import io.jmix.data.EntityFetcher;
 import io.jmix.data.PersistenceHints;
 import io.jmix.data.impl.entitycache.QueryCacheManager;
@@ -35,6 +37,8 @@ import io.jmix.data.persistence.DbmsSpecifics;
 import org.eclipse.persistence.config.CascadePolicy;
 import org.eclipse.persistence.config.HintValues;
 import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.config.ResultSetConcurrency;
+import org.eclipse.persistence.config.ResultSetType;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.ConversionManager;
 import org.eclipse.persistence.internal.helper.CubaUtil;
@@ -42,6 +46,7 @@ import org.eclipse.persistence.internal.jpa.EJBQueryImpl;
 import org.eclipse.persistence.jpa.JpaQuery;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.ScrollableCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanFactory;
@@ -72,6 +77,7 @@ public class JmixQuery<E> implements TypedQuery<E> {
     protected EntityFetcher entityFetcher;
     protected LazyLoadingHelper lazyLoadingHelper;
     protected QueryCacheManager queryCacheMgr;
+    protected DataObservations dataObservations;
     protected QueryTransformerFactory queryTransformerFactory;
     protected QueryHintsProcessor hintsProcessor;
     protected DbmsSpecifics dbmsSpecifics;
@@ -109,6 +115,7 @@ public class JmixQuery<E> implements TypedQuery<E> {
         entityFetcher = (EntityFetcher) beanFactory.getBean(EntityFetcher.NAME);
         lazyLoadingHelper = (LazyLoadingHelper) beanFactory.getBean(LazyLoadingHelper.NAME);
         queryCacheMgr = (QueryCacheManager) beanFactory.getBean(QueryCacheManager.NAME);
+        dataObservations = (DataObservations) beanFactory.getBean(DataObservations.NAME);
         queryTransformerFactory = (QueryTransformerFactory) beanFactory.getBean(QueryTransformerFactory.NAME);
         hintsProcessor = (QueryHintsProcessor) beanFactory.getBean(QueryHintsProcessor.NAME);
         dbmsSpecifics = (DbmsSpecifics) beanFactory.getBean(DbmsSpecifics.NAME);
@@ -423,6 +430,50 @@ public class JmixQuery<E> implements TypedQuery<E> {
         }
     }
 
+    /**
+     * INTERNAL.
+     * Executes the query through a forward-only server-side cursor and passes results to the consumer by batches.
+     * The query cache is not used.
+     *
+     * @param batchSize     maximum number of instances passed to the consumer at once
+     * @param batchConsumer consumer of loaded instances, invoked while the cursor is open
+     */
+    public void scroll(int batchSize, Consumer<List<E>> batchConsumer) {
+        if (log.isDebugEnabled())
+            log.debug(queryString.replaceAll("[\\t\\n\\x0B\\f\\r]", " "));
+
+        singleResultExpected = false;
+
+        JpaQuery<E> jpaQuery = getQuery();
+        preExecute(jpaQuery);
+
+        jpaQuery.setHint(QueryHints.SCROLLABLE_CURSOR, HintValues.TRUE);
+        jpaQuery.setHint(QueryHints.RESULT_SET_TYPE, ResultSetType.ForwardOnly);
+        jpaQuery.setHint(QueryHints.RESULT_SET_CONCURRENCY, ResultSetConcurrency.ReadOnly);
+        jpaQuery.setHint(QueryHints.JDBC_FETCH_SIZE, batchSize);
+
+        ScrollableCursor cursor = (ScrollableCursor) jpaQuery.getSingleResult();
+        try {
+            while (cursor.hasNext()) {
+                @SuppressWarnings("unchecked")
+                List<E> batch = new ArrayList<>((List<E>) cursor.next(batchSize));
+                for (Object item : batch) {
+                    if (item instanceof JmixEntity) {
+                        for (FetchPlan fetchPlan : fetchPlans) {
+                            entityFetcher.fetch((JmixEntity) item, fetchPlan);
+                        }
+                        lazyLoadingHelper.replaceValueHolders((JmixEntity) item, fetchPlans);
+                    }
+                }
+                // release the instances kept by the cursor before reading the next batch
+                cursor.clear();
+                batchConsumer.accept(batch);
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+
     /**
      * INTERNAL
      */
@@ -736,6 +787,17 @@ public class JmixQuery<E> implements TypedQuery<E> {
         }
     }
 
+    private void observeQueryCache(String entityName, @Nullable Object result, boolean singleResult) {
+        String storeName = metadataTools.getStoreName(metadata.getClass(entityName));
+        if (result != null) {
+            dataObservations.begin(DataOperation.QUERY_CACHE_HIT, entityName, storeName)
+                    .end(singleResult ? 1 : ((List<?>) result).size());
+        } else {
+            dataObservations.begin(DataOperation.QUERY_CACHE_MISS, entityName, storeName)
+                    .end(-1);
+        }
+    }
+
     private Object getResultFromCache(JpaQuery jpaQuery, boolean singleResult, Consumer<Object> fetcher) {
         Preconditions.checkNotNull(fetcher);
         boolean useQueryCache = cacheable && !isNative && queryCacheMgr.isEnabled() && lockMode == null;
@@ -749,6 +811,9 @@ public class JmixQuery<E> implements TypedQuery<E> {
                 queryKey = QueryKey.create(transformedQueryString, PersistenceHints.isSoftDeletion(entityManager), singleResult, jpaQuery);
                 result = singleResult ? queryCacheMgr.getSingleResultFromCache(queryKey, fetchPlans) :
                         queryCacheMgr.getResultListFromCache(queryKey, fetchPlans);
+                if (dataObservations.isEnabled()) {
+                    observeQueryCache(entityName, result, singleResult);
+                }
                 if (result != null) {
                     return result;
                 }
@@ -52,6 +52,7 @@ public class JpqlQueryBuilder {
     protected Map<String, Object> queryParameters;
     protected Condition condition;
     protected Sort sort;
+    protected List<Object> keysetValues;
 
     protected String entityName;
     protected List<String> valueProperties;
@@ -121,6 +122,11 @@ public class JpqlQueryBuilder {
         return this;
     }
 
+    public JpqlQueryBuilder setKeysetValues(@Nullable List<Object> keysetValues) {
+        this.keysetValues = keysetValues;
+        return this;
+    }
+
     public JpqlQueryBuilder setPreviousResults(UUID sessionId, int queryKey) {
         this.previousResults = true;
         this.sessionId = sessionId;
@@ -189,10 +195,22 @@ public class JpqlQueryBuilder {
             }
         }
         applyFiltering();
+        applyKeyset();
         applySorting();
         restrictByPreviousResults();
     }
 
+    protected void applyKeyset() {
+        if (keysetValues != null && entityName != null) {
+            resultParameters = resultParameters == null ? new HashMap<>() : new HashMap<>(resultParameters);
+            resultQuery = sortJpqlGenerator.processKeysetQuery(entityName, resultQuery, sort, keysetValues, resultParameters);
+            if (sort == null || sort.getOrders().isEmpty()) {
+                // keyset requires a stable order
+                sort = Sort.by(getPrimaryKeyProperty().getName());
+            }
+        }
+    }
+
     protected void applySorting() {
         if (sort != null) {
             resultQuery = sortJpqlGenerator.processQuery(entityName, valueProperties, resultQuery, sort);
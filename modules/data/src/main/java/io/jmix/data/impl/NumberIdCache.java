@@ -23,6 +23,9 @@ import io.jmix.core.MetadataTools;
 import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.monitoring.DataObservation;
+import io.jmix.core.monitoring.DataObservations;
+import io.jmix.core.monitoring.DataOperation;
 import io.jmix.data.DataProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -48,6 +51,8 @@ public class NumberIdCache {
     protected NumberIdWorker numberIdWorker;
     @Autowired
     protected DataProperties dataProperties;
+    @Autowired
+    protected DataObservations dataObservations;
 
     protected ConcurrentMap<String, Generator> cache = new ConcurrentHashMap<>();
     @Autowired
@@ -57,13 +62,16 @@ public class NumberIdCache {
         protected long counter;
         protected long sequenceValue;
         protected String entityName;
+        protected String storeName;
         protected String sequenceName;
         protected boolean cached;
 
         public Generator(String entityName,
+                         @Nullable String storeName,
                          @Nullable String sequenceName,
                          boolean cached) {
             this.entityName = entityName;
+            this.storeName = storeName;
             this.sequenceName = sequenceName;
             this.cached = cached;
             if (useIdCache()) {
@@ -76,7 +84,14 @@ public class NumberIdCache {
         }
 
         protected void createCachedCounter() {
-            sequenceValue = numberIdWorker.createCachedLongId(entityName, sequenceName);
+            DataObservation observation = dataObservations.begin(DataOperation.ID_CACHE_REFILL, entityName, storeName);
+            try {
+                sequenceValue = numberIdWorker.createCachedLongId(entityName, sequenceName);
+            } catch (RuntimeException e) {
+                observation.fail(e);
+                throw e;
+            }
+            observation.end(dataProperties.getNumberIdCacheSize());
             counter = sequenceValue;
         }
 
@@ -121,7 +136,8 @@ public class NumberIdCache {
             sequenceName = null;
         }
 
-        Generator gen = cache.computeIfAbsent(getCacheKey(entityName, sequenceName), s -> new Generator(entityName, sequenceName, cached));
+        Generator gen = cache.computeIfAbsent(getCacheKey(entityName, sequenceName), s -> new Generator(entityName,
+                metaClass != null ? metadataTools.getStoreName(metaClass) : null, sequenceName, cached));
         return gen.getNext();
     }
 
@@ -17,11 +17,13 @@
 package io.jmix.data.impl;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import io.jmix.core.*;
 import io.jmix.core.common.util.Preconditions;
 import io.jmix.core.constraint.AccessConstraint;
 import io.jmix.core.entity.EntityEntrySoftDelete;
+import io.jmix.core.entity.EntityValues;
 import io.jmix.core.entity.KeyValueEntity;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
@@ -35,6 +37,7 @@ import io.jmix.data.impl.context.CrudEntityContext;
 import io.jmix.data.impl.context.InMemoryCrudEntityContext;
 import io.jmix.data.impl.context.LoadValuesAccessContext;
 import io.jmix.data.impl.context.ReadEntityQueryContext;
+import io.jmix.data.impl.entitycache.QueryCacheManager;
 import io.jmix.data.persistence.DbmsSpecifics;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.persistence.exceptions.QueryException;
@@ -49,6 +52,8 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.annotation.Nullable;
 import javax.persistence.EntityManager;
@@ -57,6 +62,7 @@ import javax.persistence.PersistenceException;
 import javax.persistence.Query;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -70,7 +76,7 @@ import static io.jmix.core.entity.EntityValues.getValue;
  */
 @Component(OrmDataStore.NAME)
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
-public class OrmDataStore implements DataStore {
+public class OrmDataStore implements ScrollableDataStore {
 
     public static final String NAME = "data_OrmDataStore";
 
@@ -136,6 +142,12 @@ public class OrmDataStore implements DataStore {
     @Autowired
     protected ObjectProvider<JpqlQueryBuilder> jpqlQueryBuilderProvider;
 
+    @Autowired
+    protected PersistenceSupport persistenceSupport;
+
+    @Autowired
+    protected QueryCacheManager queryCacheManager;
+
     protected String storeName;
 
     protected static final AtomicLong txCount = new AtomicLong();
@@ -153,15 +165,26 @@ public class OrmDataStore implements DataStore {
     @Nullable
     @Override
     public <E extends JmixEntity> E load(LoadContext<E> context) {
+        if (isReplicaLoad(context)) {
+            return storeAwareLocator.withReplica(storeName, () -> loadInternal(context));
+        }
+        if (isPrimaryLoad(context)) {
+            return storeAwareLocator.withPrimary(storeName, () -> loadInternal(context));
+        }
+        return loadInternal(context);
+    }
+
+    @Nullable
+    protected <E extends JmixEntity> E loadInternal(LoadContext<E> context) {
         if (log.isDebugEnabled()) {
             log.debug("load: store={}, metaClass={}, id={}, view={}", storeName, context.getEntityMetaClass(), context.getId(), context.getFetchPlan());
         }
 
         final MetaClass metaClass = getEffectiveMetaClassFromContext(context);
-        final Collection<AccessConstraint<?>> accessConstraints = context.getAccessConstraints();
+        AccessManager.ConstraintsCache constraintsCache = accessManager.constraintsCache(context.getAccessConstraints());
 
-        CrudEntityContext entityContext = new CrudEntityContext(metaClass);
-        accessManager.applyConstraints(entityContext, accessConstraints);
+        CrudEntityContext entityContext =
+                constraintsCache.getContext(CrudEntityContext.class, metaClass, CrudEntityContext::new);
 
         if (!entityContext.isReadPermitted()) {
             log.debug("reading of {} not permitted, returning null", metaClass);
@@ -195,8 +218,8 @@ public class OrmDataStore implements DataStore {
                 result = resultList.get(0);
             }
 
-            InMemoryCrudEntityContext inMemoryEntityContext = new InMemoryCrudEntityContext(metaClass);
-            accessManager.applyConstraints(inMemoryEntityContext, accessConstraints);
+            InMemoryCrudEntityContext inMemoryEntityContext =
+                    constraintsCache.getContext(InMemoryCrudEntityContext.class, metaClass, InMemoryCrudEntityContext::new);
 
             if (result != null && !inMemoryEntityContext.isReadPermitted(result)) {
                 //noinspection unchecked
@@ -205,9 +228,8 @@ public class OrmDataStore implements DataStore {
 
             if (result != null) {
                 referencesCollector = entityAttributesEraser.collectErasingReferences(result, entity -> {
-                    InMemoryCrudEntityContext childEntityContext =
-                            new InMemoryCrudEntityContext(metadata.getClass(entity.getClass()));
-                    accessManager.applyConstraints(childEntityContext, accessConstraints);
+                    InMemoryCrudEntityContext childEntityContext = constraintsCache.getContext(
+                            InMemoryCrudEntityContext.class, metadata.getClass(entity.getClass()), InMemoryCrudEntityContext::new);
                     return childEntityContext.isReadPermitted(entity);
                 });
                 fireLoadListeners(Collections.singletonList(result), context);
@@ -234,8 +256,18 @@ public class OrmDataStore implements DataStore {
 
 
     @Override
-    @SuppressWarnings("unchecked")
     public <E extends JmixEntity> List<E> loadList(LoadContext<E> context) {
+        if (isReplicaLoad(context)) {
+            return storeAwareLocator.withReplica(storeName, () -> loadListInternal(context));
+        }
+        if (isPrimaryLoad(context)) {
+            return storeAwareLocator.withPrimary(storeName, () -> loadListInternal(context));
+        }
+        return loadListInternal(context);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <E extends JmixEntity> List<E> loadListInternal(LoadContext<E> context) {
         if (log.isDebugEnabled())
             log.debug("loadList: store=" + storeName + ", metaClass=" + context.getEntityMetaClass() + ", view=" + context.getFetchPlan()
                     + (context.getPreviousQueries().isEmpty() ? "" : ", from selected")
@@ -244,11 +276,10 @@ public class OrmDataStore implements DataStore {
                     + (context.getQuery() == null || context.getQuery().getMaxResults() == 0 ? "" : ", max=" + context.getQuery().getMaxResults()));
 
         MetaClass metaClass = getEffectiveMetaClassFromContext(context);
-        final Collection<AccessConstraint<?>> accessConstraints = context.getAccessConstraints();
+        AccessManager.ConstraintsCache constraintsCache = accessManager.constraintsCache(context.getAccessConstraints());
 
-
-        CrudEntityContext entityContext = new CrudEntityContext(metaClass);
-        accessManager.applyConstraints(entityContext, accessConstraints);
+        CrudEntityContext entityContext =
+                constraintsCache.getContext(CrudEntityContext.class, metaClass, CrudEntityContext::new);
 
         if (!entityContext.isReadPermitted()) {
             log.debug("reading of {} not permitted, returning empty list", metaClass);
@@ -265,19 +296,11 @@ public class OrmDataStore implements DataStore {
             EntityManager em = storeAwareLocator.getEntityManager(storeName);
             em.setProperty(PersistenceHints.SOFT_DELETION, context.isSoftDeletion());
 
-            boolean ensureDistinct = false;
-            if (properties.isInMemoryDistinct() && context.getQuery() != null) {
-                QueryTransformer transformer = queryTransformerFactory.transformer(
-                        context.getQuery().getQueryString());
-                ensureDistinct = transformer.removeDistinct();
-                if (ensureDistinct) {
-                    context.getQuery().setQueryString(transformer.getResult());
-                }
-            }
+            boolean ensureDistinct = removeDistinctForInMemory(context);
             FetchPlan fetchPlan = createFetchPlan(context);
 
-            InMemoryCrudEntityContext inMemoryEntityContext = new InMemoryCrudEntityContext(metaClass);
-            accessManager.applyConstraints(inMemoryEntityContext, accessConstraints);
+            InMemoryCrudEntityContext inMemoryEntityContext =
+                    constraintsCache.getContext(InMemoryCrudEntityContext.class, metaClass, InMemoryCrudEntityContext::new);
 
             List<E> entities;
 
@@ -299,9 +322,8 @@ public class OrmDataStore implements DataStore {
 
             if (!resultList.isEmpty()) {
                 referencesCollector = entityAttributesEraser.collectErasingReferences(resultList, entity -> {
-                    InMemoryCrudEntityContext childEntityContext =
-                            new InMemoryCrudEntityContext(metadata.getClass(entity.getClass()));
-                    accessManager.applyConstraints(childEntityContext, accessConstraints);
+                    InMemoryCrudEntityContext childEntityContext = constraintsCache.getContext(
+                            InMemoryCrudEntityContext.class, metadata.getClass(entity.getClass()), InMemoryCrudEntityContext::new);
                     return childEntityContext.isReadPermitted(entity);
                 });
                 fireLoadListeners((List<JmixEntity>) resultList, context);
@@ -329,6 +351,115 @@ public class OrmDataStore implements DataStore {
         return resultList;
     }
 
+    /**
+     * Removes {@code distinct} from the query if {@link DataProperties#isInMemoryDistinct()} is true.
+     *
+     * @return true if distinct has been removed and must be ensured in memory
+     */
+    protected boolean removeDistinctForInMemory(LoadContext<?> context) {
+        if (!properties.isInMemoryDistinct() || context.getQuery() == null) {
+            return false;
+        }
+        QueryTransformer transformer = queryTransformerFactory.transformer(context.getQuery().getQueryString());
+        boolean removed = transformer.removeDistinct();
+        if (removed) {
+            context.getQuery().setQueryString(transformer.getResult());
+        }
+        return removed;
+    }
+
+    /**
+     * Loads instances through a scrollable cursor in a separate read transaction. Each batch is filtered
+     * by in-memory constraints, detached and removed from the persistence context before passing to the consumer.
+     * The read transaction is suspended while the consumer is invoked.
+     * <p>
+     * If distinct is ensured in memory, identifiers of all passed instances are kept to skip duplicates
+     * in subsequent batches. Loading by identifiers falls back to {@link #loadList(LoadContext)}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E extends JmixEntity> void loadByBatches(LoadContext<E> context, int batchSize, Consumer<List<E>> batchConsumer) {
+        if (log.isDebugEnabled())
+            log.debug("loadByBatches: store=" + storeName + ", metaClass=" + context.getEntityMetaClass() + ", view=" + context.getFetchPlan()
+                    + ", query=" + context.getQuery() + ", batchSize=" + batchSize);
+
+        if (context.getQuery() == null || !context.getIds().isEmpty()) {
+            List<E> entities = loadList(context);
+            for (List<E> batch : Lists.partition(entities, batchSize)) {
+                batchConsumer.accept(batch);
+            }
+            return;
+        }
+
+        MetaClass metaClass = getEffectiveMetaClassFromContext(context);
+        AccessManager.ConstraintsCache constraintsCache = accessManager.constraintsCache(context.getAccessConstraints());
+
+        CrudEntityContext entityContext =
+                constraintsCache.getContext(CrudEntityContext.class, metaClass, CrudEntityContext::new);
+
+        if (!entityContext.isReadPermitted()) {
+            log.debug("reading of {} not permitted, nothing to load", metaClass);
+            return;
+        }
+
+        queryResultsManager.savePreviousQueryResults(context);
+
+        // the persistence context is cleared after each batch, so the caller's transaction must not be joined
+        TransactionStatus txStatus = beginLoadTransaction(false);
+        try {
+            EntityManager em = storeAwareLocator.getEntityManager(storeName);
+            em.setProperty(PersistenceHints.SOFT_DELETION, context.isSoftDeletion());
+
+            Set<Object> passedIds = removeDistinctForInMemory(context) ? new HashSet<>() : null;
+            FetchPlan fetchPlan = createFetchPlan(context);
+
+            InMemoryCrudEntityContext inMemoryEntityContext =
+                    constraintsCache.getContext(InMemoryCrudEntityContext.class, metaClass, InMemoryCrudEntityContext::new);
+            Predicate<JmixEntity> readPredicate = inMemoryEntityContext.readPredicate();
+
+            Query query = createQuery(em, context, false, false);
+            query.setHint(PersistenceHints.FETCH_PLAN, fetchPlan);
+
+            query.unwrap(JmixQuery.class).scroll(batchSize, loaded -> {
+                List<E> batch = (List<E>) loaded;
+                if (readPredicate != null || passedIds != null) {
+                    batch = batch.stream()
+                            .filter(entity -> readPredicate == null || readPredicate.test(entity))
+                            .filter(entity -> passedIds == null || passedIds.add(EntityValues.getId(entity)))
+                            .collect(Collectors.toList());
+                }
+
+                EntityAttributesEraser.ReferencesCollector referencesCollector = null;
+                if (!batch.isEmpty()) {
+                    referencesCollector = entityAttributesEraser.collectErasingReferences(batch, entity -> {
+                        InMemoryCrudEntityContext childEntityContext = constraintsCache.getContext(
+                                InMemoryCrudEntityContext.class, metadata.getClass(entity.getClass()), InMemoryCrudEntityContext::new);
+                        return childEntityContext.isReadPermitted(entity);
+                    });
+                    fireLoadListeners((List<JmixEntity>) batch, context);
+                }
+
+                em.flush();
+                for (E entity : batch) {
+                    detachEntity(em, entity, fetchPlan);
+                }
+                em.clear();
+
+                if (referencesCollector != null) {
+                    entityAttributesEraser.eraseReferences(referencesCollector);
+                }
+                if (!batch.isEmpty()) {
+                    runWithSuspendedTransaction(() -> batchConsumer.accept(batch));
+                }
+            });
+        } catch (RuntimeException e) {
+            rollbackTransaction(txStatus);
+            throw e;
+        }
+
+        commitTransaction(txStatus);
+    }
+
     protected <E extends JmixEntity> MetaClass getEffectiveMetaClassFromContext(LoadContext<E> context) {
         return extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
     }
@@ -400,16 +531,26 @@ public class OrmDataStore implements DataStore {
 
     @Override
     public long getCount(LoadContext<? extends JmixEntity> context) {
+        if (isReplicaLoad(context)) {
+            return storeAwareLocator.withReplica(storeName, () -> getCountInternal(context));
+        }
+        if (isPrimaryLoad(context)) {
+            return storeAwareLocator.withPrimary(storeName, () -> getCountInternal(context));
+        }
+        return getCountInternal(context);
+    }
+
+    protected long getCountInternal(LoadContext<? extends JmixEntity> context) {
         if (log.isDebugEnabled())
             log.debug("getCount: store=" + storeName + ", metaClass=" + context.getEntityMetaClass()
                     + (context.getPreviousQueries().isEmpty() ? "" : ", from selected")
                     + ", query=" + context.getQuery());
 
         MetaClass metaClass = getEffectiveMetaClassFromContext(context);
-        Collection<AccessConstraint<?>> accessConstraints = context.getAccessConstraints();
+        AccessManager.ConstraintsCache constraintsCache = accessManager.constraintsCache(context.getAccessConstraints());
 
-        CrudEntityContext entityContext = new CrudEntityContext(metaClass);
-        accessManager.applyConstraints(entityContext, accessConstraints);
+        CrudEntityContext entityContext =
+                constraintsCache.getContext(CrudEntityContext.class, metaClass, CrudEntityContext::new);
 
         if (!entityContext.isReadPermitted()) {
             log.debug("reading of {} not permitted, returning 0", metaClass);
@@ -426,8 +567,8 @@ public class OrmDataStore implements DataStore {
             context.getQuery().setQueryString("select e from " + metaClass.getName() + " e");
         }
 
-        InMemoryCrudEntityContext inMemoryEntityContext = new InMemoryCrudEntityContext(metaClass);
-        accessManager.applyConstraints(inMemoryEntityContext, accessConstraints);
+        InMemoryCrudEntityContext inMemoryEntityContext =
+                constraintsCache.getContext(InMemoryCrudEntityContext.class, metaClass, InMemoryCrudEntityContext::new);
 
         Predicate<JmixEntity> filteringPredicate = inMemoryEntityContext.readPredicate();
 
@@ -438,15 +579,7 @@ public class OrmDataStore implements DataStore {
                 EntityManager em = storeAwareLocator.getEntityManager(storeName);
                 em.setProperty(PersistenceHints.SOFT_DELETION, context.isSoftDeletion());
 
-                boolean ensureDistinct = false;
-                if (properties.isInMemoryDistinct() && context.getQuery() != null) {
-                    QueryTransformer transformer = queryTransformerFactory.transformer(
-                            context.getQuery().getQueryString());
-                    ensureDistinct = transformer.removeDistinct();
-                    if (ensureDistinct) {
-                        context.getQuery().setQueryString(transformer.getResult());
-                    }
-                }
+                boolean ensureDistinct = removeDistinctForInMemory(context);
                 context.getQuery().setFirstResult(0);
                 context.getQuery().setMaxResults(0);
 
@@ -487,9 +620,20 @@ public class OrmDataStore implements DataStore {
 
     @Override
     public Set<JmixEntity> save(SaveContext context) {
+        if (storeAwareLocator.isReplicaUsed(storeName)) {
+            return storeAwareLocator.withPrimary(storeName, () -> save(context));
+        }
+
         log.debug("save: store={}, entitiesToSave={}, entitiesToRemove={}", storeName, context.getEntitiesToSave(), context.getEntitiesToRemove());
 
         Collection<AccessConstraint<?>> accessConstraints = context.getAccessConstraints();
+        AccessManager.ConstraintsCache constraintsCache = accessManager.constraintsCache(accessConstraints);
+
+        if (context.isBulkInsert()) {
+            Set<JmixEntity> result = bulkInsert(context, constraintsCache);
+            registerWrite(context);
+            return result;
+        }
 
         Set<JmixEntity> saved = new HashSet<>();
         List<JmixEntity> persisted = new ArrayList<>();
@@ -503,7 +647,7 @@ public class OrmDataStore implements DataStore {
             try {
                 EntityManager em = storeAwareLocator.getEntityManager(storeName);
 
-                checkCRUDConstraints(context);
+                checkCRUDConstraints(context, constraintsCache);
 
                 if (!context.isSoftDeletion())
                     em.setProperty(PersistenceHints.SOFT_DELETION, false);
@@ -517,8 +661,8 @@ public class OrmDataStore implements DataStore {
                         saved.add(entity);
                         persisted.add(entity);
 
-                        InMemoryCrudEntityContext crudContext = new InMemoryCrudEntityContext(metaClass);
-                        accessManager.applyConstraints(new InMemoryCrudEntityContext(metaClass), accessConstraints);
+                        InMemoryCrudEntityContext crudContext =
+                                constraintsCache.getContext(InMemoryCrudEntityContext.class, metaClass, InMemoryCrudEntityContext::new);
 
                         if (!crudContext.isCreatePermitted(entity)) {
                             throw new RowLevelSecurityException(String.format("Create is not permitted for entity %s", entity),
@@ -545,8 +689,8 @@ public class OrmDataStore implements DataStore {
 
                         entityFetcher.fetch(merged, getFetchPlanFromContext(context, entity));
 
-                        InMemoryCrudEntityContext crudContext = new InMemoryCrudEntityContext(metaClass);
-                        accessManager.applyConstraints(new InMemoryCrudEntityContext(metaClass), accessConstraints);
+                        InMemoryCrudEntityContext crudContext =
+                                constraintsCache.getContext(InMemoryCrudEntityContext.class, metaClass, InMemoryCrudEntityContext::new);
 
                         if (!crudContext.isUpdatePermitted(entity)) {
                             throw new RowLevelSecurityException(String.format("Update is not permitted for entity %s", entity),
@@ -571,8 +715,8 @@ public class OrmDataStore implements DataStore {
                         e = em.merge(entity);
                     }
 
-                    InMemoryCrudEntityContext crudContext = new InMemoryCrudEntityContext(metaClass);
-                    accessManager.applyConstraints(new InMemoryCrudEntityContext(metaClass), accessConstraints);
+                    InMemoryCrudEntityContext crudContext =
+                            constraintsCache.getContext(InMemoryCrudEntityContext.class, metaClass, InMemoryCrudEntityContext::new);
 
                     if (!crudContext.isDeletePermitted(entity)) {
                         throw new RowLevelSecurityException(String.format("Delete is not permitted for entity %s", entity),
@@ -606,8 +750,8 @@ public class OrmDataStore implements DataStore {
 
                 if (!context.isDiscardSaved()) {
                     referencesCollector = entityAttributesEraser.collectErasingReferences(saved, e -> {
-                        InMemoryCrudEntityContext childEntityContext = new InMemoryCrudEntityContext(metadata.getClass(e.getClass()));
-                        accessManager.applyConstraints(childEntityContext, accessConstraints);
+                        InMemoryCrudEntityContext childEntityContext = constraintsCache.getContext(
+                                InMemoryCrudEntityContext.class, metadata.getClass(e.getClass()), InMemoryCrudEntityContext::new);
                         return childEntityContext.isReadPermitted(e);
                     });
                 }
@@ -633,6 +777,8 @@ public class OrmDataStore implements DataStore {
             handleCascadePersistException(e);
         }
 
+        registerWrite(context);
+
         // todo dynamic attributes
 //        if (!attributeValuesToRemove.isEmpty()) {
 //            try (Transaction tx = getSaveTransaction(Stores.MAIN, context.isJoinTransaction())) {
@@ -671,6 +817,92 @@ public class OrmDataStore implements DataStore {
         return context.isDiscardSaved() ? Collections.emptySet() : resultEntities;
     }
 
+    /**
+     * Persists new instances of a single entity by chunks of {@link DataProperties#getBulkInsertBatchSize()}.
+     * Each chunk is flushed and detached immediately, so the persistence context does not grow and EclipseLink
+     * can group the inserts of a chunk into JDBC batches. {@code EntityChangedEvent}s are published for each chunk.
+     */
+    protected Set<JmixEntity> bulkInsert(SaveContext context, AccessManager.ConstraintsCache constraintsCache) {
+        MetaClass metaClass = getBulkInsertMetaClass(context);
+        if (metaClass == null) {
+            return Collections.emptySet();
+        }
+
+        try {
+            TransactionStatus txStatus = beginSaveTransaction(context.isJoinTransaction());
+            try {
+                EntityManager em = storeAwareLocator.getEntityManager(storeName);
+
+                checkCRUDConstraints(context, constraintsCache);
+
+                if (!context.isSoftDeletion())
+                    em.setProperty(PersistenceHints.SOFT_DELETION, false);
+
+                InMemoryCrudEntityContext crudContext =
+                        constraintsCache.getContext(InMemoryCrudEntityContext.class, metaClass, InMemoryCrudEntityContext::new);
+
+                Collection<JmixEntity> savedInstances = persistenceSupport.getSavedInstances(storeName);
+
+                for (List<JmixEntity> chunk : Iterables.partition(context.getEntitiesToSave(), properties.getBulkInsertBatchSize())) {
+                    for (JmixEntity entity : chunk) {
+                        em.persist(entity);
+
+                        if (!crudContext.isCreatePermitted(entity)) {
+                            throw new RowLevelSecurityException(String.format("Create is not permitted for entity %s", entity),
+                                    metaClass.getName(), EntityOp.CREATE);
+                        }
+                    }
+
+                    fireSaveListeners(chunk, context);
+
+                    List<EntityChangedEvent> events = entityChangedEventManager.collect(chunk);
+                    em.flush();
+                    for (JmixEntity entity : chunk) {
+                        em.detach(entity);
+                    }
+                    // saved instances is an identity set, AbstractSet.removeAll() can iterate over the chunk list
+                    chunk.forEach(savedInstances::remove);
+                    entityChangedEventManager.publish(events);
+                }
+
+                // detached instances are not processed before commit, so invalidate the query cache here
+                queryCacheManager.invalidate(metaClass.getName(), true);
+
+            } catch (RuntimeException e) {
+                rollbackTransaction(txStatus);
+                throw e;
+            }
+            commitTransaction(txStatus);
+
+        } catch (IllegalStateException e) {
+            handleCascadePersistException(e);
+        }
+
+        return context.isDiscardSaved() ? Collections.emptySet() : new LinkedHashSet<>(context.getEntitiesToSave());
+    }
+
+    @Nullable
+    protected MetaClass getBulkInsertMetaClass(SaveContext context) {
+        if (!context.getEntitiesToRemove().isEmpty()) {
+            throw new IllegalArgumentException("Removing entities is not supported in the bulk insert mode");
+        }
+        MetaClass metaClass = null;
+        for (JmixEntity entity : context.getEntitiesToSave()) {
+            if (!entityStates.isNew(entity)) {
+                throw new IllegalArgumentException("Only new entities can be saved in the bulk insert mode: " + entity);
+            }
+            MetaClass entityMetaClass = metadata.getClass(entity.getClass());
+            if (metaClass == null) {
+                metaClass = entityMetaClass;
+            } else if (!metaClass.equals(entityMetaClass)) {
+                throw new IllegalArgumentException(String.format(
+                        "Instances of a single entity can be saved in the bulk insert mode, found %s and %s",
+                        metaClass.getName(), entityMetaClass.getName()));
+            }
+        }
+        return metaClass;
+    }
+
     protected void reloadIfUnfetched(Set<JmixEntity> resultEntities, SaveContext context) {
         if (context.getFetchPlans().isEmpty())
             return;
@@ -822,7 +1054,8 @@ public class OrmDataStore implements DataStore {
                     .setCondition(contextQuery.getCondition())
                     .setQueryParameters(contextQuery.getParameters());
             if (!countQuery) {
-                queryBuilder.setSort(contextQuery.getSort());
+                queryBuilder.setSort(contextQuery.getSort())
+                        .setKeysetValues(contextQuery.getKeysetValues());
             }
         }
 
@@ -984,24 +1217,19 @@ public class OrmDataStore implements DataStore {
         return list;
     }
 
-    protected void checkCRUDConstraints(SaveContext context) {
+    protected void checkCRUDConstraints(SaveContext context, AccessManager.ConstraintsCache constraintsCache) {
         if (context.getAccessConstraints().isEmpty()) {
             return;
         }
 
-        Map<MetaClass, CrudEntityContext> accessCache = new HashMap<>();
-
         for (JmixEntity entity : context.getEntitiesToSave()) {
             if (entity == null)
                 continue;
 
             MetaClass metaClass = metadata.getClass(entity);
 
-            CrudEntityContext entityContext = accessCache.computeIfAbsent(metaClass, key -> {
-                CrudEntityContext newEntityContext = new CrudEntityContext(key);
-                accessManager.applyConstraints(newEntityContext, context.getAccessConstraints());
-                return newEntityContext;
-            });
+            CrudEntityContext entityContext =
+                    constraintsCache.getContext(CrudEntityContext.class, metaClass, CrudEntityContext::new);
 
             if (entityStates.isNew(entity)) {
                 if (!entityContext.isCreatePermitted()) {
@@ -1018,11 +1246,8 @@ public class OrmDataStore implements DataStore {
 
             MetaClass metaClass = metadata.getClass(entity);
 
-            CrudEntityContext entityContext = accessCache.computeIfAbsent(metaClass, key -> {
-                CrudEntityContext newEntityContext = new CrudEntityContext(key);
-                accessManager.applyConstraints(newEntityContext, context.getAccessConstraints());
-                return newEntityContext;
-            });
+            CrudEntityContext entityContext =
+                    constraintsCache.getContext(CrudEntityContext.class, metaClass, CrudEntityContext::new);
 
             if (!entityContext.isDeletePermitted()) {
                 throw new AccessDeniedException(PermissionType.ENTITY_OP, EntityOp.DELETE, metaClass.getName());
@@ -1072,7 +1297,7 @@ public class OrmDataStore implements DataStore {
         DefaultTransactionDefinition def = new DefaultTransactionDefinition();
         def.setName(LOAD_TX_PREFIX + txCount.incrementAndGet());
 
-        if (properties.isUseReadOnlyTransactionForLoad()) {
+        if (properties.isUseReadOnlyTransactionForLoad() || storeAwareLocator.isReplicaUsed(storeName)) {
             def.setReadOnly(true);
         }
         if (joinTransaction) {
@@ -1094,6 +1319,78 @@ public class OrmDataStore implements DataStore {
         txManager.rollback(txStatus);
     }
 
+    protected void runWithSuspendedTransaction(Runnable runnable) {
+        DefaultTransactionDefinition def = new DefaultTransactionDefinition();
+        def.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        PlatformTransactionManager txManager = storeAwareLocator.getTransactionManager(storeName);
+        TransactionStatus txStatus = txManager.getTransaction(def);
+        try {
+            runnable.run();
+        } catch (RuntimeException e) {
+            txManager.rollback(txStatus);
+            throw e;
+        }
+        txManager.commit(txStatus);
+    }
+
+    /**
+     * Loading is routed to the read replica of the store if it is requested by the {@link PersistenceHints#READ_REPLICA}
+     * hint. Loading inside a read-write transaction and loading of entities saved recently (see
+     * {@link DataProperties#getReadReplicaLagFallbackInterval()}) use the primary database. Inside a read-only
+     * transaction of the primary database, the replica is loaded in its own transaction, so the loaded entities are
+     * not managed by the caller's transaction.
+     * <p>
+     * A read-only transaction begun by {@link StoreAwareLocator#getTransactionManager(String, TransactionDefinition)}
+     * runs on the replica, so loading inside it joins the transaction without the hint, see
+     * {@link #isPrimaryLoad(LoadContext)}.
+     */
+    protected boolean isReplicaLoad(LoadContext<? extends JmixEntity> context) {
+        if (!Boolean.TRUE.equals(context.getHints().get(PersistenceHints.READ_REPLICA))
+                || storeAwareLocator.isReplicaUsed(storeName)
+                || !storeAwareLocator.hasReplica(storeName)) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        return !storeAwareLocator.isReplicaLagging(storeName, getEffectiveMetaClassFromContext(context).getName());
+    }
+
+    /**
+     * When the replica is used, e.g. in a read-only transaction of the replica, loading is routed to the primary
+     * database in its own transaction if the {@link PersistenceHints#READ_REPLICA} hint is false or the entities
+     * were saved recently.
+     */
+    protected boolean isPrimaryLoad(LoadContext<? extends JmixEntity> context) {
+        if (!storeAwareLocator.isReplicaUsed(storeName)) {
+            return false;
+        }
+        return Boolean.FALSE.equals(context.getHints().get(PersistenceHints.READ_REPLICA))
+                || storeAwareLocator.isReplicaLagging(storeName, getEffectiveMetaClassFromContext(context).getName());
+    }
+
+    /**
+     * Records the write when the saved data becomes visible. If the save transaction has joined an outer one,
+     * the data is committed with the outer transaction, so the write is recorded again after its commit.
+     */
+    protected void registerWrite(SaveContext context) {
+        Set<String> entityNames = new HashSet<>();
+        for (JmixEntity entity : Iterables.concat(context.getEntitiesToSave(), context.getEntitiesToRemove())) {
+            entityNames.add(metadata.getClass(entity).getName());
+        }
+        storeAwareLocator.registerWrite(storeName, entityNames);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    storeAwareLocator.registerWrite(storeName, entityNames);
+                }
+            });
+        }
+    }
+
     protected TransactionStatus beginSaveTransaction(boolean joinTransaction) {
         DefaultTransactionDefinition def = new DefaultTransactionDefinition();
         def.setName(SAVE_TX_PREFIX + txCount.incrementAndGet());
@@ -255,6 +255,7 @@ public class PersistenceSupport implements ApplicationContextAware {
             }
             possiblyChanged = result || possiblyChanged;
         }
+        visitor.afterVisit();
         if (!possiblyChanged)
             return;
 
@@ -338,6 +339,12 @@ public class PersistenceSupport implements ApplicationContextAware {
 
     public interface EntityVisitor {
         boolean visit(JmixEntity entity);
+
+        /**
+         * Invoked after all instances of a traversal pass are visited.
+         */
+        default void afterVisit() {
+        }
     }
 
     public static class ContainerResourceHolder extends ResourceHolderSupport {
@@ -555,6 +562,8 @@ public class PersistenceSupport implements ApplicationContextAware {
 
     protected class OnSaveEntityVisitor implements EntityVisitor {
 
+        protected List<JmixEntity> deletedEntities = new ArrayList<>();
+
         private String storeName;
 
         public OnSaveEntityVisitor(String storeName) {
@@ -587,7 +596,7 @@ public class PersistenceSupport implements ApplicationContextAware {
                 fireEntityChange(entity, EntityChangeType.DELETE, null);
 
                 if (entity.__getEntityEntry() instanceof EntityEntrySoftDelete)
-                    processDeletePolicy(entity);
+                    deletedEntities.add(entity);
 
                 // todo fts
 //                enqueueForFts(entity, FtsChangeType.DELETE);
@@ -646,11 +655,25 @@ public class PersistenceSupport implements ApplicationContextAware {
 //            }
 //        }
 
+        @Override
+        public void afterVisit() {
+            if (!deletedEntities.isEmpty()) {
+                List<JmixEntity> entities = new ArrayList<>(deletedEntities);
+                deletedEntities.clear();
+                processDeletePolicy(entities);
+            }
+        }
+
         protected void processDeletePolicy(JmixEntity entity) {
             DeletePolicyProcessor processor = deletePolicyProcessorProvider.getObject(); // prototype
             processor.setEntity(entity);
             processor.process();
         }
+
+        protected void processDeletePolicy(Collection<JmixEntity> entities) {
+            DeletePolicyProcessor processor = deletePolicyProcessorProvider.getObject(); // prototype
+            processor.process(entities);
+        }
     }
 
     private static class RunnerResourceHolder extends ResourceHolderSupport {
@@ -83,6 +83,91 @@ public class SortJpqlGenerator {
         return transformQuery(queryString, sortExpressions, asc);
     }
 
+    /**
+     * Adds a condition selecting entities which follow the entity with the given keyset values in the order
+     * defined by the sort.
+     *
+     * @param entityName   name of the loaded entity
+     * @param queryString  query to modify
+     * @param sort         sort of the query, can be null if entities are ordered by identifier only
+     * @param keysetValues values of the sort properties followed by the identifier
+     * @param parameters   map to which the condition parameters are added
+     * @return modified query
+     */
+    public String processKeysetQuery(String entityName, String queryString, @Nullable Sort sort,
+                                     List<Object> keysetValues, Map<String, Object> parameters) {
+        MetaClass metaClass = metadata.getClass(entityName);
+        if (metadataTools.hasCompositePrimaryKey(metaClass)) {
+            throw new UnsupportedOperationException("Keyset pagination is not supported for entities with composite primary key");
+        }
+        String pkName = metadataTools.getPrimaryKeyName(metaClass);
+        if (pkName == null) {
+            throw new UnsupportedOperationException("Keyset pagination is not supported for entities without primary key");
+        }
+
+        List<Sort.Order> orders = sort == null ? Collections.emptyList() : sort.getOrders();
+        if (keysetValues.size() != orders.size() + 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Keyset must contain values of %d sort properties and identifier, but contains %d values",
+                    orders.size(), keysetValues.size()));
+        }
+        boolean asc = orders.isEmpty() || orders.get(0).getDirection() == Sort.Direction.ASC;
+
+        List<String> expressions = new ArrayList<>(orders.size() + 1);
+        for (Sort.Order order : orders) {
+            if ((order.getDirection() == Sort.Direction.ASC) != asc) {
+                throw new UnsupportedOperationException("Sorting by multiple properties in different directions is not supported");
+            }
+            MetaPropertyPath metaPropertyPath = metaClass.getPropertyPath(order.getProperty());
+            checkNotNullArgument(metaPropertyPath, "Could not resolve property path '%s' in '%s'", order.getProperty(), metaClass);
+            MetaProperty metaProperty = metaPropertyPath.getMetaProperty();
+            if (!metadataTools.isPersistent(metaPropertyPath) || metaProperty.getRange().isClass() || metadataTools.isLob(metaProperty)) {
+                throw new UnsupportedOperationException(String.format(
+                        "Keyset pagination is supported only for sorting by persistent non-LOB properties of simple types, " +
+                                "but '%s' is used", order.getProperty()));
+            }
+            expressions.add(getDatatypePropertySortExpression(metaPropertyPath, asc));
+        }
+        if (!expressions.isEmpty() && expressions.contains(String.format("{E}.%s", pkName))) {
+            // identifier is already a sort property, so the extra value is not needed to break ties
+            expressions.add(null);
+        } else {
+            expressions.add(String.format("{E}.%s", pkName));
+        }
+
+        // (p1 > :v1) or (p1 = :v1 and p2 > :v2) or ... for ascending order
+        String operator = asc ? ">" : "<";
+        List<String> disjuncts = new ArrayList<>(expressions.size());
+        for (int i = 0; i < expressions.size(); i++) {
+            if (expressions.get(i) == null) {
+                continue;
+            }
+            Object value = keysetValues.get(i);
+            if (value == null) {
+                throw new IllegalArgumentException(String.format(
+                        "Keyset value of '%s' is null, keyset pagination requires non-null sort property values",
+                        i < orders.size() ? orders.get(i).getProperty() : pkName));
+            }
+            StringBuilder sb = new StringBuilder("(");
+            for (int j = 0; j < i; j++) {
+                if (expressions.get(j) != null) {
+                    sb.append(expressions.get(j)).append(" = :").append(keysetParamName(j)).append(" and ");
+                }
+            }
+            sb.append(expressions.get(i)).append(" ").append(operator).append(" :").append(keysetParamName(i)).append(")");
+            disjuncts.add(sb.toString());
+            parameters.put(keysetParamName(i), value);
+        }
+
+        QueryTransformer transformer = queryTransformerFactory.transformer(queryString);
+        transformer.addWhere("(" + String.join(" or ", disjuncts) + ")");
+        return transformer.getResult();
+    }
+
+    protected String keysetParamName(int index) {
+        return "_keyset" + index;
+    }
+
     protected List<String> getUniqueSortExpression(List<String> sortExpressions, MetaClass metaClass, boolean asc) {
         String pkName = metadataTools.getPrimaryKeyName(metaClass);
 
@@ -16,6 +16,7 @@
 
 package io.jmix.data.impl.entitycache;
 
+import com.google.common.cache.CacheStats;
 
 import java.util.Map;
 import java.util.Set;
@@ -85,4 +86,9 @@ public interface QueryCache {
      * the map doesn't affect the cache.
      */
     Map<QueryKey, QueryResult> asMap();
+
+    /**
+     * Returns a snapshot of hit, miss and eviction statistics of this cache.
+     */
+    CacheStats getStats();
 }
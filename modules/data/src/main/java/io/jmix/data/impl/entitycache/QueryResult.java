@@ -18,6 +18,7 @@ package io.jmix.data.impl.entitycache;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class QueryResult {
@@ -25,6 +26,7 @@ public class QueryResult {
     protected final String type;
     protected final Set<String> relatedTypes;
     protected final RuntimeException exception;
+    protected volatile Map<String, Long> typeGenerations;
 
     public QueryResult(List<?> result, String type, Set<String> relatedTypes) {
         this(result, type, relatedTypes, null);
@@ -52,4 +54,15 @@ public class QueryResult {
     public RuntimeException getException() {
         return exception;
     }
+
+    /**
+     * Returns generations of the related types captured when the result was put into the cache.
+     */
+    public Map<String, Long> getTypeGenerations() {
+        return typeGenerations;
+    }
+
+    public void setTypeGenerations(Map<String, Long> typeGenerations) {
+        this.typeGenerations = typeGenerations;
+    }
 }
@@ -18,9 +18,14 @@ package io.jmix.data.impl.entitycache;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import io.jmix.data.DataProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -30,31 +35,58 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+/**
+ * Query cache backed by Guava {@link Cache}.
+ * <p>
+ * Keeps secondary indexes by query identifier and by related type. Both indexes are cleaned up by the cache
+ * removal listener, so entries evicted by size don't accumulate in them. Every related type has a generation
+ * counter that is incremented on invalidation: a result put concurrently with the invalidation of one of its types
+ * is detected as stale on the next {@link #get(QueryKey)}.
+ * <p>
+ * Hit, miss and eviction statistics are published to the {@link MeterRegistry} under the {@code jmix.data.queryCache} name.
+ */
 @Component(QueryCache.NAME)
 public class StandardQueryCache implements QueryCache {
 
+    public static final String METRICS_NAME = "jmix.data.queryCache";
+
     protected Cache<QueryKey, QueryResult> data;
-    protected ConcurrentMap<String, CopyOnWriteArrayList<QueryKey>> typeIndex = new ConcurrentHashMap<>();
+    protected ConcurrentMap<UUID, QueryKey> idIndex = new ConcurrentHashMap<>();
+    protected ConcurrentMap<String, Set<QueryKey>> typeIndex = new ConcurrentHashMap<>();
+    protected ConcurrentMap<String, AtomicLong> typeGenerations = new ConcurrentHashMap<>();
     protected ReadWriteLock lock = new ReentrantReadWriteLock();
 
     @Autowired
     protected DataProperties properties;
+    @Autowired
+    protected MeterRegistry meterRegistry;
 
     protected static final Logger log = LoggerFactory.getLogger(QueryCache.class);
 
     @PostConstruct
     protected void init() {
-        data = CacheBuilder.newBuilder().maximumSize(properties.getQueryCacheMaxSize()).build();
+        data = CacheBuilder.newBuilder()
+                .maximumSize(properties.getQueryCacheMaxSize())
+                .recordStats()
+                .removalListener((RemovalListener<QueryKey, QueryResult>) this::onRemoval)
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, data, METRICS_NAME);
     }
 
     @Override
     public QueryResult get(QueryKey queryKey) {
-        return data.getIfPresent(queryKey);
+        QueryResult queryResult = data.getIfPresent(queryKey);
+        if (queryResult != null && isStale(queryResult)) {
+            log.debug("Discard stale query results for key {}", queryKey.printDescription());
+            data.invalidate(queryKey);
+            return null;
+        }
+        return queryResult;
     }
 
     @Override
@@ -62,15 +94,30 @@ public class StandardQueryCache implements QueryCache {
         Lock readLock = lock.readLock();
         readLock.lock();
         try {
+            Set<String> relatedTypes = queryResult.getRelatedTypes() != null
+                    ? queryResult.getRelatedTypes() : Collections.emptySet();
+
+            Map<String, Long> generations = new HashMap<>(relatedTypes.size());
+            for (String type : relatedTypes) {
+                generations.put(type, getGeneration(type).get());
+            }
+            queryResult.setTypeGenerations(generations);
+
+            // an equal key may carry another identifier, so drop the previous entry together with its index records
+            data.invalidate(queryKey);
             data.put(queryKey, queryResult);
 
-            for (String type : queryResult.getRelatedTypes()) {
-                CopyOnWriteArrayList<QueryKey> keys = typeIndex.get(type);
-                if (keys == null) {
-                    typeIndex.putIfAbsent(type, new CopyOnWriteArrayList<>());
-                    keys = typeIndex.get(type);
-                }
-                keys.add(queryKey);
+            if (queryKey.getId() != null) {
+                idIndex.put(queryKey.getId(), queryKey);
+            }
+            for (String type : relatedTypes) {
+                typeIndex.compute(type, (t, keys) -> {
+                    if (keys == null) {
+                        keys = ConcurrentHashMap.newKeySet();
+                    }
+                    keys.add(queryKey);
+                    return keys;
+                });
             }
         } finally {
             readLock.unlock();
@@ -79,13 +126,11 @@ public class StandardQueryCache implements QueryCache {
 
     @Override
     public QueryKey findQueryKeyById(UUID queryId) {
-        Set<QueryKey> keys = Sets.newHashSet(data.asMap().keySet());
-        for (QueryKey key : keys) {
-            if (Objects.equals(queryId, key.getId())) {
-                return key;
-            }
+        QueryKey key = idIndex.get(queryId);
+        if (key != null && data.getIfPresent(key) == null) {
+            return null;
         }
-        return null;
+        return key;
     }
 
     @Override
@@ -105,10 +150,7 @@ public class StandardQueryCache implements QueryCache {
         Lock readLock = lock.readLock();
         readLock.lock();
         try {
-            CopyOnWriteArrayList<QueryKey> keys = typeIndex.get(typeName);
-            if (keys == null) return;
-            log.debug("Invalidate cache for type {}", typeName);
-            Arrays.stream(keys.toArray()).forEach(it -> data.invalidate(it));
+            invalidateType(typeName);
         } finally {
             readLock.unlock();
         }
@@ -119,13 +161,7 @@ public class StandardQueryCache implements QueryCache {
         Lock readLock = lock.readLock();
         readLock.lock();
         try {
-            typeNames.forEach(typeName -> {
-                        CopyOnWriteArrayList<QueryKey> keys = typeIndex.get(typeName);
-                        if (keys == null) return;
-                        log.debug("Invalidate cache for type {}", typeName);
-                        Arrays.stream(keys.toArray()).forEach(it -> data.invalidate(it));
-                    }
-            );
+            typeNames.forEach(this::invalidateType);
         } finally {
             readLock.unlock();
         }
@@ -136,13 +172,11 @@ public class StandardQueryCache implements QueryCache {
         Lock readLock = lock.readLock();
         readLock.lock();
         try {
-            Set<QueryKey> keys = Sets.newHashSet(data.asMap().keySet());
-            for (QueryKey key : keys) {
-                if (Objects.equals(queryId, key.getId())) {
-                    log.debug("Invalidate query by identifier {}", queryId);
-                    data.invalidate(key);
-                    return key;
-                }
+            QueryKey key = idIndex.get(queryId);
+            if (key != null && data.getIfPresent(key) != null) {
+                log.debug("Invalidate query by identifier {}", queryId);
+                data.invalidate(key);
+                return key;
             }
         } finally {
             readLock.unlock();
@@ -156,7 +190,9 @@ public class StandardQueryCache implements QueryCache {
         writeLock.lock();
         try {
             log.debug("Invalidate all cache");
+            typeGenerations.values().forEach(AtomicLong::incrementAndGet);
             data.invalidateAll();
+            idIndex.clear();
             typeIndex.clear();
         } finally {
             writeLock.unlock();
@@ -177,4 +213,57 @@ public class StandardQueryCache implements QueryCache {
     public Map<QueryKey, QueryResult> asMap() {
         return Maps.newHashMap(data.asMap());
     }
+
+    @Override
+    public CacheStats getStats() {
+        return data.stats();
+    }
+
+    protected void invalidateType(String typeName) {
+        getGeneration(typeName).incrementAndGet();
+        Set<QueryKey> keys = typeIndex.get(typeName);
+        if (keys == null) return;
+        log.debug("Invalidate cache for type {}", typeName);
+        data.invalidateAll(new ArrayList<>(keys));
+    }
+
+    protected AtomicLong getGeneration(String typeName) {
+        return typeGenerations.computeIfAbsent(typeName, t -> new AtomicLong());
+    }
+
+    protected boolean isStale(QueryResult queryResult) {
+        Map<String, Long> generations = queryResult.getTypeGenerations();
+        if (generations == null) {
+            return false;
+        }
+        for (Map.Entry<String, Long> entry : generations.entrySet()) {
+            AtomicLong generation = typeGenerations.get(entry.getKey());
+            if (generation != null && generation.get() != entry.getValue()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected void onRemoval(RemovalNotification<QueryKey, QueryResult> notification) {
+        if (notification.getCause() == RemovalCause.REPLACED) {
+            return;
+        }
+        QueryKey queryKey = notification.getKey();
+        if (queryKey == null) {
+            return;
+        }
+        if (queryKey.getId() != null) {
+            idIndex.remove(queryKey.getId(), queryKey);
+        }
+        QueryResult queryResult = notification.getValue();
+        if (queryResult != null && queryResult.getRelatedTypes() != null) {
+            for (String type : queryResult.getRelatedTypes()) {
+                typeIndex.computeIfPresent(type, (t, keys) -> {
+                    keys.remove(queryKey);
+                    return keys.isEmpty() ? null : keys;
+                });
+            }
+        }
+    }
 }
@@ -19,10 +19,14 @@ package io.jmix.data.impl.lazyloading;
 import io.jmix.core.*;
 import io.jmix.core.impl.SerializationContext;
 import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.monitoring.DataObservation;
+import io.jmix.core.monitoring.DataObservations;
+import io.jmix.core.monitoring.DataOperation;
 import org.eclipse.persistence.indirection.IndirectCollection;
 import org.springframework.beans.factory.BeanFactory;
 
 import java.io.IOException;
+import java.util.Collection;
 
 public class JmixCollectionValueHolder extends JmixAbstractValueHolder {
     protected Class ownerClass;
@@ -30,15 +34,18 @@ public class JmixCollectionValueHolder extends JmixAbstractValueHolder {
     protected String propertyName;
 
     protected transient DataManager dataManager;
+    protected transient DataObservations dataObservations;
     protected transient FetchPlanBuilder fetchPlanBuilder;
     protected transient Metadata metadata;
 
     public JmixCollectionValueHolder(String propertyName, Class ownerClass, Object entityId, DataManager dataManager,
-                                     FetchPlanBuilder fetchPlanBuilder, Metadata metadata) {
+                                     DataObservations dataObservations, FetchPlanBuilder fetchPlanBuilder,
+                                     Metadata metadata) {
         this.propertyName = propertyName;
         this.ownerClass = ownerClass;
         this.entityId = entityId;
         this.dataManager = dataManager;
+        this.dataObservations = dataObservations;
         this.fetchPlanBuilder = fetchPlanBuilder;
         this.metadata = metadata;
     }
@@ -51,10 +58,18 @@ public class JmixCollectionValueHolder extends JmixAbstractValueHolder {
                 LoadContext lc = new LoadContext(metaClass);
                 lc.setFetchPlan(fetchPlanBuilder.add(propertyName).build());
                 lc.setId(entityId);
-                JmixEntity result = dataManager.load(lc);
-                this.value = ((IndirectCollection) result.__getEntityEntry().getAttributeValue(propertyName))
-                        .getValueHolder()
-                        .getValue();
+                DataObservation observation = dataObservations.begin(DataOperation.LAZY_LOAD,
+                        metaClass.getName(), metaClass.getStore().getName());
+                try {
+                    JmixEntity result = dataManager.load(lc);
+                    this.value = ((IndirectCollection) result.__getEntityEntry().getAttributeValue(propertyName))
+                            .getValueHolder()
+                            .getValue();
+                } catch (RuntimeException e) {
+                    observation.fail(e);
+                    throw e;
+                }
+                observation.end(value instanceof Collection ? ((Collection<?>) value).size() : -1);
                 isInstantiated = true;
             }
         }
@@ -63,13 +78,15 @@ public class JmixCollectionValueHolder extends JmixAbstractValueHolder {
 
     @Override
     public Object clone() {
-        return new JmixCollectionValueHolder(propertyName, ownerClass, entityId, dataManager, fetchPlanBuilder, metadata);
+        return new JmixCollectionValueHolder(propertyName, ownerClass, entityId, dataManager, dataObservations,
+                fetchPlanBuilder, metadata);
     }
 
     private void readObject(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
         BeanFactory beanFactory = SerializationContext.getThreadLocalBeanFactory();
         dataManager = (DataManager) beanFactory.getBean(DataManager.NAME);
+        dataObservations = (DataObservations) beanFactory.getBean(DataObservations.NAME);
         fetchPlanBuilder = beanFactory.getBean(FetchPlanBuilder.class, ownerClass);
         metadata = (Metadata) beanFactory.getBean(Metadata.NAME);
     }
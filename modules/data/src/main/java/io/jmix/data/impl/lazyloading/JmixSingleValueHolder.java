@@ -22,6 +22,9 @@ import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
 import io.jmix.core.impl.SerializationContext;
 import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.monitoring.DataObservation;
+import io.jmix.core.monitoring.DataObservations;
+import io.jmix.core.monitoring.DataOperation;
 import org.springframework.beans.factory.BeanFactory;
 
 import java.io.IOException;
@@ -32,15 +35,17 @@ public class JmixSingleValueHolder extends JmixAbstractValueHolder {
     protected Class valueClass;
 
     protected transient DataManager dataManager;
+    protected transient DataObservations dataObservations;
     protected transient Metadata metadata;
     protected transient MetadataTools metadataTools;
 
     public JmixSingleValueHolder(String propertyName, Class valueClass, Object entityId, DataManager dataManager,
-                                 Metadata metadata, MetadataTools metadataTools) {
+                                 DataObservations dataObservations, Metadata metadata, MetadataTools metadataTools) {
         this.propertyName = propertyName;
         this.valueClass = valueClass;
         this.entityId = entityId;
         this.dataManager = dataManager;
+        this.dataObservations = dataObservations;
         this.metadata = metadata;
         this.metadataTools = metadataTools;
     }
@@ -55,7 +60,15 @@ public class JmixSingleValueHolder extends JmixAbstractValueHolder {
                 lc.setQueryString(String.format("select e from %s e where e.%s.%s = :entityId",
                         metaClass.getName(), propertyName, primaryKeyName));
                 lc.getQuery().setParameter("entityId", entityId);
-                value = dataManager.load(lc);
+                DataObservation observation = dataObservations.begin(DataOperation.LAZY_LOAD,
+                        metaClass.getName(), metadataTools.getStoreName(metaClass));
+                try {
+                    value = dataManager.load(lc);
+                } catch (RuntimeException e) {
+                    observation.fail(e);
+                    throw e;
+                }
+                observation.end(value != null ? 1 : 0);
                 isInstantiated = true;
             }
         }
@@ -64,7 +77,7 @@ public class JmixSingleValueHolder extends JmixAbstractValueHolder {
 
     @Override
     public Object clone() {
-        return new JmixSingleValueHolder(propertyName, valueClass, entityId, dataManager,
+        return new JmixSingleValueHolder(propertyName, valueClass, entityId, dataManager, dataObservations,
                 metadata, metadataTools);
     }
 
@@ -72,6 +85,7 @@ public class JmixSingleValueHolder extends JmixAbstractValueHolder {
         in.defaultReadObject();
         BeanFactory beanFactory = SerializationContext.getThreadLocalBeanFactory();
         dataManager = (DataManager) beanFactory.getBean(DataManager.NAME);
+        dataObservations = (DataObservations) beanFactory.getBean(DataObservations.NAME);
         metadata = (Metadata) beanFactory.getBean(Metadata.NAME);
         metadataTools = (MetadataTools) beanFactory.getBean(MetadataTools.NAME);
     }
@@ -22,6 +22,9 @@ import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
 import io.jmix.core.impl.SerializationContext;
 import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.monitoring.DataObservation;
+import io.jmix.core.monitoring.DataObservations;
+import io.jmix.core.monitoring.DataOperation;
 import io.jmix.core.metamodel.model.MetaProperty;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.internal.expressions.ExpressionIterator;
@@ -39,13 +42,15 @@ public class JmixWrappingValueHolder extends JmixAbstractValueHolder {
     protected volatile UnitOfWorkQueryValueHolder originalValueHolder;
 
     protected transient DataManager dataManager;
+    protected transient DataObservations dataObservations;
     protected transient Metadata metadata;
     protected transient MetadataTools metadataTools;
 
     public JmixWrappingValueHolder(UnitOfWorkQueryValueHolder originalValueHolder, DataManager dataManager,
-                                   Metadata metadata, MetadataTools metadataTools) {
+                                   DataObservations dataObservations, Metadata metadata, MetadataTools metadataTools) {
         this.originalValueHolder = originalValueHolder;
         this.dataManager = dataManager;
+        this.dataObservations = dataObservations;
         this.metadata = metadata;
         this.metadataTools = metadataTools;
     }
@@ -78,7 +83,15 @@ public class JmixWrappingValueHolder extends JmixAbstractValueHolder {
                         id = UUID.fromString((String) id);
                     }
                     lc.setId(id);
-                    value = dataManager.load(lc);
+                    DataObservation observation = dataObservations.begin(DataOperation.LAZY_LOAD,
+                            metaClass.getName(), metadataTools.getStoreName(metaClass));
+                    try {
+                        value = dataManager.load(lc);
+                    } catch (RuntimeException e) {
+                        observation.fail(e);
+                        throw e;
+                    }
+                    observation.end(value != null ? 1 : 0);
                 }
                 isInstantiated = true;
             }
@@ -88,13 +101,14 @@ public class JmixWrappingValueHolder extends JmixAbstractValueHolder {
 
     @Override
     public Object clone() {
-        return new JmixWrappingValueHolder(originalValueHolder, dataManager, metadata, metadataTools);
+        return new JmixWrappingValueHolder(originalValueHolder, dataManager, dataObservations, metadata, metadataTools);
     }
 
     private void readObject(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
         BeanFactory beanFactory = SerializationContext.getThreadLocalBeanFactory();
         dataManager = (DataManager) beanFactory.getBean(DataManager.NAME);
+        dataObservations = (DataObservations) beanFactory.getBean(DataObservations.NAME);
         metadata = (Metadata) beanFactory.getBean(Metadata.NAME);
         metadataTools = (MetadataTools) beanFactory.getBean(MetadataTools.NAME);
     }
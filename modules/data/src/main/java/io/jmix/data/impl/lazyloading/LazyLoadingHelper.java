@@ -20,6 +20,7 @@ import io.jmix.core.*;
 import io.jmix.core.entity.EntityValues;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.monitoring.DataObservations;
 import org.eclipse.persistence.indirection.IndirectCollection;
 import org.eclipse.persistence.internal.indirection.UnitOfWorkQueryValueHolder;
 import org.slf4j.Logger;
@@ -50,6 +51,8 @@ public class LazyLoadingHelper {
     @Autowired
     protected DataManager dataManager;
     @Autowired
+    protected DataObservations dataObservations;
+    @Autowired
     protected BeanFactory beanFactory;
 
     public void replaceValueHolders(JmixEntity instance, List<FetchPlan> fetchPlans) {
@@ -88,6 +91,7 @@ public class LazyLoadingHelper {
                         declaredField.set(instance,
                                 new JmixWrappingValueHolder((UnitOfWorkQueryValueHolder) fieldInstance,
                                         dataManager,
+                                        dataObservations,
                                         metadata,
                                         metadataTools));
                     } else {
@@ -97,6 +101,7 @@ public class LazyLoadingHelper {
                                         property.getJavaType(),
                                         instance.__getEntityEntry().getEntityId(),
                                         dataManager,
+                                        dataObservations,
                                         metadata,
                                         metadataTools));
                     }
@@ -117,6 +122,7 @@ public class LazyLoadingHelper {
                     declaredField.set(instance,
                             new JmixWrappingValueHolder((UnitOfWorkQueryValueHolder) fieldInstance,
                                     dataManager,
+                                    dataObservations,
                                     metadata,
                                     metadataTools));
                     declaredField.setAccessible(accessible);
@@ -134,6 +140,7 @@ public class LazyLoadingHelper {
                         instance.getClass(),
                         instance.__getEntityEntry().getEntityId(),
                         dataManager,
+                        dataObservations,
                         beanFactory.getBean(FetchPlanBuilder.class, instance.getClass()),
                         metadata));
                 break;
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.listener;
+
+import io.jmix.data.event.EntityChangedEvent;
+
+import java.util.List;
+
+/**
+ * Interface for listeners receiving {@link EntityChangedEvent}s in batches after commit of the transactions which
+ * changed the entities.
+ *
+ * <p>{@code EntityChangedEventsListener} must be implemented by managed beans. Listeners are invoked only if the
+ * {@code jmix.data.entityChangedEventOutboxEnabled} application property is set to true: in this case the events
+ * of the main data store are recorded in the outbox table in the same transaction and dispatched by a background
+ * thread.
+ *
+ * <p>Delivery is at-least-once: if a listener throws an exception, the whole batch is delivered again later,
+ * including to the listeners which have already processed it. Events related to the same entity are delivered in
+ * the order they were recorded.
+ */
+public interface EntityChangedEventsListener {
+
+    /**
+     * Invoked in a background thread outside of any transaction.
+     *
+     * @param events list of events ordered by recording time
+     */
+    void onEntityChanged(List<EntityChangedEvent> events);
+}
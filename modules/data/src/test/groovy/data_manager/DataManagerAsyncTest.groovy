@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.LoadContext
+import io.jmix.core.Metadata
+import io.jmix.core.SaveContext
+import io.jmix.core.impl.DataManagerExecutor
+import io.jmix.core.security.Authenticator
+import io.jmix.core.security.SecurityContextHelper
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.entity.TestAppEntity
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+
+class DataManagerAsyncTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    DataManagerExecutor dataManagerExecutor
+
+    @Autowired
+    Authenticator authenticator
+
+    @Autowired
+    Metadata metadata
+
+    def "saves and loads entities asynchronously"() {
+        def entity1 = new TestAppEntity(name: 'entity1')
+        def entity2 = new TestAppEntity(name: 'entity2')
+
+        when:
+        dataManager.saveAsync(new SaveContext().saving(entity1, entity2)).get()
+
+        def context = new LoadContext<>(metadata.getClass(TestAppEntity))
+                .setQuery(new LoadContext.Query('select e from test_TestAppEntity e order by e.name'))
+        def listFuture = dataManager.loadListAsync(context)
+        def countFuture = dataManager.getCountAsync(context)
+        def oneFuture = dataManager.loadAsync(new LoadContext<>(metadata.getClass(TestAppEntity)).setId(entity1.id))
+
+        CompletableFuture.allOf(listFuture, countFuture, oneFuture).get()
+
+        then:
+        listFuture.get() == [entity1, entity2]
+        countFuture.get() == 2
+        oneFuture.get() == entity1
+    }
+
+    def "executes operations in worker threads on behalf of the current user"() {
+        when:
+        def result = authenticator.withSystem {
+            dataManagerExecutor.supplyAsync {
+                [Thread.currentThread(), SecurityContextHelper.getAuthentication()]
+            }.get()
+        }
+
+        then:
+        result[0] != Thread.currentThread()
+        result[1] != null
+        result[1].principal.username == 'system'
+    }
+
+    def "completes future exceptionally if operation fails"() {
+        def context = new LoadContext<>(metadata.getClass(TestAppEntity))
+                .setQuery(new LoadContext.Query('select e from test_TestAppEntity e where e.unknownAttribute = 1'))
+
+        when:
+        dataManager.loadListAsync(context).get()
+
+        then:
+        thrown(ExecutionException)
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.EntityStates
+import io.jmix.core.LoadContext
+import io.jmix.core.Metadata
+import io.jmix.core.SaveContext
+import io.jmix.data.event.EntityChangedEvent
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.TestCustomerListener
+import test_support.entity.TestAppEntity
+import test_support.entity.sales.Customer
+
+class DataManagerBulkInsertTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    EntityStates entityStates
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    TestCustomerListener listener
+
+    void cleanup() {
+        listener.changedEventConsumer = null
+        jdbc.update('delete from SALES_CUSTOMER')
+    }
+
+    def "inserts new entities in bulk mode"() {
+        def customers = (1..2500).collect { new Customer(name: 'customer-' + it) }
+        def events = []
+        listener.changedEventConsumer = { event -> events.add(event) }
+
+        when:
+        def saved = dataManager.save(new SaveContext().saving(customers).setBulkInsert(true))
+
+        then:
+        saved.size() == 2500
+        saved.every { entityStates.isDetached(it) && !entityStates.isNew(it) }
+        saved.every { it.version == 1 && it.createTs != null }
+
+        events.size() == 2500
+        events.every { it.type == EntityChangedEvent.Type.CREATED }
+
+        dataManager.getCount(new LoadContext<>(metadata.getClass(Customer))
+                .setQuery(new LoadContext.Query('select c from sales$Customer c'))) == 2500
+    }
+
+    def "rolls back all chunks if insert fails"() {
+        def customers = (1..1500).collect { new Customer(name: 'customer-' + it) }
+        def failed = customers[1200]
+        listener.changedEventConsumer = { event ->
+            if (event.entityId.value == failed.id) {
+                throw new IllegalStateException('test')
+            }
+        }
+
+        when:
+        dataManager.save(new SaveContext().saving(customers).setBulkInsert(true))
+
+        then:
+        thrown(IllegalStateException)
+        jdbc.queryForObject('select count(*) from SALES_CUSTOMER', Integer) == 0
+    }
+
+    def "accepts only new instances of a single entity"() {
+        def customer = dataManager.save(new Customer(name: 'existing'))
+
+        when:
+        dataManager.save(new SaveContext().saving(customer).setBulkInsert(true))
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        dataManager.save(new SaveContext()
+                .saving(new Customer(name: 'new'), new TestAppEntity(name: 'new'))
+                .setBulkInsert(true))
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.EntityStates
+import io.jmix.core.LoadContext
+import io.jmix.core.Metadata
+import io.jmix.core.Stores
+import io.jmix.core.impl.DataStoreFactory
+import io.jmix.data.DataConfigPropertiesAccess
+import io.jmix.data.DataProperties
+import io.jmix.data.impl.OrmDataStore
+import io.jmix.data.impl.QueryResultsManager
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import test_support.DataSpec
+import test_support.entity.TestAppEntity
+import test_support.entity.sales.Customer
+import test_support.entity.sales.Order
+
+class DataManagerLoadByBatchesTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    EntityStates entityStates
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    DataProperties dataProperties
+
+    @Autowired
+    DataStoreFactory dataStoreFactory
+
+    void setup() {
+        for (int i = 0; i < 25; i++) {
+            dataManager.save(new TestAppEntity(name: 'entity-' + i, number: String.format('%03d', i)))
+        }
+    }
+
+    def "loads all instances by batches"() {
+        def batches = []
+
+        when:
+        dataManager.load(TestAppEntity)
+                .query('select e from test_TestAppEntity e order by e.number')
+                .forEachBatch(10) { batch -> batches.add(batch) }
+
+        then:
+        batches.collect { it.size() } == [10, 10, 5]
+        batches.flatten().collect { it.number } == (0..24).collect { String.format('%03d', it) }
+        batches.flatten().every { entityStates.isDetached(it) }
+    }
+
+    def "consumer is invoked outside of the load transaction"() {
+        def active = []
+
+        when:
+        dataManager.load(TestAppEntity)
+                .query('select e from test_TestAppEntity e')
+                .forEach(7) { entity -> active.add(TransactionSynchronizationManager.isActualTransactionActive()) }
+
+        then:
+        active.size() == 25
+        active.every { !it }
+    }
+
+    def "respects query paging"() {
+        def loaded = []
+        def context = new LoadContext<>(metadata.getClass(TestAppEntity))
+        context.setQuery(new LoadContext.Query('select e from test_TestAppEntity e order by e.number')
+                .setFirstResult(5)
+                .setMaxResults(12))
+
+        when:
+        dataManager.loadByBatches(context, 5) { batch -> loaded.addAll(batch) }
+
+        then:
+        loaded.collect { it.number } == (5..16).collect { String.format('%03d', it) }
+    }
+
+    def "distinct is ensured across batches if in-memory distinct is enabled"() {
+        def customers = (1..3).collect { dataManager.save(new Customer(name: 'customer-' + it)) }
+        customers.each { customer ->
+            (1..3).each { dataManager.save(new Order(number: customer.name + '-' + it, customer: customer)) }
+        }
+        def queryString = 'select distinct c from sales$Customer c, sales_Order o where o.customer = c order by c.name'
+
+        DataConfigPropertiesAccess.setInMemoryDistinct(dataProperties, true)
+
+        def loaded = []
+        def context = new LoadContext<>(metadata.getClass(Customer))
+                .setQuery(new LoadContext.Query(queryString))
+
+        when:
+        dataManager.loadByBatches(context, 2) { batch -> loaded.addAll(batch) }
+        def list = dataManager.loadList(new LoadContext<>(metadata.getClass(Customer))
+                .setQuery(new LoadContext.Query(queryString)))
+
+        then:
+        loaded.collect { it.name } == ['customer-1', 'customer-2', 'customer-3']
+        list.collect { it.name } == loaded.collect { it.name }
+
+        cleanup:
+        DataConfigPropertiesAccess.setInMemoryDistinct(dataProperties, false)
+        jdbc.update('delete from SALES_ORDER')
+        jdbc.update('delete from SALES_CUSTOMER')
+    }
+
+    def "results of previous queries are saved before loading"() {
+        def store = dataStoreFactory.get(Stores.MAIN) as OrmDataStore
+        def queryResultsManager = store.queryResultsManager
+        store.queryResultsManager = Mock(QueryResultsManager)
+
+        def context = new LoadContext<>(metadata.getClass(TestAppEntity))
+                .setQuery(new LoadContext.Query('select e from test_TestAppEntity e where e.number < :number')
+                        .setParameter('number', '010'))
+        context.getPreviousQueries().add(new LoadContext.Query('select e from test_TestAppEntity e'))
+        def loaded = []
+
+        when:
+        dataManager.loadByBatches(context, 4) { batch -> loaded.addAll(batch) }
+
+        then:
+        1 * store.queryResultsManager.savePreviousQueryResults(context)
+        loaded.size() == 10
+
+        cleanup:
+        store.queryResultsManager = queryResultsManager
+    }
+}
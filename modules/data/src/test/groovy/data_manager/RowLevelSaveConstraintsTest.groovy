@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.Id
+import io.jmix.core.SaveContext
+import io.jmix.core.constraint.AccessConstraint
+import io.jmix.data.RowLevelSecurityException
+import io.jmix.data.impl.context.InMemoryCrudEntityContext
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.entity.sales.Customer
+
+class RowLevelSaveConstraintsTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    Customer customer
+
+    void setup() {
+        customer = dataManager.save(new Customer(name: 'locked'))
+    }
+
+    void cleanup() {
+        jdbc.update('delete from SALES_CUSTOMER')
+    }
+
+    def "update denied by in-memory constraint is rejected"() {
+        customer.name = 'changed'
+
+        when:
+        dataManager.save(new SaveContext()
+                .saving(customer)
+                .setAccessConstraints([new DenyingConstraint(update: true, deniedName: 'changed')]))
+
+        then:
+        thrown(RowLevelSecurityException)
+        reload().name == 'locked'
+    }
+
+    def "delete denied by in-memory constraint is rejected"() {
+        when:
+        dataManager.save(new SaveContext()
+                .removing(customer)
+                .setAccessConstraints([new DenyingConstraint(delete: true)]))
+
+        then:
+        thrown(RowLevelSecurityException)
+        reload() != null
+    }
+
+    def "create denied by in-memory constraint is rejected"() {
+        when:
+        dataManager.save(new SaveContext()
+                .saving(new Customer(name: 'locked'))
+                .setAccessConstraints([new DenyingConstraint(create: true)]))
+
+        then:
+        thrown(RowLevelSecurityException)
+        jdbc.queryForObject('select count(*) from SALES_CUSTOMER', Integer) == 1
+    }
+
+    def "operations permitted by in-memory constraint are executed"() {
+        def constraint = new DenyingConstraint(create: true, update: true, delete: true, deniedName: 'other')
+
+        when:
+        customer.name = 'changed'
+        dataManager.save(new SaveContext().saving(customer).setAccessConstraints([constraint]))
+
+        then:
+        reload().name == 'changed'
+
+        when:
+        dataManager.save(new SaveContext().removing(reload()).setAccessConstraints([constraint]))
+
+        then:
+        reload() == null
+    }
+
+    Customer reload() {
+        dataManager.load(Id.of(customer)).optional().orElse(null)
+    }
+
+    static class DenyingConstraint implements AccessConstraint<InMemoryCrudEntityContext> {
+        boolean create
+        boolean update
+        boolean delete
+        String deniedName = 'locked'
+
+        @Override
+        Class<InMemoryCrudEntityContext> getContextType() {
+            return InMemoryCrudEntityContext
+        }
+
+        @Override
+        void applyTo(InMemoryCrudEntityContext context) {
+            if (create) {
+                context.addCreatePredicate { ((Customer) it).name != deniedName }
+            }
+            if (update) {
+                context.addUpdatePredicate { ((Customer) it).name != deniedName }
+            }
+            if (delete) {
+                context.addDeletePredicate { ((Customer) it).name != deniedName }
+            }
+        }
+    }
+}
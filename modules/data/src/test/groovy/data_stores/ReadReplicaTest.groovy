@@ -0,0 +1,267 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_stores
+
+import io.jmix.core.BeanLocator
+import io.jmix.core.DataManager
+import io.jmix.core.LoadContext
+import io.jmix.core.Metadata
+import io.jmix.core.Stores
+import io.jmix.data.PersistenceHints
+import io.jmix.data.StoreAwareLocator
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.transaction.support.DefaultTransactionDefinition
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import org.springframework.transaction.support.TransactionTemplate
+import test_support.DataSpec
+import test_support.TestReplicaTransactionManager
+import test_support.entity.TestAppEntity
+
+import javax.persistence.EntityManagerFactory
+import javax.sql.DataSource
+
+class ReadReplicaTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    StoreAwareLocator storeAwareLocator
+
+    @Autowired
+    TestReplicaTransactionManager replicaTransactionManager
+
+    TestAppEntity entity
+
+    void setup() {
+        entity = dataManager.save(new TestAppEntity(name: 'replica'))
+        storeAwareLocator.lastWriteTimes.clear()
+        replicaTransactionManager.transactionCount.set(0)
+    }
+
+    void cleanup() {
+        storeAwareLocator.lastWriteTimes.clear()
+    }
+
+    def "replica is detected by bean names"() {
+        expect:
+        storeAwareLocator.hasReplica(Stores.MAIN)
+        !storeAwareLocator.hasReplica('db1')
+
+        and:
+        storeAwareLocator.withReplica(Stores.MAIN, { storeAwareLocator.getTransactionManager(Stores.MAIN) }).is(replicaTransactionManager)
+        !storeAwareLocator.getTransactionManager(Stores.MAIN).is(replicaTransactionManager)
+        !storeAwareLocator.isReplicaUsed(Stores.MAIN)
+    }
+
+    def "primary beans are used instead of missing replica beans"() {
+        def primaryDataSource = Mock(DataSource)
+        def replicaEntityManagerFactory = Mock(EntityManagerFactory)
+
+        BeanLocator beanLocator = Mock()
+        beanLocator.containsBean('replicaEntityManagerFactory') >> true
+        beanLocator.containsBean('replicaTransactionManager') >> true
+        beanLocator.containsBean('replicaDataSource') >> false
+        beanLocator.get('replicaEntityManagerFactory', EntityManagerFactory) >> replicaEntityManagerFactory
+        beanLocator.get('dataSource', DataSource) >> primaryDataSource
+
+        def locator = new StoreAwareLocator(beanLocator: beanLocator)
+
+        expect:
+        locator.hasReplica(Stores.MAIN)
+        locator.withReplica(Stores.MAIN, { locator.getEntityManagerFactory(Stores.MAIN) }).is(replicaEntityManagerFactory)
+        locator.withReplica(Stores.MAIN, { locator.getDataSource(Stores.MAIN) }).is(primaryDataSource)
+        locator.withReplica(Stores.MAIN, { locator.getJdbcTemplate(Stores.MAIN) }).dataSource.is(primaryDataSource)
+    }
+
+    def "loading is routed to replica by hint"() {
+        when:
+        def loaded = dataManager.load(createLoadContext().setHint(PersistenceHints.READ_REPLICA, true))
+        def count = dataManager.getCount(createQueryLoadContext().setHint(PersistenceHints.READ_REPLICA, true))
+        def list = dataManager.loadList(createQueryLoadContext().setHint(PersistenceHints.READ_REPLICA, true))
+
+        then:
+        loaded == entity
+        count == 1
+        list == [entity]
+        replicaTransactionManager.transactionCount.get() == 3
+    }
+
+    def "loading without hint outside of transaction uses primary"() {
+        when:
+        def loaded = dataManager.load(createLoadContext())
+
+        then:
+        loaded == entity
+        replicaTransactionManager.transactionCount.get() == 0
+    }
+
+    def "loading in read-only transaction of primary is routed to replica only by hint"() {
+        def readOnlyTransaction = new TransactionTemplate(transaction.transactionManager)
+        readOnlyTransaction.readOnly = true
+
+        when:
+        def loaded = readOnlyTransaction.execute { dataManager.load(createLoadContext()) }
+
+        then:
+        loaded == entity
+        replicaTransactionManager.transactionCount.get() == 0
+
+        when:
+        loaded = readOnlyTransaction.execute {
+            dataManager.load(createLoadContext().setHint(PersistenceHints.READ_REPLICA, false))
+        }
+
+        then:
+        loaded == entity
+        replicaTransactionManager.transactionCount.get() == 0
+
+        when:
+        loaded = readOnlyTransaction.execute {
+            dataManager.load(createLoadContext().setHint(PersistenceHints.READ_REPLICA, true))
+        }
+
+        then:
+        loaded == entity
+        replicaTransactionManager.transactionCount.get() == 1
+    }
+
+    def "read-only transaction of locator runs on replica"() {
+        def replicaTransaction = storeAwareLocator.getTransactionTemplate(Stores.MAIN,
+                new DefaultTransactionDefinition(readOnly: true))
+        def replicaEntityManagerFactory = storeAwareLocator.withReplica(Stores.MAIN) {
+            storeAwareLocator.getEntityManagerFactory(Stores.MAIN)
+        }
+
+        expect:
+        !replicaEntityManagerFactory.is(storeAwareLocator.getEntityManagerFactory(Stores.MAIN))
+
+        when:
+        def result = replicaTransaction.execute {
+            [
+                    replicaUsed: storeAwareLocator.isReplicaUsed(Stores.MAIN),
+                    replicaBound: TransactionSynchronizationManager.hasResource(replicaEntityManagerFactory),
+                    loaded: dataManager.load(createLoadContext()),
+                    list: dataManager.loadList(createQueryLoadContext())
+            ]
+        }
+
+        then:
+        result.replicaUsed
+        result.replicaBound
+        result.loaded == entity
+        result.list == [entity]
+        // the transaction itself and two loads joining it
+        replicaTransactionManager.transactionCount.get() == 3
+        !storeAwareLocator.isReplicaUsed(Stores.MAIN)
+    }
+
+    def "recently saved entities are loaded from primary in read-only transaction of locator"() {
+        def replicaTransaction = storeAwareLocator.getTransactionTemplate(Stores.MAIN,
+                new DefaultTransactionDefinition(readOnly: true))
+
+        when:
+        entity.name = 'replica-changed'
+        dataManager.save(entity)
+        def loaded = replicaTransaction.execute { dataManager.load(createLoadContext()) }
+
+        then:
+        loaded.name == 'replica-changed'
+        // only the transaction itself, loading is done in a separate transaction of the primary
+        replicaTransactionManager.transactionCount.get() == 1
+    }
+
+    def "read-write transaction of locator runs on primary"() {
+        expect:
+        !storeAwareLocator.getTransactionManager(Stores.MAIN, new DefaultTransactionDefinition())
+                .is(replicaTransactionManager)
+        storeAwareLocator.getTransactionManager(Stores.MAIN, new DefaultTransactionDefinition(readOnly: true))
+                .is(replicaTransactionManager)
+        !storeAwareLocator.isReplicaUsed(Stores.MAIN)
+    }
+
+    def "loading in read-write transaction uses primary"() {
+        when:
+        def loaded = transaction.execute {
+            dataManager.load(createLoadContext().setHint(PersistenceHints.READ_REPLICA, true))
+        }
+
+        then:
+        loaded == entity
+        replicaTransactionManager.transactionCount.get() == 0
+    }
+
+    def "recently saved entities are loaded from primary"() {
+        when:
+        entity.name = 'replica-changed'
+        dataManager.save(entity)
+        def loaded = dataManager.load(createLoadContext().setHint(PersistenceHints.READ_REPLICA, true))
+
+        then:
+        loaded.name == 'replica-changed'
+        replicaTransactionManager.transactionCount.get() == 0
+        storeAwareLocator.isReplicaLagging(Stores.MAIN, 'test_TestAppEntity')
+    }
+
+    def "writes in outer transaction are recorded after its commit"() {
+        when:
+        transaction.executeWithoutResult {
+            entity.name = 'replica-outer'
+            dataManager.save(entity)
+            // the write recorded when the save has finished is not enough, the data is committed later
+            storeAwareLocator.lastWriteTimes.clear()
+        }
+
+        then:
+        storeAwareLocator.isReplicaLagging(Stores.MAIN, 'test_TestAppEntity')
+
+        when:
+        storeAwareLocator.lastWriteTimes.clear()
+        transaction.executeWithoutResult { status ->
+            dataManager.save(new TestAppEntity(name: 'rolled-back'))
+            storeAwareLocator.lastWriteTimes.clear()
+            status.setRollbackOnly()
+        }
+
+        then:
+        !storeAwareLocator.isReplicaLagging(Stores.MAIN, 'test_TestAppEntity')
+    }
+
+    def "saving inside replica routing uses primary"() {
+        when:
+        storeAwareLocator.withReplica(Stores.MAIN) {
+            entity.name = 'replica-saved'
+            dataManager.save(entity)
+        }
+
+        then:
+        replicaTransactionManager.transactionCount.get() == 0
+        dataManager.load(createLoadContext()).name == 'replica-saved'
+    }
+
+    LoadContext<TestAppEntity> createLoadContext() {
+        new LoadContext<>(metadata.getClass(TestAppEntity)).setId(entity.id)
+    }
+
+    LoadContext<TestAppEntity> createQueryLoadContext() {
+        new LoadContext<>(metadata.getClass(TestAppEntity))
+                .setQuery(new LoadContext.Query('select e from test_TestAppEntity e'))
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package delete_policy
+
+import io.jmix.core.DataManager
+import io.jmix.core.DeletePolicyException
+import io.jmix.core.SaveContext
+import org.apache.commons.lang3.exception.ExceptionUtils
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.entity.delete_policy.DeletePolicyItem
+import test_support.entity.delete_policy.DeletePolicyMaster
+import test_support.entity.sales.Order
+import test_support.entity.sales.OrderLine
+
+class DeletePolicyBulkTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    void cleanup() {
+        jdbc.update('delete from TEST_DELETE_POLICY_ITEM')
+        jdbc.update('delete from TEST_DELETE_POLICY_MASTER')
+        jdbc.update('delete from SALES_ORDER_LINE')
+        jdbc.update('delete from SALES_ORDER')
+    }
+
+    def "cascade delete of collections of several removed entities"() {
+        def saveContext = new SaveContext()
+        def orders = []
+        def lines = []
+        3.times { i ->
+            def order = dataManager.create(Order)
+            order.number = "$i"
+            saveContext.saving(order)
+            orders << order
+            2.times {
+                def line = dataManager.create(OrderLine)
+                line.order = order
+                line.quantity = it
+                saveContext.saving(line)
+                lines << line
+            }
+        }
+        def otherOrder = dataManager.create(Order)
+        otherOrder.number = 'other'
+        def otherLine = dataManager.create(OrderLine)
+        otherLine.order = otherOrder
+        saveContext.saving(otherOrder, otherLine)
+
+        dataManager.save(saveContext)
+
+        when:
+        def loadedOrders = dataManager.load(Order).ids(orders*.id).list()
+        dataManager.save(new SaveContext().removing(loadedOrders))
+
+        then:
+        loadLines(lines*.id, true).isEmpty()
+        loadLines(lines*.id, false).every { it.deleteTs != null }
+        loadLines(lines*.id, false).size() == lines.size()
+
+        and:
+        dataManager.load(OrderLine).id(otherLine.id).optional().isPresent()
+    }
+
+    def "deny of collections of several removed entities"() {
+        def masters = createMasters(3)
+        def item = dataManager.create(DeletePolicyItem)
+        item.denyMaster = masters[2]
+        dataManager.save(item)
+
+        when:
+        dataManager.save(new SaveContext().removing(reloadMasters(masters)))
+
+        then:
+        def e = thrown(Exception)
+        ExceptionUtils.indexOfThrowable(e, DeletePolicyException) >= 0
+        reloadMasters(masters).size() == 3
+
+        when:
+        dataManager.save(new SaveContext().removing(reloadMasters(masters.subList(0, 2))))
+
+        then:
+        reloadMasters(masters)*.id == [masters[2].id]
+    }
+
+    def "deny of references to several removed entities"() {
+        def masters = createMasters(3)
+        def item = dataManager.create(DeletePolicyItem)
+        item.denyReference = masters[1]
+        dataManager.save(item)
+
+        when:
+        dataManager.save(new SaveContext().removing(reloadMasters(masters)))
+
+        then:
+        def e = thrown(Exception)
+        ExceptionUtils.indexOfThrowable(e, DeletePolicyException) >= 0
+        reloadMasters(masters).size() == 3
+    }
+
+    def "unlink of collections of several removed entities"() {
+        def masters = createMasters(3)
+        def otherMaster = createMasters(1)[0]
+        createItems(masters + otherMaster) { item, master -> item.unlinkMaster = master }
+
+        when:
+        dataManager.save(new SaveContext().removing(reloadMasters(masters)))
+
+        then:
+        countItems('UNLINK_MASTER_ID', masters) == 0
+        countItems('UNLINK_MASTER_ID', [otherMaster]) == 2
+        countItems() == 8
+    }
+
+    def "unlink of references to several removed entities"() {
+        def masters = createMasters(3)
+        def otherMaster = createMasters(1)[0]
+        createItems(masters + otherMaster) { item, master -> item.unlinkReference = master }
+
+        when:
+        dataManager.save(new SaveContext().removing(reloadMasters(masters)))
+
+        then:
+        countItems('UNLINK_REF_ID', masters) == 0
+        countItems('UNLINK_REF_ID', [otherMaster]) == 2
+        countItems() == 8
+    }
+
+    def "hard delete of several soft-deleted entities unlinks collections and references"() {
+        def masters = createMasters(3)
+        createItems(masters) { item, master ->
+            item.unlinkMaster = master
+            item.unlinkReference = master
+        }
+        jdbc.update('update TEST_DELETE_POLICY_MASTER set DELETE_TS = current_timestamp')
+
+        when:
+        def softDeleted = dataManager.load(DeletePolicyMaster).ids(masters*.id).softDeletion(false).list()
+        dataManager.save(new SaveContext().removing(softDeleted).setSoftDeletion(false))
+
+        then:
+        softDeleted.size() == 3
+        countItems('UNLINK_MASTER_ID', masters) == 0
+        countItems('UNLINK_REF_ID', masters) == 0
+        jdbc.queryForObject('select count(*) from TEST_DELETE_POLICY_MASTER', Integer) == 0
+    }
+
+    private List<DeletePolicyMaster> createMasters(int count) {
+        def saveContext = new SaveContext()
+        def masters = (1..count).collect {
+            def master = dataManager.create(DeletePolicyMaster)
+            master.name = "master-$it"
+            saveContext.saving(master)
+            master
+        }
+        dataManager.save(saveContext)
+        masters
+    }
+
+    private void createItems(List<DeletePolicyMaster> masters, Closure linker) {
+        def saveContext = new SaveContext()
+        masters.each { master ->
+            2.times {
+                def item = dataManager.create(DeletePolicyItem)
+                item.name = "${master.name}-$it"
+                linker(item, master)
+                saveContext.saving(item)
+            }
+        }
+        dataManager.save(saveContext)
+    }
+
+    private List<DeletePolicyMaster> reloadMasters(List<DeletePolicyMaster> masters) {
+        dataManager.load(DeletePolicyMaster).ids(masters*.id).list()
+    }
+
+    private int countItems() {
+        jdbc.queryForObject('select count(*) from TEST_DELETE_POLICY_ITEM where DELETE_TS is null', Integer)
+    }
+
+    private int countItems(String column, List<DeletePolicyMaster> masters) {
+        masters.sum { master ->
+            jdbc.queryForObject("select count(*) from TEST_DELETE_POLICY_ITEM where $column = ?".toString(),
+                    Integer, master.id.toString())
+        } as int
+    }
+
+    private List<OrderLine> loadLines(List ids, boolean softDeletion) {
+        dataManager.load(OrderLine)
+                .query('select e from sales_OrderLine e where e.id in :ids')
+                .parameter('ids', ids)
+                .softDeletion(softDeletion)
+                .list()
+    }
+}
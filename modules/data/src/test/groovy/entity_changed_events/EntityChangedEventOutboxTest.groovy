@@ -0,0 +1,238 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package entity_changed_events
+
+import io.jmix.core.DataManager
+import io.jmix.core.Id
+import io.jmix.data.event.EntityChangedEvent
+import io.jmix.data.impl.EntityChangedEventOutbox
+import io.jmix.data.listener.EntityChangedEventsListener
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.test.context.ContextConfiguration
+import org.springframework.test.context.TestPropertySource
+import spock.util.concurrent.PollingConditions
+import test_support.DataSpec
+import test_support.entity.TestConverterEntity
+import test_support.entity.TestPhone
+import test_support.entity.sales.Order
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.ScheduledExecutorService
+
+@ContextConfiguration(classes = OutboxTestConfiguration)
+@TestPropertySource(properties = [
+        'jmix.data.entityChangedEventOutboxEnabled = true',
+        'jmix.data.entityChangedEventOutboxBatchSize = 2',
+        'jmix.data.entityChangedEventOutboxPollingInterval = 600000',
+        'jmix.data.entityChangedEventOutboxMaxRetries = 2'
+])
+class EntityChangedEventOutboxTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    EntityChangedEventOutbox outbox
+
+    @Autowired
+    TestEventsListener listener
+
+    ScheduledExecutorService executor
+
+    void setup() {
+        listener.batches.clear()
+        listener.failure = null
+        listener.failingEntityId = null
+        executor = outbox.executor
+    }
+
+    void cleanup() {
+        outbox.executor = executor
+        jdbc.update('delete from SYS_ENTITY_CHANGED_EVENT')
+        jdbc.update('delete from SALES_ORDER')
+        jdbc.update('delete from TEST_CONVERTER_ENTITY')
+    }
+
+    def "events are delivered in batches after commit"() {
+        def conditions = new PollingConditions(timeout: 10)
+
+        when:
+        def order = dataManager.create(Order)
+        order.number = '1'
+        dataManager.save(order)
+        order = dataManager.load(Id.of(order)).one()
+        order.number = '2'
+        dataManager.save(order)
+        dataManager.remove(order)
+
+        then:
+        conditions.eventually {
+            def events = listener.batches.flatten()
+            assert events*.type == [EntityChangedEvent.Type.CREATED, EntityChangedEvent.Type.UPDATED, EntityChangedEvent.Type.DELETED]
+            assert events.every { it.entityId == Id.of(order) }
+            assert events[1].changes.isChanged('number')
+            assert events[1].changes.getOldValue('number') == '1'
+            assert jdbc.queryForObject('select count(*) from SYS_ENTITY_CHANGED_EVENT', Integer) == 0
+        }
+        listener.batches.every { it.size() <= 2 }
+    }
+
+    def "events are not recorded if transaction is rolled back"() {
+        when:
+        transaction.executeWithoutResult { status ->
+            def order = dataManager.create(Order)
+            order.number = '1'
+            dataManager.save(order)
+            status.setRollbackOnly()
+        }
+
+        then:
+        jdbc.queryForObject('select count(*) from SYS_ENTITY_CHANGED_EVENT', Integer) == 0
+    }
+
+    def "events are kept and delivered again if listener fails"() {
+        outbox.executor = null
+        listener.failure = new RuntimeException('test failure')
+
+        def order = dataManager.create(Order)
+        order.number = '1'
+
+        when:
+        dataManager.save(order)
+        outbox.dispatch()
+
+        then:
+        thrown(RuntimeException)
+        jdbc.queryForObject('select count(*) from SYS_ENTITY_CHANGED_EVENT', Integer) == 1
+
+        when:
+        listener.failure = null
+        outbox.dispatch()
+
+        then:
+        listener.batches.flatten().any { it.entityId == Id.of(order) && it.type == EntityChangedEvent.Type.CREATED }
+        jdbc.queryForObject('select count(*) from SYS_ENTITY_CHANGED_EVENT', Integer) == 0
+    }
+
+    def "event is discarded after max retries and does not block subsequent events"() {
+        outbox.executor = null
+        listener.failure = new RuntimeException('test failure')
+
+        def order1 = dataManager.save(new Order(number: '1'))
+
+        when:
+        3.times {
+            try {
+                outbox.dispatch()
+            } catch (RuntimeException ignored) {
+            }
+        }
+
+        then:
+        jdbc.queryForObject('select count(*) from SYS_ENTITY_CHANGED_EVENT', Integer) == 0
+        listener.batches.isEmpty()
+
+        when:
+        listener.failure = null
+        def order2 = dataManager.save(new Order(number: '2'))
+        outbox.dispatch()
+
+        then:
+        listener.batches.flatten()*.entityId == [Id.of(order2)]
+        !listener.batches.flatten().any { it.entityId == Id.of(order1) }
+    }
+
+    def "failing event is delivered alone and does not fail other events of its batch"() {
+        outbox.executor = null
+
+        def order1 = dataManager.save(new Order(number: '1'))
+        def order2 = dataManager.save(new Order(number: '2'))
+        listener.failingEntityId = Id.of(order1)
+
+        when:
+        outbox.dispatch()
+
+        then:
+        thrown(RuntimeException)
+        jdbc.queryForList('select RETRY_COUNT from SYS_ENTITY_CHANGED_EVENT order by ID', Integer) == [1, 1]
+
+        when:
+        3.times {
+            try {
+                outbox.dispatch()
+            } catch (RuntimeException ignored) {
+            }
+        }
+
+        then:
+        listener.batches*.size() == [1]
+        listener.batches[0][0].entityId == Id.of(order2)
+        jdbc.queryForObject('select count(*) from SYS_ENTITY_CHANGED_EVENT', Integer) == 0
+    }
+
+    def "non-serializable old values are recorded as strings"() {
+        def entity = dataManager.save(new TestConverterEntity(phone: new TestPhone('+1', '123'), uri: new URI('http://a')))
+        outbox.dispatch()
+
+        when:
+        entity = dataManager.load(Id.of(entity)).one()
+        entity.phone = new TestPhone('+1', '456')
+        entity.uri = new URI('http://b')
+        dataManager.save(entity)
+        outbox.dispatch()
+
+        then:
+        def events = listener.batches.flatten().findAll { it.type == EntityChangedEvent.Type.UPDATED }
+        events.size() == 1
+        events[0].entityId == Id.of(entity)
+        events[0].changes.attributes == ['phone', 'uri'] as Set
+        events[0].changes.getOldValue('phone') == '+1 123'
+        events[0].changes.getOldValue('uri') == new URI('http://a')
+        dataManager.load(Id.of(entity)).one().phone == new TestPhone('+1', '456')
+    }
+
+    @Configuration
+    static class OutboxTestConfiguration {
+
+        @Bean
+        TestEventsListener testEventsListener() {
+            return new TestEventsListener()
+        }
+    }
+
+    static class TestEventsListener implements EntityChangedEventsListener {
+
+        List<List<EntityChangedEvent>> batches = new CopyOnWriteArrayList<>()
+
+        volatile RuntimeException failure
+
+        volatile Id failingEntityId
+
+        @Override
+        void onEntityChanged(List<EntityChangedEvent> events) {
+            if (failure != null) {
+                throw failure
+            }
+            if (events.any { it.entityId == failingEntityId }) {
+                throw new RuntimeException('test failure of ' + failingEntityId)
+            }
+            batches.add(new ArrayList<>(events))
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package entity_import_export
+
+import io.jmix.core.CoreProperties
+import io.jmix.core.DataManager
+import io.jmix.core.EntityImportExport
+import io.jmix.core.EntityImportView
+import io.jmix.core.EntityImportViews
+import io.jmix.core.FetchPlan
+import io.jmix.core.FetchPlans
+import io.jmix.core.LoadContext
+import io.jmix.core.Metadata
+import io.jmix.core.ReferenceImportBehaviour
+import io.jmix.core.impl.importexport.EntityImportException
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.entity.sales.Customer
+import test_support.entity.sales.Order
+
+class EntityImportLoadingTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    EntityImportExport entityImportExport
+
+    @Autowired
+    EntityImportViews entityImportViews
+
+    @Autowired
+    FetchPlans fetchPlans
+
+    @Autowired
+    CoreProperties coreProperties
+
+    int defaultBatchSize
+
+    void setup() {
+        defaultBatchSize = coreProperties.entityImportLoadingBatchSize
+        coreProperties.entityImportLoadingBatchSize = 10
+    }
+
+    void cleanup() {
+        coreProperties.entityImportLoadingBatchSize = defaultBatchSize
+        jdbc.update('delete from SALES_ORDER')
+        jdbc.update('delete from SALES_CUSTOMER')
+    }
+
+    def "import of more entities than loading batch size updates existing and creates new ones"() {
+        def existing = (1..25).collect { dataManager.save(new Customer(name: 'existing-' + it)) }
+
+        def imported = existing.collect { new Customer(id: it.id, name: it.name + '-updated') }
+        imported.addAll((1..15).collect { new Customer(name: 'new-' + it) })
+
+        when:
+        def result = entityImportExport.importEntities(imported, customerImportView())
+
+        then:
+        result.size() == 40
+
+        def customers = loadCustomers()
+        customers.size() == 40
+        customers.findAll { it.name.endsWith('-updated') }*.id as Set == existing*.id as Set
+        customers.findAll { it.name.startsWith('new-') }.size() == 15
+        customers.every { it.version == (it.name.startsWith('new-') ? 1 : 2) }
+    }
+
+    def "references to existing and imported entities are resolved in batches"() {
+        def existing = (1..15).collect { dataManager.save(new Customer(name: 'existing-' + it)) }
+        def newCustomer = new Customer(name: 'new')
+
+        def orders = existing.collect { new Order(number: it.name, customer: new Customer(id: it.id)) }
+        orders.add(new Order(number: 'new', customer: newCustomer))
+
+        when:
+        entityImportExport.importEntities([newCustomer], customerImportView())
+        entityImportExport.importEntities(orders, orderImportView(ReferenceImportBehaviour.ERROR_ON_MISSING))
+
+        then:
+        def loaded = loadOrders()
+        loaded.size() == 16
+        loaded.every { it.customer != null && it.customer.name == it.number }
+    }
+
+    def "missing references are ignored or rejected according to import view"() {
+        def customer = dataManager.save(new Customer(name: 'existing'))
+        def missingCustomer = new Customer(name: 'missing')
+
+        def orders = [
+                new Order(number: 'existing', customer: new Customer(id: customer.id)),
+                new Order(number: 'missing', customer: missingCustomer)
+        ]
+
+        when:
+        entityImportExport.importEntities(orders, orderImportView(ReferenceImportBehaviour.IGNORE_MISSING))
+
+        then:
+        def loaded = loadOrders()
+        loaded.find { it.number == 'existing' }.customer == customer
+        loaded.find { it.number == 'missing' }.customer == null
+
+        when:
+        entityImportExport.importEntities([new Order(number: 'rejected', customer: missingCustomer)],
+                orderImportView(ReferenceImportBehaviour.ERROR_ON_MISSING))
+
+        then:
+        thrown(EntityImportException)
+    }
+
+    EntityImportView customerImportView() {
+        entityImportViews.builder(Customer).addLocalProperties().build()
+    }
+
+    EntityImportView orderImportView(ReferenceImportBehaviour behaviour) {
+        entityImportViews.builder(Order)
+                .addLocalProperties()
+                .addManyToOneProperty('customer', behaviour)
+                .build()
+    }
+
+    List<Order> loadOrders() {
+        dataManager.loadList(new LoadContext<>(metadata.getClass(Order))
+                .setQuery(new LoadContext.Query('select o from sales_Order o'))
+                .setFetchPlan(fetchPlans.builder(Order)
+                        .addFetchPlan(FetchPlan.LOCAL)
+                        .add('customer', FetchPlan.LOCAL)
+                        .build()))
+    }
+
+    List<Customer> loadCustomers() {
+        dataManager.loadList(new LoadContext<>(metadata.getClass(Customer))
+                .setQuery(new LoadContext.Query('select c from sales$Customer c')))
+    }
+}
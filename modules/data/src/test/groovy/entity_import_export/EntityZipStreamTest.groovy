@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package entity_import_export
+
+import io.jmix.core.CoreProperties
+import io.jmix.core.DataManager
+import io.jmix.core.EntityImportExport
+import io.jmix.core.EntityImportView
+import io.jmix.core.EntityImportViews
+import io.jmix.core.LoadContext
+import io.jmix.core.Metadata
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream
+import org.apache.commons.compress.utils.IOUtils
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.entity.sales.Customer
+
+import java.nio.charset.StandardCharsets
+
+class EntityZipStreamTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    EntityImportExport entityImportExport
+
+    @Autowired
+    EntityImportViews entityImportViews
+
+    @Autowired
+    CoreProperties coreProperties
+
+    int defaultBatchSize
+
+    void setup() {
+        defaultBatchSize = coreProperties.entityExportLoadingBatchSize
+        coreProperties.entityExportLoadingBatchSize = 10
+    }
+
+    void cleanup() {
+        coreProperties.entityExportLoadingBatchSize = defaultBatchSize
+        jdbc.update('delete from SALES_CUSTOMER')
+    }
+
+    def "collection exported to stream contains the same JSON as byte array export"() {
+        def customers = (1..5).collect { dataManager.save(new Customer(name: 'customer-' + it)) }
+
+        when:
+        def zipBytes = entityImportExport.exportEntitiesToZIP(customers)
+        def out = new ByteArrayOutputStream()
+        entityImportExport.exportEntitiesToZIP(customers, out)
+
+        def storedEntries = readEntries(zipBytes)
+        def streamedEntries = readEntries(out.toByteArray())
+
+        then:
+        storedEntries.keySet() == ['entities.json'] as Set
+        streamedEntries.keySet() == ['entities.json'] as Set
+        storedEntries['entities.json'].method == ZipArchiveEntry.STORED
+        streamedEntries['entities.json'].method == ZipArchiveEntry.DEFLATED
+        streamedEntries['entities.json'].json == storedEntries['entities.json'].json
+    }
+
+    def "entities exported by load context page by page are imported from stream"() {
+        def customers = (1..25).collect { dataManager.save(new Customer(name: 'customer-' + it)) }
+
+        def out = new ByteArrayOutputStream()
+        entityImportExport.exportEntitiesToZIP(new LoadContext<>(metadata.getClass(Customer))
+                .setQuery(new LoadContext.Query('select c from sales$Customer c')), out)
+        def zipBytes = out.toByteArray()
+
+        expect:
+        readEntries(zipBytes).keySet() == ['entities-1.json', 'entities-2.json', 'entities-3.json'] as Set
+
+        when:
+        jdbc.update('delete from SALES_CUSTOMER')
+        def count = entityImportExport.importEntitiesFromZIP(new ByteArrayInputStream(zipBytes), customerImportView(), 7)
+
+        then:
+        count == 25
+        loadCustomers().collect { [it.id, it.name] } as Set == customers.collect { [it.id, it.name] } as Set
+    }
+
+    def "stream and byte array imports accept archives of each other"() {
+        def customers = (1..5).collect { dataManager.save(new Customer(name: 'customer-' + it)) }
+
+        def storedZip = entityImportExport.exportEntitiesToZIP(customers)
+        def out = new ByteArrayOutputStream()
+        entityImportExport.exportEntitiesToZIP(customers, out)
+        def streamedZip = out.toByteArray()
+
+        when:
+        jdbc.update('delete from SALES_CUSTOMER')
+        def count = entityImportExport.importEntitiesFromZIP(new ByteArrayInputStream(storedZip), customerImportView(), 2)
+
+        then:
+        count == 5
+        loadCustomers()*.id as Set == customers*.id as Set
+
+        when:
+        jdbc.update('delete from SALES_CUSTOMER')
+        def imported = entityImportExport.importEntitiesFromZIP(streamedZip, customerImportView())
+
+        then:
+        imported*.id as Set == customers*.id as Set
+        loadCustomers()*.name as Set == customers*.name as Set
+    }
+
+    Map<String, Map> readEntries(byte[] zipBytes) {
+        Map<String, Map> entries = [:]
+        def archiveReader = new ZipArchiveInputStream(new ByteArrayInputStream(zipBytes))
+        try {
+            ZipArchiveEntry entry
+            while ((entry = archiveReader.nextZipEntry) != null) {
+                def json = new String(IOUtils.toByteArray(archiveReader), StandardCharsets.UTF_8)
+                entries[entry.name] = [method: entry.method, json: json]
+            }
+        } finally {
+            archiveReader.close()
+        }
+        entries
+    }
+
+    EntityImportView customerImportView() {
+        entityImportViews.builder(Customer).addLocalProperties().build()
+    }
+
+    List<Customer> loadCustomers() {
+        dataManager.loadList(new LoadContext<>(metadata.getClass(Customer))
+                .setQuery(new LoadContext.Query('select c from sales$Customer c')))
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jpql_sort
+
+import io.jmix.core.DataManager
+import io.jmix.core.LoadContext
+import io.jmix.core.Sort
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.entity.sales.Order
+
+class KeysetPaginationTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    void setup() {
+        [1, 1, 2, 2, 2, 3, 3].eachWithIndex { amount, i ->
+            def order = dataManager.create(Order)
+            order.number = "$i"
+            order.amount = amount as BigDecimal
+            dataManager.save(order)
+        }
+    }
+
+    void cleanup() {
+        jdbc.update('delete from SALES_ORDER')
+    }
+
+    def "pages loaded by keyset are the same as loaded by offset"() {
+        expect:
+        loadByKeyset(sort, 3) == loadByOffset(sort, 3)
+        loadByKeyset(sort, 3).size() == 7
+
+        where:
+        sort << [
+                Sort.by('amount'),
+                Sort.by(Sort.Direction.DESC, 'amount'),
+                Sort.by('amount', 'number'),
+                Sort.by('number'),
+                null
+        ]
+    }
+
+    def "keyset values are taken from the last entity"() {
+        def sort = Sort.by('amount', 'number')
+        def first = dataManager.load(Order).query('select e from sales_Order e')
+                .sort(sort)
+                .maxResults(2)
+                .list()
+
+        when:
+        def next = dataManager.load(Order).query('select e from sales_Order e')
+                .sort(sort)
+                .after(first.last())
+                .maxResults(2)
+                .list()
+
+        then:
+        next*.number == ['2', '3']
+        LoadContext.Query.getKeysetValues(first.last(), sort) == [first.last().amount, '1', first.last().id]
+    }
+
+    def "keyset pagination is not supported for reference properties"() {
+        def order = dataManager.load(Order).query('select e from sales_Order e').list().first()
+
+        when:
+        dataManager.load(Order).query('select e from sales_Order e')
+                .sort(Sort.by('customer'))
+                .keysetValues([null, order.id])
+                .list()
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    private List<String> loadByKeyset(Sort sort, int pageSize) {
+        List<Order> result = []
+        List<Order> page = null
+        while (page == null || page.size() == pageSize) {
+            def loader = dataManager.load(Order).query('select e from sales_Order e')
+                    .sort(sort)
+                    .maxResults(pageSize)
+            if (page) {
+                loader.after(page.last())
+            }
+            page = loader.list()
+            result.addAll(page)
+        }
+        return result*.number
+    }
+
+    private List<String> loadByOffset(Sort sort, int pageSize) {
+        List<Order> result = []
+        List<Order> page = null
+        while (page == null || page.size() == pageSize) {
+            page = dataManager.load(Order).query('select e from sales_Order e')
+                    .sort(sort ?: Sort.by('id'))
+                    .firstResult(result.size())
+                    .maxResults(pageSize)
+                    .list()
+            result.addAll(page)
+        }
+        return result*.number
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package monitoring
+
+import io.jmix.core.DataManager
+import io.jmix.core.LoadContext
+import io.jmix.core.Metadata
+import io.jmix.core.Stores
+import io.jmix.core.monitoring.*
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.entity.TestAppEntity
+
+import java.util.concurrent.TimeUnit
+
+class DataObservationsTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    DataObservations dataObservations
+
+    DataObserver[] savedObservers
+    RecordingObserver observer = new RecordingObserver()
+
+    void setup() {
+        savedObservers = dataObservations.observers
+        dataObservations.observers = [observer] as DataObserver[]
+    }
+
+    void cleanup() {
+        dataObservations.observers = savedObservers
+    }
+
+    def "data manager operations are reported to observers"() {
+        def entity = dataManager.create(TestAppEntity)
+        entity.name = 'test'
+
+        when:
+        dataManager.save(entity)
+        dataManager.load(TestAppEntity).list()
+        dataManager.getCount(new LoadContext(metadata.getClass(TestAppEntity))
+                .setQuery(new LoadContext.Query('select e from test_TestAppEntity e')))
+
+        then:
+        def save = observer.observations.find { it.operation == DataOperation.SAVE }
+        save.storeName == Stores.MAIN
+        save.rowCount == 1
+        save.error == null
+
+        def loadList = observer.observations.find { it.operation == DataOperation.LOAD_LIST }
+        loadList.entityName == 'test_TestAppEntity'
+        loadList.storeName == Stores.MAIN
+        loadList.rowCount == 1
+        loadList.getDuration(TimeUnit.NANOSECONDS) > 0
+
+        def getCount = observer.observations.find { it.operation == DataOperation.GET_COUNT }
+        getCount.entityName == 'test_TestAppEntity'
+        getCount.rowCount == 1
+    }
+
+    def "failed operation is reported with error"() {
+        when:
+        dataManager.load(TestAppEntity).query('select e from test_TestAppEntity e where e.unknown = 1').list()
+
+        then:
+        thrown(RuntimeException)
+
+        def loadList = observer.observations.find { it.operation == DataOperation.LOAD_LIST }
+        loadList.error != null
+        loadList.rowCount == -1
+    }
+
+    def "no observations are made without observers"() {
+        def observations = new DataObservations(observers: [] as DataObserver[])
+
+        expect:
+        !observations.enabled
+        observations.begin(DataOperation.LOAD, 'test_TestAppEntity', Stores.MAIN).is(DataObservation.NOOP)
+    }
+
+    def "micrometer observer publishes timings and row counts"() {
+        def meterRegistry = new SimpleMeterRegistry()
+        def observations = new DataObservations(observers: [new MicrometerDataObserver(meterRegistry)] as DataObserver[])
+
+        when:
+        observations.begin(DataOperation.LOAD_LIST, 'test_TestAppEntity', Stores.MAIN).end(10)
+        observations.begin(DataOperation.LOAD_LIST, 'test_TestAppEntity', Stores.MAIN).end(20)
+        observations.begin(DataOperation.LOAD, 'test_TestAppEntity', Stores.MAIN).fail(new RuntimeException())
+
+        then:
+        meterRegistry.get(MicrometerDataObserver.OPERATIONS_METRICS_NAME)
+                .tags('operation', 'loadList', 'entity', 'test_TestAppEntity', 'store', Stores.MAIN, 'outcome', 'success')
+                .timer().count() == 2
+        meterRegistry.get(MicrometerDataObserver.OPERATIONS_METRICS_NAME)
+                .tags('operation', 'load', 'outcome', 'error')
+                .timer().count() == 1
+        meterRegistry.get(MicrometerDataObserver.ROWS_METRICS_NAME)
+                .tags('operation', 'loadList')
+                .summary().totalAmount() == 30
+    }
+
+    static class RecordingObserver implements DataObserver {
+
+        List<DataObservation> observations = []
+
+        @Override
+        void onEnd(DataObservation observation) {
+            observations.add(observation)
+        }
+    }
+}
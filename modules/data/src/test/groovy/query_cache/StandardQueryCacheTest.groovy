@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package query_cache
+
+import io.jmix.data.impl.entitycache.QueryCache
+import io.jmix.data.impl.entitycache.QueryKey
+import io.jmix.data.impl.entitycache.QueryResult
+import io.jmix.data.impl.entitycache.StandardQueryCache
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+
+class StandardQueryCacheTest extends DataSpec {
+
+    @Autowired
+    QueryCache queryCache
+
+    void setup() {
+        queryCache.invalidateAll()
+    }
+
+    void cleanup() {
+        queryCache.invalidateAll()
+    }
+
+    def "query key is found by id and removed from indexes on invalidation"() {
+        def key = createKey('select e from test_Foo e')
+        queryCache.put(key, new QueryResult([], 'test_Foo', ['test_Foo'] as Set))
+
+        expect:
+        queryCache.findQueryKeyById(key.id) == key
+
+        when:
+        def invalidated = queryCache.invalidate(key.id)
+
+        then:
+        invalidated == key
+        queryCache.size() == 0
+        queryCache.findQueryKeyById(key.id) == null
+        ((StandardQueryCache) queryCache).typeIndex.isEmpty()
+    }
+
+    def "invalidation by type removes only related queries"() {
+        def fooKey = createKey('select e from test_Foo e')
+        def barKey = createKey('select e from test_Bar e')
+        queryCache.put(fooKey, new QueryResult([], 'test_Foo', ['test_Foo'] as Set))
+        queryCache.put(barKey, new QueryResult([], 'test_Bar', ['test_Bar'] as Set))
+
+        when:
+        queryCache.invalidate('test_Foo')
+
+        then:
+        queryCache.size() == 1
+        queryCache.get(fooKey) == null
+        queryCache.get(barKey) != null
+    }
+
+    def "result with outdated type generation is not returned"() {
+        def key = createKey('select e from test_Foo e')
+        def result = new QueryResult([], 'test_Foo', ['test_Foo'] as Set)
+        queryCache.put(key, result)
+
+        when:
+        result.typeGenerations = [test_Foo: -1L]
+
+        then:
+        queryCache.get(key) == null
+        queryCache.size() == 0
+    }
+
+    def "hits and misses are counted"() {
+        def key = createKey('select e from test_Foo e')
+        queryCache.put(key, new QueryResult([], 'test_Foo', ['test_Foo'] as Set))
+        def stats = queryCache.stats
+
+        when:
+        queryCache.get(key)
+        queryCache.get(createKey('select e from test_Bar e'))
+
+        then:
+        queryCache.stats.minus(stats).hitCount() == 1
+        queryCache.stats.minus(stats).missCount() == 1
+    }
+
+    def "evicted and invalidated entries are pruned from indexes"() {
+        def cache = (StandardQueryCache) queryCache
+        def overflow = 10
+        def stats = queryCache.stats
+
+        when: "the cache is filled past its size limit"
+        (0..<queryCache.maxSize + overflow).each {
+            queryCache.put(createKey("select e from test_Foo e where e.id = $it"),
+                    new QueryResult([], 'test_Foo', ['test_Foo'] as Set))
+        }
+
+        then: "evicted entries are removed from the indexes"
+        queryCache.size() <= queryCache.maxSize
+        queryCache.stats.minus(stats).evictionCount() >= overflow
+        cache.idIndex.size() == queryCache.size()
+        cache.typeIndex['test_Foo'].size() == queryCache.size()
+
+        when: "entries of other types are added and the type is invalidated"
+        def barKey = createKey('select e from test_Bar e')
+        queryCache.put(barKey, new QueryResult([], 'test_Bar', ['test_Bar'] as Set))
+        def fooBazKey = createKey('select e from test_Baz e join e.foo f')
+        queryCache.put(fooBazKey, new QueryResult([], 'test_Baz', ['test_Baz', 'test_Foo'] as Set))
+
+        queryCache.invalidate('test_Foo')
+
+        then: "only entries not depending on the type remain"
+        queryCache.size() == 1
+        queryCache.get(barKey) != null
+        queryCache.get(fooBazKey) == null
+        queryCache.findQueryKeyById(fooBazKey.id) == null
+        cache.idIndex.keySet() == [barKey.id] as Set
+        cache.typeIndex.keySet() == ['test_Bar'] as Set
+    }
+
+    private static QueryKey createKey(String queryString) {
+        return new QueryKey(queryString, 0, 0, true, false, null, null)
+    }
+}
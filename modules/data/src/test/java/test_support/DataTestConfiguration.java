@@ -26,6 +26,7 @@ import io.jmix.data.persistence.JpqlSortExpressionProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.*;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 import org.springframework.orm.jpa.JpaTransactionManager;
@@ -49,6 +50,7 @@ public class DataTestConfiguration {
         return new EmbeddedDatabaseBuilder()
                 .generateUniqueName(true)
                 .setType(EmbeddedDatabaseType.HSQL)
+                .addScript("classpath:/test_support/entity-changed-event-outbox.sql")
                 .build();
     }
 
@@ -77,6 +79,29 @@ public class DataTestConfiguration {
         return new TransactionTemplate(transactionManager);
     }
 
+    /*
+     * The read replica of the main store shares its database, so loading routed to the replica returns the same data.
+     * The replica has its own data source and entity manager factory objects to be bound to replica transactions
+     * separately from the primary ones.
+     */
+    @Bean(destroyMethod = "")
+    DataSource replicaDataSource(@Qualifier("dataSource") DataSource dataSource) {
+        return new DelegatingDataSource(dataSource);
+    }
+
+    @Bean
+    LocalContainerEntityManagerFactoryBean replicaEntityManagerFactory(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            PersistenceConfigProcessor processor, JpaVendorAdapter jpaVendorAdapter) {
+        return new JmixEntityManagerFactoryBean(Stores.MAIN, replicaDataSource, processor, jpaVendorAdapter);
+    }
+
+    @Bean
+    TestReplicaTransactionManager replicaTransactionManager(
+            @Qualifier("replicaEntityManagerFactory") EntityManagerFactory entityManagerFactory) {
+        return new TestReplicaTransactionManager(Stores.MAIN, entityManagerFactory);
+    }
+
     @Bean
     DataSource db1DataSource() {
         return new EmbeddedDatabaseBuilder()
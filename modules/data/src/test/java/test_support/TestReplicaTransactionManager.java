@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test_support;
+
+import io.jmix.data.impl.JmixTransactionManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transaction manager of the main store read replica which counts requested transactions.
+ */
+public class TestReplicaTransactionManager extends JmixTransactionManager {
+
+    public final AtomicInteger transactionCount = new AtomicInteger();
+
+    public TestReplicaTransactionManager(String storeName, EntityManagerFactory entityManagerFactory) {
+        super(storeName, entityManagerFactory);
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        transactionCount.incrementAndGet();
+        return super.doGetTransaction();
+    }
+}
@@ -16,6 +16,7 @@
 
 package test_support.entity;
 
+import io.jmix.core.entity.annotation.PublishEntityChangedEvents;
 import io.jmix.data.entity.BaseUuidEntity;
 
 import javax.persistence.Column;
@@ -26,6 +27,7 @@ import java.net.URI;
 
 @Entity(name = "test_TestConverterEntity")
 @Table(name = "TEST_CONVERTER_ENTITY")
+@PublishEntityChangedEvents
 public class TestConverterEntity extends BaseUuidEntity {
 
     @Column(name = "URI")
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test_support.entity.delete_policy;
+
+import io.jmix.core.DeletePolicy;
+import io.jmix.core.entity.annotation.OnDeleteInverse;
+import io.jmix.data.entity.StandardEntity;
+
+import javax.persistence.*;
+
+@Entity(name = "test_DeletePolicyItem")
+@Table(name = "TEST_DELETE_POLICY_ITEM")
+public class DeletePolicyItem extends StandardEntity {
+    private static final long serialVersionUID = -4803553146211307519L;
+
+    @Column(name = "NAME")
+    private String name;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "DENY_MASTER_ID")
+    private DeletePolicyMaster denyMaster;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "UNLINK_MASTER_ID")
+    private DeletePolicyMaster unlinkMaster;
+
+    @OnDeleteInverse(DeletePolicy.DENY)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "DENY_REF_ID")
+    private DeletePolicyMaster denyReference;
+
+    @OnDeleteInverse(DeletePolicy.UNLINK)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "UNLINK_REF_ID")
+    private DeletePolicyMaster unlinkReference;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public DeletePolicyMaster getDenyMaster() {
+        return denyMaster;
+    }
+
+    public void setDenyMaster(DeletePolicyMaster denyMaster) {
+        this.denyMaster = denyMaster;
+    }
+
+    public DeletePolicyMaster getUnlinkMaster() {
+        return unlinkMaster;
+    }
+
+    public void setUnlinkMaster(DeletePolicyMaster unlinkMaster) {
+        this.unlinkMaster = unlinkMaster;
+    }
+
+    public DeletePolicyMaster getDenyReference() {
+        return denyReference;
+    }
+
+    public void setDenyReference(DeletePolicyMaster denyReference) {
+        this.denyReference = denyReference;
+    }
+
+    public DeletePolicyMaster getUnlinkReference() {
+        return unlinkReference;
+    }
+
+    public void setUnlinkReference(DeletePolicyMaster unlinkReference) {
+        this.unlinkReference = unlinkReference;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test_support.entity.delete_policy;
+
+import io.jmix.core.DeletePolicy;
+import io.jmix.core.entity.annotation.OnDelete;
+import io.jmix.data.entity.StandardEntity;
+
+import javax.persistence.*;
+import java.util.List;
+
+@Entity(name = "test_DeletePolicyMaster")
+@Table(name = "TEST_DELETE_POLICY_MASTER")
+public class DeletePolicyMaster extends StandardEntity {
+    private static final long serialVersionUID = 3150393215786547386L;
+
+    @Column(name = "NAME")
+    private String name;
+
+    @OnDelete(DeletePolicy.DENY)
+    @OneToMany(mappedBy = "denyMaster")
+    private List<DeletePolicyItem> denyItems;
+
+    @OnDelete(DeletePolicy.UNLINK)
+    @OneToMany(mappedBy = "unlinkMaster")
+    private List<DeletePolicyItem> unlinkItems;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<DeletePolicyItem> getDenyItems() {
+        return denyItems;
+    }
+
+    public void setDenyItems(List<DeletePolicyItem> denyItems) {
+        this.denyItems = denyItems;
+    }
+
+    public List<DeletePolicyItem> getUnlinkItems() {
+        return unlinkItems;
+    }
+
+    public void setUnlinkItems(List<DeletePolicyItem> unlinkItems) {
+        this.unlinkItems = unlinkItems;
+    }
+}
@@ -0,0 +1,9 @@
+-- Outbox table created by changeSet 1.1 of io/jmix/data/liquibase/changelog.xml, Liquibase is not run in tests
+create table SYS_ENTITY_CHANGED_EVENT (
+    ID bigint generated by default as identity primary key,
+    CREATE_TS timestamp,
+    ENTITY_NAME varchar(255) not null,
+    ENTITY_ID varchar(255),
+    EVENT_DATA clob not null,
+    RETRY_COUNT integer default 0 not null
+);
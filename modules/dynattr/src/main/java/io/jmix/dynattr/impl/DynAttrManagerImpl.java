@@ -17,7 +17,10 @@
 
 package io.jmix.dynattr.impl;
 
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
 import io.jmix.core.*;
 import io.jmix.core.common.util.ReflectionHelper;
@@ -77,12 +80,18 @@ public class DynAttrManagerImpl implements DynAttrManager {
 
     @Override
     public void storeValues(Collection<JmixEntity> entities, Collection<AccessConstraint<?>> accessConstraints) {
-        storeAwareLocator.getTransactionTemplate(dynamicAttributesStore)
-                .executeWithoutResult(status -> {
-                    for (JmixEntity entity : entities) {
-                        doStoreValues(entity, accessConstraints);
-                    }
-                });
+        Multimap<MetaClass, JmixEntity> entitiesToStore = collectEntitiesToStore(entities);
+        if (!entitiesToStore.isEmpty()) {
+            storeAwareLocator.getTransactionTemplate(dynamicAttributesStore)
+                    .executeWithoutResult(status -> {
+                        for (MetaClass metaClass : entitiesToStore.keySet()) {
+                            for (List<JmixEntity> batch : Iterables.partition(entitiesToStore.get(metaClass),
+                                    MAX_ENTITIES_FOR_ATTRIBUTE_VALUES_BATCH)) {
+                                doStoreValues(metaClass, batch, accessConstraints);
+                            }
+                        }
+                    });
+        }
     }
 
     public void loadValues(Collection<JmixEntity> entities, @Nullable FetchPlan fetchPlan, Collection<AccessConstraint<?>> accessConstraints) {
@@ -97,92 +106,119 @@ public class DynAttrManagerImpl implements DynAttrManager {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    protected void doStoreValues(JmixEntity entity, Collection<AccessConstraint<?>> accessConstraints) {
-        DynamicAttributesState state = (DynamicAttributesState)
-                entity.__getEntityEntry().getExtraState(DynamicAttributesState.class);
-        if (state != null && state.getDynamicAttributes() != null) {
-            EntityManager entityManager = storeAwareLocator.getEntityManager(dynamicAttributesStore);
+    /**
+     * Stores changed dynamic attribute values of the given entities of the same class. Existing values of all
+     * entities are loaded by a single query, values of collection attributes are stored at once after all
+     * entities are processed.
+     */
+    protected void doStoreValues(MetaClass metaClass, List<JmixEntity> entities,
+                                 Collection<AccessConstraint<?>> accessConstraints) {
+        EntityManager entityManager = storeAwareLocator.getEntityManager(dynamicAttributesStore);
+
+        List<Object> entityIds = entities.stream()
+                .map(e -> referenceToEntitySupport.getReferenceId(e))
+                .collect(Collectors.toList());
+
+        Multimap<Object, CategoryAttributeValue> attributeValuesByEntityId = ArrayListMultimap.create();
+        for (CategoryAttributeValue attributeValue : loadValues(metaClass, accessConstraints, entityIds)) {
+            attributeValuesByEntityId.put(attributeValue.getObjectEntityId(), attributeValue);
+        }
 
-            DynamicAttributes dynamicModel = state.getDynamicAttributes();
+        List<CategoryAttributeValue> collectionAttributeValues = new ArrayList<>();
+
+        for (int i = 0; i < entities.size(); i++) {
+            Object entityId = entityIds.get(i);
+            DynamicAttributes dynamicModel = getDynamicAttributes(entities.get(i));
             DynamicAttributes.Changes changes = dynamicModel.getChanges();
 
-            if (changes.hasChanges()) {
+            for (CategoryAttributeValue attributeValue : attributeValuesByEntityId.get(entityId)) {
+                String attributeName = attributeValue.getCode();
+                if (changes.isDeleted(attributeName)) {
+                    setValueToCategoryAttributeValue(attributeValue, null);
+                    entityManager.remove(attributeValue);
+                } else if (changes.isUpdated(attributeName)) {
+                    setValueToCategoryAttributeValue(attributeValue, dynamicModel.getValue(attributeName));
 
-                MetaClass metaClass = metadata.getClass(entity.getClass());
-                List<CategoryAttributeValue> attributeValues = loadValues(metaClass, accessConstraints,
-                        Collections.singletonList(referenceToEntitySupport.getReferenceId(entity)));
-
-                for (CategoryAttributeValue attributeValue : attributeValues) {
-                    String attributeName = attributeValue.getCode();
-                    if (changes.isDeleted(attributeName)) {
-                        setValueToCategoryAttributeValue(attributeValue, null);
-                        entityManager.remove(attributeValue);
-                    } else if (changes.isUpdated(attributeName)) {
-                        setValueToCategoryAttributeValue(attributeValue, dynamicModel.getValue(attributeName));
-
-                        if (BooleanUtils.isTrue(attributeValue.getCategoryAttribute().getIsCollection())) {
-                            doStoreCollectionValue(attributeValue);
-                        }
+                    if (BooleanUtils.isTrue(attributeValue.getCategoryAttribute().getIsCollection())) {
+                        collectionAttributeValues.add(attributeValue);
                     }
                 }
+            }
 
-                for (String attributeName : changes.getCreated()) {
-                    if (changes.isCreated(attributeName)) {
-                        dynAttrMetadata.getAttributeByCode(metaClass, attributeName)
-                                .ifPresent(attribute -> {
-                                    CategoryAttributeValue attributeValue = metadata.create(CategoryAttributeValue.class);
-                                    setValueToCategoryAttributeValue(attributeValue, dynamicModel.getValue(attributeName));
-                                    attributeValue.setObjectEntityId(referenceToEntitySupport.getReferenceId(entity));
-                                    attributeValue.setCode(attributeName);
-                                    attributeValue.setCategoryAttribute((CategoryAttribute) attribute.getSource());
+            for (String attributeName : changes.getCreated()) {
+                dynAttrMetadata.getAttributeByCode(metaClass, attributeName)
+                        .ifPresent(attribute -> {
+                            CategoryAttributeValue attributeValue = metadata.create(CategoryAttributeValue.class);
+                            setValueToCategoryAttributeValue(attributeValue, dynamicModel.getValue(attributeName));
+                            attributeValue.setObjectEntityId(entityId);
+                            attributeValue.setCode(attributeName);
+                            attributeValue.setCategoryAttribute((CategoryAttribute) attribute.getSource());
 
-                                    entityManager.persist(attributeValue);
+                            entityManager.persist(attributeValue);
 
-                                    if (attribute.isCollection()) {
-                                        doStoreCollectionValue(attributeValue);
-                                    }
-                                });
-                    }
-                }
+                            if (attribute.isCollection()) {
+                                collectionAttributeValues.add(attributeValue);
+                            }
+                        });
             }
             //todo: refresh state
             //state.setValues(mergedValues);
         }
+
+        doStoreCollectionValues(collectionAttributeValues);
     }
 
     /**
-     * Removes nested {@code CategoryAttributeValue} entities for items that were removed from the collection value
+     * Removes nested {@code CategoryAttributeValue} entities for items that were removed from the collection values
      * and creates new child {@code CategoryAttributeValue} instances for just added collection value items.
-     *
-     * @param collectionAttributeValue
+     * <p>
+     * Child values of all given collection values are removed and inserted together, so the resulting statements
+     * are grouped into JDBC batches if batch writing is enabled for the store by the
+     * {@code eclipselink.jdbc.batch-writing} property.
      */
-    protected void doStoreCollectionValue(CategoryAttributeValue collectionAttributeValue) {
+    protected void doStoreCollectionValues(List<CategoryAttributeValue> collectionAttributeValues) {
+        if (collectionAttributeValues.isEmpty()) {
+            return;
+        }
         EntityManager entityManager = storeAwareLocator.getEntityManager(dynamicAttributesStore);
 
-        List<Object> collection = collectionAttributeValue.getTransientCollectionValue();
-        List<Object> newCollection = new ArrayList<>(collection);
+        List<CategoryAttributeValue> childValuesToRemove = new ArrayList<>();
+        List<CategoryAttributeValue> childValuesToCreate = new ArrayList<>();
+
+        for (CategoryAttributeValue collectionAttributeValue : collectionAttributeValues) {
+            List<Object> collection = collectionAttributeValue.getTransientCollectionValue() != null
+                    ? collectionAttributeValue.getTransientCollectionValue()
+                    : Collections.emptyList();
+            List<Object> newCollection = new ArrayList<>(collection);
 
-        if (collectionAttributeValue.getChildValues() != null) {
-            for (CategoryAttributeValue existingChild : collectionAttributeValue.getChildValues()) {
-                if (!existingChild.isDeleted()) {
-                    if (!collection.contains(existingChild.getValue())) {
-                        entityManager.remove(existingChild);
+            if (collectionAttributeValue.getChildValues() != null) {
+                for (CategoryAttributeValue existingChild : collectionAttributeValue.getChildValues()) {
+                    if (!existingChild.isDeleted()) {
+                        if (!collection.contains(existingChild.getValue())) {
+                            childValuesToRemove.add(existingChild);
+                        }
+                        newCollection.remove(existingChild.getValue());
                     }
-                    newCollection.remove(existingChild.getValue());
                 }
             }
-        }
 
-        for (Object value : newCollection) {
-            CategoryAttributeValue childValue = metadata.create(CategoryAttributeValue.class);
-            childValue.setParent(collectionAttributeValue);
-            setValueToCategoryAttributeValue(childValue, value);
-            if (collectionAttributeValue.getObjectEntityId() != null) {
-                childValue.setObjectEntityId(collectionAttributeValue.getObjectEntityId());
+            for (Object value : newCollection) {
+                CategoryAttributeValue childValue = metadata.create(CategoryAttributeValue.class);
+                childValue.setParent(collectionAttributeValue);
+                setValueToCategoryAttributeValue(childValue, value);
+                if (collectionAttributeValue.getObjectEntityId() != null) {
+                    childValue.setObjectEntityId(collectionAttributeValue.getObjectEntityId());
+                }
+                childValue.setCode(collectionAttributeValue.getCode());
+                childValue.setCategoryAttribute(collectionAttributeValue.getCategoryAttribute());
+                childValuesToCreate.add(childValue);
             }
-            childValue.setCode(collectionAttributeValue.getCode());
-            childValue.setCategoryAttribute(collectionAttributeValue.getCategoryAttribute());
+        }
+
+        for (CategoryAttributeValue childValue : childValuesToRemove) {
+            entityManager.remove(childValue);
+        }
+        for (CategoryAttributeValue childValue : childValuesToCreate) {
             entityManager.persist(childValue);
         }
     }
@@ -400,6 +436,24 @@ public class DynAttrManagerImpl implements DynAttrManager {
                 .getResultList();
     }
 
+    protected Multimap<MetaClass, JmixEntity> collectEntitiesToStore(Collection<JmixEntity> entities) {
+        Multimap<MetaClass, JmixEntity> entitiesByType = LinkedListMultimap.create();
+        for (JmixEntity entity : entities) {
+            DynamicAttributes dynamicModel = getDynamicAttributes(entity);
+            if (dynamicModel != null && dynamicModel.getChanges().hasChanges()) {
+                entitiesByType.put(metadata.getClass(entity.getClass()), entity);
+            }
+        }
+        return entitiesByType;
+    }
+
+    @Nullable
+    protected DynamicAttributes getDynamicAttributes(JmixEntity entity) {
+        DynamicAttributesState state = (DynamicAttributesState)
+                entity.__getEntityEntry().getExtraState(DynamicAttributesState.class);
+        return state != null ? state.getDynamicAttributes() : null;
+    }
+
     protected Multimap<MetaClass, JmixEntity> collectEntitiesToLoad(Collection<JmixEntity> entities, @Nullable FetchPlan fetchPlan) {
         Multimap<MetaClass, JmixEntity> entitiesByType = HashMultimap.create();
         if (fetchPlan != null) {
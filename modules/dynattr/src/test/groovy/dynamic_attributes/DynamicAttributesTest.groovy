@@ -232,6 +232,39 @@ class DynamicAttributesTest extends Specification {
         EntityValues.getValue(user, '+userAttribute') == 'userName'
     }
 
+    def "save several users with dynamic attributes at once"() {
+        setup:
+
+        def user = dataManager.load(User)
+                .id(user1.id)
+                .dynamicAttributes(true)
+                .one()
+
+        user2 = metadata.create(User)
+        user2.login = 'user2'
+
+        when:
+
+        EntityValues.setValue(user, '+userAttribute', 'userName1')
+        EntityValues.setValue(user, '+userIntCollectionAttribute', [1, 5])
+        EntityValues.setValue(user2, '+userAttribute', 'userName2')
+        EntityValues.setValue(user2, '+userIntCollectionAttribute', [2])
+        dataManager.save(user, user2)
+
+        def users = dataManager.load(User)
+                .ids(user1.id, user2.id)
+                .dynamicAttributes(true)
+                .list()
+        def loadedUser1 = users.find { it.id == user1.id }
+        def loadedUser2 = users.find { it.id == user2.id }
+
+        then:
+        EntityValues.getValue(loadedUser1, '+userAttribute') == 'userName1'
+        EntityValues.getValue(loadedUser2, '+userAttribute') == 'userName2'
+        (EntityValues.getValue(loadedUser1, '+userIntCollectionAttribute') as Collection).containsAll([1, 5])
+        EntityValues.getValue(loadedUser2, '+userIntCollectionAttribute') == [2]
+    }
+
     def "load user and save with dynamic attributes"() {
         setup:
 
@@ -18,8 +18,8 @@ package io.jmix.fsfilestorage;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.CoreProperties;
-import io.jmix.core.FileStorage;
 import io.jmix.core.FileStorageException;
+import io.jmix.core.LocalFileStorage;
 import io.jmix.core.TimeSource;
 import io.jmix.core.UuidProvider;
 import io.jmix.core.common.util.URLEncodeUtils;
@@ -41,9 +41,12 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
@@ -54,7 +57,7 @@ import java.util.concurrent.Executors;
 import static java.nio.file.StandardOpenOption.CREATE_NEW;
 
 @Component("fsfs_FileStorage")
-public class FileSystemFileStorage implements FileStorage<URI, String> {
+public class FileSystemFileStorage implements LocalFileStorage<URI, String> {
 
     private static final Logger log = LoggerFactory.getLogger(FileSystemFileStorage.class);
 
@@ -174,8 +177,60 @@ public class FileSystemFileStorage implements FileStorage<URI, String> {
             FileUtils.deleteQuietly(path.toFile());
             throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION, path.toAbsolutePath().toString(), e);
         }
-        // Copy file to secondary storages asynchronously
 
+        copyToSecondaryStorages(roots, relativePath, reference);
+
+        return size;
+    }
+
+    /**
+     * Renames the file into the primary storage directory if it is located on the same file system,
+     * otherwise copies its contents.
+     */
+    @Override
+    public long moveFile(URI reference, Path file) {
+        Path relativePath = getRelativePathFromURI(reference);
+
+        Path[] roots = getStorageRoots();
+
+        checkStorageDefined(roots, reference);
+        checkPrimaryStorageAccessible(roots, reference);
+
+        Path path = roots[0].resolve(relativePath);
+        path.getParent().toFile().mkdirs();
+
+        checkFileExists(path);
+
+        long size;
+        try {
+            size = Files.size(file);
+            Files.move(file, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            log.debug("Unable to move {} into {}, copying the contents", file, path);
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                return saveStream(reference, inputStream);
+            } catch (IOException ex) {
+                throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION,
+                        file.toAbsolutePath().toString(), ex);
+            }
+        } catch (NoSuchFileException e) {
+            throw new FileStorageException(FileStorageException.Type.FILE_NOT_FOUND,
+                    file.toAbsolutePath().toString(), e);
+        } catch (IOException e) {
+            throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION,
+                    path.toAbsolutePath().toString(), e);
+        }
+
+        copyToSecondaryStorages(roots, relativePath, reference);
+
+        return size;
+    }
+
+    /**
+     * Copies a file saved in the primary storage to secondary storages asynchronously.
+     */
+    protected void copyToSecondaryStorages(Path[] roots, Path relativePath, URI reference) {
+        Path path = roots[0].resolve(relativePath);
         for (int i = 1; i < roots.length; i++) {
             if (!roots[i].toFile().exists()) {
                 log.error("Error saving {} into {} : directory doesn't exist", reference, roots[i]);
@@ -192,8 +247,6 @@ public class FileSystemFileStorage implements FileStorage<URI, String> {
                 }
             });
         }
-
-        return size;
     }
 
     @Override
@@ -17,6 +17,7 @@
 
 import io.jmix.core.FileStorage
 import io.jmix.core.CoreConfiguration
+import io.jmix.core.LocalFileStorage
 import io.jmix.fsfilestorage.FileSystemFileStorageConfiguration
 import org.apache.commons.io.IOUtils
 import org.springframework.beans.factory.annotation.Autowired
@@ -24,6 +25,8 @@ import org.springframework.test.context.ContextConfiguration
 import spock.lang.Specification
 import test_support.FileSystemFileStorageTestConfiguration
 
+import java.nio.file.Files
+
 @ContextConfiguration(classes = [CoreConfiguration, FileSystemFileStorageConfiguration,
         FileSystemFileStorageTestConfiguration])
 class FileSystemFileStorageTest extends Specification {
@@ -45,6 +48,25 @@ class FileSystemFileStorageTest extends Specification {
         fileStorage.removeFile(reference)
     }
 
+    def "move local file into file storage"() {
+        URI reference = fileStorage.createReference('test.txt')
+
+        byte[] a = 'Test output'.getBytes()
+        def file = Files.createTempFile('upload', '.tmp')
+        Files.write(file, a)
+
+        when:
+        def size = ((LocalFileStorage<URI, String>) fileStorage).moveFile(reference, file)
+
+        then:
+        size == a.length
+        IOUtils.toByteArray(fileStorage.openStream(reference)) == a
+
+        cleanup:
+        fileStorage.removeFile(reference)
+        Files.deleteIfExists(file)
+    }
+
     def "URI file reference format"() {
 
         when: "Simple URI reference"
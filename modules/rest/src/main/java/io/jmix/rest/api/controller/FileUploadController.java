@@ -17,12 +17,18 @@
 package io.jmix.rest.api.controller;
 
 import com.google.common.base.Strings;
+import io.jmix.core.CoreProperties;
 import io.jmix.core.FileStorage;
 import io.jmix.core.FileStorageException;
 import io.jmix.core.FileStorageLocator;
+import io.jmix.core.LocalFileStorage;
 import io.jmix.core.Metadata;
+import io.jmix.core.UuidProvider;
 import io.jmix.rest.api.exception.RestAPIException;
 import io.jmix.rest.api.service.filter.data.FileInfo;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,13 +46,21 @@ import org.springframework.web.util.UriComponentsBuilder;
 import javax.annotation.Nullable;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Objects;
 
 /**
- * REST API controller that is used for uploading files
+ * REST API controller that is used for uploading files.
+ * <p>
+ * Upload durations and sizes are recorded in the {@code jmix.rest.upload} timer and the {@code jmix.rest.upload.size}
+ * distribution summary of the {@link MeterRegistry}, tagged with the upload mode: {@code stream} if the contents is
+ * streamed into the file storage, or {@code move} if the uploaded file is moved into a {@link LocalFileStorage}.
  */
 @RestController("rest_FileUploadController")
 @RequestMapping(path = "/rest/files")
@@ -54,12 +68,24 @@ public class FileUploadController {
 
     private static final Logger log = LoggerFactory.getLogger(FileUploadController.class);
 
+    public static final String UPLOAD_METRICS_NAME = "jmix.rest.upload";
+    public static final String UPLOAD_SIZE_METRICS_NAME = "jmix.rest.upload.size";
+
+    protected static final String STREAM_MODE = "stream";
+    protected static final String MOVE_MODE = "move";
+
     @Autowired
     protected Metadata metadata;
 
     @Autowired
     protected FileStorageLocator fileStorageLocator;
 
+    @Autowired
+    protected CoreProperties coreProperties;
+
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
     protected FileStorage<URI, String> fileStorage;
 
 //    protected static final String FILE_UPLOAD_PERMISSION_NAME = "cuba.restApi.fileUpload.enabled";
@@ -88,7 +114,9 @@ public class FileUploadController {
 
             ServletInputStream is = request.getInputStream();
             URI fileReference = fileStorage.createReference(name);
-            uploadToFileStorage(is, fileReference);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            size = uploadToFileStorage(is, fileReference);
+            recordUpload(sample, STREAM_MODE, size);
 
             return createFileInfoResponseEntity(request, fileReference, name, size);
         } catch (Exception e) {
@@ -118,9 +146,17 @@ public class FileUploadController {
 
             long size = file.getSize();
 
-            InputStream is = file.getInputStream();
             URI fileReference = fileStorage.createReference(name);
-            uploadToFileStorage(is, fileReference);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            if (fileStorage instanceof LocalFileStorage) {
+                moveToFileStorage(file, fileReference);
+                recordUpload(sample, MOVE_MODE, size);
+            } else {
+                try (InputStream is = file.getInputStream()) {
+                    uploadToFileStorage(is, fileReference);
+                }
+                recordUpload(sample, STREAM_MODE, size);
+            }
 
             return createFileInfoResponseEntity(request, fileReference, name, size);
         } catch (Exception e) {
@@ -171,14 +207,43 @@ public class FileUploadController {
         return new ResponseEntity<>(fileInfo, httpHeaders, HttpStatus.CREATED);
     }
 
-    protected void uploadToFileStorage(InputStream is, URI fileReference) throws FileStorageException {
+    protected long uploadToFileStorage(InputStream is, URI fileReference) throws FileStorageException {
+        try {
+            return fileStorage.saveStream(fileReference, is);
+        } catch (FileStorageException e) {
+            throw new RestAPIException("Unable to upload file to FileStorage",
+                    "Unable to upload file to FileStorage: " + fileReference.toString(),
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    e);
+        }
+    }
+
+    /**
+     * Transfers the multipart file to the temp directory, which is a rename if the servlet container has already
+     * stored the part on the same file system, and then moves it into the local file storage.
+     */
+    @SuppressWarnings("unchecked")
+    protected void moveToFileStorage(MultipartFile file, URI fileReference) throws IOException {
+        Path tempFile = Paths.get(coreProperties.getTempDir(), UuidProvider.createUuid().toString());
         try {
-            fileStorage.saveStream(fileReference, is);
+            file.transferTo(tempFile);
+            ((LocalFileStorage<URI, String>) fileStorage).moveFile(fileReference, tempFile);
         } catch (FileStorageException e) {
             throw new RestAPIException("Unable to upload file to FileStorage",
                     "Unable to upload file to FileStorage: " + fileReference.toString(),
                     HttpStatus.INTERNAL_SERVER_ERROR,
                     e);
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
     }
+
+    protected void recordUpload(Timer.Sample sample, String mode, long size) {
+        sample.stop(meterRegistry.timer(UPLOAD_METRICS_NAME, "mode", mode));
+        DistributionSummary.builder(UPLOAD_SIZE_METRICS_NAME)
+                .baseUnit("bytes")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(size);
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.securitydata;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "jmix.securitydata")
+@ConstructorBinding
+public class SecurityDataProperties {
+
+    boolean roleCacheEnabled;
+    int roleCacheExpirationSeconds;
+
+    public SecurityDataProperties(
+            @DefaultValue("true") boolean roleCacheEnabled,
+            @DefaultValue("3600") int roleCacheExpirationSeconds) {
+        this.roleCacheEnabled = roleCacheEnabled;
+        this.roleCacheExpirationSeconds = roleCacheExpirationSeconds;
+    }
+
+    /**
+     * Whether roles and role assignments loaded from the database are cached. The cache is invalidated when
+     * role entities are saved through DataManager on any cluster node.
+     */
+    public boolean isRoleCacheEnabled() {
+        return roleCacheEnabled;
+    }
+
+    /**
+     * Time after which cached roles and role assignments are reloaded to pick up changes made bypassing DataManager.
+     */
+    public int getRoleCacheExpirationSeconds() {
+        return roleCacheExpirationSeconds;
+    }
+}
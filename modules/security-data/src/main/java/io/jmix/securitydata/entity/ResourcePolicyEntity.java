@@ -16,12 +16,14 @@
 
 package io.jmix.securitydata.entity;
 
+import io.jmix.core.entity.annotation.PublishEntityChangedEvents;
 import io.jmix.data.entity.StandardEntity;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
 
 @Table(name = "SEC_RESOURCE_POLICY_ENTITY")
+@PublishEntityChangedEvents
 @Entity(name = "sec_ResourcePolicyEntity")
 public class ResourcePolicyEntity extends StandardEntity {
 
@@ -16,6 +16,7 @@
 
 package io.jmix.securitydata.entity;
 
+import io.jmix.core.entity.annotation.PublishEntityChangedEvents;
 import io.jmix.data.entity.StandardEntity;
 
 import javax.persistence.Column;
@@ -24,6 +25,7 @@ import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 
 @Table(name = "SEC_ROLE_ASSIGNMENT_ENTITY")
+@PublishEntityChangedEvents
 @Entity(name = "sec_RoleAssignmentEntity")
 public class RoleAssignmentEntity extends StandardEntity {
     private static final long serialVersionUID = -6805425065569471069L;
@@ -18,6 +18,7 @@ package io.jmix.securitydata.entity;
 
 import io.jmix.core.DeletePolicy;
 import io.jmix.core.entity.annotation.OnDelete;
+import io.jmix.core.entity.annotation.PublishEntityChangedEvents;
 import io.jmix.core.metamodel.annotation.Composition;
 import io.jmix.core.metamodel.annotation.InstanceName;
 import io.jmix.data.entity.StandardEntity;
@@ -30,6 +31,7 @@ import javax.validation.constraints.NotNull;
 import java.util.List;
 
 @Table(name = "SEC_ROLE_ENTITY")
+@PublishEntityChangedEvents
 @Entity(name = "sec_RoleEntity")
 public class RoleEntity extends StandardEntity {
     private static final long serialVersionUID = -1587602133446436634L;
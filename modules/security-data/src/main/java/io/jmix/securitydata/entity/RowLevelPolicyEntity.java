@@ -16,6 +16,7 @@
 
 package io.jmix.securitydata.entity;
 
+import io.jmix.core.entity.annotation.PublishEntityChangedEvents;
 import io.jmix.data.entity.StandardEntity;
 import io.jmix.security.model.RowLevelPolicyAction;
 import io.jmix.security.model.RowLevelPolicyType;
@@ -24,6 +25,7 @@ import javax.persistence.*;
 import javax.validation.constraints.NotNull;
 
 @Table(name = "SEC_ROW_LEVEL_POLICY_ENTITY")
+@PublishEntityChangedEvents
 @Entity(name = "sec_RowLevelPolicyEntity")
 public class RowLevelPolicyEntity extends StandardEntity {
     private static final long serialVersionUID = -8009316149061437606L;
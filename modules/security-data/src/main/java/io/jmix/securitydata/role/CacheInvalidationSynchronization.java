@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.securitydata.role;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * INTERNAL.
+ * Runs cache invalidation once after the current transaction is committed, however many entities are changed
+ * in the transaction.
+ */
+public class CacheInvalidationSynchronization extends TransactionSynchronizationAdapter {
+
+    private final Object owner;
+    private final Runnable invalidation;
+
+    protected CacheInvalidationSynchronization(Object owner, Runnable invalidation) {
+        this.owner = owner;
+        this.invalidation = invalidation;
+    }
+
+    /**
+     * Registers the invalidation for the current transaction unless it is already registered by the same owner.
+     * Without an active transaction, the invalidation runs immediately.
+     *
+     * @param owner        cache owner which identifies the invalidation
+     * @param invalidation invalidates the cache
+     */
+    public static void register(Object owner, Runnable invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+        // synchronizations of suspended transactions are not returned, so a nested transaction gets its own one
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof CacheInvalidationSynchronization
+                    && ((CacheInvalidationSynchronization) synchronization).owner == owner) {
+                return;
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new CacheInvalidationSynchronization(owner, invalidation));
+    }
+
+    @Override
+    public void afterCommit() {
+        invalidation.run();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.securitydata.role;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * INTERNAL.
+ * Cache of objects built from role entities. A value loaded concurrently with {@link #invalidate()} is returned
+ * to the caller but not cached, so the cache never keeps data read before the last invalidation.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class RoleDataCache<K, V> {
+
+    private final Cache<K, V> cache;
+    private long generation;
+
+    /**
+     * @param expirationSeconds time after which a cached value expires
+     * @param meterRegistry     registry to publish hit, miss and eviction statistics of the cache to
+     * @param metricsName       name of the cache in the published statistics
+     */
+    public RoleDataCache(int expirationSeconds, MeterRegistry meterRegistry, String metricsName) {
+        cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, metricsName);
+    }
+
+    /**
+     * Returns the cached value or loads it.
+     *
+     * @param loader returns non-null value
+     */
+    public V get(K key, Supplier<V> loader) {
+        V value = cache.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        long loadGeneration;
+        synchronized (this) {
+            loadGeneration = generation;
+        }
+        value = loader.get();
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                cache.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        cache.invalidateAll();
+    }
+}
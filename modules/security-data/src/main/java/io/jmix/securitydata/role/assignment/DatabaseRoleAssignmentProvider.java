@@ -18,26 +18,124 @@ package io.jmix.securitydata.role.assignment;
 
 import io.jmix.core.DataManager;
 import io.jmix.core.FetchPlan;
+import io.jmix.core.cluster.ClusterListenerAdapter;
+import io.jmix.core.cluster.ClusterManager;
+import io.jmix.data.event.EntityChangedEvent;
 import io.jmix.security.role.assignment.RoleAssignment;
 import io.jmix.security.role.assignment.RoleAssignmentProvider;
+import io.jmix.securitydata.SecurityDataProperties;
 import io.jmix.securitydata.entity.RoleAssignmentEntity;
+import io.jmix.securitydata.role.CacheInvalidationSynchronization;
+import io.jmix.securitydata.role.RoleDataCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Role assignment provider that gets role assignments from the database.
+ * <p>
+ * Assignments are cached if {@link SecurityDataProperties#isRoleCacheEnabled()} is true. The cache is invalidated
+ * on all cluster nodes when role assignment entities are changed.
+ * <p>
+ * Hit, miss and eviction statistics of the caches are published to the {@link MeterRegistry} under the
+ * {@code jmix.security.roleAssignmentsByUserKeyCache} and {@code jmix.security.allRoleAssignmentsCache} names.
  */
 @Component("sec_DatabaseRoleAssignmentProvider")
 public class DatabaseRoleAssignmentProvider implements RoleAssignmentProvider {
 
+    private static final Logger log = LoggerFactory.getLogger(DatabaseRoleAssignmentProvider.class);
+
+    public static final String ASSIGNMENTS_BY_USER_KEY_CACHE_METRICS_NAME = "jmix.security.roleAssignmentsByUserKeyCache";
+    public static final String ALL_ASSIGNMENTS_CACHE_METRICS_NAME = "jmix.security.allRoleAssignmentsCache";
+
+    protected static final String ALL_ASSIGNMENTS_KEY = "";
+
     @Autowired
     protected DataManager dataManager;
 
+    @Autowired
+    protected SecurityDataProperties properties;
+
+    @Autowired
+    protected ClusterManager clusterManager;
+
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
+    protected RoleDataCache<String, Collection<RoleAssignment>> assignmentsByUserKeyCache;
+    protected RoleDataCache<String, Collection<RoleAssignment>> allAssignmentsCache;
+
+    @PostConstruct
+    public void init() {
+        assignmentsByUserKeyCache = new RoleDataCache<>(properties.getRoleCacheExpirationSeconds(),
+                meterRegistry, ASSIGNMENTS_BY_USER_KEY_CACHE_METRICS_NAME);
+        allAssignmentsCache = new RoleDataCache<>(properties.getRoleCacheExpirationSeconds(),
+                meterRegistry, ALL_ASSIGNMENTS_CACHE_METRICS_NAME);
+
+        clusterManager.addListener(InvalidateRoleAssignmentCacheMsg.class,
+                new ClusterListenerAdapter<InvalidateRoleAssignmentCacheMsg>() {
+                    @Override
+                    public void receive(InvalidateRoleAssignmentCacheMsg message) {
+                        invalidateCacheLocally();
+                    }
+                });
+    }
+
     @Override
     public Collection<RoleAssignment> getAllAssignments() {
+        if (!properties.isRoleCacheEnabled()) {
+            return loadAllAssignments();
+        }
+        return allAssignmentsCache.get(ALL_ASSIGNMENTS_KEY,
+                () -> Collections.unmodifiableList(loadAllAssignments()));
+    }
+
+    @Override
+    public Collection<RoleAssignment> getAssignmentsByUserKey(String userKey) {
+        if (!properties.isRoleCacheEnabled()) {
+            return loadAssignmentsByUserKey(userKey);
+        }
+        return assignmentsByUserKeyCache.get(userKey,
+                () -> Collections.unmodifiableList(loadAssignmentsByUserKey(userKey)));
+    }
+
+    /**
+     * Discards cached role assignments on all cluster nodes.
+     */
+    public void invalidateCache() {
+        invalidateCacheLocally();
+        clusterManager.send(new InvalidateRoleAssignmentCacheMsg());
+    }
+
+    /**
+     * Discards cached role assignments on all cluster nodes once after the current transaction is committed.
+     */
+    protected void invalidateCacheAfterCommit() {
+        CacheInvalidationSynchronization.register(this, this::invalidateCache);
+    }
+
+    protected void invalidateCacheLocally() {
+        log.debug("Invalidating database role assignment cache");
+        assignmentsByUserKeyCache.invalidate();
+        allAssignmentsCache.invalidate();
+    }
+
+    @EventListener
+    public void onRoleAssignmentChanged(EntityChangedEvent<RoleAssignmentEntity> event) {
+        invalidateCacheAfterCommit();
+    }
+
+    protected List<RoleAssignment> loadAllAssignments() {
         return dataManager.load(RoleAssignmentEntity.class)
                 .fetchPlan(FetchPlan.BASE)
                 .list()
@@ -46,8 +144,7 @@ public class DatabaseRoleAssignmentProvider implements RoleAssignmentProvider {
                 .collect(Collectors.toList());
     }
 
-    @Override
-    public Collection<RoleAssignment> getAssignmentsByUserKey(String userKey) {
+    protected List<RoleAssignment> loadAssignmentsByUserKey(String userKey) {
         return dataManager.load(RoleAssignmentEntity.class)
                 .query("e.userKey = :userKey")
                 .parameter("userKey", userKey)
@@ -60,4 +157,8 @@ public class DatabaseRoleAssignmentProvider implements RoleAssignmentProvider {
     protected RoleAssignment buildRoleAssignment(RoleAssignmentEntity roleAssignmentEntity) {
         return new RoleAssignment(roleAssignmentEntity.getUserKey(), roleAssignmentEntity.getRoleCode());
     }
+
+    protected static class InvalidateRoleAssignmentCacheMsg implements Serializable {
+        private static final long serialVersionUID = -2580318163591764532L;
+    }
 }
@@ -19,38 +19,142 @@ package io.jmix.securitydata.role.provider;
 import io.jmix.core.DataManager;
 import io.jmix.core.FetchPlan;
 import io.jmix.core.JmixEntity;
+import io.jmix.core.cluster.ClusterListenerAdapter;
+import io.jmix.core.cluster.ClusterManager;
+import io.jmix.data.event.EntityChangedEvent;
 import io.jmix.security.model.ResourcePolicy;
 import io.jmix.security.model.Role;
 import io.jmix.security.model.RoleSource;
 import io.jmix.security.model.RowLevelPolicy;
 import io.jmix.security.role.provider.RoleProvider;
+import io.jmix.securitydata.SecurityDataProperties;
 import io.jmix.securitydata.entity.ResourcePolicyEntity;
 import io.jmix.securitydata.entity.RoleEntity;
 import io.jmix.securitydata.entity.RowLevelPolicyEntity;
+import io.jmix.securitydata.role.CacheInvalidationSynchronization;
+import io.jmix.securitydata.role.RoleDataCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.scripting.ScriptEvaluator;
 import org.springframework.scripting.support.StaticScriptSource;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.Nullable;
+import javax.annotation.PostConstruct;
+import java.io.Serializable;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * Role provider that gets role from the database from the {@link RoleEntity}.
+ * <p>
+ * Built roles are cached if {@link SecurityDataProperties#isRoleCacheEnabled()} is true. The cache is invalidated
+ * on all cluster nodes when role or policy entities are changed.
+ * <p>
+ * Hit, miss and eviction statistics of the caches are published to the {@link MeterRegistry} under the
+ * {@code jmix.security.rolesByCodeCache} and {@code jmix.security.allRolesCache} names.
  */
 @Component("sec_DatabaseRoleProvider")
 public class DatabaseRoleProvider implements RoleProvider {
 
+    private static final Logger log = LoggerFactory.getLogger(DatabaseRoleProvider.class);
+
+    public static final String ROLES_BY_CODE_CACHE_METRICS_NAME = "jmix.security.rolesByCodeCache";
+    public static final String ALL_ROLES_CACHE_METRICS_NAME = "jmix.security.allRolesCache";
+
+    protected static final String ALL_ROLES_KEY = "";
+
     @Autowired
     protected DataManager dataManager;
 
     @Autowired
     protected ScriptEvaluator scriptEvaluator;
 
+    @Autowired
+    protected SecurityDataProperties properties;
+
+    @Autowired
+    protected ClusterManager clusterManager;
+
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
+    protected RoleDataCache<String, Optional<Role>> rolesByCodeCache;
+    protected RoleDataCache<String, Collection<Role>> allRolesCache;
+
+    @PostConstruct
+    public void init() {
+        rolesByCodeCache = new RoleDataCache<>(properties.getRoleCacheExpirationSeconds(),
+                meterRegistry, ROLES_BY_CODE_CACHE_METRICS_NAME);
+        allRolesCache = new RoleDataCache<>(properties.getRoleCacheExpirationSeconds(),
+                meterRegistry, ALL_ROLES_CACHE_METRICS_NAME);
+
+        clusterManager.addListener(InvalidateRoleCacheMsg.class, new ClusterListenerAdapter<InvalidateRoleCacheMsg>() {
+            @Override
+            public void receive(InvalidateRoleCacheMsg message) {
+                invalidateCacheLocally();
+            }
+        });
+    }
+
     @Override
     public Collection<Role> getAllRoles() {
+        if (!properties.isRoleCacheEnabled()) {
+            return loadAllRoles();
+        }
+        return allRolesCache.get(ALL_ROLES_KEY, () -> Collections.unmodifiableList(loadAllRoles()));
+    }
+
+    @Nullable
+    @Override
+    public Role getRoleByCode(String code) {
+        if (!properties.isRoleCacheEnabled()) {
+            return loadRoleByCode(code);
+        }
+        return rolesByCodeCache.get(code, () -> Optional.ofNullable(loadRoleByCode(code))).orElse(null);
+    }
+
+    /**
+     * Discards cached roles on all cluster nodes.
+     */
+    public void invalidateCache() {
+        invalidateCacheLocally();
+        clusterManager.send(new InvalidateRoleCacheMsg());
+    }
+
+    /**
+     * Discards cached roles on all cluster nodes once after the current transaction is committed.
+     */
+    protected void invalidateCacheAfterCommit() {
+        CacheInvalidationSynchronization.register(this, this::invalidateCache);
+    }
+
+    protected void invalidateCacheLocally() {
+        log.debug("Invalidating database role cache");
+        rolesByCodeCache.invalidate();
+        allRolesCache.invalidate();
+    }
+
+    @EventListener
+    public void onRoleChanged(EntityChangedEvent<RoleEntity> event) {
+        invalidateCacheAfterCommit();
+    }
+
+    @EventListener
+    public void onResourcePolicyChanged(EntityChangedEvent<ResourcePolicyEntity> event) {
+        invalidateCacheAfterCommit();
+    }
+
+    @EventListener
+    public void onRowLevelPolicyChanged(EntityChangedEvent<RowLevelPolicyEntity> event) {
+        invalidateCacheAfterCommit();
+    }
+
+    protected List<Role> loadAllRoles() {
         return dataManager.load(RoleEntity.class)
 //                .query("select r from sec_RoleEntity r")
                 .fetchPlan(fetchPlanBuilder -> {
@@ -66,8 +170,7 @@ public class DatabaseRoleProvider implements RoleProvider {
     }
 
     @Nullable
-    @Override
-    public Role getRoleByCode(String code) {
+    protected Role loadRoleByCode(String code) {
         return dataManager.load(RoleEntity.class)
                 .query("where e.code = :code")
                 .parameter("code", code)
@@ -136,4 +239,8 @@ public class DatabaseRoleProvider implements RoleProvider {
             return (boolean) scriptEvaluator.evaluate(new StaticScriptSource(modifiedScript), arguments);
         };
     }
-}
\ No newline at end of file
+
+    protected static class InvalidateRoleCacheMsg implements Serializable {
+        private static final long serialVersionUID = 4306541416512961207L;
+    }
+}
@@ -19,22 +19,28 @@ package database_role_assignment_provider
 import io.jmix.core.DataManager
 import io.jmix.core.Metadata
 import io.jmix.core.SaveContext
+import io.jmix.core.cluster.ClusterManager
 import io.jmix.securitydata.entity.RoleAssignmentEntity
 import io.jmix.securitydata.role.assignment.DatabaseRoleAssignmentProvider
+import io.micrometer.core.instrument.MeterRegistry
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.transaction.support.TransactionTemplate
 import test_support.SecurityDataSpecification
 
 class DatabaseRoleAssignmentProviderTest extends SecurityDataSpecification {
 
-    @Autowired
-    DatabaseRoleAssignmentProvider databaseRoleAssignmentProvider
-
     @Autowired
     Metadata metadata
 
     @Autowired
     DataManager dataManager
 
+    @Autowired
+    TransactionTemplate transaction
+
+    @Autowired
+    MeterRegistry meterRegistry
+
     def setup() {
         prepareTestData()
     }
@@ -79,4 +85,84 @@ class DatabaseRoleAssignmentProviderTest extends SecurityDataSpecification {
         assignments2.find {it.roleCode == 'role2'} != null
         assignments2.find {it.roleCode == 'role3'} != null
     }
+
+    def "cached assignments are invalidated when assignment is saved"() {
+        when:
+        databaseRoleAssignmentProvider.getAssignmentsByUserKey("user1")
+        def hitCount = cacheGets(DatabaseRoleAssignmentProvider.ASSIGNMENTS_BY_USER_KEY_CACHE_METRICS_NAME, 'hit')
+        def assignments1 = databaseRoleAssignmentProvider.getAssignmentsByUserKey("user1")
+
+        then:
+        assignments1.size() == 1
+        cacheGets(DatabaseRoleAssignmentProvider.ASSIGNMENTS_BY_USER_KEY_CACHE_METRICS_NAME, 'hit') == hitCount + 1
+
+        when:
+        dataManager.save(createRoleAssignmentEntity('role4', 'user1'))
+        def assignments2 = databaseRoleAssignmentProvider.getAssignmentsByUserKey("user1")
+
+        then:
+        assignments2.size() == 2
+        assignments2.find {it.roleCode == 'role4'} != null
+    }
+
+    def "assignments saved in one transaction invalidate cache by one cluster message"() {
+        def clusterManager = databaseRoleAssignmentProvider.clusterManager
+        databaseRoleAssignmentProvider.clusterManager = Mock(ClusterManager)
+
+        databaseRoleAssignmentProvider.getAssignmentsByUserKey("user1")
+
+        when:
+        transaction.executeWithoutResult {
+            dataManager.save(createRoleAssignmentEntity('role4', 'user1'))
+            dataManager.save(createRoleAssignmentEntity('role5', 'user1'))
+            dataManager.save(createRoleAssignmentEntity('role6', 'user3'))
+        }
+
+        then:
+        1 * databaseRoleAssignmentProvider.clusterManager.send(_)
+        databaseRoleAssignmentProvider.getAssignmentsByUserKey("user1").size() == 3
+
+        cleanup:
+        databaseRoleAssignmentProvider.clusterManager = clusterManager
+    }
+
+    def "cache is not invalidated when transaction is rolled back"() {
+        def clusterManager = databaseRoleAssignmentProvider.clusterManager
+        databaseRoleAssignmentProvider.clusterManager = Mock(ClusterManager)
+
+        when:
+        transaction.executeWithoutResult { status ->
+            dataManager.save(createRoleAssignmentEntity('role4', 'user1'))
+            status.setRollbackOnly()
+        }
+
+        then:
+        0 * databaseRoleAssignmentProvider.clusterManager.send(_)
+
+        cleanup:
+        databaseRoleAssignmentProvider.clusterManager = clusterManager
+    }
+
+    def "statistics of both assignment caches are published to meter registry"() {
+        def userKeyMisses = cacheGets(DatabaseRoleAssignmentProvider.ASSIGNMENTS_BY_USER_KEY_CACHE_METRICS_NAME, 'miss')
+        def allMisses = cacheGets(DatabaseRoleAssignmentProvider.ALL_ASSIGNMENTS_CACHE_METRICS_NAME, 'miss')
+        def allHits = cacheGets(DatabaseRoleAssignmentProvider.ALL_ASSIGNMENTS_CACHE_METRICS_NAME, 'hit')
+
+        when:
+        databaseRoleAssignmentProvider.invalidateCache()
+        databaseRoleAssignmentProvider.getAssignmentsByUserKey("user2")
+        databaseRoleAssignmentProvider.getAllAssignments()
+        databaseRoleAssignmentProvider.getAllAssignments()
+
+        then:
+        cacheGets(DatabaseRoleAssignmentProvider.ASSIGNMENTS_BY_USER_KEY_CACHE_METRICS_NAME, 'miss') == userKeyMisses + 1
+        cacheGets(DatabaseRoleAssignmentProvider.ALL_ASSIGNMENTS_CACHE_METRICS_NAME, 'miss') == allMisses + 1
+        cacheGets(DatabaseRoleAssignmentProvider.ALL_ASSIGNMENTS_CACHE_METRICS_NAME, 'hit') == allHits + 1
+        meterRegistry.find('cache.size').tag('cache', DatabaseRoleAssignmentProvider.ALL_ASSIGNMENTS_CACHE_METRICS_NAME).gauge() != null
+        meterRegistry.find('cache.evictions').tag('cache', DatabaseRoleAssignmentProvider.ASSIGNMENTS_BY_USER_KEY_CACHE_METRICS_NAME).functionCounter() != null
+    }
+
+    protected double cacheGets(String cacheName, String result) {
+        meterRegistry.get('cache.gets').tag('cache', cacheName).tag('result', result).functionCounter().count()
+    }
 }
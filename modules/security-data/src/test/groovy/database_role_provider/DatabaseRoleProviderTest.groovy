@@ -20,11 +20,13 @@ import entity.TestOrder
 import io.jmix.core.DataManager
 import io.jmix.core.Metadata
 import io.jmix.core.SaveContext
+import io.jmix.core.cluster.ClusterManager
 import io.jmix.security.model.*
 import io.jmix.securitydata.entity.ResourcePolicyEntity
 import io.jmix.securitydata.entity.RoleEntity
 import io.jmix.securitydata.entity.RowLevelPolicyEntity
 import io.jmix.securitydata.role.provider.DatabaseRoleProvider
+import io.micrometer.core.instrument.MeterRegistry
 import org.springframework.beans.factory.annotation.Autowired
 import test_support.SecurityDataSpecification
 
@@ -39,6 +41,9 @@ class DatabaseRoleProviderTest extends SecurityDataSpecification {
     @Autowired
     Metadata metadata
 
+    @Autowired
+    MeterRegistry meterRegistry
+
     def setup() {
         prepareTestData()
     }
@@ -116,6 +121,31 @@ class DatabaseRoleProviderTest extends SecurityDataSpecification {
 
     }
 
+    def "role and policies saved in one transaction invalidate cache by one cluster message"() {
+        def clusterManager = databaseRoleProvider.clusterManager
+        databaseRoleProvider.clusterManager = Mock(ClusterManager)
+
+        databaseRoleProvider.getAllRoles()
+
+        RoleEntity role3 = metadata.create(RoleEntity)
+        role3.code = 'role3'
+        role3.name = 'Role3'
+
+        when:
+        dataManager.save(new SaveContext().saving(
+                role3,
+                createJpqlResourcePolicyEntity(ResourcePolicyType.SCREEN, 'screen3',
+                        ResourcePolicy.DEFAULT_ACTION, ResourcePolicy.DEFAULT_EFFECT, role3),
+                createJpqlRowLevelPolicyEntity('test_Order', 'where3', 'join3', role3)))
+
+        then:
+        1 * databaseRoleProvider.clusterManager.send(_)
+        databaseRoleProvider.getAllRoles().size() == 3
+
+        cleanup:
+        databaseRoleProvider.clusterManager = clusterManager
+    }
+
     private void prepareTestData() {
         RoleEntity role1 = metadata.create(RoleEntity)
         role1.code = 'role1'
@@ -183,4 +213,26 @@ class DatabaseRoleProviderTest extends SecurityDataSpecification {
         rowLevelPolicy.role = role
         return rowLevelPolicy
     }
+
+    def "statistics of both role caches are published to meter registry"() {
+        def byCodeMisses = cacheGets(DatabaseRoleProvider.ROLES_BY_CODE_CACHE_METRICS_NAME, 'miss')
+        def byCodeHits = cacheGets(DatabaseRoleProvider.ROLES_BY_CODE_CACHE_METRICS_NAME, 'hit')
+        def allMisses = cacheGets(DatabaseRoleProvider.ALL_ROLES_CACHE_METRICS_NAME, 'miss')
+
+        when:
+        databaseRoleProvider.invalidateCache()
+        databaseRoleProvider.getRoleByCode('role1')
+        databaseRoleProvider.getRoleByCode('role1')
+        databaseRoleProvider.getAllRoles()
+
+        then:
+        cacheGets(DatabaseRoleProvider.ROLES_BY_CODE_CACHE_METRICS_NAME, 'miss') == byCodeMisses + 1
+        cacheGets(DatabaseRoleProvider.ROLES_BY_CODE_CACHE_METRICS_NAME, 'hit') == byCodeHits + 1
+        cacheGets(DatabaseRoleProvider.ALL_ROLES_CACHE_METRICS_NAME, 'miss') == allMisses + 1
+        meterRegistry.find('cache.size').tag('cache', DatabaseRoleProvider.ROLES_BY_CODE_CACHE_METRICS_NAME).gauge() != null
+    }
+
+    protected double cacheGets(String cacheName, String result) {
+        meterRegistry.get('cache.gets').tag('cache', cacheName).tag('result', result).functionCounter().count()
+    }
 }
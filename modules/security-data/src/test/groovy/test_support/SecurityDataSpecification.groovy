@@ -20,6 +20,8 @@ import io.jmix.core.CoreConfiguration
 import io.jmix.data.DataConfiguration
 import io.jmix.security.SecurityConfiguration
 import io.jmix.securitydata.SecurityDataConfiguration
+import io.jmix.securitydata.role.assignment.DatabaseRoleAssignmentProvider
+import io.jmix.securitydata.role.provider.DatabaseRoleProvider
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.jdbc.core.JdbcTemplate
 import org.springframework.test.context.ContextConfiguration
@@ -34,10 +36,18 @@ class SecurityDataSpecification extends Specification {
     @Autowired
     JdbcTemplate jdbcTemplate
 
+    @Autowired
+    DatabaseRoleProvider databaseRoleProvider
+
+    @Autowired
+    DatabaseRoleAssignmentProvider databaseRoleAssignmentProvider
+
     def cleanup() {
         jdbcTemplate.update("delete from SEC_ROW_LEVEL_POLICY_ENTITY")
         jdbcTemplate.update("delete from SEC_RESOURCE_POLICY_ENTITY")
         jdbcTemplate.update("delete from SEC_ROLE_ENTITY")
         jdbcTemplate.update("delete from SEC_ROLE_ASSIGNMENT_ENTITY")
+        databaseRoleProvider.invalidateCache()
+        databaseRoleAssignmentProvider.invalidateCache()
     }
 }
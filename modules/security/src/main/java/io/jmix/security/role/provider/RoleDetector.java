@@ -21,6 +21,9 @@ import io.jmix.security.role.annotation.Role;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.Set;
+
 @Component("sec_RoleDetector")
 public class RoleDetector implements ClasspathScanCandidateDetector {
 
@@ -28,4 +31,9 @@ public class RoleDetector implements ClasspathScanCandidateDetector {
     public boolean isCandidate(MetadataReader metadataReader) {
         return (metadataReader.getAnnotationMetadata().hasAnnotation(Role.class.getName()));
     }
+
+    @Override
+    public Set<String> getCandidateAnnotations() {
+        return Collections.singleton(Role.class.getName());
+    }
 }
@@ -2562,6 +2562,21 @@ public interface DataGrid<E extends JmixEntity> extends ListComponent<E>, HasBut
      */
     void setAggregatable(boolean aggregatable);
 
+    /**
+     * @return whether aggregation is calculated in the data store
+     */
+    boolean isDataStoreAggregation();
+
+    /**
+     * Sets whether aggregation should be calculated in the data store over all entities matching the query and
+     * condition of the data loader instead of the loaded items only. The data store values are loaded in background
+     * and replace in-memory values when ready. Custom aggregations and aggregations of non-persistent properties are
+     * always calculated in memory. Default value is false.
+     *
+     * @param dataStoreAggregation whether to calculate aggregation in the data store
+     */
+    void setDataStoreAggregation(boolean dataStoreAggregation);
+
     /**
      * @return return aggregation row position
      */
@@ -55,6 +55,31 @@ public interface Pagination extends Component.BelongToFrame {
      */
     void setAutoLoad(boolean autoLoad);
 
+    /**
+     * @return whether pages are loaded using keyset pagination
+     */
+    boolean isKeysetPaging();
+
+    /**
+     * Sets whether pages should be loaded using keyset (seek) pagination. False by default.
+     * <p>
+     * In this mode, the next page is loaded by the values of the sort properties and the identifier of the last
+     * entity of the current page instead of the offset, so the database doesn't have to scan all preceding rows.
+     * Keysets of the visited pages are remembered, so the previous pages are loaded the same way. The last page
+     * and the pages which were not visited sequentially are loaded by offset.
+     * <p>
+     * Remembered keysets are discarded when the query, condition, parameters or sort of the loader change, or when
+     * the loader is reloaded not by the pagination, e.g. by a filter.
+     * <p>
+     * Works only with {@link io.jmix.ui.model.CollectionLoader} and requires sorting by non-null persistent
+     * properties of simple types. If the loader has no sort, e.g. the order is defined by the {@code order by}
+     * clause of the query, pages are loaded by offset.
+     *
+     * @param keysetPaging whether to use keyset pagination
+     * @see io.jmix.core.LoadContext.Query#setKeysetValues(List)
+     */
+    void setKeysetPaging(boolean keysetPaging);
+
     /**
      * @return delegate which is used to get the total number of rows when user clicks "total count" or "last page".
      */
@@ -187,6 +187,21 @@ public interface Table<E extends JmixEntity>
     void setShowTotalAggregation(boolean showAggregation);
     boolean isShowTotalAggregation();
 
+    /**
+     * Sets whether the total aggregation should be calculated in the data store over all entities matching
+     * the query and condition of the data loader instead of the loaded items only. The data store values are
+     * loaded in background and replace in-memory values when ready. Group aggregations, custom aggregations and
+     * aggregations of non-persistent properties are always calculated in memory. False by default.
+     *
+     * @param dataStoreAggregation whether to calculate the total aggregation in the data store
+     */
+    void setDataStoreAggregation(boolean dataStoreAggregation);
+
+    /**
+     * @return whether the total aggregation is calculated in the data store
+     */
+    boolean isDataStoreAggregation();
+
     void setColumnReorderingAllowed(boolean columnReorderingAllowed);
     boolean getColumnReorderingAllowed();
 
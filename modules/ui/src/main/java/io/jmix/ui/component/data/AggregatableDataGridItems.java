@@ -43,4 +43,16 @@ public interface AggregatableDataGridItems<E extends JmixEntity> extends DataGri
      * @return map with aggregation info and aggregation column type
      */
     Map<AggregationInfo, Object> aggregateValues(@Nullable AggregationInfo[] aggregationInfos, Collection<?> itemIds);
+
+    /**
+     * Formats an aggregation value calculated elsewhere, e.g. in the data store, the same way as
+     * {@link #aggregate(AggregationInfo[], Collection)} does.
+     *
+     * @param aggregationInfo aggregation info
+     * @param value           aggregation value
+     * @return formatted value
+     */
+    default String formatAggregationValue(AggregationInfo aggregationInfo, @Nullable Object value) {
+        return value == null ? "" : value.toString();
+    }
 }
@@ -128,7 +128,8 @@ public class ContainerDataGridItems<E extends JmixEntity>
 
     @Override
     public List<E> getItems(int startIndex, int numberOfItems) {
-        return container.getItems().subList(startIndex, startIndex + numberOfItems);
+        List<E> items = container.getItems();
+        return items.subList(startIndex, Math.min(startIndex + numberOfItems, items.size()));
     }
 
     @Override
@@ -238,6 +239,11 @@ public class ContainerDataGridItems<E extends JmixEntity>
         return aggregatableDelegate.aggregateValues(aggregationInfos, itemIds);
     }
 
+    @Override
+    public String formatAggregationValue(AggregationInfo aggregationInfo, @Nullable Object value) {
+        return aggregatableDelegate.formatValue(aggregationInfo, value);
+    }
+
     @SuppressWarnings("rawtypes")
     protected void initAggregatableDelegate() {
         aggregatableDelegate.setItemProvider(container::getItem);
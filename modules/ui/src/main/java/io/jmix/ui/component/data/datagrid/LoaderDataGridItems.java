@@ -0,0 +1,419 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.ui.component.data.datagrid;
+
+import io.jmix.core.DataManager;
+import io.jmix.core.JmixEntity;
+import io.jmix.core.LoadContext;
+import io.jmix.core.MetadataTools;
+import io.jmix.core.QueryTransformer;
+import io.jmix.core.QueryTransformerFactory;
+import io.jmix.core.Sort;
+import io.jmix.core.common.event.EventHub;
+import io.jmix.core.common.event.Subscription;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaPropertyPath;
+import io.jmix.ui.component.data.BindingState;
+import io.jmix.ui.component.data.DataGridItems;
+import io.jmix.ui.component.data.meta.ContainerDataUnit;
+import io.jmix.ui.component.data.meta.EntityDataGridItems;
+import io.jmix.ui.model.CollectionContainer;
+import io.jmix.ui.model.CollectionLoader;
+import io.jmix.ui.model.DataContext;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * {@link DataGridItems} that load entities on demand by pages using the query, condition, parameters, sort and
+ * fetch plan of a {@link CollectionLoader}. Allows a {@code DataGrid} to scroll through a large result set without
+ * loading it to the container.
+ * <p>
+ * The last used pages are cached, the number of cached pages is limited. The total number of rows is obtained
+ * by a count query which is executed once after each refresh.
+ * <p>
+ * Calling {@link CollectionLoader#load()} refreshes the items instead of loading all entities to the container.
+ * The container holds only the selected entity, which is merged into the loader's {@link DataContext} if it is
+ * set, so the entity can be edited and saved as usual. Adding or removing entities in the container also
+ * refreshes the items. Sorting is delegated to the database, {@link CollectionLoader#getFirstResult()} and
+ * {@link CollectionLoader#getMaxResults()} are not used. Page queries are always ordered by the primary key
+ * after the other sort properties, so that entities with equal sort values are not repeated or skipped
+ * on adjacent pages.
+ * <p>
+ * Usage example:
+ * <pre>
+ * customersTable.setItems(new LoaderDataGridItems&lt;&gt;(customersDl, dataManager, metadataTools,
+ *         queryTransformerFactory));
+ * </pre>
+ */
+public class LoaderDataGridItems<E extends JmixEntity>
+        implements EntityDataGridItems<E>, DataGridItems.Sortable<E>, ContainerDataUnit<E> {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int DEFAULT_MAX_CACHED_PAGES = 10;
+
+    protected CollectionLoader<E> loader;
+    protected CollectionContainer<E> container;
+    protected DataManager dataManager;
+    protected MetadataTools metadataTools;
+    protected QueryTransformerFactory queryTransformerFactory;
+
+    protected int pageSize;
+    protected int maxCachedPages;
+
+    protected Map<Integer, List<E>> pages;
+    protected Integer size;
+
+    protected boolean updatingContainer;
+
+    protected EventHub events = new EventHub();
+
+    public LoaderDataGridItems(CollectionLoader<E> loader, DataManager dataManager, MetadataTools metadataTools,
+                               QueryTransformerFactory queryTransformerFactory) {
+        this(loader, dataManager, metadataTools, queryTransformerFactory, DEFAULT_PAGE_SIZE, DEFAULT_MAX_CACHED_PAGES);
+    }
+
+    /**
+     * @param loader                  loader defining the query
+     * @param dataManager             DataManager used to load pages and count rows
+     * @param metadataTools           MetadataTools used to get the primary key of the entity
+     * @param queryTransformerFactory factory of transformers adding the sort to the loader's query
+     * @param pageSize                number of entities loaded by a single query
+     * @param maxCachedPages          maximum number of pages kept in memory
+     */
+    public LoaderDataGridItems(CollectionLoader<E> loader, DataManager dataManager, MetadataTools metadataTools,
+                               QueryTransformerFactory queryTransformerFactory, int pageSize, int maxCachedPages) {
+        if (pageSize <= 0 || maxCachedPages <= 0) {
+            throw new IllegalArgumentException("pageSize and maxCachedPages must be positive");
+        }
+        this.loader = loader;
+        this.container = loader.getContainer();
+        this.dataManager = dataManager;
+        this.metadataTools = metadataTools;
+        this.queryTransformerFactory = queryTransformerFactory;
+        this.pageSize = pageSize;
+        this.maxCachedPages = maxCachedPages;
+
+        this.pages = new LinkedHashMap<Integer, List<E>>(maxCachedPages + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<E>> eldest) {
+                return size() > LoaderDataGridItems.this.maxCachedPages;
+            }
+        };
+
+        this.loader.addPreLoadListener(this::loaderPreLoad);
+        this.container.addItemChangeListener(this::containerItemChanged);
+        this.container.addCollectionChangeListener(this::containerCollectionChanged);
+        this.container.addItemPropertyChangeListener(this::containerItemPropertyChanged);
+    }
+
+    @Override
+    public CollectionContainer<E> getContainer() {
+        return container;
+    }
+
+    public CollectionLoader<E> getLoader() {
+        return loader;
+    }
+
+    /**
+     * Discards cached pages and the number of rows, and notifies the component that the items have changed.
+     */
+    public void refresh() {
+        pages.clear();
+        size = null;
+        events.publish(DataGridItems.ItemSetChangeEvent.class, new DataGridItems.ItemSetChangeEvent<>(this));
+    }
+
+    protected void loaderPreLoad(CollectionLoader.PreLoadEvent<E> event) {
+        event.preventLoad();
+        refresh();
+    }
+
+    protected void containerItemChanged(CollectionContainer.ItemChangeEvent<E> event) {
+        events.publish(DataGridItems.SelectedItemChangeEvent.class, new DataGridItems.SelectedItemChangeEvent<>(this, event.getItem()));
+    }
+
+    protected void containerCollectionChanged(@SuppressWarnings("unused") CollectionContainer.CollectionChangeEvent<E> e) {
+        if (!updatingContainer) {
+            refresh();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void containerItemPropertyChanged(CollectionContainer.ItemPropertyChangeEvent<E> e) {
+        events.publish(DataGridItems.ValueChangeEvent.class, new DataGridItems.ValueChangeEvent(this,
+                e.getItem(), e.getProperty(), e.getPrevValue(), e.getValue()));
+    }
+
+    @Nullable
+    @Override
+    public MetaClass getEntityMetaClass() {
+        return container.getEntityMetaClass();
+    }
+
+    @Override
+    public BindingState getState() {
+        return BindingState.ACTIVE;
+    }
+
+    @Nullable
+    @Override
+    public Object getItemId(E item) {
+        return EntityValues.getId(item);
+    }
+
+    @Nullable
+    @Override
+    public E getItem(@Nullable Object itemId) {
+        if (itemId == null) {
+            return null;
+        }
+        E item = container.getItemOrNull(itemId);
+        if (item != null) {
+            return item;
+        }
+        for (List<E> page : pages.values()) {
+            for (E entity : page) {
+                if (itemId.equals(EntityValues.getId(entity))) {
+                    return entity;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return index of the item or -1 if the item is not in the cached pages
+     */
+    @Override
+    public int indexOfItem(E item) {
+        Object itemId = EntityValues.getId(item);
+        for (Map.Entry<Integer, List<E>> entry : pages.entrySet()) {
+            List<E> page = entry.getValue();
+            for (int i = 0; i < page.size(); i++) {
+                if (Objects.equals(itemId, EntityValues.getId(page.get(i)))) {
+                    return entry.getKey() * pageSize + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Nullable
+    @Override
+    public E getItemByIndex(int index) {
+        List<E> page = getPage(index / pageSize);
+        int pageIndex = index % pageSize;
+        return pageIndex < page.size() ? page.get(pageIndex) : null;
+    }
+
+    /**
+     * Returns a stream which loads pages as it is consumed.
+     */
+    @Override
+    public Stream<E> getItems() {
+        return IntStream.range(0, size())
+                .mapToObj(this::getItemByIndex)
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public List<E> getItems(int startIndex, int numberOfItems) {
+        int endIndex = (int) Math.min((long) startIndex + numberOfItems, size());
+        List<E> items = new ArrayList<>(Math.max(endIndex - startIndex, 0));
+        int index = startIndex;
+        while (index < endIndex) {
+            int pageNumber = index / pageSize;
+            List<E> page = getPage(pageNumber);
+            int from = index - pageNumber * pageSize;
+            if (from >= page.size()) {
+                break;
+            }
+            int to = Math.min(page.size(), endIndex - pageNumber * pageSize);
+            items.addAll(page.subList(from, to));
+            index = pageNumber * pageSize + to;
+        }
+        return items;
+    }
+
+    @Override
+    public boolean containsItem(E item) {
+        return getItem(EntityValues.getId(item)) != null;
+    }
+
+    @Override
+    public int size() {
+        if (size == null) {
+            LoadContext<E> loadContext = createLoadContext();
+            size = (int) Math.min(dataManager.getCount(loadContext), Integer.MAX_VALUE);
+        }
+        return size;
+    }
+
+    @Nullable
+    @Override
+    public E getSelectedItem() {
+        return container.getItemOrNull();
+    }
+
+    @Override
+    public void setSelectedItem(@Nullable E item) {
+        if (item == null) {
+            container.setItem(null);
+            return;
+        }
+        E selected = container.getItemOrNull(EntityValues.getId(item));
+        if (selected == null) {
+            DataContext dataContext = loader.getDataContext();
+            selected = dataContext != null ? dataContext.merge(item) : item;
+            replaceInPages(selected);
+
+            updatingContainer = true;
+            try {
+                container.getMutableItems().add(selected);
+            } finally {
+                updatingContainer = false;
+            }
+        }
+        container.setItem(selected);
+    }
+
+    protected void replaceInPages(E item) {
+        Object itemId = EntityValues.getId(item);
+        for (List<E> page : pages.values()) {
+            for (int i = 0; i < page.size(); i++) {
+                if (Objects.equals(itemId, EntityValues.getId(page.get(i)))) {
+                    page.set(i, item);
+                    return;
+                }
+            }
+        }
+    }
+
+    protected List<E> getPage(int pageNumber) {
+        List<E> page = pages.get(pageNumber);
+        if (page == null) {
+            page = loadPage(pageNumber);
+            pages.put(pageNumber, page);
+        }
+        return page;
+    }
+
+    protected List<E> loadPage(int pageNumber) {
+        LoadContext<E> loadContext = createLoadContext();
+        loadContext.getQuery()
+                .setFirstResult(pageNumber * pageSize)
+                .setMaxResults(pageSize);
+        addPrimaryKeyOrder(loadContext.getQuery());
+
+        List<E> entities = new ArrayList<>(dataManager.loadList(loadContext));
+        // show the instances from the container as they can be modified
+        for (int i = 0; i < entities.size(); i++) {
+            E item = container.getItemOrNull(EntityValues.getId(entities.get(i)));
+            if (item != null) {
+                entities.set(i, item);
+            }
+        }
+        return entities;
+    }
+
+    protected LoadContext<E> createLoadContext() {
+        LoadContext<E> loadContext = loader.createLoadContext();
+        loadContext.getQuery()
+                .setKeysetValues(null)
+                .setFirstResult(0)
+                .setMaxResults(0);
+        return loadContext;
+    }
+
+    /**
+     * Adds the primary key as the last sort property, to the sort if it is set or to the query otherwise.
+     * Entities with a composite key are ordered by the key components only when the sort is set.
+     */
+    protected void addPrimaryKeyOrder(LoadContext.Query query) {
+        MetaClass metaClass = container.getEntityMetaClass();
+        String pkName = metadataTools.getPrimaryKeyName(metaClass);
+        if (pkName == null) {
+            return;
+        }
+
+        Sort sort = query.getSort();
+        if (sort != null && !sort.getOrders().isEmpty()) {
+            List<Sort.Order> orders = new ArrayList<>(sort.getOrders());
+            if (orders.stream().noneMatch(order -> pkName.equals(order.getProperty()))) {
+                // sorting by properties in different directions is not supported, so the last direction is used
+                Sort.Direction direction = orders.get(orders.size() - 1).getDirection();
+                orders.add(direction == Sort.Direction.DESC ? Sort.Order.desc(pkName) : Sort.Order.asc(pkName));
+                query.setSort(Sort.by(orders));
+            }
+        } else if (!metadataTools.hasCompositePrimaryKey(metaClass)) {
+            QueryTransformer transformer = queryTransformerFactory.transformer(query.getQueryString());
+            transformer.addOrderByIdIfNotExists(pkName);
+            query.setQueryString(transformer.getResult());
+        }
+    }
+
+    @Override
+    public Subscription addStateChangeListener(Consumer<StateChangeEvent> listener) {
+        return events.subscribe(StateChangeEvent.class, listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Subscription addValueChangeListener(Consumer<ValueChangeEvent<E>> listener) {
+        return events.subscribe(ValueChangeEvent.class, (Consumer) listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Subscription addItemSetChangeListener(Consumer<ItemSetChangeEvent<E>> listener) {
+        return events.subscribe(ItemSetChangeEvent.class, (Consumer) listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Subscription addSelectedItemChangeListener(Consumer<SelectedItemChangeEvent<E>> listener) {
+        return events.subscribe(SelectedItemChangeEvent.class, (Consumer) listener);
+    }
+
+    @Override
+    public void sort(Object[] propertyId, boolean[] ascending) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (int i = 0; i < propertyId.length; i++) {
+            String property;
+            if (propertyId[i] instanceof MetaPropertyPath) {
+                property = ((MetaPropertyPath) propertyId[i]).toPathString();
+            } else {
+                property = (String) propertyId[i];
+            }
+            orders.add(ascending[i] ? Sort.Order.asc(property) : Sort.Order.desc(property));
+        }
+        loader.setSort(Sort.by(orders));
+        refresh();
+    }
+
+    @Override
+    public void resetSortOrder() {
+        loader.setSort(Sort.UNSORTED);
+        refresh();
+    }
+}
@@ -24,6 +24,7 @@ import io.jmix.core.metamodel.model.MetaPropertyPath;
 import io.jmix.ui.component.data.GroupTableItems;
 import io.jmix.ui.gui.data.GroupInfo;
 import io.jmix.ui.gui.data.impl.AggregatableDelegate;
+import io.jmix.ui.model.CollectionChangeType;
 import io.jmix.ui.model.CollectionContainer;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.map.LinkedMap;
@@ -45,11 +46,15 @@ public class ContainerGroupTableItems<E extends JmixEntity>
 
     protected List<GroupInfo> roots;
 
-    protected Map<GroupInfo, List<?>> groupItems;
+    protected Map<GroupInfo, List<Object>> groupItems;
     // reversed relations from groupItems
     protected Map<Object, GroupInfo> itemGroups;
+    // child groups by grouping value, the key of root groups is null
+    protected Map<GroupInfo, Map<Object, GroupInfo>> groupsByValue;
 
     protected boolean isGrouping;
+    // groups have been updated on container change, so regrouping by the same properties can be skipped
+    protected boolean groupsUpToDate;
 
     protected Object[] sortProperties;
     protected boolean[] sortAscending;
@@ -70,6 +75,9 @@ public class ContainerGroupTableItems<E extends JmixEntity>
         if (isGrouping) {
             return;
         }
+        if (groupsUpToDate && Arrays.equals(properties, groupProperties)) {
+            return;
+        }
         isGrouping = true;
         try {
             if (properties != null) {
@@ -83,6 +91,7 @@ public class ContainerGroupTableItems<E extends JmixEntity>
                     children = null;
                     groupItems = null;
                     itemGroups = null;
+                    groupsByValue = null;
                 }
             }
         } finally {
@@ -94,57 +103,216 @@ public class ContainerGroupTableItems<E extends JmixEntity>
     }
 
     protected void doGroup() {
-        roots = new LinkedList<>();
+        roots = new ArrayList<>();
         parents = new LinkedHashMap<>();
         children = new LinkedHashMap<>();
         groupItems = new HashMap<>();
         itemGroups = new HashMap<>();
+        groupsByValue = new HashMap<>();
 
         for (E item : container.getItems()) {
-            GroupInfo<MetaPropertyPath> groupInfo = groupItems(0, null, roots, item, new LinkedMap<>());
+            GroupInfo<MetaPropertyPath> groupInfo = groupItem(item);
+
+            Object id = EntityValues.getId(item);
+            groupItems.computeIfAbsent(groupInfo, k -> new ArrayList<>()).add(id);
+            itemGroups.put(id, groupInfo);
+        }
+    }
 
+    /**
+     * Finds the groups of all levels the item belongs to, creating missing ones.
+     *
+     * @return group of the last level
+     */
+    @SuppressWarnings("unchecked")
+    protected GroupInfo<MetaPropertyPath> groupItem(E item) {
+        GroupInfo<MetaPropertyPath> parent = null;
+        LinkedMap<MetaPropertyPath, Object> groupValues = new LinkedMap<>();
+
+        for (Object groupProperty : groupProperties) {
+            MetaPropertyPath property = (MetaPropertyPath) groupProperty;
+            Object itemValue = getValueByProperty(item, property);
+            groupValues.put(property, itemValue);
+
+            Map<Object, GroupInfo> siblingsByValue = groupsByValue.computeIfAbsent(parent, k -> new HashMap<>());
+            GroupInfo<MetaPropertyPath> groupInfo = siblingsByValue.get(itemValue);
             if (groupInfo == null) {
-                throw new IllegalStateException("Item group cannot be NULL");
+                groupInfo = createGroup(parent, groupValues);
+                siblingsByValue.put(itemValue, groupInfo);
             }
+            parent = groupInfo;
+        }
 
-            List itemsIds = groupItems.computeIfAbsent(groupInfo, k -> new ArrayList<>());
-            itemsIds.add(EntityValues.getId(item));
+        if (parent == null) {
+            throw new IllegalStateException("Item group cannot be NULL");
         }
+        return parent;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected GroupInfo<MetaPropertyPath> createGroup(@Nullable GroupInfo parent,
+                                                      LinkedMap<MetaPropertyPath, Object> groupValues) {
+        GroupInfo<MetaPropertyPath> groupInfo = new GroupInfo<>(groupValues);
+
+        // groups are equal if string representations of their values are equal,
+        // so a group can already exist for another value
+        if (parents.containsKey(groupInfo)) {
+            for (GroupInfo child : parent == null ? roots : children.get(parent)) {
+                if (child.equals(groupInfo)) {
+                    return child;
+                }
+            }
+        }
+
+        parents.put(groupInfo, parent);
+        children.put(groupInfo, new ArrayList<>());
+        if (parent == null) {
+            roots.add(groupInfo);
+        } else {
+            children.get(parent).add(groupInfo);
+        }
+        return groupInfo;
     }
 
     @Nullable
-    protected GroupInfo<MetaPropertyPath> groupItems(int propertyIndex, @Nullable GroupInfo parent, List<GroupInfo> children,
-                                                     E item, LinkedMap<MetaPropertyPath, Object> groupValues) {
-        MetaPropertyPath property = (MetaPropertyPath) groupProperties[propertyIndex++];
-        Object itemValue = getValueByProperty(item, property);
-        groupValues.put(property, itemValue);
+    protected Object getValueByProperty(E item, MetaPropertyPath property) {
+        Preconditions.checkNotNullArgument(item);
 
-        GroupInfo<MetaPropertyPath> groupInfo = new GroupInfo<>(groupValues);
-        itemGroups.put(EntityValues.getId(item), groupInfo);
+        return EntityValues.getValueEx(item, property.getPath());
+    }
 
-        if (!parents.containsKey(groupInfo)) {
-            parents.put(groupInfo, parent);
+    @Override
+    protected void containerCollectionChanged(CollectionContainer.CollectionChangeEvent<E> e) {
+        groupsUpToDate = hasGroups() && updateGroups(e);
+        try {
+            super.containerCollectionChanged(e);
+        } finally {
+            groupsUpToDate = false;
         }
+    }
 
-        if (!children.contains(groupInfo)) {
-            children.add(groupInfo);
+    @Override
+    protected void containerItemPropertyChanged(CollectionContainer.ItemPropertyChangeEvent<E> e) {
+        super.containerItemPropertyChanged(e);
+
+        if (hasGroups() && isGroupProperty(e.getProperty())) {
+            ungroupItem(EntityValues.getId(e.getItem()));
+            addToGroups(e.getItem());
+            sortGroups(roots);
+
+            groupsUpToDate = true;
+            try {
+                events.publish(ItemSetChangeEvent.class, new ItemSetChangeEvent<>(this));
+            } finally {
+                groupsUpToDate = false;
+            }
         }
+    }
 
-        List<GroupInfo> groupChildren =
-                this.children.computeIfAbsent(groupInfo, k -> new ArrayList<>());
+    /**
+     * Updates groups according to the added, removed or replaced items.
+     *
+     * @return false if the change cannot be applied incrementally and items must be regrouped
+     */
+    protected boolean updateGroups(CollectionContainer.CollectionChangeEvent<E> e) {
+        CollectionChangeType changeType = e.getChangeType();
+        if (changeType == CollectionChangeType.REFRESH) {
+            return false;
+        }
 
-        if (propertyIndex < groupProperties.length) {
-            groupInfo = groupItems(propertyIndex, groupInfo, groupChildren, item, groupValues);
+        for (E item : e.getChanges()) {
+            Object id = EntityValues.getId(item);
+            ungroupItem(id);
+            if (changeType != CollectionChangeType.REMOVE_ITEMS) {
+                addToGroups(item);
+            }
         }
+        sortGroups(roots);
+        return true;
+    }
 
-        return groupInfo;
+    /**
+     * Restores the order of groups by their first item in the container, as it is after full grouping.
+     */
+    protected void sortGroups(List<GroupInfo> groups) {
+        for (GroupInfo group : groups) {
+            List<GroupInfo> groupChildren = children.get(group);
+            if (CollectionUtils.isNotEmpty(groupChildren)) {
+                sortGroups(groupChildren);
+            }
+        }
+        groups.sort(Comparator.comparingInt(this::getFirstItemIndex));
     }
 
-    @Nullable
-    protected Object getValueByProperty(E item, MetaPropertyPath property) {
-        Preconditions.checkNotNullArgument(item);
+    protected int getFirstItemIndex(GroupInfo groupInfo) {
+        List<GroupInfo> groupChildren = children.get(groupInfo);
+        if (CollectionUtils.isNotEmpty(groupChildren)) {
+            return getFirstItemIndex(groupChildren.get(0));
+        }
+        List<Object> itemIds = groupItems.get(groupInfo);
+        return CollectionUtils.isEmpty(itemIds) ? Integer.MAX_VALUE : container.getItemIndex(itemIds.get(0));
+    }
+
+    protected void addToGroups(E item) {
+        Object id = EntityValues.getId(item);
+        GroupInfo<MetaPropertyPath> groupInfo = groupItem(item);
+
+        // keep the order of the container
+        List<Object> itemIds = groupItems.computeIfAbsent(groupInfo, k -> new ArrayList<>());
+        int itemIndex = container.getItemIndex(id);
+        int position = itemIds.size();
+        while (position > 0 && container.getItemIndex(itemIds.get(position - 1)) > itemIndex) {
+            position--;
+        }
+        itemIds.add(position, id);
+        itemGroups.put(id, groupInfo);
+    }
+
+    /**
+     * Removes the item from its group and removes groups which become empty.
+     */
+    protected void ungroupItem(Object itemId) {
+        GroupInfo groupInfo = itemGroups.remove(itemId);
+        if (groupInfo == null) {
+            return;
+        }
+
+        List<Object> itemIds = groupItems.get(groupInfo);
+        if (itemIds != null) {
+            itemIds.remove(itemId);
+        }
+
+        while (groupInfo != null
+                && CollectionUtils.isEmpty(groupItems.get(groupInfo))
+                && CollectionUtils.isEmpty(children.get(groupInfo))) {
+            GroupInfo emptyGroup = groupInfo;
+            GroupInfo parent = parents.remove(emptyGroup);
+            groupItems.remove(emptyGroup);
+            children.remove(emptyGroup);
+            groupsByValue.remove(emptyGroup);
+
+            if (parent == null) {
+                roots.remove(emptyGroup);
+            } else {
+                children.get(parent).remove(emptyGroup);
+            }
+            Map<Object, GroupInfo> siblingsByValue = groupsByValue.get(parent);
+            if (siblingsByValue != null) {
+                siblingsByValue.values().removeIf(emptyGroup::equals);
+            }
 
-        return EntityValues.getValueEx(item, property.toString());
+            groupInfo = parent;
+        }
+    }
+
+    protected boolean isGroupProperty(String property) {
+        for (Object groupProperty : groupProperties) {
+            String path = groupProperty.toString();
+            if (path.equals(property) || path.startsWith(property + ".")) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -301,6 +301,11 @@ public class ContainerTableItems<E extends JmixEntity> implements EntityTableIte
         return aggregatableDelegate.aggregateValues(aggregationInfos, itemIds);
     }
 
+    @Override
+    public String formatAggregationValue(AggregationInfo aggregationInfo, @Nullable Object value) {
+        return aggregatableDelegate.formatValue(aggregationInfo, value);
+    }
+
     @Override
     public void suppressSorting() {
         suppressSorting = true;
@@ -106,9 +106,12 @@ public class DataGridDataProvider<T> extends AbstractDataProvider<T, Serializabl
             return Stream.empty();
         }
 
-        return dataGridItems.getItems()
-                .skip(query.getOffset())
-                .limit(query.getLimit());
+        // the limit can be Integer.MAX_VALUE
+        int limit = Math.min(query.getLimit(), dataGridItems.size() - query.getOffset());
+        if (limit <= 0) {
+            return Stream.empty();
+        }
+        return dataGridItems.getItems(query.getOffset(), limit).stream();
     }
 
     protected void datasourceItemSetChanged(DataGridItems.ItemSetChangeEvent<T> event) {
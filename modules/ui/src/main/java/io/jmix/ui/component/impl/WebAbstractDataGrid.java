@@ -66,6 +66,8 @@ import io.jmix.ui.component.data.value.ContainerValueSourceProvider;
 import io.jmix.ui.component.datagrid.DataGridDataProvider;
 import io.jmix.ui.component.datagrid.DataGridItemsEventsDelegate;
 import io.jmix.ui.component.datagrid.SortableDataGridDataProvider;
+import io.jmix.ui.executor.BackgroundTaskHandler;
+import io.jmix.ui.gui.data.impl.DataStoreAggregationLoader;
 import io.jmix.ui.component.formatter.CollectionFormatter;
 import io.jmix.ui.component.formatter.Formatter;
 import io.jmix.ui.component.renderer.RendererWrapper;
@@ -74,9 +76,14 @@ import io.jmix.ui.context.UiEntityAttributeContext;
 import io.jmix.ui.context.UiShowEntityInfoContext;
 import io.jmix.ui.icon.IconResolver;
 import io.jmix.ui.model.CollectionContainer;
+import io.jmix.ui.model.CollectionLoader;
 import io.jmix.ui.model.DataComponents;
+import io.jmix.ui.model.DataLoader;
+import io.jmix.ui.model.HasLoader;
 import io.jmix.ui.model.InstanceContainer;
+import io.jmix.ui.screen.Screen;
 import io.jmix.ui.screen.ScreenValidation;
+import io.jmix.ui.screen.UiControllerUtils;
 import io.jmix.ui.sys.PersistenceManagerClient;
 import io.jmix.ui.sys.ShortcutsDelegate;
 import io.jmix.ui.theme.ThemeConstants;
@@ -129,6 +136,13 @@ public abstract class WebAbstractDataGrid<C extends Grid<E> & JmixEnhancedGrid<E
     protected Actions actions;
     protected IconResolver iconResolver;
     protected Aggregations aggregations;
+    protected DataStoreAggregationLoader dataStoreAggregationLoader;
+
+    protected boolean dataStoreAggregation;
+    // total aggregation values calculated in the data store, null until loaded
+    @Nullable
+    protected Map<AggregationInfo, Object> dataStoreAggregationValues;
+    protected BackgroundTaskHandler<Map<AggregationInfo, Object>> dataStoreAggregationTaskHandler;
 
     // Style names used by grid itself
     protected final List<String> internalStyles = new ArrayList<>(2);
@@ -303,6 +317,11 @@ public abstract class WebAbstractDataGrid<C extends Grid<E> & JmixEnhancedGrid<E
         this.aggregations = aggregations;
     }
 
+    @Autowired
+    public void setDataStoreAggregationLoader(DataStoreAggregationLoader dataStoreAggregationLoader) {
+        this.dataStoreAggregationLoader = dataStoreAggregationLoader;
+    }
+
     @SuppressWarnings("unchecked")
     protected void initComponent(Grid<E> component) {
         setSelectionMode(SelectionMode.SINGLE);
@@ -919,6 +938,7 @@ public abstract class WebAbstractDataGrid<C extends Grid<E> & JmixEnhancedGrid<E
             // Bind new datasource
             this.dataBinding = createDataGridDataProvider(dataGridItems);
             this.component.setDataProvider(this.dataBinding);
+            requestDataStoreAggregation();
             updateAggregationRow();
 
             List<Column<E>> visibleColumnsOrder = getInitialVisibleColumns();
@@ -1071,6 +1091,7 @@ public abstract class WebAbstractDataGrid<C extends Grid<E> & JmixEnhancedGrid<E
             }
         }
 
+        requestDataStoreAggregation();
         updateAggregationRow();
 
         refreshActionsState();
@@ -2817,9 +2838,25 @@ public abstract class WebAbstractDataGrid<C extends Grid<E> & JmixEnhancedGrid<E
     public void setAggregatable(boolean aggregatable) {
         component.setAggregatable(aggregatable);
 
+        requestDataStoreAggregation();
         updateAggregationRow();
     }
 
+    @Override
+    public boolean isDataStoreAggregation() {
+        return dataStoreAggregation;
+    }
+
+    @Override
+    public void setDataStoreAggregation(boolean dataStoreAggregation) {
+        if (this.dataStoreAggregation != dataStoreAggregation) {
+            this.dataStoreAggregation = dataStoreAggregation;
+
+            requestDataStoreAggregation();
+            updateAggregationRow();
+        }
+    }
+
     @Override
     public AggregationPosition getAggregationPosition() {
         return AggregationPosition.valueOf(component.getAggregationPosition().name());
@@ -2880,11 +2917,19 @@ public abstract class WebAbstractDataGrid<C extends Grid<E> & JmixEnhancedGrid<E
         }
 
         List<AggregationInfo> aggregationInfos = getAggregationInfos();
-        Map<AggregationInfo, String> aggregationInfoMap = ((AggregatableDataGridItems) getItems()).aggregate(
+        AggregatableDataGridItems<E> items = (AggregatableDataGridItems<E>) getItems();
+        Map<AggregationInfo, String> aggregationInfoMap = items.aggregate(
                 aggregationInfos.toArray(new AggregationInfo[0]),
                 getItems().getItems().map(e -> EntityValues.getId(e)).collect(Collectors.toList())
         );
 
+        if (dataStoreAggregationValues != null) {
+            aggregationInfoMap = new HashMap<>(aggregationInfoMap);
+            for (Map.Entry<AggregationInfo, Object> entry : dataStoreAggregationValues.entrySet()) {
+                aggregationInfoMap.put(entry.getKey(), items.formatAggregationValue(entry.getKey(), entry.getValue()));
+            }
+        }
+
         return convertAggregationKeyMapToColumnIdKeyMap(aggregationInfoMap);
     }
 
@@ -2901,6 +2946,11 @@ public abstract class WebAbstractDataGrid<C extends Grid<E> & JmixEnhancedGrid<E
                 getItems().getItems().map(e -> EntityValues.getId(e)).collect(Collectors.toList())
         );
 
+        if (dataStoreAggregationValues != null) {
+            aggregationInfoMap = new HashMap<>(aggregationInfoMap);
+            aggregationInfoMap.putAll(dataStoreAggregationValues);
+        }
+
         return convertAggregationKeyMapToColumnIdKeyMap(aggregationInfoMap);
     }
 
@@ -2997,6 +3047,57 @@ public abstract class WebAbstractDataGrid<C extends Grid<E> & JmixEnhancedGrid<E
         }
     }
 
+    protected void requestDataStoreAggregation() {
+        if (dataStoreAggregationTaskHandler != null && dataStoreAggregationTaskHandler.isAlive()) {
+            dataStoreAggregationTaskHandler.cancel();
+        }
+        dataStoreAggregationTaskHandler = null;
+        dataStoreAggregationValues = null;
+
+        if (!dataStoreAggregation || !isAggregatable() || getFrame() == null) {
+            return;
+        }
+
+        CollectionLoader<E> loader = getDataStoreAggregationTarget();
+        if (loader == null || !dataStoreAggregationLoader.supports(loader)) {
+            return;
+        }
+
+        List<AggregationInfo> aggregationInfos = new ArrayList<>();
+        for (Column<E> column : columnsOrder) {
+            AggregationInfo aggregation = column.getAggregation();
+            if (aggregation != null && dataStoreAggregationLoader.supports(aggregation)) {
+                aggregationInfos.add(aggregation);
+            }
+        }
+        if (aggregationInfos.isEmpty()) {
+            return;
+        }
+
+        Screen screen = UiControllerUtils.getScreen(getFrame().getFrameOwner());
+        dataStoreAggregationTaskHandler = dataStoreAggregationLoader.loadInBackground(screen, loader,
+                aggregationInfos, values -> {
+                    dataStoreAggregationValues = values;
+                    updateAggregationRow();
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    protected CollectionLoader<E> getDataStoreAggregationTarget() {
+        DataGridItems<E> items = getItems();
+        if (items instanceof ContainerDataUnit) {
+            CollectionContainer<E> container = ((ContainerDataUnit<E>) items).getContainer();
+            if (container instanceof HasLoader) {
+                DataLoader loader = ((HasLoader) container).getLoader();
+                if (loader instanceof CollectionLoader) {
+                    return (CollectionLoader<E>) loader;
+                }
+            }
+        }
+        return null;
+    }
+
     protected void updateAggregationRow() {
         boolean isAggregatable = isAggregatable() && getItems() instanceof AggregatableDataGridItems;
         if (isAggregatable) {
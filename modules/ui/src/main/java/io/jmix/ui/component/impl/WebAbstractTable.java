@@ -62,14 +62,20 @@ import io.jmix.ui.component.table.*;
 import io.jmix.ui.context.UiEntityAttributeContext;
 import io.jmix.ui.context.UiEntityContext;
 import io.jmix.ui.context.UiShowEntityInfoContext;
+import io.jmix.ui.executor.BackgroundTaskHandler;
+import io.jmix.ui.gui.data.impl.DataStoreAggregationLoader;
 import io.jmix.ui.icon.IconResolver;
 import io.jmix.ui.model.CollectionContainer;
+import io.jmix.ui.model.CollectionLoader;
 import io.jmix.ui.model.DataComponents;
+import io.jmix.ui.model.DataLoader;
+import io.jmix.ui.model.HasLoader;
 import io.jmix.ui.model.InstanceContainer;
 import io.jmix.ui.presentation.TablePresentations;
 import io.jmix.ui.presentation.model.TablePresentation;
 import io.jmix.ui.screen.FrameOwner;
 import io.jmix.ui.screen.InstallTargetHandler;
+import io.jmix.ui.screen.Screen;
 import io.jmix.ui.screen.ScreenContext;
 import io.jmix.ui.screen.UiControllerUtils;
 import io.jmix.ui.settings.SettingsHelper;
@@ -152,6 +158,7 @@ public abstract class WebAbstractTable<T extends com.vaadin.v7.ui.Table & JmixEn
     protected Actions actions;
     protected UiComponentsGenerator uiComponentsGenerator;
     protected Aggregations aggregations;
+    protected DataStoreAggregationLoader dataStoreAggregationLoader;
 
     protected Locale locale;
 
@@ -185,6 +192,12 @@ public abstract class WebAbstractTable<T extends com.vaadin.v7.ui.Table & JmixEn
 
     protected Map<Table.Column, String> aggregationCells = null;
 
+    protected boolean dataStoreAggregation;
+    // total aggregation values calculated in the data store, null until loaded
+    @Nullable
+    protected Map<AggregationInfo, Object> dataStoreAggregationValues;
+    protected BackgroundTaskHandler<Map<AggregationInfo, Object>> dataStoreAggregationTaskHandler;
+
     protected boolean usePresentations;
     protected TablePresentations presentations;
 
@@ -300,6 +313,11 @@ public abstract class WebAbstractTable<T extends com.vaadin.v7.ui.Table & JmixEn
         this.aggregations = aggregations;
     }
 
+    @Autowired
+    public void setDataStoreAggregationLoader(DataStoreAggregationLoader dataStoreAggregationLoader) {
+        this.dataStoreAggregationLoader = dataStoreAggregationLoader;
+    }
+
     @Override
     public Collection<io.jmix.ui.component.Component> getInnerComponents() {
         if (buttonsPanel != null) {
@@ -969,6 +987,19 @@ public abstract class WebAbstractTable<T extends com.vaadin.v7.ui.Table & JmixEn
         component.setShowTotalAggregation(showAggregation);
     }
 
+    @Override
+    public boolean isDataStoreAggregation() {
+        return dataStoreAggregation;
+    }
+
+    @Override
+    public void setDataStoreAggregation(boolean dataStoreAggregation) {
+        if (this.dataStoreAggregation != dataStoreAggregation) {
+            this.dataStoreAggregation = dataStoreAggregation;
+            requestDataStoreAggregation();
+        }
+    }
+
     @Override
     public com.vaadin.ui.Component getComposition() {
         return componentComposition;
@@ -1653,6 +1684,8 @@ public abstract class WebAbstractTable<T extends com.vaadin.v7.ui.Table & JmixEn
 
     @Override
     public void tableSourceItemSetChanged(TableItems.ItemSetChangeEvent<E> event) {
+        requestDataStoreAggregation();
+
         // replacement for collectionChangeSelectionListener
         // #PL-2035, reload selection from ds
         Set<Object> selectedItemIds = getSelectedItemIds();
@@ -1716,6 +1749,69 @@ public abstract class WebAbstractTable<T extends com.vaadin.v7.ui.Table & JmixEn
         refreshActionsState();
     }
 
+    protected void requestDataStoreAggregation() {
+        if (dataStoreAggregationTaskHandler != null && dataStoreAggregationTaskHandler.isAlive()) {
+            dataStoreAggregationTaskHandler.cancel();
+        }
+        dataStoreAggregationTaskHandler = null;
+
+        boolean hadValues = dataStoreAggregationValues != null;
+        dataStoreAggregationValues = null;
+        if (hadValues && aggregationCells != null) {
+            component.markAsDirty();
+        }
+
+        if (!dataStoreAggregation || !isAggregatable() || getFrame() == null) {
+            return;
+        }
+
+        CollectionLoader<E> loader = getDataStoreAggregationTarget();
+        if (loader == null || !dataStoreAggregationLoader.supports(loader)) {
+            return;
+        }
+
+        List<AggregationInfo> aggregationInfos = new ArrayList<>();
+        for (Table.Column<E> column : columnsOrder) {
+            AggregationInfo aggregation = column.getAggregation();
+            if (aggregation != null && dataStoreAggregationLoader.supports(aggregation)) {
+                aggregationInfos.add(aggregation);
+            }
+        }
+        if (aggregationInfos.isEmpty()) {
+            return;
+        }
+
+        Screen screen = UiControllerUtils.getScreen(getFrame().getFrameOwner());
+        dataStoreAggregationTaskHandler = dataStoreAggregationLoader.loadInBackground(screen, loader,
+                aggregationInfos, values -> {
+                    dataStoreAggregationValues = values;
+                    handleAggregation();
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    protected CollectionLoader<E> getDataStoreAggregationTarget() {
+        TableItems<E> items = getItems();
+        if (items instanceof ContainerDataUnit) {
+            CollectionContainer<E> container = ((ContainerDataUnit<E>) items).getContainer();
+            if (container instanceof HasLoader) {
+                DataLoader loader = ((HasLoader) container).getLoader();
+                if (loader instanceof CollectionLoader) {
+                    return (CollectionLoader<E>) loader;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return true if the context is used to aggregate all items of the table, false for group aggregation
+     */
+    protected boolean isTotalAggregationContext(AggregationContainer.Context context) {
+        return true;
+    }
+
     protected void handleAggregation() {
         if (isAggregatable() && aggregationCells != null) {
             component.aggregate(new AggregationContainer.Context(getItems().getItemIds()));
@@ -2514,6 +2610,11 @@ public abstract class WebAbstractTable<T extends com.vaadin.v7.ui.Table & JmixEn
                 context.getItemIds()
         );
 
+        if (dataStoreAggregationValues != null && isTotalAggregationContext(context)) {
+            results = new HashMap<>(results);
+            results.putAll(dataStoreAggregationValues);
+        }
+
         return convertAggregationKeyMapToColumnIdKeyMap(container, results);
     }
 
@@ -2530,6 +2631,14 @@ public abstract class WebAbstractTable<T extends com.vaadin.v7.ui.Table & JmixEn
                 context.getItemIds()
         );
 
+        if (dataStoreAggregationValues != null && isTotalAggregationContext(context)) {
+            AggregatableTableItems<E> items = (AggregatableTableItems<E>) getItems();
+            results = new HashMap<>(results);
+            for (Map.Entry<AggregationInfo, Object> entry : dataStoreAggregationValues.entrySet()) {
+                results.put(entry.getKey(), items.formatAggregationValue(entry.getKey(), entry.getValue()));
+            }
+        }
+
         Map<Object, Object> resultsByColumns = convertAggregationKeyMapToColumnIdKeyMap(container, results);
 
         if (aggregationCells != null) {
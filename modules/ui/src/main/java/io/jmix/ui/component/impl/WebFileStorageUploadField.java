@@ -19,6 +19,7 @@ import com.vaadin.ui.Button;
 import io.jmix.core.FileStorage;
 import io.jmix.core.FileStorageException;
 import io.jmix.core.FileStorageLocator;
+import io.jmix.core.LocalFileStorage;
 import io.jmix.ui.component.FileStorageUploadField;
 import io.jmix.ui.component.data.ConversionException;
 import io.jmix.ui.component.data.ValueSource;
@@ -52,6 +53,11 @@ public class WebFileStorageUploadField<T> extends WebAbstractSingleFileUploadFie
     protected UUID fileId;
     protected UUID tempFileId;
 
+    /*
+     * Reference of the file uploaded directly to the file storage, see isPassThroughUpload().
+     */
+    protected T passThroughReference;
+
     /*
      * This flag is used only for MANUAL mode to register that file was uploaded with the upload button rather then
      * setValue calling or changed property in the datasource.
@@ -108,6 +114,12 @@ public class WebFileStorageUploadField<T> extends WebAbstractSingleFileUploadFie
     @Override
     protected OutputStream receiveUpload(String fileName, String MIMEType) {
         try {
+            if (isPassThroughUpload()) {
+                passThroughReference = fileStorage.createReference(fileName);
+                return temporaryStorage.openStorageStream(passThroughReference, fileStorage);
+            }
+            passThroughReference = null;
+
             TemporaryStorage.FileInfo fileInfo = temporaryStorage.createFile();
             tempFileId = fileInfo.getId();
             File tmpFile = fileInfo.getFile();
@@ -118,6 +130,15 @@ public class WebFileStorageUploadField<T> extends WebAbstractSingleFileUploadFie
         }
     }
 
+    /**
+     * In the {@link FileStoragePutMode#IMMEDIATE} mode, the uploaded contents is passed directly to a file storage
+     * which cannot take over a local file, so that it is not written to a temporary file first. A
+     * {@link LocalFileStorage} gets the temporary file moved into it.
+     */
+    protected boolean isPassThroughUpload() {
+        return mode == FileStoragePutMode.IMMEDIATE && !(fileStorage instanceof LocalFileStorage);
+    }
+
     protected void saveFile(T reference) {
         switch (mode) {
             case MANUAL:
@@ -138,15 +159,23 @@ public class WebFileStorageUploadField<T> extends WebAbstractSingleFileUploadFie
         if (!internalValueChangedOnUpload) {
             fileId = null;
             tempFileId = null;
+            passThroughReference = null;
         }
     }
 
     @Override
     protected void onUploadSucceeded(JmixFileUpload.SucceededEvent event) {
         fileName = event.getFileName();
-        fileId = tempFileId;
 
-        saveFile(getReference());
+        if (passThroughReference != null) {
+            fileId = null;
+            internalValueChangedOnUpload = true;
+            setValue(passThroughReference);
+            internalValueChangedOnUpload = false;
+        } else {
+            fileId = tempFileId;
+            saveFile(getReference());
+        }
         component.setFileNameButtonCaption(fileName);
 
         super.onUploadSucceeded(event);
@@ -154,6 +183,13 @@ public class WebFileStorageUploadField<T> extends WebAbstractSingleFileUploadFie
 
     @Override
     protected void onUploadFailed(JmixFileUpload.FailedEvent event) {
+        if (passThroughReference != null) {
+            removePassThroughFile(passThroughReference);
+            passThroughReference = null;
+            super.onUploadFailed(event);
+            return;
+        }
+
         try {
             temporaryStorage.deleteFile(tempFileId);
             tempFileId = null;
@@ -169,6 +205,16 @@ public class WebFileStorageUploadField<T> extends WebAbstractSingleFileUploadFie
         super.onUploadFailed(event);
     }
 
+    protected void removePassThroughFile(T reference) {
+        try {
+            if (fileStorage.fileExists(reference)) {
+                fileStorage.removeFile(reference);
+            }
+        } catch (Exception e) {
+            log.warn("Could not remove file {} after broken uploading", reference, e);
+        }
+    }
+
     @Nullable
     @Override
     protected String convertToPresentation(@Nullable T modelValue) throws ConversionException {
@@ -197,6 +243,9 @@ public class WebFileStorageUploadField<T> extends WebAbstractSingleFileUploadFie
     @Nullable
     @Override
     public T getReference() {
+        if (passThroughReference != null) {
+            return passThroughReference;
+        }
         if (fileId != null) {
             return fileStorage.createReference(fileName);
         } else {
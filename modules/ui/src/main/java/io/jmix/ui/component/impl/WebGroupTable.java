@@ -212,6 +212,11 @@ public class WebGroupTable<E extends JmixEntity> extends WebAbstractTable<JmixGr
         }
     }
 
+    @Override
+    protected boolean isTotalAggregationContext(AggregationContainer.Context context) {
+        return !(context instanceof GroupAggregationContext);
+    }
+
     protected Object[] getNewColumnOrder(Object[] newGroupProperties) {
         List<Object> allProps = Lists.newArrayList(component.getVisibleColumns()); // mutable list required
         List<Object> newGroupProps = Arrays.asList(newGroupProperties);
@@ -45,8 +45,12 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -85,6 +89,11 @@ public class WebPagination extends WebAbstractComponent<JmixPagination> implemen
     protected List<Integer> options = Collections.emptyList();
 
     protected boolean autoLoad;
+    protected boolean keysetPaging;
+    // keyset values of the entity preceding the page by the page start position
+    protected Map<Integer, List<Object>> pageKeysets = new HashMap<>();
+    // query, condition, parameters and sort of the loader the page keysets were remembered for
+    protected Object pageKeysetsQueryState;
     protected BackgroundTaskHandler<Integer> rowsCountTaskHandler;
 
     protected Registration onLinkClickRegistration;
@@ -182,6 +191,20 @@ public class WebPagination extends WebAbstractComponent<JmixPagination> implemen
         this.autoLoad = autoLoad;
     }
 
+    @Override
+    public boolean isKeysetPaging() {
+        return keysetPaging;
+    }
+
+    @Override
+    public void setKeysetPaging(boolean keysetPaging) {
+        this.keysetPaging = keysetPaging;
+        pageKeysets.clear();
+        if (!keysetPaging && adapter != null) {
+            adapter.setKeysetValues(null);
+        }
+    }
+
     @Nullable
     @Override
     public Function<DataLoadContext, Long> getTotalCountDelegate() {
@@ -325,21 +348,21 @@ public class WebPagination extends WebAbstractComponent<JmixPagination> implemen
     protected void onPrevClick() {
         int firstResult = adapter.getFirstResult();
         int newStart = adapter.getFirstResult() - adapter.getMaxResults();
-        adapter.setFirstResult(newStart < 0 ? 0 : newStart);
+        setPageStart(newStart < 0 ? 0 : newStart);
 
         if (refreshData()) {
             onSuccessfulDataRefresh();
         } else {
-            adapter.setFirstResult(firstResult);
+            setPageStart(firstResult);
         }
     }
 
     protected void onNextClick() {
         int firstResult = adapter.getFirstResult();
-        adapter.setFirstResult(adapter.getFirstResult() + adapter.getMaxResults());
+        setPageStart(adapter.getFirstResult() + adapter.getMaxResults());
         if (refreshData()) {
             if (state == Pagination.State.LAST && size == 0) {
-                adapter.setFirstResult(firstResult);
+                setPageStart(firstResult);
                 int maxResults = adapter.getMaxResults();
                 adapter.setMaxResults(maxResults + 1);
                 refreshData();
@@ -347,18 +370,18 @@ public class WebPagination extends WebAbstractComponent<JmixPagination> implemen
             }
             onSuccessfulDataRefresh();
         } else {
-            adapter.setFirstResult(firstResult);
+            setPageStart(firstResult);
         }
     }
 
     protected void onFirstClick() {
         int firstResult = adapter.getFirstResult();
-        adapter.setFirstResult(0);
+        setPageStart(0);
 
         if (refreshData()) {
             onSuccessfulDataRefresh();
         } else {
-            adapter.setFirstResult(firstResult);
+            setPageStart(firstResult);
         }
     }
 
@@ -368,13 +391,57 @@ public class WebPagination extends WebAbstractComponent<JmixPagination> implemen
         if (itemsToDisplay == 0) itemsToDisplay = adapter.getMaxResults();
 
         int firstResult = adapter.getFirstResult();
-        adapter.setFirstResult(count - itemsToDisplay);
+        setPageStart(count - itemsToDisplay);
 
         if (refreshData()) {
             onSuccessfulDataRefresh();
         } else {
-            adapter.setFirstResult(firstResult);
+            setPageStart(firstResult);
+        }
+    }
+
+    protected void setPageStart(int firstResult) {
+        adapter.setFirstResult(firstResult);
+        if (isKeysetApplicable()) {
+            // without a known keyset the page is loaded by offset
+            adapter.setKeysetValues(pageKeysets.get(firstResult));
+        }
+    }
+
+    protected void rememberPageKeyset() {
+        if (!refreshing) {
+            // the loader was reloaded outside of pagination, e.g. by a filter, so the remembered pages may be wrong
+            pageKeysets.clear();
+        }
+        if (size == 0 || !isKeysetApplicable()) {
+            return;
+        }
+        List<Object> keysetValues = adapter.getLastKeysetValues();
+        if (keysetValues != null) {
+            pageKeysets.put(adapter.getFirstResult() + size, keysetValues);
+        }
+    }
+
+    /**
+     * Returns true if pages can be loaded by keyset. Keysets remembered for a different query, condition, parameters
+     * or sort of the loader are discarded. If the loader has no sort, e.g. the order is defined by the query itself,
+     * pages are loaded by offset.
+     */
+    protected boolean isKeysetApplicable() {
+        if (!keysetPaging) {
+            return false;
+        }
+        Object queryState = adapter.getQueryState();
+        if (!Objects.equals(queryState, pageKeysetsQueryState)) {
+            pageKeysets.clear();
+            pageKeysetsQueryState = queryState;
+        }
+        Sort sort = adapter.getSort();
+        if (sort == null || sort.getOrders().isEmpty()) {
+            log.debug("Loader has no sort, pages are loaded by offset");
+            return false;
         }
+        return true;
     }
 
     protected void onMaxResultsValueChange(@Nullable Integer value) {
@@ -486,6 +553,8 @@ public class WebPagination extends WebAbstractComponent<JmixPagination> implemen
         size = adapter.size();
         start = 0;
 
+        rememberPageKeyset();
+
         boolean refreshSizeButton = false;
         if (samePage) {
             state = lastState == null ? Pagination.State.FIRST_COMPLETE : lastState;
@@ -666,6 +735,37 @@ public class WebPagination extends WebAbstractComponent<JmixPagination> implemen
         void refresh();
 
         int getLoadedMaxResults();
+
+        /**
+         * @return sort of the loader or null if it's not sorted
+         */
+        @Nullable
+        default Sort getSort() {
+            return null;
+        }
+
+        /**
+         * @return an object that is not equal to the previously returned one if the query, condition, parameters
+         * or sort of the loader have changed
+         */
+        @Nullable
+        default Object getQueryState() {
+            return getSort();
+        }
+
+        /**
+         * Sets keyset values for loading the next refresh, see {@link CollectionLoader#setKeysetValues(List)}.
+         */
+        default void setKeysetValues(@Nullable List<Object> keysetValues) {
+        }
+
+        /**
+         * @return keyset values of the last loaded entity or null if keyset pagination is not supported
+         */
+        @Nullable
+        default List<Object> getLastKeysetValues() {
+            return null;
+        }
     }
 
     @SuppressWarnings("rawtypes")
@@ -782,5 +882,39 @@ public class WebPagination extends WebAbstractComponent<JmixPagination> implemen
         public int getLoadedMaxResults() {
             return loadedMaxResults;
         }
+
+        @Nullable
+        @Override
+        public Sort getSort() {
+            return loader != null ? loader.getSort() : null;
+        }
+
+        @Nullable
+        @Override
+        public Object getQueryState() {
+            if (loader == null) {
+                return null;
+            }
+            return Arrays.asList(loader.getQuery(), loader.getCondition(),
+                    new HashMap<>(loader.getParameters()), loader.getSort());
+        }
+
+        @Override
+        public void setKeysetValues(@Nullable List<Object> keysetValues) {
+            if (loader instanceof CollectionLoader) {
+                ((CollectionLoader) loader).setKeysetValues(keysetValues);
+            }
+        }
+
+        @Nullable
+        @Override
+        public List<Object> getLastKeysetValues() {
+            if (!(loader instanceof CollectionLoader) || container.getItems().isEmpty()) {
+                return null;
+            }
+            List<?> items = container.getItems();
+            JmixEntity lastEntity = (JmixEntity) items.get(items.size() - 1);
+            return LoadContext.Query.getKeysetValues(lastEntity, loader.getSort());
+        }
     }
 }
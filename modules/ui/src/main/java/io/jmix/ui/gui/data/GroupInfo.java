@@ -21,6 +21,8 @@ public class GroupInfo<P> {
 
     private LinkedMap groupingValues;
     private P groupProperty;
+    // grouping values are not changed after creation, so the string used for equality is built once
+    private String key;
 
     @SuppressWarnings("unchecked")
     public GroupInfo(LinkedMap groupingValues) {
@@ -48,6 +50,13 @@ public class GroupInfo<P> {
 
     @Override
     public String toString() {
+        if (key == null) {
+            key = buildKey();
+        }
+        return key;
+    }
+
+    private String buildKey() {
         StringBuilder sb = new StringBuilder("{");
         for (int groupIndex = 0; groupIndex < groupingValues.size(); groupIndex++) {
             Object value = groupingValues.getValue(groupIndex);
@@ -92,45 +92,53 @@ public class AggregatableDelegate<K> {
         for (AggregationInfo aggregationInfo : aggregationInfos) {
             final Object value = doPropertyAggregation(aggregationInfo, itemIds);
 
-            String formattedValue;
-            if (aggregationInfo.getFormatter() != null) {
-                formattedValue = aggregationInfo.getFormatter().apply(value);
-            } else {
-                // propertyPath could be null in case of custom aggregation
-                MetaPropertyPath propertyPath = aggregationInfo.getPropertyPath();
-
-                Range range = propertyPath != null ? propertyPath.getRange() : null;
-                if (range != null && range.isDatatype()) {
-                    if (aggregationInfo.getType() != AggregationInfo.Type.COUNT) {
-                        Class resultClass;
-                        if (aggregationInfo.getStrategy() == null) {
-                            Class rangeJavaClass = propertyPath.getRangeJavaClass();
-                            Aggregation aggregation = aggregations.get(rangeJavaClass);
-                            resultClass = aggregation.getResultClass();
-                        } else {
-                            resultClass = aggregationInfo.getStrategy().getResultClass();
-                        }
-
-                        Locale locale = currentAuthentication.getLocale();
-                        formattedValue = datatypeRegistry.get(resultClass).format(value, locale);
+            String formattedValue = formatValue(aggregationInfo, value);
+
+            aggregationResults.put(aggregationInfo, formattedValue);
+        }
+        return aggregationResults;
+    }
+
+    /**
+     * Formats the aggregation result using the formatter of the aggregation or the datatype of the result.
+     */
+    public String formatValue(AggregationInfo aggregationInfo, @Nullable Object value) {
+        String formattedValue;
+        if (aggregationInfo.getFormatter() != null) {
+            formattedValue = aggregationInfo.getFormatter().apply(value);
+        } else {
+            // propertyPath could be null in case of custom aggregation
+            MetaPropertyPath propertyPath = aggregationInfo.getPropertyPath();
+
+            Range range = propertyPath != null ? propertyPath.getRange() : null;
+            if (range != null && range.isDatatype()) {
+                if (aggregationInfo.getType() != AggregationInfo.Type.COUNT) {
+                    Class resultClass;
+                    if (aggregationInfo.getStrategy() == null) {
+                        Class rangeJavaClass = propertyPath.getRangeJavaClass();
+                        Aggregation aggregation = aggregations.get(rangeJavaClass);
+                        resultClass = aggregation.getResultClass();
                     } else {
-                        formattedValue = value.toString();
+                        resultClass = aggregationInfo.getStrategy().getResultClass();
                     }
+
+                    Locale locale = currentAuthentication.getLocale();
+                    formattedValue = datatypeRegistry.get(resultClass).format(value, locale);
                 } else {
-                    if (aggregationInfo.getStrategy() != null) {
-                        Class resultClass = aggregationInfo.getStrategy().getResultClass();
+                    formattedValue = value.toString();
+                }
+            } else {
+                if (aggregationInfo.getStrategy() != null) {
+                    Class resultClass = aggregationInfo.getStrategy().getResultClass();
 
-                        Locale locale = currentAuthentication.getLocale();
-                        formattedValue = datatypeRegistry.get(resultClass).format(value, locale);
-                    } else {
-                        formattedValue = value.toString();
-                    }
+                    Locale locale = currentAuthentication.getLocale();
+                    formattedValue = datatypeRegistry.get(resultClass).format(value, locale);
+                } else {
+                    formattedValue = value.toString();
                 }
             }
-
-            aggregationResults.put(aggregationInfo, formattedValue);
         }
-        return aggregationResults;
+        return formattedValue;
     }
 
     public Map<AggregationInfo, Object> aggregateValues(@Nullable AggregationInfo[] aggregationInfos, Collection<K> itemIds) {
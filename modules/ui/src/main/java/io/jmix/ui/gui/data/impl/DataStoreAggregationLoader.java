@@ -0,0 +1,306 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.ui.gui.data.impl;
+
+import io.jmix.core.*;
+import io.jmix.core.entity.KeyValueEntity;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.MetaPropertyPath;
+import io.jmix.ui.component.AggregationInfo;
+import io.jmix.ui.component.data.aggregation.Aggregation;
+import io.jmix.ui.component.data.aggregation.Aggregations;
+import io.jmix.ui.executor.BackgroundTask;
+import io.jmix.ui.executor.BackgroundTaskHandler;
+import io.jmix.ui.executor.BackgroundWorker;
+import io.jmix.ui.executor.TaskLifeCycle;
+import io.jmix.ui.model.CollectionLoader;
+import io.jmix.ui.screen.Screen;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Calculates aggregations of Table and DataGrid columns in the data store over all entities matching the query
+ * and condition of a {@link CollectionLoader}, regardless of the loaded page.
+ * <p>
+ * The aggregation query selects aggregate functions from the entities whose identifiers are returned by
+ * the loader's query, for example:
+ * <pre>
+ * select sum(aggr.amount), max(aggr.date) from sales_Order aggr
+ * where aggr.id in (select e.id from sales_Order e where e.customer = :customer)
+ * </pre>
+ * Reference properties in aggregated paths are joined by {@code left join}, so entities with a null reference
+ * are not excluded from the other aggregations. Like in-memory aggregation, which skips null values,
+ * {@code COUNT} returns the number of non-null values of the property rather than the number of entities.
+ * <p>
+ * Only predefined aggregations of persistent properties are supported, see {@link #supports(AggregationInfo)}.
+ * Other aggregations should be calculated in memory.
+ */
+@Component(DataStoreAggregationLoader.NAME)
+public class DataStoreAggregationLoader {
+
+    public static final String NAME = "ui_DataStoreAggregationLoader";
+
+    protected static final String ALIAS = "aggr";
+
+    protected static final long TIMEOUT_SECONDS = 60;
+
+    private static final Logger log = LoggerFactory.getLogger(DataStoreAggregationLoader.class);
+
+    @Autowired
+    protected DataManager dataManager;
+
+    @Autowired
+    protected MetadataTools metadataTools;
+
+    @Autowired
+    protected QueryTransformerFactory queryTransformerFactory;
+
+    @Autowired
+    protected Aggregations aggregations;
+
+    @Autowired
+    protected BackgroundWorker backgroundWorker;
+
+    /**
+     * @return true if the loader loads entities by a query which can be used for aggregation in the data store
+     */
+    public boolean supports(CollectionLoader<?> loader) {
+        if (loader.getLoadDelegate() != null || StringUtils.isBlank(loader.getQuery())) {
+            return false;
+        }
+        MetaClass metaClass = loader.getContainer().getEntityMetaClass();
+        return metadataTools.isPersistent(metaClass)
+                && metadataTools.getPrimaryKeyName(metaClass) != null
+                && !metadataTools.hasCompositePrimaryKey(metaClass);
+    }
+
+    /**
+     * @return true if the aggregation can be calculated by the data store
+     */
+    public boolean supports(AggregationInfo aggregationInfo) {
+        if (aggregationInfo.getStrategy() != null || aggregationInfo.getType() == AggregationInfo.Type.CUSTOM) {
+            return false;
+        }
+        MetaPropertyPath propertyPath = aggregationInfo.getPropertyPath();
+        if (propertyPath == null
+                || !propertyPath.getRange().isDatatype()
+                || !metadataTools.isPersistent(propertyPath)
+                || metadataTools.isLob(propertyPath.getMetaProperty())) {
+            return false;
+        }
+        Aggregation<?> aggregation = aggregations.get(propertyPath.getRangeJavaClass());
+        return aggregation != null && aggregation.getSupportedAggregationTypes().contains(aggregationInfo.getType());
+    }
+
+    /**
+     * Calculates the aggregations in the data store.
+     *
+     * @param loader           loader whose query and condition define the aggregated entities
+     * @param aggregationInfos aggregations supported by {@link #supports(AggregationInfo)}
+     * @return map of aggregation info to the value of the same type as returned by in-memory aggregation
+     */
+    public Map<AggregationInfo, Object> load(CollectionLoader<?> loader, List<AggregationInfo> aggregationInfos) {
+        if (aggregationInfos.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return load(createLoadContext(loader, aggregationInfos), aggregationInfos);
+    }
+
+    /**
+     * Calculates the aggregations in the data store in a background task. If the calculation fails or times out,
+     * the result handler is not invoked and in-memory values should remain in use.
+     *
+     * @param screen           screen which owns the task
+     * @param loader           loader whose query and condition define the aggregated entities
+     * @param aggregationInfos aggregations supported by {@link #supports(AggregationInfo)}
+     * @param resultHandler    handler invoked in the UI thread with the calculated values
+     * @return handler of the started task
+     */
+    public BackgroundTaskHandler<Map<AggregationInfo, Object>> loadInBackground(Screen screen,
+                                                                                CollectionLoader<?> loader,
+                                                                                List<AggregationInfo> aggregationInfos,
+                                                                                Consumer<Map<AggregationInfo, Object>> resultHandler) {
+        // create the query in the UI thread as the loader is not thread-safe
+        ValueLoadContext loadContext = createLoadContext(loader, aggregationInfos);
+        List<AggregationInfo> infos = new ArrayList<>(aggregationInfos);
+
+        BackgroundTaskHandler<Map<AggregationInfo, Object>> handler = backgroundWorker.handle(
+                new BackgroundTask<Map<AggregationInfo, Object>, Map<AggregationInfo, Object>>(TIMEOUT_SECONDS, screen) {
+                    @Override
+                    public Map<AggregationInfo, Object> run(TaskLifeCycle<Map<AggregationInfo, Object>> taskLifeCycle) {
+                        return load(loadContext, infos);
+                    }
+
+                    @Override
+                    public void done(Map<AggregationInfo, Object> result) {
+                        resultHandler.accept(result);
+                    }
+
+                    @Override
+                    public boolean handleException(Exception ex) {
+                        log.warn("Unable to calculate aggregation in data store, in-memory values are used", ex);
+                        return true;
+                    }
+
+                    @Override
+                    public boolean handleTimeoutException() {
+                        log.warn("Time out while calculating aggregation in data store, in-memory values are used");
+                        return true;
+                    }
+                });
+        handler.execute();
+        return handler;
+    }
+
+    protected Map<AggregationInfo, Object> load(ValueLoadContext loadContext, List<AggregationInfo> aggregationInfos) {
+        List<KeyValueEntity> list = dataManager.loadValues(loadContext);
+
+        Map<AggregationInfo, Object> results = new HashMap<>();
+        KeyValueEntity row = list.isEmpty() ? null : list.get(0);
+        for (int i = 0; i < aggregationInfos.size(); i++) {
+            AggregationInfo aggregationInfo = aggregationInfos.get(i);
+            Object value = row != null ? row.getValue(getPropertyName(i)) : null;
+            results.put(aggregationInfo, convertValue(aggregationInfo, value));
+        }
+        return results;
+    }
+
+    /**
+     * Creates a context for loading the aggregations in the data store.
+     */
+    public ValueLoadContext createLoadContext(CollectionLoader<?> loader, List<AggregationInfo> aggregationInfos) {
+        LoadContext<?> entityLoadContext = loader.createLoadContext();
+        MetaClass metaClass = entityLoadContext.getEntityMetaClass();
+        String pkName = metadataTools.getPrimaryKeyName(metaClass);
+        LoadContext.Query entityQuery = Objects.requireNonNull(entityLoadContext.getQuery());
+
+        QueryTransformer transformer = queryTransformerFactory.transformer(entityQuery.getQueryString());
+        transformer.replaceWithSelectId(pkName);
+        transformer.removeOrderBy();
+        String idQuery = transformer.getResult();
+
+        Map<String, String> joins = new LinkedHashMap<>();
+        List<String> selections = new ArrayList<>(aggregationInfos.size());
+        List<String> properties = new ArrayList<>(aggregationInfos.size());
+        for (int i = 0; i < aggregationInfos.size(); i++) {
+            AggregationInfo aggregationInfo = aggregationInfos.get(i);
+            selections.add(String.format("%s(%s)", getFunction(aggregationInfo.getType()),
+                    getSelectionPath(Objects.requireNonNull(aggregationInfo.getPropertyPath()), joins)));
+            properties.add(getPropertyName(i));
+        }
+
+        StringBuilder joinClause = new StringBuilder();
+        for (Map.Entry<String, String> entry : joins.entrySet()) {
+            joinClause.append(" left join ").append(entry.getKey()).append(" ").append(entry.getValue());
+        }
+
+        String queryString = String.format("select %s from %s %s%s where %s.%s in (%s)",
+                String.join(", ", selections), metaClass.getName(), ALIAS, joinClause, ALIAS, pkName, idQuery);
+
+        ValueLoadContext loadContext = ValueLoadContext.create()
+                .setStoreName(metadataTools.getStoreName(metaClass))
+                .setSoftDeletion(entityLoadContext.isSoftDeletion())
+                .setProperties(properties);
+
+        ValueLoadContext.Query query = loadContext.setQueryString(queryString);
+        query.setParameters(entityQuery.getParameters());
+        // condition refers to the main entity, so it is applied to the aggregated entities
+        query.setCondition(entityQuery.getCondition());
+
+        return loadContext;
+    }
+
+    /**
+     * Returns the path of the aggregated property in the aggregation query. Non-embedded references are added to
+     * the {@code joins} map of joined path to alias, because implicit joins in a path expression are inner joins
+     * and would exclude entities with a null reference from all aggregations of the query.
+     */
+    protected String getSelectionPath(MetaPropertyPath propertyPath, Map<String, String> joins) {
+        MetaProperty[] metaProperties = propertyPath.getMetaProperties();
+        String path = ALIAS;
+        for (int i = 0; i < metaProperties.length; i++) {
+            MetaProperty metaProperty = metaProperties[i];
+            path = path + "." + metaProperty.getName();
+            if (i < metaProperties.length - 1 && !metadataTools.isEmbedded(metaProperty)) {
+                path = joins.computeIfAbsent(path, joinedPath -> ALIAS + "J" + joins.size());
+            }
+        }
+        return path;
+    }
+
+    protected String getFunction(AggregationInfo.Type type) {
+        switch (type) {
+            case SUM:
+                return "sum";
+            case AVG:
+                return "avg";
+            case MIN:
+                return "min";
+            case MAX:
+                return "max";
+            case COUNT:
+                // counts non-null values as in-memory aggregation does
+                return "count";
+            default:
+                throw new IllegalArgumentException("Unsupported aggregation type: " + type);
+        }
+    }
+
+    protected String getPropertyName(int index) {
+        return "a" + index;
+    }
+
+    @Nullable
+    protected Object convertValue(AggregationInfo aggregationInfo, @Nullable Object value) {
+        if (aggregationInfo.getType() == AggregationInfo.Type.COUNT) {
+            // in-memory count returns int
+            return value == null ? 0 : ((Number) value).intValue();
+        }
+        if (value == null && aggregationInfo.getType() == AggregationInfo.Type.SUM) {
+            // in-memory sum of no values is zero
+            value = BigDecimal.ZERO;
+        }
+        if (!(value instanceof Number)) {
+            return value;
+        }
+        Class<?> rangeJavaClass = Objects.requireNonNull(aggregationInfo.getPropertyPath()).getRangeJavaClass();
+        Aggregation<?> aggregation = aggregations.get(rangeJavaClass);
+        Class<?> resultClass = aggregation != null ? aggregation.getResultClass() : rangeJavaClass;
+
+        Number number = (Number) value;
+        if (BigDecimal.class.equals(resultClass)) {
+            return number instanceof BigDecimal ? number : new BigDecimal(number.toString());
+        } else if (Long.class.equals(resultClass)) {
+            return number.longValue();
+        } else if (Integer.class.equals(resultClass)) {
+            return number.intValue();
+        } else if (Double.class.equals(resultClass)) {
+            return number.doubleValue();
+        }
+        return value;
+    }
+}
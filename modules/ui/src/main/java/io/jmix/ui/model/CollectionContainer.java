@@ -80,6 +80,24 @@ public interface CollectionContainer<E extends JmixEntity> extends InstanceConta
      */
     void replaceItem(E entity);
 
+    /**
+     * Replaces existing items having the same ids as the given instances and adds the other instances to the end
+     * of the items list.
+     * <p>
+     * Sends a single {@link CollectionChangeEvent} of the {@code ADD_ITEMS} type if all instances are new,
+     * of the {@code SET_ITEM} type if all instances replace existing items and of the {@code REFRESH} type otherwise.
+     */
+    void replaceItems(Collection<E> entities);
+
+    /**
+     * Removes the given entities from the items list.
+     * <p>
+     * Sends a single {@link CollectionChangeEvent} of the {@code REMOVE_ITEMS} type if at least one entity was removed.
+     *
+     * @param entitiesOrIds entity instances or their ids
+     */
+    void removeItems(Collection<?> entitiesOrIds);
+
     /**
      * Returns sorter object currently set for the container.
      */
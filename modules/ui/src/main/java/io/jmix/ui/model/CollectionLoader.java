@@ -20,9 +20,11 @@ import io.jmix.core.LoadContext;
 import io.jmix.core.common.event.Subscription;
 import io.jmix.core.JmixEntity;
 import io.jmix.core.FetchPlan;
+import io.jmix.core.Sort;
 import io.jmix.ui.screen.InstallSubject;
 import io.jmix.ui.screen.Subscribe;
 
+import javax.annotation.Nullable;
 import java.util.EventObject;
 import java.util.List;
 import java.util.function.Consumer;
@@ -50,6 +52,27 @@ public interface CollectionLoader<E extends JmixEntity> extends BaseCollectionLo
      */
     LoadContext<E> createLoadContext();
 
+    /**
+     * Returns values of the sort properties and the identifier of the entity after which the data is loaded,
+     * or null if the keyset pagination is not used.
+     */
+    @Nullable
+    List<Object> getKeysetValues();
+
+    /**
+     * Enables keyset (seek) pagination: the loader loads entities following the entity with the given values in
+     * the order defined by {@link #setSort(Sort)}. When keyset values are set, {@link #getFirstResult()} is not
+     * passed to the query and only denotes the position of the loaded page. If no sort is set, e.g. the order is
+     * defined by the query itself, keyset values are ignored and the page is loaded by {@link #getFirstResult()}.
+     * <p>
+     * Keyset values must be set after {@link #setFirstResult(int)}. They are reset when the first result, query,
+     * condition, parameters or sort change.
+     *
+     * @param keysetValues sort property values and identifier, or null to disable keyset pagination
+     * @see LoadContext.Query#setKeysetValues(List)
+     */
+    void setKeysetValues(@Nullable List<?> keysetValues);
+
     /**
      * Returns true if the entity's dynamic attributes are loaded.
      */
@@ -50,6 +50,8 @@ public class CollectionContainerImpl<E extends JmixEntity>
     protected List<E> collection = new ArrayList<>();
 
     protected Map<IndexKey, Integer> idMap = new HashMap<>();
+    // the lowest index of items removed since the last update of idMap
+    protected int removedFromIndex = -1;
 
     protected Sorter sorter;
 
@@ -80,11 +82,14 @@ public class CollectionContainerImpl<E extends JmixEntity>
     public List<E> getMutableItems() {
         return new ObservableList<>(collection, idMap,
                 (changeType, changes) -> {
-                    buildIdMap();
+                    updateIdMap(changeType, changes);
                     clearItemIfNotExists();
                     fireCollectionChanged(changeType, changes);
                 },
-                this::detachListener,
+                item -> {
+                    removeFromIdMap(item);
+                    detachListener(item);
+                },
                 this::attachListener
         );
     }
@@ -165,16 +170,84 @@ public class CollectionContainerImpl<E extends JmixEntity>
                 fireItemChanged(prev);
             }
             replaceInCollection(idx, entity);
+            idMap.put(IndexKey.ofEntity(entity), idx);
             changeType = CollectionChangeType.SET_ITEM;
         } else {
             addToCollection(entity);
+            updateIdMap(CollectionChangeType.ADD_ITEMS, Collections.singletonList(entity));
             changeType = CollectionChangeType.ADD_ITEMS;
         }
         attachListener(entity);
-        buildIdMap();
         fireCollectionChanged(changeType, Collections.singletonList(entity));
     }
 
+    @Override
+    public void replaceItems(Collection<E> entities) {
+        checkNotNullArgument(entities, "entities is null");
+
+        List<E> replaced = new ArrayList<>();
+        List<E> added = new ArrayList<>();
+        for (E entity : entities) {
+            int idx = getItemIndex(entity);
+            if (idx > -1) {
+                E prev = collection.get(idx);
+                detachListener(prev);
+                if (prev == getItemOrNull()) {
+                    this.item = entity;
+                    fireItemChanged(prev);
+                }
+                replaceInCollection(idx, entity);
+                idMap.put(IndexKey.ofEntity(entity), idx);
+                replaced.add(entity);
+            } else {
+                addToCollection(entity);
+                idMap.put(IndexKey.ofEntity(entity), collection.size() - 1);
+                added.add(entity);
+            }
+            attachListener(entity);
+        }
+
+        if (added.isEmpty() && replaced.isEmpty()) {
+            return;
+        }
+        if (replaced.isEmpty()) {
+            fireCollectionChanged(CollectionChangeType.ADD_ITEMS, added);
+        } else if (added.isEmpty()) {
+            fireCollectionChanged(CollectionChangeType.SET_ITEM, replaced);
+        } else {
+            fireCollectionChanged(CollectionChangeType.REFRESH, Collections.emptyList());
+        }
+    }
+
+    @Override
+    public void removeItems(Collection<?> entitiesOrIds) {
+        checkNotNullArgument(entitiesOrIds, "entitiesOrIds is null");
+
+        Set<Integer> indexes = new TreeSet<>(Comparator.reverseOrder());
+        for (Object entityOrId : entitiesOrIds) {
+            int idx = getItemIndex(entityOrId);
+            if (idx > -1) {
+                indexes.add(idx);
+            }
+        }
+        if (indexes.isEmpty()) {
+            return;
+        }
+
+        List<E> removed = new ArrayList<>(indexes.size());
+        for (int idx : indexes) {
+            E entity = removeFromCollection(idx);
+            removeFromIdMap(entity);
+            detachListener(entity);
+            removed.add(entity);
+        }
+        Collections.reverse(removed);
+
+        updateIdMap(CollectionChangeType.REMOVE_ITEMS, removed);
+        clearItemIfNotExists();
+        fireCollectionChanged(CollectionChangeType.REMOVE_ITEMS, removed);
+    }
+
     protected void replaceInCollection(int idx, E entity) {
         collection.set(idx, entity);
     }
@@ -183,6 +256,10 @@ public class CollectionContainerImpl<E extends JmixEntity>
         collection.add(entity);
     }
 
+    protected E removeFromCollection(int idx) {
+        return collection.remove(idx);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public Subscription addCollectionChangeListener(Consumer<CollectionChangeEvent<E>> listener) {
@@ -251,11 +328,76 @@ public class CollectionContainerImpl<E extends JmixEntity>
 
     protected void buildIdMap() {
         idMap.clear();
+        removedFromIndex = -1;
         for (int i = 0; i < collection.size(); i++) {
             idMap.put(IndexKey.ofEntity(collection.get(i)), i);
         }
     }
 
+    /**
+     * Updates indexes of the items shifted by the change instead of rebuilding the whole {@link #idMap}.
+     * Falls back to {@link #buildIdMap()} if the changed position cannot be determined.
+     */
+    protected void updateIdMap(CollectionChangeType changeType, Collection<? extends E> changes) {
+        int fromIndex;
+        int toIndex = collection.size();
+        switch (changeType) {
+            case ADD_ITEMS:
+                fromIndex = getFirstChangedIndex(changes);
+                break;
+            case REMOVE_ITEMS:
+                fromIndex = removedFromIndex;
+                break;
+            case SET_ITEM:
+                fromIndex = removedFromIndex;
+                toIndex = fromIndex + changes.size();
+                if (fromIndex >= 0 && toIndex <= collection.size()
+                        && collection.get(fromIndex) != changes.iterator().next()) {
+                    fromIndex = -1;
+                }
+                break;
+            default:
+                fromIndex = -1;
+        }
+
+        if (fromIndex < 0 || toIndex > collection.size()) {
+            buildIdMap();
+            return;
+        }
+        removedFromIndex = -1;
+        for (int i = fromIndex; i < toIndex; i++) {
+            idMap.put(IndexKey.ofEntity(collection.get(i)), i);
+        }
+    }
+
+    /**
+     * Removes the key of an item which has been removed from the collection, remembering its former index.
+     */
+    protected void removeFromIdMap(E entity) {
+        Integer idx = idMap.remove(IndexKey.ofEntity(entity));
+        if (idx != null && (removedFromIndex == -1 || idx < removedFromIndex)) {
+            removedFromIndex = idx;
+        }
+    }
+
+    protected int getFirstChangedIndex(Collection<? extends E> changes) {
+        if (changes.isEmpty()) {
+            return -1;
+        }
+        E first = changes.iterator().next();
+        // items are usually appended, so check the tail first
+        int appendIndex = collection.size() - changes.size();
+        if (appendIndex >= 0 && collection.get(appendIndex) == first) {
+            return appendIndex;
+        }
+        for (int i = 0; i < collection.size(); i++) {
+            if (collection.get(i) == first) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     protected void clearItemIfNotExists() {
         if (item != null) {
             int idx = getItemIndex(EntityValues.getIdOrEntity(item));
@@ -55,6 +55,7 @@ public class CollectionLoaderImpl<E extends JmixEntity> implements CollectionLoa
     protected FetchPlan fetchPlan;
     protected String fetchPlanName;
     protected Sort sort;
+    protected List<Object> keysetValues;
     protected Function<LoadContext<E>, List<E>> delegate;
     protected EventHub events = new EventHub();
 
@@ -118,7 +119,10 @@ public class CollectionLoaderImpl<E extends JmixEntity> implements CollectionLoa
 
         query.setCacheable(cacheable);
 
-        if (firstResult > 0)
+        // keyset requires the order to be defined by the sort, otherwise the page is loaded by offset
+        if (keysetValues != null && sort != null)
+            query.setKeysetValues(keysetValues);
+        else if (firstResult > 0)
             query.setFirstResult(firstResult);
         if (maxResults < Integer.MAX_VALUE)
             query.setMaxResults(maxResults);
@@ -174,6 +178,7 @@ public class CollectionLoaderImpl<E extends JmixEntity> implements CollectionLoa
     @Override
     public void setQuery(String query) {
         this.query = query;
+        this.keysetValues = null;
     }
 
     @Nullable
@@ -185,6 +190,7 @@ public class CollectionLoaderImpl<E extends JmixEntity> implements CollectionLoa
     @Override
     public void setCondition(Condition condition) {
         this.condition = condition;
+        this.keysetValues = null;
     }
 
     @Override
@@ -195,6 +201,7 @@ public class CollectionLoaderImpl<E extends JmixEntity> implements CollectionLoa
     @Override
     public void setParameters(Map<String, Object> parameters) {
         this.parameters.clear();
+        this.keysetValues = null;
         for (Map.Entry<String, Object> entry : parameters.entrySet()) {
             setParameter(entry.getKey(), entry.getValue());
         }
@@ -208,11 +215,13 @@ public class CollectionLoaderImpl<E extends JmixEntity> implements CollectionLoa
     @Override
     public void setParameter(String name, Object value) {
         parameters.put(name, value);
+        this.keysetValues = null;
     }
 
     @Override
     public void removeParameter(String name) {
         parameters.remove(name);
+        this.keysetValues = null;
     }
 
     @Override
@@ -223,6 +232,7 @@ public class CollectionLoaderImpl<E extends JmixEntity> implements CollectionLoa
     @Override
     public void setFirstResult(int firstResult) {
         this.firstResult = firstResult;
+        this.keysetValues = null;
     }
 
     @Override
@@ -295,6 +305,18 @@ public class CollectionLoaderImpl<E extends JmixEntity> implements CollectionLoa
         } else {
             this.sort = sort;
         }
+        this.keysetValues = null;
+    }
+
+    @Nullable
+    @Override
+    public List<Object> getKeysetValues() {
+        return keysetValues;
+    }
+
+    @Override
+    public void setKeysetValues(@Nullable List<?> keysetValues) {
+        this.keysetValues = keysetValues == null ? null : new ArrayList<>(keysetValues);
     }
 
     @Override
@@ -62,11 +62,11 @@ public class CollectionPropertyContainerImpl<E extends JmixEntity>
     @Override
     public List<E> getMutableItems() {
         return new ObservableList<>(collection, idMap, (changeType, changes) -> {
-            buildIdMap();
+            updateIdMap(changeType, changes);
             clearItemIfNotExists();
             updateMaster();
             fireCollectionChanged(changeType, changes);
-        });
+        }, this::removeFromIdMap, null);
     }
 
     @Override
@@ -161,4 +161,14 @@ public class CollectionPropertyContainerImpl<E extends JmixEntity>
         }
         masterCollection.add(entity);
     }
+
+    @Override
+    protected E removeFromCollection(int idx) {
+        E entity = super.removeFromCollection(idx);
+        Collection<E> masterCollection = EntityValues.getValue(master.getItem(), getMasterProperty().getName());
+        if (masterCollection != null) {
+            masterCollection.remove(entity);
+        }
+        return entity;
+    }
 }
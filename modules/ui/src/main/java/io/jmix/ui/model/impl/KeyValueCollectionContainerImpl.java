@@ -88,7 +88,7 @@ public class KeyValueCollectionContainerImpl
     @Override
     public List<KeyValueEntity> getMutableItems() {
         return new ObservableList<>(collection, idMap, (changeType, changes) -> {
-            buildIdMap();
+            updateIdMap(changeType, changes);
             clearItemIfNotExists();
             if (changeType == CollectionChangeType.ADD_ITEMS || changeType == CollectionChangeType.SET_ITEM) {
                 for (KeyValueEntity entity : changes) {
@@ -100,7 +100,7 @@ public class KeyValueCollectionContainerImpl
                 }
             }
             fireCollectionChanged(changeType, changes);
-        });
+        }, this::removeFromIdMap, null);
     }
 
     protected void updateEntityMetadata(KeyValueEntity entity) {
@@ -16,6 +16,7 @@
 
 package io.jmix.ui.monitoring;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 
@@ -34,4 +35,15 @@ public final class UiMonitoring {
     public static Timer createMenuTimer(MeterRegistry meterRegistry, String menuItemId) {
         return meterRegistry.timer("jmix.ui.menu", "menuItem", menuItemId);
     }
+
+    public static Timer createUploadTimer(MeterRegistry meterRegistry, String stage) {
+        return meterRegistry.timer("jmix.ui.upload", "stage", stage);
+    }
+
+    public static DistributionSummary createUploadSizeSummary(MeterRegistry meterRegistry, String stage) {
+        return DistributionSummary.builder("jmix.ui.upload.size")
+                .baseUnit("bytes")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import io.jmix.core.FileStorageLocator;
 import javax.annotation.Nullable;
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.UUID;
 
 /**
@@ -115,6 +116,20 @@ public interface TemporaryStorage {
      */
     <R> void putFileIntoStorage(UUID fileId, R reference);
 
+    /**
+     * Opens a stream that passes the written contents directly to the FileStorage without a temporary file.
+     * The contents is saved in a separate thread while it is being written, and the file is complete when the stream
+     * is closed.
+     *
+     * @param reference   file reference
+     * @param fileStorage file storage
+     * @param <R>         file reference type
+     * @return output stream which must be closed after writing. Closing throws {@link java.io.IOException} if the file
+     * storage has failed to save the contents
+     * @throws FileStorageException in case of IO problems
+     */
+    <R> OutputStream openStorageStream(R reference, FileStorage<R, ?> fileStorage);
+
     class FileInfo {
         private UUID id;
         private File file;
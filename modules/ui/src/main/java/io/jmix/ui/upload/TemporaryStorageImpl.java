@@ -16,31 +16,47 @@
 
 package io.jmix.ui.upload;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.CoreProperties;
 import io.jmix.core.FileStorage;
 import io.jmix.core.FileStorageException;
 import io.jmix.core.FileStorageLocator;
+import io.jmix.core.LocalFileStorage;
 import io.jmix.core.TimeSource;
 import io.jmix.core.UuidProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
 
 import static io.jmix.core.common.util.Preconditions.checkNotNullArgument;
+import static io.jmix.ui.monitoring.UiMonitoring.createUploadSizeSummary;
+import static io.jmix.ui.monitoring.UiMonitoring.createUploadTimer;
 
 @Component(TemporaryStorage.NAME)
 public class TemporaryStorageImpl implements TemporaryStorage {
@@ -55,14 +71,23 @@ public class TemporaryStorageImpl implements TemporaryStorage {
      */
     protected static final int BUFFER_SIZE = 64 * 1024;
 
+    protected static final String TEMP_STAGE = "temp";
+    protected static final String STORAGE_STAGE = "storage";
+    protected static final String PASS_THROUGH_STAGE = "passThrough";
+
     protected String tempDir;
 
+    protected volatile ExecutorService passThroughExecutor;
+
     @Autowired
     protected TimeSource timeSource;
 
     @Autowired
     protected FileStorageLocator fileStorageLocator;
 
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
     @Autowired
     public void setCoreProperties(CoreProperties coreProperties) {
         tempDir = coreProperties.getTempDir();
@@ -102,6 +127,7 @@ public class TemporaryStorageImpl implements TemporaryStorage {
             throw new FileStorageException(FileStorageException.Type.FILE_ALREADY_EXISTS, file.getAbsolutePath());
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             boolean failed = false;
             try (FileOutputStream fileOutput = new FileOutputStream(file)) {
@@ -114,6 +140,8 @@ public class TemporaryStorageImpl implements TemporaryStorage {
                     if (listener != null)
                         listener.progressChanged(uuid, totalBytes);
                 }
+                sample.stop(createUploadTimer(meterRegistry, TEMP_STAGE));
+                createUploadSizeSummary(meterRegistry, TEMP_STAGE).record(totalBytes);
             } catch (Exception ex) {
                 failed = true;
                 throw ex;
@@ -188,6 +216,7 @@ public class TemporaryStorageImpl implements TemporaryStorage {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <R> void putFileIntoStorage(UUID fileId, R reference, FileStorage<R, ?> fileStorage) {
         File file = getFile(fileId);
         if (file == null) {
@@ -195,15 +224,24 @@ public class TemporaryStorageImpl implements TemporaryStorage {
                     String.valueOf(fileStorage.getFileInfo(reference)));
         }
 
-        try (InputStream io = new FileInputStream(file)) {
-            fileStorage.saveStream(reference, io);
-        } catch (FileNotFoundException e) {
-            throw new FileStorageException(FileStorageException.Type.FILE_NOT_FOUND,
-                    "Temp file is not found " + file.getAbsolutePath());
-        } catch (IOException e) {
-            throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION,
-                    String.valueOf(fileStorage.getFileInfo(reference)));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long size;
+        if (fileStorage instanceof LocalFileStorage) {
+            // the temp file is renamed into the storage if possible, so its contents is not written twice
+            size = ((LocalFileStorage<R, ?>) fileStorage).moveFile(reference, file.toPath());
+        } else {
+            try (InputStream io = new FileInputStream(file)) {
+                size = fileStorage.saveStream(reference, io);
+            } catch (FileNotFoundException e) {
+                throw new FileStorageException(FileStorageException.Type.FILE_NOT_FOUND,
+                        "Temp file is not found " + file.getAbsolutePath());
+            } catch (IOException e) {
+                throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION,
+                        String.valueOf(fileStorage.getFileInfo(reference)));
+            }
         }
+        sample.stop(createUploadTimer(meterRegistry, STORAGE_STAGE));
+        createUploadSizeSummary(meterRegistry, STORAGE_STAGE).record(size);
 
         deleteFile(fileId);
     }
@@ -218,6 +256,101 @@ public class TemporaryStorageImpl implements TemporaryStorage {
         putFileIntoStorage(fileId, reference, ((FileStorage<R, ?>) defaultFileStorage));
     }
 
+    @Override
+    public <R> OutputStream openStorageStream(R reference, FileStorage<R, ?> fileStorage) {
+        PipedInputStream input = new PipedInputStream(BUFFER_SIZE);
+        PipedOutputStream output;
+        try {
+            output = new PipedOutputStream(input);
+        } catch (IOException e) {
+            throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION,
+                    String.valueOf(fileStorage.getFileInfo(reference)), e);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Future<Long> saving = getPassThroughExecutor().submit(() -> {
+            // closing the input when saving fails makes the writing side fail instead of waiting for the reader
+            try (InputStream stream = input) {
+                return fileStorage.saveStream(reference, stream);
+            }
+        });
+        return new PassThroughOutputStream(output, saving, size -> {
+            sample.stop(createUploadTimer(meterRegistry, PASS_THROUGH_STAGE));
+            createUploadSizeSummary(meterRegistry, PASS_THROUGH_STAGE).record(size);
+        });
+    }
+
+    protected ExecutorService getPassThroughExecutor() {
+        if (passThroughExecutor == null) {
+            synchronized (this) {
+                if (passThroughExecutor == null) {
+                    passThroughExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                            .setNameFormat("jmix-upload-pass-through-%d")
+                            .setDaemon(true)
+                            .build());
+                }
+            }
+        }
+        return passThroughExecutor;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (passThroughExecutor != null) {
+            passThroughExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes to the pipe read by the file storage and waits for the file storage to save the contents on close.
+     */
+    protected static class PassThroughOutputStream extends OutputStream {
+
+        protected final OutputStream output;
+        protected final Future<Long> saving;
+        protected final LongConsumer savedListener;
+        protected boolean closed;
+
+        public PassThroughOutputStream(OutputStream output, Future<Long> saving, LongConsumer savedListener) {
+            this.output = output;
+            this.saving = saving;
+            this.savedListener = savedListener;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            output.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            output.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            output.close();
+            try {
+                savedListener.accept(saving.get());
+            } catch (ExecutionException e) {
+                throw new IOException("Unable to save uploaded file", e.getCause());
+            } catch (InterruptedException e) {
+                saving.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while saving uploaded file");
+            }
+        }
+    }
+
     //todo shalyganov MBean
 //    @Override
 //    public void clearTempDirectory() {
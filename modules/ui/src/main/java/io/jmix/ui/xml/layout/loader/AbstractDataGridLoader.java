@@ -752,6 +752,10 @@ public abstract class AbstractDataGridLoader<T extends DataGrid> extends Actions
         String aggregatable = element.attributeValue("aggregatable");
         if (StringUtils.isNotEmpty(aggregatable)) {
             component.setAggregatable(Boolean.parseBoolean(aggregatable));
+            String dataStoreAggregation = element.attributeValue("dataStoreAggregation");
+            if (StringUtils.isNotEmpty(dataStoreAggregation)) {
+                component.setDataStoreAggregation(Boolean.parseBoolean(dataStoreAggregation));
+            }
         }
     }
 
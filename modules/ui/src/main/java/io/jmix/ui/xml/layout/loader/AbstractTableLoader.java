@@ -389,6 +389,10 @@ public abstract class AbstractTableLoader<T extends Table> extends ActionsHolder
             if (StringUtils.isNotEmpty(showTotalAggregation)) {
                 component.setShowTotalAggregation(Boolean.parseBoolean(showTotalAggregation));
             }
+            String dataStoreAggregation = element.attributeValue("dataStoreAggregation");
+            if (StringUtils.isNotEmpty(dataStoreAggregation)) {
+                component.setDataStoreAggregation(Boolean.parseBoolean(dataStoreAggregation));
+            }
         }
     }
 
@@ -59,6 +59,8 @@ public class PaginationLoader extends AbstractComponentLoader<Pagination> {
 
         loadAutoLoad(element)
                 .ifPresent(resultComponent::setAutoLoad);
+        loadKeysetPaging(element)
+                .ifPresent(resultComponent::setKeysetPaging);
         loadLoader(element)
                 .ifPresent(resultComponent::setLoaderTarget);
     }
@@ -83,6 +85,14 @@ public class PaginationLoader extends AbstractComponentLoader<Pagination> {
         return Optional.empty();
     }
 
+    protected Optional<Boolean> loadKeysetPaging(Element element) {
+        String keysetPaging = element.attributeValue("keysetPaging");
+        if (StringUtils.isNotEmpty(keysetPaging)) {
+            return Optional.of(Boolean.parseBoolean(keysetPaging));
+        }
+        return Optional.empty();
+    }
+
     protected Optional<Pagination.ContentAlignment> loadContentAlignment(Element element) {
         String alignment = element.attributeValue("contentAlignment");
         if (StringUtils.isNotEmpty(alignment)) {
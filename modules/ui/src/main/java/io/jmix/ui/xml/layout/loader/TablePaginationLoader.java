@@ -39,5 +39,7 @@ public class TablePaginationLoader extends PaginationLoader {
 
         loadAutoLoad(element)
                 .ifPresent(resultComponent::setAutoLoad);
+        loadKeysetPaging(element)
+                .ifPresent(resultComponent::setKeysetPaging);
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_components
+
+import io.jmix.ui.model.CollectionChangeType
+import io.jmix.ui.model.CollectionContainer
+import io.jmix.ui.model.DataComponents
+import test_support.DataContextSpec
+import test_support.entity.Foo
+
+import org.springframework.beans.factory.annotation.Autowired
+import java.util.function.Consumer
+
+class CollectionContainerIndexTest extends DataContextSpec {
+
+    @Autowired DataComponents factory
+
+    def "index is updated on changes of mutable items"() {
+        CollectionContainer<Foo> container = factory.createCollectionContainer(Foo)
+        def foos = (0..4).collect { new Foo(name: "foo$it") }
+
+        when:
+        foos.each { container.getMutableItems().add(it) }
+
+        then:
+        foos.every { container.getItemIndex(it.id) == foos.indexOf(it) }
+
+        when:
+        container.getMutableItems().add(1, new Foo(name: 'inserted'))
+        container.getMutableItems().remove(foos[3])
+        container.getMutableItems().set(0, new Foo(name: 'set'))
+        container.getMutableItems().remove(2)
+
+        then:
+        container.getItems().eachWithIndex { Foo foo, int i ->
+            assert container.getItemIndex(foo.id) == i
+            assert container.getItem(foo.id).is(foo)
+        }
+        !container.containsItem(foos[0])
+        !container.containsItem(foos[3])
+        container.getItems().size() == 4
+    }
+
+    def "replace items fires single event"() {
+        CollectionContainer<Foo> container = factory.createCollectionContainer(Foo)
+        def foo1 = new Foo(name: 'foo1')
+        def foo2 = new Foo(name: 'foo2')
+        container.setItems([foo1, foo2])
+
+        def events = []
+        container.addCollectionChangeListener({ events << it } as Consumer)
+
+        def foo2copy = new Foo(id: foo2.id, name: 'foo2 changed')
+        def foo3 = new Foo(name: 'foo3')
+
+        when:
+        container.replaceItems([foo2copy])
+
+        then:
+        events.size() == 1
+        events[0].changeType == CollectionChangeType.SET_ITEM
+        container.getItem(foo2.id).is(foo2copy)
+
+        when:
+        events.clear()
+        container.replaceItems([foo2, foo3])
+
+        then:
+        events.size() == 1
+        events[0].changeType == CollectionChangeType.REFRESH
+        container.getItems() == [foo1, foo2, foo3]
+        container.getItemIndex(foo3.id) == 2
+    }
+
+    def "remove items fires single event"() {
+        CollectionContainer<Foo> container = factory.createCollectionContainer(Foo)
+        def foos = (0..4).collect { new Foo(name: "foo$it") }
+        container.setItems(foos)
+        container.setItem(foos[3])
+
+        def events = []
+        container.addCollectionChangeListener({ events << it } as Consumer)
+
+        when:
+        container.removeItems([foos[1], foos[3].id])
+
+        then:
+        events.size() == 1
+        events[0].changeType == CollectionChangeType.REMOVE_ITEMS
+        events[0].changes == [foos[1], foos[3]]
+        container.getItems() == [foos[0], foos[2], foos[4]]
+        container.getItemIndex(foos[4].id) == 2
+        container.getItemOrNull() == null
+    }
+}
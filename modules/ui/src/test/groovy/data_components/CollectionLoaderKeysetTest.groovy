@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_components
+
+import io.jmix.core.DataManager
+import io.jmix.core.LoadContext
+import io.jmix.core.Sort
+import io.jmix.core.querycondition.JpqlCondition
+import io.jmix.ui.model.CollectionContainer
+import io.jmix.ui.model.CollectionLoader
+import io.jmix.ui.model.DataComponents
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataContextSpec
+import test_support.entity.sales.Customer
+
+class CollectionLoaderKeysetTest extends DataContextSpec {
+
+    @Autowired DataManager dataManager
+    @Autowired DataComponents factory
+
+    CollectionLoader<Customer> loader
+    CollectionContainer<Customer> container
+
+    void setup() {
+        (1..10).each {
+            dataManager.save(new Customer(name: String.format('c%03d', it)))
+        }
+
+        container = factory.createCollectionContainer(Customer)
+        loader = factory.createCollectionLoader()
+        loader.setContainer(container)
+        loader.setQuery('select e from test$Customer e')
+        loader.setSort(Sort.by('name'))
+        loader.setMaxResults(3)
+    }
+
+    def "pages are loaded forward by keyset and back by offset"() {
+        when:
+
+        loader.load()
+        nextPage()
+
+        then:
+
+        loader.firstResult == 3
+        loader.keysetValues != null
+        loader.createLoadContext().query.keysetValues == loader.keysetValues
+        loader.createLoadContext().query.firstResult == 0
+        container.items*.name == names(4..6)
+
+        when:
+
+        nextPage()
+
+        then:
+
+        container.items*.name == names(7..9)
+
+        when:
+
+        loader.setFirstResult(3)
+        loader.load()
+
+        then:
+
+        loader.keysetValues == null
+        loader.createLoadContext().query.firstResult == 3
+        container.items*.name == names(4..6)
+    }
+
+    def "keyset is reset when #change changes"() {
+        loader.load()
+        nextPage()
+
+        when:
+
+        modify(loader)
+
+        then:
+
+        loader.keysetValues == null
+
+        where:
+
+        change                | modify
+        'first result'        | { CollectionLoader l -> l.setFirstResult(0) }
+        'query'               | { CollectionLoader l -> l.setQuery('select e from test$Customer e where e.name <> :name') }
+        'condition'           | { CollectionLoader l -> l.setCondition(JpqlCondition.where('e.name > :name')) }
+        'parameter'           | { CollectionLoader l -> l.setParameter('name', 'c005') }
+        'parameters'          | { CollectionLoader l -> l.setParameters([name: 'c005']) }
+        'removed parameter'   | { CollectionLoader l -> l.removeParameter('name') }
+        'sort'                | { CollectionLoader l -> l.setSort(Sort.by(Sort.Direction.DESC, 'name')) }
+    }
+
+    def "re-filtered data is loaded from the first page"() {
+        loader.load()
+        nextPage()
+
+        when:
+
+        loader.setCondition(JpqlCondition.where('e.name > :name'))
+        loader.setParameter('name', 'c005')
+        loader.setFirstResult(0)
+        loader.load()
+
+        then:
+
+        container.items*.name == names(6..8)
+
+        when:
+
+        nextPage()
+
+        then:
+
+        container.items*.name == names(9..10)
+    }
+
+    def "pages are loaded by keyset in the new order after sort change"() {
+        loader.load()
+        nextPage()
+
+        when:
+
+        loader.setSort(Sort.by(Sort.Direction.DESC, 'name'))
+        loader.setFirstResult(0)
+        loader.load()
+
+        then:
+
+        container.items*.name == names(10..8)
+
+        when:
+
+        nextPage()
+
+        then:
+
+        container.items*.name == names(7..5)
+    }
+
+    def "keyset is not used if order is defined by query"() {
+        loader.setSort(null)
+        loader.setQuery('select e from test$Customer e order by e.name desc')
+        loader.setFirstResult(3)
+        loader.setKeysetValues(['c007', UUID.randomUUID()])
+
+        when:
+
+        def query = loader.createLoadContext().query
+        loader.load()
+
+        then:
+
+        query.keysetValues == null
+        query.firstResult == 3
+        container.items*.name == names(7..5)
+    }
+
+    void nextPage() {
+        def lastEntity = container.items.last()
+        loader.setFirstResult(loader.firstResult + loader.maxResults)
+        loader.setKeysetValues(LoadContext.Query.getKeysetValues(lastEntity, loader.sort))
+        loader.load()
+    }
+
+    static List<String> names(IntRange range) {
+        range.collect { String.format('c%03d', it) }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_components
+
+import io.jmix.core.BeanLocator
+import io.jmix.core.Metadata
+import io.jmix.ui.component.data.table.ContainerGroupTableItems
+import io.jmix.ui.gui.data.GroupInfo
+import io.jmix.ui.gui.data.impl.AggregatableDelegate
+import io.jmix.ui.model.CollectionContainer
+import io.jmix.ui.model.DataComponents
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataContextSpec
+import test_support.entity.sales.Customer
+
+class ContainerGroupTableItemsTest extends DataContextSpec {
+
+    @Autowired DataComponents factory
+    @Autowired Metadata metadata
+    @Autowired BeanLocator beanLocator
+
+    CollectionContainer<Customer> container
+    ContainerGroupTableItems<Customer> items
+    List<Customer> customers
+
+    void setup() {
+        customers = [
+                new Customer(name: 'c1', status: 's1', email: 'e1'),
+                new Customer(name: 'c2', status: 's2', email: 'e1'),
+                new Customer(name: 'c3', status: 's1', email: 'e2'),
+                new Customer(name: 'c4', status: 's1', email: 'e1'),
+                new Customer(name: 'c5', status: 's3', email: 'e3')
+        ]
+        container = factory.createCollectionContainer(Customer)
+        container.setItems(customers)
+
+        items = createGroupedItems()
+    }
+
+    def "groups are updated on added items"() {
+        when:
+        container.getMutableItems().add(0, new Customer(name: 'new1', status: 's4', email: 'e1'))
+        container.getMutableItems().add(new Customer(name: 'new2', status: 's1', email: 'e3'))
+        container.getMutableItems().add(2, new Customer(name: 'new3', status: 's2', email: 'e1'))
+
+        then:
+        items.rootGroups()*.value == ['s4', 's1', 's2', 's3']
+        isRegrouped()
+    }
+
+    def "groups are updated on removed items"() {
+        when:
+        container.getMutableItems().remove(customers[0])
+
+        then:
+        items.rootGroups()*.value == ['s2', 's1', 's3']
+        isRegrouped()
+    }
+
+    def "groups are updated on replaced items"() {
+        when:
+        container.getMutableItems().set(1, new Customer(name: 'replaced', status: 's3', email: 'e1'))
+
+        then:
+        !items.rootGroups()*.value.contains('s2')
+        isRegrouped()
+    }
+
+    def "item is moved to another group when grouping property is changed"() {
+        when:
+        customers[0].status = 's3'
+
+        then:
+        items.getGroupPath(customers[0])*.value == ['s3', 'e1']
+        isRegrouped()
+
+        when:
+        customers[1].status = 's5'
+
+        then:
+        items.rootGroups()*.value == ['s3', 's5', 's1']
+        isRegrouped()
+    }
+
+    def "item is moved between nested groups"() {
+        when:
+        customers[3].email = 'e2'
+
+        then:
+        items.getGroupPath(customers[3])*.value == ['s1', 'e2']
+        items.getChildren(items.rootGroups()[0])*.value == ['e1', 'e2']
+        isRegrouped()
+
+        when:
+        customers[2].email = 'e4'
+
+        then:
+        items.getChildren(items.rootGroups()[0])*.value == ['e1', 'e4', 'e2']
+        isRegrouped()
+    }
+
+    def "empty groups are removed with the last item"() {
+        when:
+        container.getMutableItems().remove(customers[4])
+
+        then:
+        items.rootGroups()*.value == ['s1', 's2']
+        isRegrouped()
+
+        when:
+        container.getMutableItems().remove(customers[2])
+
+        then:
+        items.getChildren(items.rootGroups()[0])*.value == ['e1']
+        isRegrouped()
+
+        when:
+        container.getMutableItems().removeAll([customers[0], customers[3]])
+
+        then:
+        items.rootGroups()*.value == ['s2']
+        isRegrouped()
+
+        when:
+        container.getMutableItems().remove(customers[1])
+
+        then:
+        items.rootGroups().isEmpty()
+        isRegrouped()
+    }
+
+    ContainerGroupTableItems<Customer> createGroupedItems() {
+        def groupedItems = new ContainerGroupTableItems<Customer>(container,
+                beanLocator.getPrototype(AggregatableDelegate))
+        def metaClass = metadata.getClass(Customer)
+        groupedItems.groupBy([metaClass.getPropertyPath('status'), metaClass.getPropertyPath('email')] as Object[])
+        groupedItems
+    }
+
+    boolean isRegrouped() {
+        def regrouped = createGroupedItems()
+        assert snapshot(items) == snapshot(regrouped)
+        assert container.items.collect { items.getGroupPath(it) } == container.items.collect { regrouped.getGroupPath(it) }
+        true
+    }
+
+    List snapshot(ContainerGroupTableItems<Customer> groupedItems) {
+        groupedItems.rootGroups().collect { snapshot(groupedItems, it) }
+    }
+
+    Map snapshot(ContainerGroupTableItems<Customer> groupedItems, GroupInfo groupInfo) {
+        [
+                group   : groupInfo.toString(),
+                children: groupedItems.getChildren(groupInfo).collect { snapshot(groupedItems, it) },
+                items   : groupedItems.getOwnChildItems(groupInfo)*.name,
+                count   : groupedItems.getGroupItemsCount(groupInfo)
+        ]
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_components
+
+import io.jmix.core.BeanLocator
+import io.jmix.core.DataManager
+import io.jmix.core.FetchPlan
+import io.jmix.core.FetchPlans
+import io.jmix.core.Metadata
+import io.jmix.core.entity.EntityValues
+import io.jmix.ui.component.AggregationInfo
+import io.jmix.ui.gui.data.impl.AggregatableDelegate
+import io.jmix.ui.gui.data.impl.DataStoreAggregationLoader
+import io.jmix.ui.model.CollectionContainer
+import io.jmix.ui.model.CollectionLoader
+import io.jmix.ui.model.DataComponents
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataContextSpec
+import test_support.entity.sales.Customer
+import test_support.entity.sales.Order
+
+class DataStoreAggregationLoaderTest extends DataContextSpec {
+
+    @Autowired DataManager dataManager
+    @Autowired DataComponents factory
+    @Autowired Metadata metadata
+    @Autowired FetchPlans fetchPlans
+    @Autowired BeanLocator beanLocator
+    @Autowired DataStoreAggregationLoader aggregationLoader
+
+    CollectionLoader<Order> loader
+    CollectionContainer<Order> container
+
+    void setup() {
+        def customer1 = dataManager.save(new Customer(name: 'c1'))
+        def customer2 = dataManager.save(new Customer(name: 'c2'))
+
+        dataManager.save(new Order(number: 'o1', amount: 10, customer: customer1))
+        dataManager.save(new Order(number: 'o2', amount: 20))
+        dataManager.save(new Order(number: 'o3', amount: 30, customer: customer2))
+        dataManager.save(new Order(number: 'o4', customer: customer1))
+        dataManager.save(new Order(number: 'other', amount: 1000, customer: customer2))
+
+        container = factory.createCollectionContainer(Order)
+        loader = factory.createCollectionLoader()
+        loader.setContainer(container)
+        loader.setQuery('select e from test$Order e where e.number like :number')
+        loader.setParameter('number', 'o_')
+        loader.setFetchPlan(fetchPlans.builder(Order)
+                .addFetchPlan(FetchPlan.LOCAL)
+                .add('customer', FetchPlan.LOCAL)
+                .build())
+        loader.load()
+    }
+
+    def "data store aggregation is equal to in-memory aggregation including null values"() {
+        def infos = [
+                aggregationInfo('amount', AggregationInfo.Type.SUM),
+                aggregationInfo('amount', AggregationInfo.Type.AVG),
+                aggregationInfo('amount', AggregationInfo.Type.MIN),
+                aggregationInfo('amount', AggregationInfo.Type.MAX),
+                aggregationInfo('amount', AggregationInfo.Type.COUNT),
+                aggregationInfo('customer.name', AggregationInfo.Type.COUNT)
+        ]
+
+        expect:
+
+        infos.every { aggregationLoader.supports(it) }
+
+        when:
+
+        def inDataStore = aggregationLoader.load(loader, infos)
+        def inMemory = aggregateInMemory(infos)
+
+        then:
+
+        container.items.size() == 4
+        infos.every { compare(inDataStore[it], inMemory[it]) }
+
+        inDataStore[infos[0]] == 60
+        inDataStore[infos[4]] == 3
+        inDataStore[infos[5]] == 3
+    }
+
+    def "orders without reference are not excluded from aggregation of other properties"() {
+        def infos = [
+                aggregationInfo('customer.name', AggregationInfo.Type.COUNT),
+                aggregationInfo('amount', AggregationInfo.Type.SUM)
+        ]
+
+        when:
+
+        def loadContext = aggregationLoader.createLoadContext(loader, infos)
+        def inDataStore = aggregationLoader.load(loader, infos)
+
+        then:
+
+        loadContext.query.queryString.contains('left join aggr.customer')
+        inDataStore[infos[1]] == 60
+    }
+
+    def "aggregation of empty result is equal to in-memory aggregation"() {
+        loader.setParameter('number', 'none')
+        loader.load()
+
+        def infos = [
+                aggregationInfo('amount', AggregationInfo.Type.SUM),
+                aggregationInfo('amount', AggregationInfo.Type.MAX),
+                aggregationInfo('amount', AggregationInfo.Type.COUNT)
+        ]
+
+        when:
+
+        def inDataStore = aggregationLoader.load(loader, infos)
+        def inMemory = aggregateInMemory(infos)
+
+        then:
+
+        infos.every { compare(inDataStore[it], inMemory[it]) }
+    }
+
+    AggregationInfo aggregationInfo(String property, AggregationInfo.Type type) {
+        def info = new AggregationInfo()
+        info.setPropertyPath(metadata.getClass(Order).getPropertyPath(property))
+        info.setType(type)
+        info
+    }
+
+    Map<AggregationInfo, Object> aggregateInMemory(List<AggregationInfo> infos) {
+        AggregatableDelegate<Object> delegate = beanLocator.getPrototype(AggregatableDelegate)
+        delegate.setItemProvider({ id -> container.getItem(id) })
+        delegate.setItemValueProvider({ path, id -> EntityValues.getValueEx(container.getItem(id), path.toPathString()) })
+        delegate.aggregateValues(infos as AggregationInfo[], container.items*.id)
+    }
+
+    boolean compare(Object inDataStore, Object inMemory) {
+        if (inDataStore instanceof BigDecimal && inMemory instanceof BigDecimal) {
+            return inDataStore.compareTo(inMemory) == 0
+        }
+        inDataStore == inMemory
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_components
+
+import io.jmix.core.DataManager
+import io.jmix.core.LoadContext
+import io.jmix.core.Sort
+import io.jmix.core.metamodel.model.MetaPropertyPath
+import io.jmix.core.Metadata
+import io.jmix.core.MetadataTools
+import io.jmix.core.QueryTransformerFactory
+import io.jmix.ui.component.data.DataGridItems
+import io.jmix.ui.component.data.datagrid.LoaderDataGridItems
+import io.jmix.ui.model.CollectionContainer
+import io.jmix.ui.model.CollectionLoader
+import io.jmix.ui.model.DataComponents
+import io.jmix.ui.model.DataContext
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataContextSpec
+import test_support.entity.sales.Customer
+
+import java.util.function.Consumer
+
+class LoaderDataGridItemsTest extends DataContextSpec {
+
+    @Autowired DataManager dataManager
+    @Autowired DataComponents factory
+    @Autowired Metadata metadata
+    @Autowired MetadataTools metadataTools
+    @Autowired QueryTransformerFactory queryTransformerFactory
+
+    CollectionLoader<Customer> loader
+    CollectionContainer<Customer> container
+    DataContext dataContext
+
+    void setup() {
+        (1..25).each {
+            dataManager.save(new Customer(name: String.format('c%03d', it)))
+        }
+
+        dataContext = factory.createDataContext()
+        container = factory.createCollectionContainer(Customer)
+        loader = factory.createCollectionLoader()
+        loader.setContainer(container)
+        loader.setDataContext(dataContext)
+        loader.setQuery('select e from test$Customer e order by e.name')
+    }
+
+    def "items are loaded by pages"() {
+        def items = new LoaderDataGridItems<Customer>(loader, dataManager, metadataTools, queryTransformerFactory, 10, 2)
+
+        when:
+
+        def slice = items.getItems(5, 10)
+
+        then:
+
+        items.size() == 25
+        slice*.name == (6..15).collect { String.format('c%03d', it) }
+        items.pages.keySet() == [0, 1] as Set
+        container.items.isEmpty()
+
+        when:
+
+        def last = items.getItems(20, 10)
+
+        then:
+
+        last*.name == (21..25).collect { String.format('c%03d', it) }
+        items.pages.keySet() == [1, 2] as Set
+        items.getItemByIndex(0).name == 'c001'
+        items.pages.keySet() == [2, 0] as Set
+    }
+
+    def "loader load refreshes items instead of loading container"() {
+        def items = new LoaderDataGridItems<Customer>(loader, dataManager, metadataTools, queryTransformerFactory, 10, 2)
+        Consumer itemSetListener = Mock()
+        items.addItemSetChangeListener(itemSetListener)
+
+        items.getItems(0, 10)
+
+        when:
+
+        dataManager.save(new Customer(name: 'c026'))
+        loader.load()
+
+        then:
+
+        1 * itemSetListener.accept(_)
+        container.items.isEmpty()
+        items.pages.isEmpty()
+        items.size() == 26
+    }
+
+    def "sorting is applied by the query"() {
+        def items = new LoaderDataGridItems<Customer>(loader, dataManager, metadataTools, queryTransformerFactory, 10, 2)
+        def nameProperty = metadata.getClass(Customer).getPropertyPath('name')
+
+        when:
+
+        items.sort([nameProperty] as MetaPropertyPath[], [false] as boolean[])
+
+        then:
+
+        items.getItemByIndex(0).name == 'c025'
+        items.getItems(20, 10)*.name == ['c005', 'c004', 'c003', 'c002', 'c001']
+
+        when:
+
+        items.resetSortOrder()
+
+        then:
+
+        items.getItemByIndex(0).name == 'c001'
+    }
+
+    def "selected item is merged into data context"() {
+        def items = new LoaderDataGridItems<Customer>(loader, dataManager, metadataTools, queryTransformerFactory, 10, 2)
+        Consumer selectedItemListener = Mock()
+        items.addSelectedItemChangeListener(selectedItemListener)
+
+        def customer = items.getItemByIndex(12)
+
+        when:
+
+        items.setSelectedItem(customer)
+
+        then:
+
+        1 * selectedItemListener.accept({ DataGridItems.SelectedItemChangeEvent e -> e.item.name == 'c013' })
+        container.items.size() == 1
+        items.selectedItem.is(container.item)
+        items.selectedItem.is(dataContext.find(Customer, customer.id))
+        items.getItemByIndex(12).is(items.selectedItem)
+        items.indexOfItem(customer) == 12
+        items.containsItem(customer)
+    }
+
+    def "removing item from container refreshes items"() {
+        def items = new LoaderDataGridItems<Customer>(loader, dataManager, metadataTools, queryTransformerFactory, 10, 2)
+        def customer = items.getItemByIndex(0)
+        items.setSelectedItem(customer)
+
+        when:
+
+        dataManager.remove(customer)
+        container.mutableItems.remove(container.item)
+
+        then:
+
+        items.size() == 24
+        items.getItemByIndex(0).name == 'c002'
+    }
+
+    def "pages are ordered by primary key after other sort properties"() {
+        (1..7).each { dataManager.save(new Customer(name: 'same')) }
+        loader.setQuery('select e from test$Customer e where e.name = :name order by e.name')
+        loader.setParameter('name', 'same')
+
+        List<LoadContext> loadContexts = []
+        DataManager recordingDataManager = Mock()
+        recordingDataManager.loadList(_) >> { LoadContext context -> loadContexts << context; dataManager.loadList(context) }
+        recordingDataManager.getCount(_) >> { LoadContext context -> dataManager.getCount(context) }
+
+        def items = new LoaderDataGridItems<Customer>(loader, recordingDataManager, metadataTools, queryTransformerFactory, 3, 1)
+
+        when:
+
+        def loaded = items.getItems(0, 7)
+
+        then:
+
+        loaded*.id.unique().size() == 7
+        loadContexts.size() == 3
+        loadContexts.every { it.query.queryString.contains('order by e.name, e.id') }
+
+        when:
+
+        loadContexts.clear()
+        items.sort([metadata.getClass(Customer).getPropertyPath('name')] as MetaPropertyPath[], [false] as boolean[])
+        loaded = items.getItems(0, 7)
+
+        then:
+
+        loaded*.id.unique().size() == 7
+        loadContexts.every { it.query.sort.orders*.property == ['name', 'id'] }
+        loadContexts.every { it.query.sort.orders*.direction.unique() == [Sort.Direction.DESC] }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pagination_component
+
+import io.jmix.core.CoreConfiguration
+import io.jmix.core.DataManager
+import io.jmix.core.Sort
+import io.jmix.core.querycondition.JpqlCondition
+import io.jmix.data.DataConfiguration
+import io.jmix.ui.UiConfiguration
+import io.jmix.ui.testassist.spec.ScreenSpecification
+import io.jmix.ui.widget.JmixPagination
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ContextConfiguration
+import pagination_component.screen.KeysetPaginationTestScreen
+import test_support.UiTestConfiguration
+import test_support.entity.sales.Customer
+
+@ContextConfiguration(classes = [CoreConfiguration, UiConfiguration, DataConfiguration, UiTestConfiguration])
+class KeysetPaginationTest extends ScreenSpecification {
+
+    @Autowired
+    JdbcTemplate jdbc
+
+    @Autowired
+    DataManager dataManager
+
+    KeysetPaginationTestScreen screen
+
+    JmixPagination vPagination
+
+    @Override
+    void setup() {
+        exportScreensPackages(["pagination_component"])
+
+        (1..10).each { dataManager.save(new Customer(name: String.format('c%03d', it))) }
+
+        showTestMainScreen()
+        screen = getScreens().create(KeysetPaginationTestScreen)
+        screen.show()
+        vPagination = screen.pagination.unwrap(JmixPagination)
+    }
+
+    @Override
+    void cleanup() {
+        jdbc.update("delete from TEST_CUSTOMER")
+    }
+
+    def "pages are loaded forward and back by remembered keysets"() {
+        when: "Click on 'next' button twice"
+        vPagination.nextButton.click()
+        vPagination.nextButton.click()
+
+        then: "The third page is loaded after the last entity of the second page"
+        loadedNames() == names(7..9)
+        screen.customersLd.keysetValues[0] == 'c006'
+
+        when: "Click on 'previous' button"
+        vPagination.prevButton.click()
+
+        then: "The second page is loaded by the remembered keyset"
+        loadedNames() == names(4..6)
+        screen.customersLd.keysetValues[0] == 'c003'
+
+        when: "Click on 'first' button"
+        vPagination.firstButton.click()
+
+        then: "The first page is loaded without keyset"
+        loadedNames() == names(1..3)
+        screen.customersLd.keysetValues == null
+    }
+
+    def "keysets are discarded when data is re-filtered"() {
+        vPagination.nextButton.click()
+        vPagination.nextButton.click()
+
+        when: "Filter the loader and reload it from the first page"
+        screen.customersLd.setCondition(JpqlCondition.where('e.name > :name'))
+        screen.customersLd.setParameter('name', 'c002')
+        screen.customersLd.setFirstResult(0)
+        screen.customersLd.load()
+
+        then: "Only the keyset of the loaded page is remembered"
+        loadedNames() == names(3..5)
+        screen.pagination.pageKeysets.keySet() == [3] as Set
+
+        when: "Click on 'next' button"
+        vPagination.nextButton.click()
+
+        then: "The next page of the filtered data is loaded by keyset"
+        loadedNames() == names(6..8)
+        screen.customersLd.keysetValues[0] == 'c005'
+    }
+
+    def "keysets are discarded when loader parameters change without reload"() {
+        vPagination.nextButton.click()
+
+        when: "Change a parameter and click on 'next' button"
+        screen.customersLd.setCondition(JpqlCondition.where('e.name <> :name'))
+        screen.customersLd.setParameter('name', 'c005')
+        vPagination.nextButton.click()
+
+        then: "The page is loaded by offset"
+        screen.customersLd.keysetValues == null
+        loadedNames() == names(8..10)
+
+        when: "Click on 'previous' button"
+        vPagination.prevButton.click()
+
+        then: "Keyset remembered for the old parameters is not used"
+        screen.customersLd.keysetValues == null
+        loadedNames() == ['c004', 'c006', 'c007']
+    }
+
+    def "keysets are discarded when sort changes"() {
+        vPagination.nextButton.click()
+
+        when: "Change the sort and reload from the first page"
+        screen.customersLd.setSort(Sort.by(Sort.Direction.DESC, 'name'))
+        screen.customersLd.setFirstResult(0)
+        screen.customersLd.load()
+        vPagination.nextButton.click()
+
+        then: "The next page is loaded by keyset in the new order"
+        loadedNames() == names(7..5)
+        screen.customersLd.keysetValues[0] == 'c008'
+    }
+
+    def "pages are loaded by offset if the order is defined by query"() {
+        screen.customersLd.setSort(null)
+        screen.customersLd.setQuery('select e from test$Customer e order by e.name desc')
+        screen.customersLd.setFirstResult(0)
+        screen.customersLd.load()
+
+        when: "Click on 'next' button"
+        vPagination.nextButton.click()
+
+        then: "The page is loaded by offset in the order of the query"
+        screen.customersLd.keysetValues == null
+        screen.pagination.pageKeysets.isEmpty()
+        loadedNames() == names(7..5)
+    }
+
+    List<String> loadedNames() {
+        screen.customersLd.container.items*.name
+    }
+
+    static List<String> names(IntRange range) {
+        range.collect { String.format('c%03d', it) }
+    }
+}
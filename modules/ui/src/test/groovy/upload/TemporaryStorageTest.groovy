@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package upload
+
+import io.jmix.core.FileStorage
+import io.jmix.core.FileStorageException
+import io.jmix.ui.upload.TemporaryStorage
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataContextSpec
+
+class TemporaryStorageTest extends DataContextSpec {
+
+    @Autowired
+    TemporaryStorage temporaryStorage
+
+    @Autowired
+    MeterRegistry meterRegistry
+
+    def "contents of storage stream is passed to file storage without temporary file"() {
+        def reference = URI.create('test://file.txt')
+        byte[] saved = null
+        FileStorage<URI, String> fileStorage = Stub()
+        fileStorage.saveStream(reference, _ as InputStream) >> { URI ref, InputStream stream ->
+            saved = stream.bytes
+            saved.length
+        }
+        def data = new byte[200 * 1024]
+        new Random(1).nextBytes(data)
+        def sizeSummary = meterRegistry.find('jmix.ui.upload.size').tag('stage', 'passThrough').summary()
+        def uploadCount = sizeSummary != null ? sizeSummary.count() : 0
+
+        when:
+        def stream = temporaryStorage.openStorageStream(reference, fileStorage)
+        stream.write(data, 0, 1000)
+        stream.write(data, 1000, data.length - 1000)
+        stream.close()
+
+        then:
+        saved == data
+        meterRegistry.get('jmix.ui.upload.size').tag('stage', 'passThrough').summary().count() == uploadCount + 1
+        meterRegistry.get('jmix.ui.upload').tag('stage', 'passThrough').timer().count() > 0
+    }
+
+    def "failure of file storage is thrown to the writer"() {
+        def reference = URI.create('test://file.txt')
+        FileStorage<URI, String> fileStorage = Stub()
+        fileStorage.saveStream(reference, _ as InputStream) >> { URI ref, InputStream stream ->
+            stream.read(new byte[1024])
+            throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION, 'file.txt')
+        }
+
+        when:
+        def stream = temporaryStorage.openStorageStream(reference, fileStorage)
+        try {
+            10.times { stream.write(new byte[100 * 1024]) }
+        } finally {
+            stream.close()
+        }
+
+        then:
+        thrown(IOException)
+    }
+}